@@ -0,0 +1,14 @@
+#!/usr/bin/env sh
+# Runs the JMH suites and stores machine-readable results as results/<commit>.json, so runs from
+# different commits can be compared with BenchmarkComparison. Extra arguments are passed to JMH.
+set -eu
+
+cd "$(dirname "$0")"
+commit="$(git rev-parse --short HEAD)"
+if [ -n "$(git status --porcelain -- ../../services ../../lib)" ]; then
+  commit="${commit}-dirty"
+fi
+
+mkdir -p results
+java --add-modules jdk.incubator.vector -jar target/benchmarks.jar -rf json -rff "results/${commit}.json" "$@"
+echo "Results written to benchmarks/recommendation-jmh/results/${commit}.json"
@@ -0,0 +1,94 @@
+package com.vellumhub.recommendation_service.benchmark;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Compares two JMH result files written with {@code -rf json} and prints the relative change of every
+ * benchmark present in both.
+ * <p>
+ * Usage: {@code java -cp benchmarks.jar com.vellumhub.recommendation_service.benchmark.BenchmarkComparison
+ * <baseline.json> <candidate.json> [threshold-percent]}. Exits with status 1 when any benchmark regressed by
+ * more than the threshold (default 10%) and by more than the combined score error of both runs.
+ * </p>
+ */
+public final class BenchmarkComparison {
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+    private static final String PACKAGE_PREFIX = BenchmarkComparison.class.getPackageName() + ".";
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <candidate.json> [threshold-percent]");
+            System.exit(2);
+        }
+        double thresholdPercent = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+
+        Map<String, Result> baseline = read(Path.of(args[0]));
+        Map<String, Result> candidate = read(Path.of(args[1]));
+
+        int regressions = 0;
+        System.out.printf(Locale.ROOT, "%-60s %14s %14s %9s%n", "Benchmark", "Baseline", "Candidate", "Change");
+        for (Map.Entry<String, Result> entry : candidate.entrySet()) {
+            Result before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf(Locale.ROOT, "%-60s %14s %14.3f %9s%n", entry.getKey(), "-", entry.getValue().score(), "new");
+                continue;
+            }
+            Result after = entry.getValue();
+            double changePercent = (after.score() - before.score()) / before.score() * 100;
+            boolean slower = after.lowerIsBetter() ? changePercent > 0 : changePercent < 0;
+            boolean significant = Math.abs(after.score() - before.score()) > before.error() + after.error();
+            boolean regressed = slower && significant && Math.abs(changePercent) > thresholdPercent;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf(Locale.ROOT, "%-60s %14.3f %14.3f %+8.1f%% %s%s%n",
+                    entry.getKey(), before.score(), after.score(), changePercent, after.unit(), regressed ? "  REGRESSION" : "");
+        }
+
+        if (regressions > 0) {
+            System.out.printf(Locale.ROOT, "%d benchmark(s) regressed by more than %.1f%%%n", regressions, thresholdPercent);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Result> read(Path file) {
+        JsonNode runs = JsonMapper.builder().build().readTree(file.toFile());
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : runs) {
+            JsonNode metric = run.get("primaryMetric");
+            double error = metric.path("scoreError").asDouble(0);
+            results.put(key(run), new Result(
+                    metric.get("score").asDouble(),
+                    Double.isNaN(error) ? 0 : error,
+                    metric.get("scoreUnit").asString(),
+                    !"thrpt".equals(run.get("mode").asString())
+            ));
+        }
+        return results;
+    }
+
+    private static String key(JsonNode run) {
+        String benchmark = run.get("benchmark").asString().replace(PACKAGE_PREFIX, "");
+        JsonNode params = run.path("params");
+        if (params.isMissingNode() || params.isEmpty()) {
+            return benchmark;
+        }
+        StringJoiner joiner = new StringJoiner(",", benchmark + "[", "]");
+        params.properties().forEach(param -> joiner.add(param.getKey() + "=" + param.getValue().asString()));
+        return joiner.toString();
+    }
+
+    private record Result(double score, double error, String unit, boolean lowerIsBetter) {
+    }
+}
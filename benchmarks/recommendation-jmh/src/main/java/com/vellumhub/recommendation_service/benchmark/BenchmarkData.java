@@ -0,0 +1,60 @@
+package com.vellumhub.recommendation_service.benchmark;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookContent;
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookFeature;
+import com.vellumhub.recommendation_service.share.math.VectorMath;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Deterministic fixtures shared by the suites, shaped like production data: 384-dim unit embeddings and
+ * catalog text with markup, irregular whitespace and long descriptions.
+ */
+final class BenchmarkData {
+
+    static final int DIMENSIONS = 384;
+
+    private static final List<String> GENRES = List.of(
+            "Science Fiction", "Fantasy", "Mystery", "Romance", "History", "Classic", "Thriller", "Poetry"
+    );
+
+    private BenchmarkData() {
+    }
+
+    static float[] unitEmbedding(SplittableRandom random) {
+        float[] embedding = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            embedding[i] = (float) random.nextDouble(-1, 1);
+        }
+        VectorMath.normalizeInPlace(embedding);
+        return embedding;
+    }
+
+    static List<BookFeature> bookFeatures(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<BookFeature> books = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            books.add(BookFeature.create(new UUID(seed, i), unitEmbedding(random), random.nextDouble(0, 5)));
+        }
+        return books;
+    }
+
+    static List<BookContent> bookContents(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<BookContent> books = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String description = "<p>Volume " + i + " of the saga.</p>\n\n"
+                    + "A  story about   distant worlds,\tfailing empires and the people caught between them. ".repeat(1 + random.nextInt(30));
+            books.add(new BookContent(
+                    "The Long Voyage " + i,
+                    "Author " + random.nextInt(500),
+                    description,
+                    List.of(GENRES.get(random.nextInt(GENRES.size())), GENRES.get(random.nextInt(GENRES.size())))
+            ));
+        }
+        return books;
+    }
+}
@@ -0,0 +1,99 @@
+package com.vellumhub.recommendation_service.benchmark;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookContent;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.EmbeddingCache;
+import com.vellumhub.recommendation_service.module.book_feature.infrastructure.embedding.LangChain4jEmbeddingBookProvider;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.AllMiniLmL6V2EmbeddingModel;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LangChain4jEmbeddingBookProvider} embedding {@value #BATCH_SIZE} books one call at a time versus
+ * one {@code ofAll} call. Scores are per book.
+ * <p>
+ * With {@code model=stub} the model returns a fixed vector, which isolates text normalization, content
+ * hashing and vector normalization. {@code model=minilm} runs the production ONNX model. The embedding
+ * cache always misses so every call reaches the model.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class BookEmbeddingBenchmark {
+
+    private static final int BATCH_SIZE = 16;
+
+    @Param({"stub", "minilm"})
+    public String model;
+
+    private LangChain4jEmbeddingBookProvider provider;
+    private List<BookContent> books;
+
+    @Setup
+    public void setUp() {
+        EmbeddingModel embeddingModel = "minilm".equals(model) ? new AllMiniLmL6V2EmbeddingModel() : new FixedEmbeddingModel();
+        provider = new LangChain4jEmbeddingBookProvider(embeddingModel, new MissingEmbeddingCache());
+        books = BenchmarkData.bookContents(BATCH_SIZE, 19);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void single(Blackhole blackhole) {
+        for (BookContent book : books) {
+            blackhole.consume(provider.of(book.title(), book.author(), book.description(), book.genres()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<float[]> batched() {
+        return provider.ofAll(books);
+    }
+
+    private static final class FixedEmbeddingModel implements EmbeddingModel {
+
+        private final float[] vector = BenchmarkData.unitEmbedding(new SplittableRandom(23));
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            return Response.from(textSegments.stream()
+                    .map(segment -> Embedding.from(vector.clone()))
+                    .toList());
+        }
+    }
+
+    private static final class MissingEmbeddingCache implements EmbeddingCache {
+
+        @Override
+        public Optional<float[]> get(String contentHash) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void put(String contentHash, float[] embedding) {
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.vellumhub.recommendation_service.benchmark;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookFeature;
+import com.vellumhub.recommendation_service.module.user_profile.domain.interaction.progress.BookProgressInteraction;
+import com.vellumhub.recommendation_service.module.user_profile.domain.interaction.rating.RatingBookInteraction;
+import com.vellumhub.recommendation_service.module.user_profile.domain.interaction.reaction.ReactionBookInteraction;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.ProfileAdjustment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning one engagement event into a {@link ProfileAdjustment}, per interaction rule.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InteractionBenchmark {
+
+    private final RatingBookInteraction ratingInteraction = new RatingBookInteraction();
+    private final BookProgressInteraction progressInteraction = new BookProgressInteraction();
+    private final ReactionBookInteraction reactionInteraction = new ReactionBookInteraction();
+
+    private BookFeature book;
+
+    @Setup
+    public void setUp() {
+        book = BenchmarkData.bookFeatures(1, 11).getFirst();
+    }
+
+    @Benchmark
+    public ProfileAdjustment ratingUpdated() {
+        return ratingInteraction.toAdjustment(book, 3, 5, false);
+    }
+
+    @Benchmark
+    public ProfileAdjustment progressAdvanced() {
+        return progressInteraction.toAdjustment(book, "READING", 40, 72);
+    }
+
+    @Benchmark
+    public ProfileAdjustment reactionChanged() {
+        return reactionInteraction.toAdjustment(book, "VERY_POSITIVE");
+    }
+}
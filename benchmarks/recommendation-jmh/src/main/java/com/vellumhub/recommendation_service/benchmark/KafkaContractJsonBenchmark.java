@@ -0,0 +1,97 @@
+package com.vellumhub.recommendation_service.benchmark;
+
+import com.vellumhub.kafka.contracts.KafkaTopics;
+import com.vellumhub.kafka.contracts.KafkaTypeAliases;
+import com.vellumhub.kafka.contracts.book.CreateBookEvent;
+import com.vellumhub.kafka.contracts.engagement.CreatedRatingEvent;
+import com.vellumhub.kafka.contracts.readingprogress.UpdateBookProgressEvent;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON round trip of {@code kafka-contracts} events through the Spring Kafka serializers, configured with
+ * the same type aliases the consumers map in {@code application.properties}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@SuppressWarnings("removal")
+public class KafkaContractJsonBenchmark {
+
+    private static final String TYPE_MAPPINGS = String.join(",",
+            KafkaTypeAliases.CREATE_BOOK_EVENT + ":" + CreateBookEvent.class.getName(),
+            KafkaTypeAliases.CREATE_RATING_EVENT + ":" + CreatedRatingEvent.class.getName(),
+            KafkaTypeAliases.UPDATE_BOOK_PROGRESS_EVENT + ":" + UpdateBookProgressEvent.class.getName()
+    );
+
+    @Param({KafkaTopics.CREATED_BOOK, KafkaTopics.CREATED_RATING, KafkaTopics.UPDATED_READING_PROGRESS})
+    public String topic;
+
+    private JsonSerializer<Object> serializer;
+    private JsonDeserializer<Object> deserializer;
+    private Object event;
+    private byte[] payload;
+    private Header[] typeHeaders;
+
+    @Setup
+    public void setUp() {
+        serializer = new JsonSerializer<>();
+        serializer.configure(Map.of(JsonSerializer.TYPE_MAPPINGS, TYPE_MAPPINGS), false);
+        deserializer = new JsonDeserializer<>();
+        deserializer.configure(Map.of(
+                JsonDeserializer.TYPE_MAPPINGS, TYPE_MAPPINGS,
+                JsonDeserializer.TRUSTED_PACKAGES, "*"
+        ), false);
+
+        event = switch (topic) {
+            case KafkaTopics.CREATED_BOOK -> new CreateBookEvent(
+                    UUID.randomUUID(),
+                    "The Long Voyage",
+                    "A story about distant worlds, failing empires and the people caught between them. ".repeat(12),
+                    1987,
+                    "https://covers.example.com/long-voyage.jpg",
+                    "Author 42",
+                    List.of("Science Fiction", "Classic")
+            );
+            case KafkaTopics.CREATED_RATING -> new CreatedRatingEvent(UUID.randomUUID(), UUID.randomUUID(), 4);
+            default -> new UpdateBookProgressEvent(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "READING", 40, 72);
+        };
+        RecordHeaders headers = new RecordHeaders();
+        payload = serializer.serialize(topic, headers, event);
+        typeHeaders = headers.toArray();
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(topic, new RecordHeaders(), event);
+    }
+
+    /**
+     * The deserializer strips the type headers it consumed, so every call gets a fresh copy.
+     */
+    @Benchmark
+    public Object deserialize() {
+        return deserializer.deserialize(topic, new RecordHeaders(typeHeaders), payload);
+    }
+}
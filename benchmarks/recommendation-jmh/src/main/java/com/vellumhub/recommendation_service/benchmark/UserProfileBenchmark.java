@@ -0,0 +1,83 @@
+package com.vellumhub.recommendation_service.benchmark;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookFeature;
+import com.vellumhub.recommendation_service.module.user_profile.domain.interaction.progress.BookProgressInteraction;
+import com.vellumhub.recommendation_service.module.user_profile.domain.interaction.progress.Progress;
+import com.vellumhub.recommendation_service.module.user_profile.domain.interaction.rating.RatingBookInteraction;
+import com.vellumhub.recommendation_service.module.user_profile.domain.interaction.reaction.Reaction;
+import com.vellumhub.recommendation_service.module.user_profile.domain.interaction.reaction.ReactionBookInteraction;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.ProfileAdjustment;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.UserProfile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link UserProfile#applyUpdate} fed with adjustments produced by the real interaction rules, so weights
+ * and the growth of {@code interactedBookIds} follow what the Kafka consumers apply.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Thread)
+public class UserProfileBenchmark {
+
+    private static final int ADJUSTMENTS = 1024;
+    private static final int CATALOG_SIZE = 300;
+
+    private ProfileAdjustment[] adjustments;
+    private UserProfile profile;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void prepareAdjustments() {
+        SplittableRandom random = new SplittableRandom(7);
+        List<BookFeature> books = BenchmarkData.bookFeatures(CATALOG_SIZE, 7);
+        RatingBookInteraction rating = new RatingBookInteraction();
+        BookProgressInteraction progress = new BookProgressInteraction();
+        ReactionBookInteraction reaction = new ReactionBookInteraction();
+        Progress[] progressTypes = Progress.values();
+        Reaction[] reactionTypes = Reaction.values();
+
+        adjustments = new ProfileAdjustment[ADJUSTMENTS];
+        for (int i = 0; i < ADJUSTMENTS; i++) {
+            BookFeature book = books.get(random.nextInt(CATALOG_SIZE));
+            adjustments[i] = switch (random.nextInt(3)) {
+                case 0 -> rating.toAdjustment(book, random.nextInt(6), 1 + random.nextInt(5), random.nextBoolean());
+                case 1 -> {
+                    int oldPage = random.nextInt(300);
+                    yield progress.toAdjustment(book, progressTypes[random.nextInt(progressTypes.length)].name(), oldPage, oldPage + random.nextInt(60));
+                }
+                default -> reaction.toAdjustment(book, reactionTypes[random.nextInt(reactionTypes.length)].name());
+            };
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetProfile() {
+        profile = UserProfile.create(UUID.randomUUID());
+        next = 0;
+    }
+
+    @Benchmark
+    public UserProfile applyUpdate() {
+        profile.applyUpdate(adjustments[next]);
+        next = (next + 1) & (ADJUSTMENTS - 1);
+        return profile;
+    }
+}
@@ -0,0 +1,127 @@
+package com.vellumhub.recommendation_service.benchmark;
+
+import com.vellumhub.recommendation_service.share.math.ScalarVectorKernel;
+import com.vellumhub.recommendation_service.share.math.SimdVectorKernel;
+import com.vellumhub.recommendation_service.share.math.VectorKernel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the pre-existing scalar loops of profile learning and embedding normalization with the
+ * {@link ScalarVectorKernel} and {@link SimdVectorKernel} behind {@code VectorMath}, on 384-dim vectors.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Thread)
+public class VectorMathBenchmark {
+
+    private static final int DIMENSIONS = 384;
+    private static final float LEARNING_RATE = 0.1f;
+    private static final float ADJUSTMENT = 0.8f;
+
+    private final VectorKernel scalar = new ScalarVectorKernel();
+    private final VectorKernel simd = new SimdVectorKernel();
+
+    private float[] profile;
+    private float[] embedding;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        profile = new float[DIMENSIONS];
+        embedding = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            profile[i] = (float) random.nextDouble(-1, 1);
+            embedding[i] = (float) random.nextDouble(-1, 1);
+        }
+    }
+
+    @Benchmark
+    public float[] vectorLearningLegacyLoop() {
+        double sumOfSquares = 0.0;
+        for (int i = 0; i < profile.length; i++) {
+            profile[i] += embedding[i] * ADJUSTMENT * LEARNING_RATE;
+            sumOfSquares += profile[i] * profile[i];
+        }
+        float magnitude = (float) Math.sqrt(sumOfSquares);
+        if (magnitude > 0) {
+            for (int i = 0; i < profile.length; i++) {
+                profile[i] /= magnitude;
+            }
+        }
+        return profile;
+    }
+
+    @Benchmark
+    public float[] vectorLearningScalarKernel() {
+        return learn(scalar);
+    }
+
+    @Benchmark
+    public float[] vectorLearningSimdKernel() {
+        return learn(simd);
+    }
+
+    @Benchmark
+    public float[] normalizeEmbeddingLegacyLoop() {
+        double sumSqrs = 0.0;
+        for (float value : embedding) {
+            sumSqrs += value * value;
+        }
+        double magnitude = Math.sqrt(sumSqrs);
+        float[] normalized = new float[embedding.length];
+        for (int i = 0; i < embedding.length; i++) {
+            normalized[i] = (float) (embedding[i] / magnitude);
+        }
+        return normalized;
+    }
+
+    @Benchmark
+    public float[] normalizeEmbeddingScalarKernel() {
+        return normalizedCopy(scalar);
+    }
+
+    @Benchmark
+    public float[] normalizeEmbeddingSimdKernel() {
+        return normalizedCopy(simd);
+    }
+
+    @Benchmark
+    public float dotScalarKernel() {
+        return scalar.dot(profile, 0, embedding, 0, DIMENSIONS);
+    }
+
+    @Benchmark
+    public float dotSimdKernel() {
+        return simd.dot(profile, 0, embedding, 0, DIMENSIONS);
+    }
+
+    private float[] learn(VectorKernel kernel) {
+        kernel.axpy(ADJUSTMENT * LEARNING_RATE, embedding, profile);
+        float magnitude = (float) Math.sqrt(kernel.dot(profile, 0, profile, 0, DIMENSIONS));
+        kernel.scale(profile, 0, DIMENSIONS, 1f / magnitude);
+        return profile;
+    }
+
+    private float[] normalizedCopy(VectorKernel kernel) {
+        float[] normalized = embedding.clone();
+        float magnitude = (float) Math.sqrt(kernel.dot(normalized, 0, normalized, 0, DIMENSIONS));
+        kernel.scale(normalized, 0, DIMENSIONS, 1f / magnitude);
+        return normalized;
+    }
+}
@@ -8,6 +8,7 @@ public final class KafkaConsumerGroups {
     public static final String RECOMMENDATION_SERVICE = "recommendation-service";
     public static final String RECOMMENDATION_SERVICE_DLT = "recommendation-service-dlt-group";
     public static final String RECOMMENDATION_USER_PROFILE = "recommendation_service_group";
+    public static final String RECOMMENDATION_POPULARITY = "recommendation-popularity";
     public static final String RECOMMENDATION_GROUP = "recommendation-group";
     public static final String RECOMMENDATION_GROUP_TEST = "recommendation-group-test";
 
@@ -51,6 +51,7 @@ class KafkaContractsTest {
         assertEquals("recommendation-service", KafkaConsumerGroups.RECOMMENDATION_SERVICE);
         assertEquals("recommendation-service-dlt-group", KafkaConsumerGroups.RECOMMENDATION_SERVICE_DLT);
         assertEquals("recommendation_service_group", KafkaConsumerGroups.RECOMMENDATION_USER_PROFILE);
+        assertEquals("recommendation-popularity", KafkaConsumerGroups.RECOMMENDATION_POPULARITY);
         assertEquals("recommendation-group", KafkaConsumerGroups.RECOMMENDATION_GROUP);
         assertEquals("recommendation-group-test", KafkaConsumerGroups.RECOMMENDATION_GROUP_TEST);
     }
@@ -2,6 +2,7 @@ package com.vellumhub.engagement_service.module.book_snapshot.application.use_ca
 
 import com.vellumhub.engagement_service.module.book_snapshot.application.command.CreateBookSnapshotCommand;
 import com.vellumhub.engagement_service.module.book_snapshot.domain.model.BookSnapshot;
+import com.vellumhub.engagement_service.module.book_snapshot.domain.port.BookSnapshotIndex;
 import com.vellumhub.engagement_service.module.book_snapshot.domain.port.BookSnapshotRepository;
 import org.springframework.stereotype.Service;
 
@@ -9,9 +10,11 @@ import org.springframework.stereotype.Service;
 public class CreateBookSnapshotUseCase {
 
     private final BookSnapshotRepository bookSnapshotRepository;
+    private final BookSnapshotIndex bookSnapshotIndex;
 
-    public CreateBookSnapshotUseCase(BookSnapshotRepository bookSnapshotRepository) {
+    public CreateBookSnapshotUseCase(BookSnapshotRepository bookSnapshotRepository, BookSnapshotIndex bookSnapshotIndex) {
         this.bookSnapshotRepository = bookSnapshotRepository;
+        this.bookSnapshotIndex = bookSnapshotIndex;
     }
 
     public void execute(CreateBookSnapshotCommand command) {
@@ -19,5 +22,6 @@ public class CreateBookSnapshotUseCase {
                 .orElseGet(() -> new BookSnapshot(command.bookId()));
 
         bookSnapshotRepository.save(bookSnapshot);
+        bookSnapshotIndex.add(command.bookId());
     }
 }
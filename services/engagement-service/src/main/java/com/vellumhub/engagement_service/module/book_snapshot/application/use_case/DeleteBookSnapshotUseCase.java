@@ -1,6 +1,7 @@
 package com.vellumhub.engagement_service.module.book_snapshot.application.use_case;
 
 import com.vellumhub.engagement_service.module.book_snapshot.application.command.DeleteBookSnapshotCommand;
+import com.vellumhub.engagement_service.module.book_snapshot.domain.port.BookSnapshotIndex;
 import com.vellumhub.engagement_service.module.book_snapshot.domain.port.BookSnapshotRepository;
 import org.springframework.stereotype.Service;
 
@@ -8,13 +9,16 @@ import org.springframework.stereotype.Service;
 public class DeleteBookSnapshotUseCase {
 
     private final BookSnapshotRepository bookSnapshotRepository;
+    private final BookSnapshotIndex bookSnapshotIndex;
 
-    public DeleteBookSnapshotUseCase(BookSnapshotRepository bookSnapshotRepository) {
+    public DeleteBookSnapshotUseCase(BookSnapshotRepository bookSnapshotRepository, BookSnapshotIndex bookSnapshotIndex) {
         this.bookSnapshotRepository = bookSnapshotRepository;
+        this.bookSnapshotIndex = bookSnapshotIndex;
     }
 
     public void execute(DeleteBookSnapshotCommand command) {
         bookSnapshotRepository.deleteByBookId(command.bookId());
+        bookSnapshotIndex.remove(command.bookId());
     }
 
 }
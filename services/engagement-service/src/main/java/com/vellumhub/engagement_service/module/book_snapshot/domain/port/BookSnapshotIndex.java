@@ -0,0 +1,21 @@
+package com.vellumhub.engagement_service.module.book_snapshot.domain.port;
+
+import java.util.UUID;
+
+/**
+ * Answers whether a book snapshot exists without a database round trip for the common case.
+ */
+public interface BookSnapshotIndex {
+
+    boolean contains(UUID bookId);
+
+    /**
+     * Records a snapshot stored by this instance. Call after it is committed.
+     */
+    void add(UUID bookId);
+
+    /**
+     * Records a snapshot deleted by this instance. Call after the delete is committed.
+     */
+    void remove(UUID bookId);
+}
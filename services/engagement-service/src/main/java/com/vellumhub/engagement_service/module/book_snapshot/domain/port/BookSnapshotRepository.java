@@ -2,6 +2,7 @@ package com.vellumhub.engagement_service.module.book_snapshot.domain.port;
 
 import com.vellumhub.engagement_service.module.book_snapshot.domain.model.BookSnapshot;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,4 +14,12 @@ public interface BookSnapshotRepository {
     boolean existsById(UUID bookId);
 
     Optional<BookSnapshot> findById(UUID uuid);
+
+    /**
+     * Returns up to {@code limit} book IDs in ascending order, starting after {@code after} or from the
+     * first one when it is {@code null}.
+     */
+    List<UUID> findIdsAfter(UUID after, int limit);
+
+    BookSnapshot getReference(UUID bookId);
 }
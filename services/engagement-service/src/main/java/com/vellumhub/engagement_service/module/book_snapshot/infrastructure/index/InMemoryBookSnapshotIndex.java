@@ -0,0 +1,223 @@
+package com.vellumhub.engagement_service.module.book_snapshot.infrastructure.index;
+
+import com.vellumhub.engagement_service.module.book_snapshot.domain.port.BookSnapshotIndex;
+import com.vellumhub.engagement_service.module.book_snapshot.domain.port.BookSnapshotRepository;
+import com.vellumhub.engagement_service.share.metrics.VellumHubMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@link BookSnapshotIndex} holding every {@code book_snapshot} ID in memory.
+ * <p>
+ * The IDs are loaded at startup and reloaded every {@code check-interval}; each reload counts how many IDs
+ * the index had wrong and reports it as drift. In between, the book snapshot use cases add and remove IDs as
+ * they store and delete snapshots. Book events reach only one instance of the consumer group, so on other
+ * instances a new book is missing until the next reload: a miss is checked against the database and a book
+ * found there is added, which keeps misses correct and leaves only deleted books as possible stale hits.
+ * Until the first load completes every lookup goes to the database.
+ * </p>
+ */
+@Component
+@Slf4j
+public class InMemoryBookSnapshotIndex implements BookSnapshotIndex {
+
+    private final BookSnapshotRepository bookSnapshotRepository;
+    private final VellumHubMetrics metrics;
+    private final int loadBatchSize;
+    private final Duration checkInterval;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private UuidSet ids = new UuidSet(0);
+    private volatile boolean loaded;
+    private List<Change> changesDuringLoad;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "book-snapshot-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public InMemoryBookSnapshotIndex(
+            BookSnapshotRepository bookSnapshotRepository,
+            VellumHubMetrics metrics,
+            @Value("${app.book-snapshot-index.load-batch-size:10000}") int loadBatchSize,
+            @Value("${app.book-snapshot-index.check-interval:PT10M}") Duration checkInterval
+    ) {
+        if (loadBatchSize < 1) {
+            throw new IllegalArgumentException("app.book-snapshot-index.load-batch-size must be at least 1");
+        }
+        if (checkInterval.isZero() || checkInterval.isNegative()) {
+            throw new IllegalArgumentException("app.book-snapshot-index.check-interval must be positive");
+        }
+        this.bookSnapshotRepository = bookSnapshotRepository;
+        this.metrics = metrics;
+        this.loadBatchSize = loadBatchSize;
+        this.checkInterval = checkInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::checkQuietly, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public boolean contains(UUID bookId) {
+        if (loaded) {
+            lock.readLock().lock();
+            try {
+                if (ids.contains(bookId)) {
+                    metrics.recordBookSnapshotIndexLookup("hit");
+                    return true;
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        boolean exists = bookSnapshotRepository.existsById(bookId);
+        metrics.recordBookSnapshotIndexLookup(exists ? "fallback_hit" : "miss");
+        if (exists) {
+            add(bookId);
+        }
+        return exists;
+    }
+
+    @Override
+    public void add(UUID bookId) {
+        apply(new Change(bookId, true));
+    }
+
+    @Override
+    public void remove(UUID bookId) {
+        apply(new Change(bookId, false));
+    }
+
+    /**
+     * Reloads the IDs from the database and swaps them in. Returns the drift: the number of IDs the index
+     * was missing plus the number it held for books that no longer exist.
+     */
+    long check() {
+        lock.writeLock().lock();
+        try {
+            changesDuringLoad = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        UuidSet reloaded;
+        try {
+            reloaded = load();
+        } catch (RuntimeException ex) {
+            lock.writeLock().lock();
+            try {
+                changesDuringLoad = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw ex;
+        }
+
+        // The reloaded set stays with this thread as the database snapshot, and a copy of it goes live, so the
+        // write lock covers only replaying the changes made during the load and swapping the reference.
+        UuidSet live = reloaded.copy();
+        List<Change> changes;
+        UuidSet previous;
+        boolean wasLoaded;
+        int size;
+        lock.writeLock().lock();
+        try {
+            // Pages read before a concurrent change may miss it, so replay what happened during the load.
+            changes = changesDuringLoad;
+            changesDuringLoad = null;
+            changes.forEach(change -> change.applyTo(live));
+            previous = ids;
+            ids = live;
+            size = live.size();
+            wasLoaded = loaded;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // Nothing writes to the previous set once it is swapped out, so the drift is counted without the lock.
+        changes.forEach(change -> change.applyTo(reloaded));
+        long drift = wasLoaded ? previous.countMissingFrom(reloaded) + reloaded.countMissingFrom(previous) : 0;
+
+        metrics.recordBookSnapshotIndexCheck(size, drift);
+        if (drift > 0) {
+            log.warn("Book snapshot index drifted from the database. operation=book_snapshot_index_check, size={}, drift={}", size, drift);
+        }
+        return drift;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private UuidSet load() {
+        int expectedSize;
+        lock.readLock().lock();
+        try {
+            expectedSize = ids.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        UuidSet reloaded = new UuidSet(expectedSize);
+        UUID after = null;
+        List<UUID> page;
+        do {
+            page = bookSnapshotRepository.findIdsAfter(after, loadBatchSize);
+            page.forEach(reloaded::add);
+            if (!page.isEmpty()) {
+                after = page.getLast();
+            }
+        } while (page.size() == loadBatchSize);
+        return reloaded;
+    }
+
+    private void apply(Change change) {
+        lock.writeLock().lock();
+        try {
+            change.applyTo(ids);
+            if (changesDuringLoad != null) {
+                changesDuringLoad.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void checkQuietly() {
+        try {
+            check();
+        } catch (RuntimeException ex) {
+            log.warn("Book snapshot index check failed. operation=book_snapshot_index_check, error={}", ex.getMessage());
+        }
+    }
+
+    private record Change(UUID bookId, boolean added) {
+        void applyTo(UuidSet set) {
+            if (added) {
+                set.add(bookId);
+            } else {
+                set.remove(bookId);
+            }
+        }
+    }
+}
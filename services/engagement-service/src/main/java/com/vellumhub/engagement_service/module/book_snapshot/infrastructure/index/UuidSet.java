@@ -0,0 +1,186 @@
+package com.vellumhub.engagement_service.module.book_snapshot.infrastructure.index;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Open-addressing hash set of UUIDs kept as pairs of longs in one array, about 32 bytes per ID at the
+ * maximum load of one half, where a {@code HashSet<UUID>} needs several objects per ID. Linear probing with
+ * backward-shift deletion, so removals leave no tombstones. An all-zero pair marks an empty slot, so the nil
+ * UUID is tracked by a flag. Not thread-safe.
+ */
+final class UuidSet {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] slots;
+    private int mask;
+    private int size;
+    private boolean containsNil;
+
+    UuidSet(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    private UuidSet(UuidSet source) {
+        this.slots = source.slots.clone();
+        this.mask = source.mask;
+        this.size = source.size;
+        this.containsNil = source.containsNil;
+    }
+
+    /**
+     * Returns an independent set with the same IDs, copied slot array and all without rehashing.
+     */
+    UuidSet copy() {
+        return new UuidSet(this);
+    }
+
+    boolean contains(UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        if (msb == 0 && lsb == 0) {
+            return containsNil;
+        }
+        return find(msb, lsb) >= 0;
+    }
+
+    boolean add(UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        if (msb == 0 && lsb == 0) {
+            boolean added = !containsNil;
+            containsNil = true;
+            return added;
+        }
+        if (find(msb, lsb) >= 0) {
+            return false;
+        }
+        insert(msb, lsb);
+        size++;
+        if (size * 2 > mask + 1) {
+            resize((mask + 1) * 2);
+        }
+        return true;
+    }
+
+    boolean remove(UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        if (msb == 0 && lsb == 0) {
+            boolean removed = containsNil;
+            containsNil = false;
+            return removed;
+        }
+        int slot = find(msb, lsb);
+        if (slot < 0) {
+            return false;
+        }
+        shiftBack(slot);
+        size--;
+        return true;
+    }
+
+    int size() {
+        return containsNil ? size + 1 : size;
+    }
+
+    void forEach(Consumer<UUID> action) {
+        if (containsNil) {
+            action.accept(new UUID(0, 0));
+        }
+        for (int slot = 0; slot <= mask; slot++) {
+            long msb = slots[2 * slot];
+            long lsb = slots[2 * slot + 1];
+            if (msb != 0 || lsb != 0) {
+                action.accept(new UUID(msb, lsb));
+            }
+        }
+    }
+
+    /**
+     * Returns how many IDs of this set are not in {@code other}.
+     */
+    int countMissingFrom(UuidSet other) {
+        int[] missing = {0};
+        forEach(id -> {
+            if (!other.contains(id)) {
+                missing[0]++;
+            }
+        });
+        return missing[0];
+    }
+
+    private int find(long msb, long lsb) {
+        int slot = home(msb, lsb);
+        while (true) {
+            long slotMsb = slots[2 * slot];
+            long slotLsb = slots[2 * slot + 1];
+            if (slotMsb == msb && slotLsb == lsb) {
+                return slot;
+            }
+            if (slotMsb == 0 && slotLsb == 0) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void insert(long msb, long lsb) {
+        int slot = home(msb, lsb);
+        while (slots[2 * slot] != 0 || slots[2 * slot + 1] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[2 * slot] = msb;
+        slots[2 * slot + 1] = lsb;
+    }
+
+    private void shiftBack(int hole) {
+        int slot = hole;
+        while (true) {
+            slot = (slot + 1) & mask;
+            long msb = slots[2 * slot];
+            long lsb = slots[2 * slot + 1];
+            if (msb == 0 && lsb == 0) {
+                break;
+            }
+            // An entry may move back into the hole only if the hole lies between its home slot and its slot.
+            int home = home(msb, lsb);
+            if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                slots[2 * hole] = msb;
+                slots[2 * hole + 1] = lsb;
+                hole = slot;
+            }
+        }
+        slots[2 * hole] = 0;
+        slots[2 * hole + 1] = 0;
+    }
+
+    private void resize(int capacity) {
+        long[] previous = slots;
+        allocate(capacity);
+        for (int i = 0; i < previous.length; i += 2) {
+            if (previous[i] != 0 || previous[i + 1] != 0) {
+                insert(previous[i], previous[i + 1]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        slots = new long[2 * capacity];
+        mask = capacity - 1;
+    }
+
+    private int home(long msb, long lsb) {
+        long hash = (msb ^ Long.rotateLeft(lsb, 32)) * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & mask;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < 2L * expectedSize + 1) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
@@ -1,10 +1,20 @@
 package com.vellumhub.engagement_service.module.book_snapshot.infrastructure.persistence.repository;
 
 import com.vellumhub.engagement_service.module.book_snapshot.domain.model.BookSnapshot;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface JpaBookSnapshotRepository extends JpaRepository<BookSnapshot, UUID> {
     void deleteByBookId(UUID bookId);
+
+    @Query("SELECT b.bookId FROM BookSnapshot b ORDER BY b.bookId")
+    List<UUID> findIds(Limit limit);
+
+    @Query("SELECT b.bookId FROM BookSnapshot b WHERE b.bookId > :after ORDER BY b.bookId")
+    List<UUID> findIdsAfter(@Param("after") UUID after, Limit limit);
 }
@@ -2,8 +2,10 @@ package com.vellumhub.engagement_service.module.book_snapshot.infrastructure.per
 
 import com.vellumhub.engagement_service.module.book_snapshot.domain.model.BookSnapshot;
 import com.vellumhub.engagement_service.module.book_snapshot.domain.port.BookSnapshotRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -35,4 +37,16 @@ public class SpringBookSnapshotRepositoryAdapter implements BookSnapshotReposito
     public Optional<BookSnapshot> findById(UUID id) {
         return jpaBookSnapshotRepository.findById(id);
     }
+
+    @Override
+    public List<UUID> findIdsAfter(UUID after, int limit) {
+        return after == null
+                ? jpaBookSnapshotRepository.findIds(Limit.of(limit))
+                : jpaBookSnapshotRepository.findIdsAfter(after, Limit.of(limit));
+    }
+
+    @Override
+    public BookSnapshot getReference(UUID bookId) {
+        return jpaBookSnapshotRepository.getReferenceById(bookId);
+    }
 }
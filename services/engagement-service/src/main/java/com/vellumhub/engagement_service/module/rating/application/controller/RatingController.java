@@ -1,6 +1,7 @@
 package com.vellumhub.engagement_service.module.rating.application.controller;
 
 import com.vellumhub.engagement_service.module.rating.application.dto.CreateRatingRequest;
+import com.vellumhub.engagement_service.module.rating.application.dto.GetBookStatusResponse;
 import com.vellumhub.engagement_service.module.rating.application.dto.RatingGetResponse;
 import com.vellumhub.engagement_service.module.rating.application.dto.UpdateRatingRequest;
 import com.vellumhub.engagement_service.module.rating.application.handler.*;
@@ -33,18 +34,20 @@ public class RatingController {
     private final UpdateRatingHandler updateRatingHandler;
     private final DeleteRatingHandler deleteRatingHandler;
     private final GetAllRatingByBookIdHandler getAllRatingByBookIdHandler;
+    private final GetBookRatingStatsHandler getBookRatingStatsHandler;
 
     private final AuthenticationService authenticationService;
 
     public RatingController(
             CreateRatingHandler createRatingHandler,
-            GetUserRatingHandler getUserRatingHandler, UpdateRatingHandler updateRatingHandler, DeleteRatingHandler deleteRatingHandler, GetAllRatingByBookIdHandler getAllRatingByBookIdHandler, AuthenticationService authenticationService
+            GetUserRatingHandler getUserRatingHandler, UpdateRatingHandler updateRatingHandler, DeleteRatingHandler deleteRatingHandler, GetAllRatingByBookIdHandler getAllRatingByBookIdHandler, GetBookRatingStatsHandler getBookRatingStatsHandler, AuthenticationService authenticationService
     ) {
         this.createRatingHandler = createRatingHandler;
         this.getUserRatingHandler = getUserRatingHandler;
         this.updateRatingHandler = updateRatingHandler;
         this.deleteRatingHandler = deleteRatingHandler;
         this.getAllRatingByBookIdHandler = getAllRatingByBookIdHandler;
+        this.getBookRatingStatsHandler = getBookRatingStatsHandler;
         this.authenticationService = authenticationService;
     }
 
@@ -169,5 +172,22 @@ public class RatingController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/stats")
+    @Operation(summary = "Get book rating stats", description = "Returns rating count, average and star histogram for up to 100 books, in request order")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rating stats retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = GetBookStatusResponse.class))),
+            @ApiResponse(responseCode = "400", description = "No book IDs or more than 100", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+    })
+    public ResponseEntity<List<GetBookStatusResponse>> getStats(
+            @Parameter(description = "Book IDs") @RequestParam List<UUID> bookIds
+    ) {
+        var response = getBookRatingStatsHandler.handle(bookIds);
+
+        return ResponseEntity.ok(response);
+    }
+
     
 }
\ No newline at end of file
@@ -1,11 +1,13 @@
 package com.vellumhub.engagement_service.module.rating.application.dto;
 
+import java.util.List;
 import java.util.UUID;
 
 public record GetBookStatusResponse(
         UUID bookId,
         double averageRating,
-        long totalRatings
+        long totalRatings,
+        List<Long> starCounts
 ) {
 
 }
@@ -0,0 +1,31 @@
+package com.vellumhub.engagement_service.module.rating.application.handler;
+
+import com.vellumhub.engagement_service.module.rating.application.dto.GetBookStatusResponse;
+import com.vellumhub.engagement_service.module.rating.application.mapper.RatingMapper;
+import com.vellumhub.engagement_service.module.rating.domain.command.GetBookRatingStatsCommand;
+import com.vellumhub.engagement_service.module.rating.domain.use_case.GetBookRatingStatsUseCase;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class GetBookRatingStatsHandler {
+
+    private final GetBookRatingStatsUseCase getBookRatingStatsUseCase;
+    private final RatingMapper mapper;
+
+    public GetBookRatingStatsHandler(GetBookRatingStatsUseCase getBookRatingStatsUseCase, RatingMapper mapper) {
+        this.getBookRatingStatsUseCase = getBookRatingStatsUseCase;
+        this.mapper = mapper;
+    }
+
+    public List<GetBookStatusResponse> handle(List<UUID> bookIds) {
+        var command = GetBookRatingStatsCommand.of(bookIds);
+
+        return getBookRatingStatsUseCase.execute(command).stream()
+                .map(mapper::toBookStatusResponse)
+                .toList();
+    }
+
+}
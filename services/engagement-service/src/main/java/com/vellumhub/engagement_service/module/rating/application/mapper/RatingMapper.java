@@ -1,6 +1,8 @@
 package com.vellumhub.engagement_service.module.rating.application.mapper;
 
+import com.vellumhub.engagement_service.module.rating.application.dto.GetBookStatusResponse;
 import com.vellumhub.engagement_service.module.rating.application.dto.RatingGetResponse;
+import com.vellumhub.engagement_service.module.rating.domain.model.BookRatingStats;
 import com.vellumhub.engagement_service.module.rating.domain.model.Rating;
 import org.springframework.stereotype.Component;
 
@@ -20,4 +22,15 @@ public class RatingMapper {
         );
     }
 
+    public GetBookStatusResponse toBookStatusResponse(
+            BookRatingStats stats
+    ) {
+        return new GetBookStatusResponse(
+                stats.getBookId(),
+                stats.averageRating(),
+                stats.getRatingCount(),
+                stats.starCounts()
+        );
+    }
+
 }
@@ -0,0 +1,24 @@
+package com.vellumhub.engagement_service.module.rating.domain.command;
+
+import com.vellumhub.engagement_service.module.rating.domain.exception.RatingDomainException;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+public record GetBookRatingStatsCommand(
+        List<UUID> bookIds
+) {
+    public static final int MAX_BOOK_IDS = 100;
+
+    public static GetBookRatingStatsCommand of(List<UUID> bookIds) {
+        if (bookIds == null || bookIds.isEmpty()) {
+            throw new RatingDomainException("At least one book id is required");
+        }
+        List<UUID> distinctBookIds = List.copyOf(new LinkedHashSet<>(bookIds));
+        if (distinctBookIds.size() > MAX_BOOK_IDS) {
+            throw new RatingDomainException("At most " + MAX_BOOK_IDS + " book ids can be requested at once");
+        }
+        return new GetBookRatingStatsCommand(distinctBookIds);
+    }
+}
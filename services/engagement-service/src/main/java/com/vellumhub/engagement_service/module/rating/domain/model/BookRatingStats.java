@@ -0,0 +1,79 @@
+package com.vellumhub.engagement_service.module.rating.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Rating aggregate of a book: how many ratings it has, the sum of their stars and how many carry each
+ * star value. Kept up to date by the rating use cases in the same transaction as the rating itself.
+ */
+@Entity
+@Table(name = "book_rating_stats")
+@Getter
+public class BookRatingStats {
+
+    @Id
+    private UUID bookId;
+
+    @Column(nullable = false)
+    private long ratingCount;
+
+    @Column(nullable = false)
+    private long starsSum;
+
+    @Column(name = "stars_0", nullable = false)
+    private long stars0;
+
+    @Column(name = "stars_1", nullable = false)
+    private long stars1;
+
+    @Column(name = "stars_2", nullable = false)
+    private long stars2;
+
+    @Column(name = "stars_3", nullable = false)
+    private long stars3;
+
+    @Column(name = "stars_4", nullable = false)
+    private long stars4;
+
+    @Column(name = "stars_5", nullable = false)
+    private long stars5;
+
+    protected BookRatingStats() {
+    }
+
+    public BookRatingStats(UUID bookId, long starsSum, long[] starCounts) {
+        this.bookId = bookId;
+        this.starsSum = starsSum;
+        this.stars0 = starCounts[0];
+        this.stars1 = starCounts[1];
+        this.stars2 = starCounts[2];
+        this.stars3 = starCounts[3];
+        this.stars4 = starCounts[4];
+        this.stars5 = starCounts[5];
+        for (long count : starCounts) {
+            this.ratingCount += count;
+        }
+    }
+
+    public static BookRatingStats empty(UUID bookId) {
+        return new BookRatingStats(bookId, 0, new long[6]);
+    }
+
+    public double averageRating() {
+        return ratingCount == 0 ? 0.0 : (double) starsSum / ratingCount;
+    }
+
+    /**
+     * Number of ratings per star value, indexed by stars from 0 to 5.
+     */
+    public List<Long> starCounts() {
+        return List.of(stars0, stars1, stars2, stars3, stars4, stars5);
+    }
+}
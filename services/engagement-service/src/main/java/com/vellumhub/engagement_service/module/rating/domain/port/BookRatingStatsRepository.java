@@ -0,0 +1,17 @@
+package com.vellumhub.engagement_service.module.rating.domain.port;
+
+import com.vellumhub.engagement_service.module.rating.domain.model.BookRatingStats;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface BookRatingStatsRepository {
+    void add(UUID bookId, int stars);
+
+    void change(UUID bookId, int oldStars, int newStars);
+
+    void remove(UUID bookId, int stars);
+
+    List<BookRatingStats> findAllByBookIds(Collection<UUID> bookIds);
+}
@@ -17,6 +17,12 @@ public interface RatingRepository {
 
     Optional<Rating> findById(long id);
 
+    /**
+     * Loads the rating and locks its row until the surrounding transaction ends, so concurrent changes
+     * to the same rating read the stars the other one wrote.
+     */
+    Optional<Rating> findForUpdate(long id);
+
     boolean existsbyId(Long ratingId);
 
     void deleteById(Long ratingId);
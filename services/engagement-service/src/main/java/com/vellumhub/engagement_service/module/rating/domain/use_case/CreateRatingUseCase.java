@@ -1,13 +1,15 @@
 package com.vellumhub.engagement_service.module.rating.domain.use_case;
 
-import com.vellumhub.engagement_service.module.book_snapshot.domain.port.BookSnapshotRepository;
+import com.vellumhub.engagement_service.module.book_snapshot.domain.port.BookSnapshotIndex;
 import com.vellumhub.engagement_service.module.rating.domain.command.CreateRatingCommand;
 import com.vellumhub.engagement_service.module.rating.domain.exception.RatingAlreadyExistException;
 import com.vellumhub.engagement_service.module.rating.domain.exception.RatingDomainException;
 import com.vellumhub.engagement_service.module.rating.domain.model.Rating;
+import com.vellumhub.engagement_service.module.rating.domain.port.BookRatingStatsRepository;
 import com.vellumhub.engagement_service.module.rating.domain.port.RatingRepository;
 import com.vellumhub.engagement_service.share.metrics.VellumHubMetrics;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 
@@ -15,17 +17,20 @@ import java.time.LocalDateTime;
 public class CreateRatingUseCase {
 
     private final RatingRepository ratingRepository;
-    private final BookSnapshotRepository bookSnapshotRepository;
+    private final BookSnapshotIndex bookSnapshotIndex;
+    private final BookRatingStatsRepository bookRatingStatsRepository;
     private final VellumHubMetrics metrics;
 
-    public CreateRatingUseCase(RatingRepository ratingRepository, BookSnapshotRepository bookSnapshotRepository, VellumHubMetrics metrics) {
+    public CreateRatingUseCase(RatingRepository ratingRepository, BookSnapshotIndex bookSnapshotIndex, BookRatingStatsRepository bookRatingStatsRepository, VellumHubMetrics metrics) {
         this.ratingRepository = ratingRepository;
-        this.bookSnapshotRepository = bookSnapshotRepository;
+        this.bookSnapshotIndex = bookSnapshotIndex;
+        this.bookRatingStatsRepository = bookRatingStatsRepository;
         this.metrics = metrics;
     }
 
+    @Transactional
     public Rating execute(CreateRatingCommand command) {
-        if(!bookSnapshotRepository.existsById(command.bookId())) throw new RatingDomainException("Book not exists");
+        if(!bookSnapshotIndex.contains(command.bookId())) throw new RatingDomainException("Book not exists");
 
         if (ratingRepository.existsByUserIdAndBookId(command.userId(), command.bookId())) {
             throw new RatingAlreadyExistException();
@@ -40,6 +45,7 @@ public class CreateRatingUseCase {
                 .build();
 
         Rating savedRating = ratingRepository.save(rating);
+        bookRatingStatsRepository.add(savedRating.getBookId(), savedRating.getStars());
         metrics.recordBusinessCounter(VellumHubMetrics.RATINGS_CREATED, "rating_creation", "success");
         return savedRating;
     }
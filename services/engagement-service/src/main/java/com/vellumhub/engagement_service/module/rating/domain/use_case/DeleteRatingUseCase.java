@@ -4,20 +4,25 @@ import com.vellumhub.engagement_service.module.rating.domain.command.DeleteRatin
 import com.vellumhub.engagement_service.module.rating.domain.exception.RatingDomainException;
 import com.vellumhub.engagement_service.module.rating.domain.exception.RatingNotFoundException;
 import com.vellumhub.engagement_service.module.rating.domain.model.Rating;
+import com.vellumhub.engagement_service.module.rating.domain.port.BookRatingStatsRepository;
 import com.vellumhub.engagement_service.module.rating.domain.port.RatingRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
 public class DeleteRatingUseCase {
 
     private final RatingRepository ratingRepository;
+    private final BookRatingStatsRepository bookRatingStatsRepository;
 
-    public DeleteRatingUseCase(RatingRepository ratingRepository) {
+    public DeleteRatingUseCase(RatingRepository ratingRepository, BookRatingStatsRepository bookRatingStatsRepository) {
         this.ratingRepository = ratingRepository;
+        this.bookRatingStatsRepository = bookRatingStatsRepository;
     }
 
+    @Transactional
     public void execute(DeleteRatingCommand command) {
-        Rating rating = ratingRepository.findById(command.ratingId())
+        Rating rating = ratingRepository.findForUpdate(command.ratingId())
                 .orElseThrow(() -> new RatingNotFoundException("Rating not found with id: " + command.ratingId()));
 
         if(rating.getUserId() != command.userId()){
@@ -25,6 +30,7 @@ public class DeleteRatingUseCase {
         }
 
         ratingRepository.deleteById(command.ratingId());
+        bookRatingStatsRepository.remove(rating.getBookId(), rating.getStars());
     }
 
 }
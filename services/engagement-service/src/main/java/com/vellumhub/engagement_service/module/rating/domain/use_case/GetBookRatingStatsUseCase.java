@@ -0,0 +1,35 @@
+package com.vellumhub.engagement_service.module.rating.domain.use_case;
+
+import com.vellumhub.engagement_service.module.rating.domain.command.GetBookRatingStatsCommand;
+import com.vellumhub.engagement_service.module.rating.domain.model.BookRatingStats;
+import com.vellumhub.engagement_service.module.rating.domain.port.BookRatingStatsRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class GetBookRatingStatsUseCase {
+
+    private final BookRatingStatsRepository bookRatingStatsRepository;
+
+    public GetBookRatingStatsUseCase(BookRatingStatsRepository bookRatingStatsRepository) {
+        this.bookRatingStatsRepository = bookRatingStatsRepository;
+    }
+
+    /**
+     * Returns the stats of every requested book in request order, empty for books nobody has rated.
+     */
+    public List<BookRatingStats> execute(GetBookRatingStatsCommand command) {
+        Map<UUID, BookRatingStats> statsByBookId = bookRatingStatsRepository.findAllByBookIds(command.bookIds()).stream()
+                .collect(Collectors.toMap(BookRatingStats::getBookId, Function.identity()));
+
+        return command.bookIds().stream()
+                .map(bookId -> statsByBookId.getOrDefault(bookId, BookRatingStats.empty(bookId)))
+                .toList();
+    }
+
+}
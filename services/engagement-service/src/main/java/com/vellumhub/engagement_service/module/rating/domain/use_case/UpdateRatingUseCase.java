@@ -3,28 +3,36 @@ package com.vellumhub.engagement_service.module.rating.domain.use_case;
 import com.vellumhub.engagement_service.module.rating.domain.command.UpdateRatingCommand;
 import com.vellumhub.engagement_service.module.rating.domain.exception.RatingDomainException;
 import com.vellumhub.engagement_service.module.rating.domain.model.Rating;
+import com.vellumhub.engagement_service.module.rating.domain.port.BookRatingStatsRepository;
 import com.vellumhub.engagement_service.module.rating.domain.port.RatingRepository;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
 public class UpdateRatingUseCase {
 
     private final RatingRepository ratingRepository;
+    private final BookRatingStatsRepository bookRatingStatsRepository;
 
-    public UpdateRatingUseCase(RatingRepository ratingRepository) {
+    public UpdateRatingUseCase(RatingRepository ratingRepository, BookRatingStatsRepository bookRatingStatsRepository) {
         this.ratingRepository = ratingRepository;
+        this.bookRatingStatsRepository = bookRatingStatsRepository;
     }
 
+    @Transactional
     public Rating execute(UpdateRatingCommand command) {
-        Rating rating = ratingRepository.findById(command.ratingId())
+        Rating rating = ratingRepository.findForUpdate(command.ratingId())
                 .orElseThrow(() -> new RatingDomainException("Rating not found"));
+        int previousStars = rating.getStars();
 
         rating.update(
                 command.stars(),
                 command.review()
         );
 
-        return ratingRepository.save(rating);
+        Rating savedRating = ratingRepository.save(rating);
+        bookRatingStatsRepository.change(savedRating.getBookId(), previousStars, savedRating.getStars());
+        return savedRating;
     }
 
 }
@@ -0,0 +1,24 @@
+package com.vellumhub.engagement_service.module.rating.infrastructure.producer;
+
+import com.vellumhub.engagement_service.module.rating.domain.port.EventProducer;
+import com.vellumhub.engagement_service.share.outbox.Outbox;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class OutboxEventProducer<K, V> implements EventProducer<K, V> {
+
+    private final Outbox outbox;
+
+    public OutboxEventProducer(Outbox outbox) {
+        this.outbox = outbox;
+    }
+
+    @Override
+    public void send(String topic, K key, V value) {
+        log.debug("Recording event in outbox for topic: {} | Key: {}", topic, key);
+
+        outbox.append(topic, key == null ? null : key.toString(), value);
+    }
+}
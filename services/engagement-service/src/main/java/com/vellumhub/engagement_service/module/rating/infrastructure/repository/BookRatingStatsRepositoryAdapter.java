@@ -0,0 +1,91 @@
+package com.vellumhub.engagement_service.module.rating.infrastructure.repository;
+
+import com.vellumhub.engagement_service.module.rating.domain.model.BookRatingStats;
+import com.vellumhub.engagement_service.module.rating.domain.port.BookRatingStatsRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Applies rating changes to {@code book_rating_stats} as relative updates, so concurrent ratings of the
+ * same book serialize on its row instead of overwriting each other's counts.
+ * <p>
+ * A book's first rating creates an empty row in a separate transaction and then applies its delta to it.
+ * When first ratings race, the losing insert fails on the primary key, which is ignored, so both ratings
+ * land on the same row. The insert is plain SQL and runs in its own transaction, so it works on any database
+ * and a failed insert does not abort the rating's transaction.
+ * </p>
+ */
+@Component
+public class BookRatingStatsRepositoryAdapter implements BookRatingStatsRepository {
+
+    private final BookRatingStatsRepositoryJpa bookRatingStatsRepositoryJpa;
+    private final TransactionTemplate newTransaction;
+
+    public BookRatingStatsRepositoryAdapter(BookRatingStatsRepositoryJpa bookRatingStatsRepositoryJpa, PlatformTransactionManager transactionManager) {
+        this.bookRatingStatsRepositoryJpa = bookRatingStatsRepositoryJpa;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public void add(UUID bookId, int stars) {
+        long[] starDeltas = new long[6];
+        starDeltas[stars] = 1;
+        if (apply(bookId, 1, stars, starDeltas) == 0) {
+            createEmptyRow(bookId);
+            apply(bookId, 1, stars, starDeltas);
+        }
+    }
+
+    @Override
+    public void change(UUID bookId, int oldStars, int newStars) {
+        if (oldStars == newStars) {
+            return;
+        }
+        long[] starDeltas = new long[6];
+        starDeltas[oldStars] = -1;
+        starDeltas[newStars] = 1;
+        apply(bookId, 0, newStars - oldStars, starDeltas);
+    }
+
+    @Override
+    public void remove(UUID bookId, int stars) {
+        long[] starDeltas = new long[6];
+        starDeltas[stars] = -1;
+        apply(bookId, -1, -stars, starDeltas);
+    }
+
+    @Override
+    public List<BookRatingStats> findAllByBookIds(Collection<UUID> bookIds) {
+        return bookRatingStatsRepositoryJpa.findAllByBookIdIn(bookIds);
+    }
+
+    private void createEmptyRow(UUID bookId) {
+        try {
+            newTransaction.executeWithoutResult(status -> bookRatingStatsRepositoryJpa.insertEmpty(bookId));
+        } catch (DataIntegrityViolationException ex) {
+            // Another first rating of the book created the row in the meantime.
+        }
+    }
+
+    private int apply(UUID bookId, long countDelta, long sumDelta, long[] starDeltas) {
+        return bookRatingStatsRepositoryJpa.applyDelta(
+                bookId,
+                countDelta,
+                sumDelta,
+                starDeltas[0],
+                starDeltas[1],
+                starDeltas[2],
+                starDeltas[3],
+                starDeltas[4],
+                starDeltas[5]
+        );
+    }
+}
@@ -0,0 +1,53 @@
+package com.vellumhub.engagement_service.module.rating.infrastructure.repository;
+
+import com.vellumhub.engagement_service.module.rating.domain.model.BookRatingStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface BookRatingStatsRepositoryJpa extends JpaRepository<BookRatingStats, UUID> {
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE BookRatingStats s
+            SET s.ratingCount = s.ratingCount + :countDelta,
+                s.starsSum = s.starsSum + :sumDelta,
+                s.stars0 = s.stars0 + :delta0,
+                s.stars1 = s.stars1 + :delta1,
+                s.stars2 = s.stars2 + :delta2,
+                s.stars3 = s.stars3 + :delta3,
+                s.stars4 = s.stars4 + :delta4,
+                s.stars5 = s.stars5 + :delta5
+            WHERE s.bookId = :bookId
+            """)
+    int applyDelta(
+            @Param("bookId") UUID bookId,
+            @Param("countDelta") long countDelta,
+            @Param("sumDelta") long sumDelta,
+            @Param("delta0") long delta0,
+            @Param("delta1") long delta1,
+            @Param("delta2") long delta2,
+            @Param("delta3") long delta3,
+            @Param("delta4") long delta4,
+            @Param("delta5") long delta5
+    );
+
+    /**
+     * Creates an all-zero row for the book. Fails with a primary key violation when the row exists.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO book_rating_stats (book_id, rating_count, stars_sum, stars_0, stars_1, stars_2, stars_3, stars_4, stars_5)
+            VALUES (:bookId, 0, 0, 0, 0, 0, 0, 0, 0)
+            """, nativeQuery = true)
+    void insertEmpty(@Param("bookId") UUID bookId);
+
+    List<BookRatingStats> findAllByBookIdIn(Collection<UUID> bookIds);
+}
@@ -48,6 +48,11 @@ public class RatingRepositoryAdapter implements RatingRepository {
         return ratingRepositoryJpa.findById(id);
     }
 
+    @Override
+    public Optional<Rating> findForUpdate(long id) {
+        return ratingRepositoryJpa.findForUpdate(id);
+    }
+
     @Override
     public boolean existsbyId(Long ratingId) {
         return ratingRepositoryJpa.existsById(ratingId);
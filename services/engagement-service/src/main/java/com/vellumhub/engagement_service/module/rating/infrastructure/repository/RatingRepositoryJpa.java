@@ -1,17 +1,26 @@
 package com.vellumhub.engagement_service.module.rating.infrastructure.repository;
 
 import com.vellumhub.engagement_service.module.rating.domain.model.Rating;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface RatingRepositoryJpa extends JpaRepository<Rating, Long>, JpaSpecificationExecutor<Rating> {
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Rating r WHERE r.id = :id")
+    Optional<Rating> findForUpdate(@Param("id") Long id);
+
     boolean existsByUserIdAndBookId(UUID userId, UUID bookId);
 
     Page<Rating> findAllByBookId(UUID bookId, PageRequest pageRequest);
@@ -1,6 +1,7 @@
 package com.vellumhub.engagement_service.module.reaction.application.use_case;
 
 import com.vellumhub.engagement_service.module.book_snapshot.domain.model.BookSnapshot;
+import com.vellumhub.engagement_service.module.book_snapshot.domain.port.BookSnapshotIndex;
 import com.vellumhub.engagement_service.module.book_snapshot.domain.port.BookSnapshotRepository;
 import com.vellumhub.engagement_service.module.reaction.application.command.CreateReactionCommand;
 import com.vellumhub.engagement_service.module.reaction.domain.model.Reaction;
@@ -17,20 +18,24 @@ public class CreateReactionUseCase {
 
     private final ReactionRepository reactionRepository;
     private final BookSnapshotRepository bookSnapshotRepository;
+    private final BookSnapshotIndex bookSnapshotIndex;
     private final EventProducer<String, ReactionChangedEvent> eventProducer;
     private final VellumHubMetrics metrics;
 
-    public CreateReactionUseCase(ReactionRepository reactionRepository, BookSnapshotRepository bookSnapshotRepository, EventProducer<String, ReactionChangedEvent> eventProducer, VellumHubMetrics metrics) {
+    public CreateReactionUseCase(ReactionRepository reactionRepository, BookSnapshotRepository bookSnapshotRepository, BookSnapshotIndex bookSnapshotIndex, EventProducer<String, ReactionChangedEvent> eventProducer, VellumHubMetrics metrics) {
         this.reactionRepository = reactionRepository;
         this.bookSnapshotRepository = bookSnapshotRepository;
+        this.bookSnapshotIndex = bookSnapshotIndex;
         this.eventProducer = eventProducer;
         this.metrics = metrics;
     }
 
     @Transactional
     public void execute(CreateReactionCommand command) {
-        BookSnapshot book = bookSnapshotRepository.findById(command.bookId())
-                .orElseThrow(() -> new RuntimeException("Book snapshot not found"));
+        if (!bookSnapshotIndex.contains(command.bookId())) {
+            throw new RuntimeException("Book snapshot not found");
+        }
+        BookSnapshot book = bookSnapshotRepository.getReference(command.bookId());
 
         var reaction = Reaction.of(
                 command.userId(),
@@ -0,0 +1,25 @@
+package com.vellumhub.engagement_service.module.reaction.infrastructure.outbox;
+
+import com.vellumhub.engagement_service.module.reaction.domain.port.EventProducer;
+import com.vellumhub.engagement_service.share.outbox.Outbox;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class OutboxEventProducerAdapter<K, E> implements EventProducer<K, E> {
+
+    private final Outbox outbox;
+
+    public OutboxEventProducerAdapter(Outbox outbox) {
+        this.outbox = outbox;
+    }
+
+    @Override
+    public void send(String topic, K key, E event) {
+        log.debug("Recording event in outbox — topic: {}, key: {}", topic, key);
+
+        outbox.append(topic, key == null ? null : key.toString(), event);
+    }
+
+}
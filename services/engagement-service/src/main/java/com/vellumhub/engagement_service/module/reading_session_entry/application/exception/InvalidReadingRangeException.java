@@ -0,0 +1,7 @@
+package com.vellumhub.engagement_service.module.reading_session_entry.application.exception;
+
+public class InvalidReadingRangeException extends RuntimeException {
+    public InvalidReadingRangeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,33 @@
+package com.vellumhub.engagement_service.module.reading_session_entry.application.query;
+
+import com.vellumhub.engagement_service.module.reading_session_entry.application.exception.InvalidReadingRangeException;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+/**
+ * Daily reading stats of a user or a book between two UTC days, both inclusive. Without {@code to} the
+ * range ends today; without {@code from} it covers the 30 days up to {@code to}.
+ */
+public record GetDailyReadingQuery(
+        UUID id,
+        LocalDate from,
+        LocalDate to
+) {
+    public static final int MAX_DAYS = 366;
+    private static final int DEFAULT_DAYS = 30;
+
+    public static GetDailyReadingQuery of(UUID id, LocalDate from, LocalDate to) {
+        LocalDate end = to == null ? LocalDate.now(ZoneOffset.UTC) : to;
+        LocalDate start = from == null ? end.minusDays(DEFAULT_DAYS - 1) : from;
+        if (start.isAfter(end)) {
+            throw new InvalidReadingRangeException("from must not be after to");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_DAYS) {
+            throw new InvalidReadingRangeException("Date range must not exceed " + MAX_DAYS + " days");
+        }
+        return new GetDailyReadingQuery(id, start, end);
+    }
+}
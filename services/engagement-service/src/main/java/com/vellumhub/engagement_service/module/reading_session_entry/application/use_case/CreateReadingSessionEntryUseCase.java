@@ -1,7 +1,7 @@
 package com.vellumhub.engagement_service.module.reading_session_entry.application.use_case;
 
 import com.vellumhub.engagement_service.module.book_snapshot.domain.exception.BookSnapshotNotFoundException;
-import com.vellumhub.engagement_service.module.book_snapshot.domain.model.BookSnapshot;
+import com.vellumhub.engagement_service.module.book_snapshot.domain.port.BookSnapshotIndex;
 import com.vellumhub.engagement_service.module.book_snapshot.domain.port.BookSnapshotRepository;
 import com.vellumhub.engagement_service.module.reading_session_entry.application.command.CreateReadingSessionEntryCommand;
 import com.vellumhub.engagement_service.module.reading_session_entry.domain.model.ReadingSessionEntry;
@@ -9,25 +9,30 @@ import com.vellumhub.engagement_service.module.reading_session_entry.domain.port
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 public class CreateReadingSessionEntryUseCase {
 
     private final ReadingSessionEntryRepository readingSessionEntryRepository;
     private final BookSnapshotRepository bookSnapshotRepository;
+    private final BookSnapshotIndex bookSnapshotIndex;
 
-    public CreateReadingSessionEntryUseCase(ReadingSessionEntryRepository readingSessionEntryRepository, BookSnapshotRepository bookSnapshotRepository) {
+    public CreateReadingSessionEntryUseCase(ReadingSessionEntryRepository readingSessionEntryRepository, BookSnapshotRepository bookSnapshotRepository, BookSnapshotIndex bookSnapshotIndex) {
         this.readingSessionEntryRepository = readingSessionEntryRepository;
         this.bookSnapshotRepository = bookSnapshotRepository;
+        this.bookSnapshotIndex = bookSnapshotIndex;
     }
 
     @Transactional
     public void execute(CreateReadingSessionEntryCommand command){
-        BookSnapshot bookSnapshot = bookSnapshotRepository.findById(command.bookId())
-                .orElseThrow(BookSnapshotNotFoundException::new);
+        if (!bookSnapshotIndex.contains(command.bookId())) {
+            throw new BookSnapshotNotFoundException();
+        }
 
         var readingSessionEntry = ReadingSessionEntry.create(
                 command.bookProgressId(),
-                bookSnapshot,
+                bookSnapshotRepository.getReference(command.bookId()),
                 command.userId(),
                 command.type(),
                 command.pageRead()
@@ -36,4 +41,29 @@ public class CreateReadingSessionEntryUseCase {
         readingSessionEntryRepository.save(readingSessionEntry);
     }
 
+    /**
+     * Stores a whole batch of entries in one transaction. Book snapshots are checked against the in-memory
+     * index and attached as references, so the inserts are the only per-entry statements and go out as a
+     * JDBC batch. If any book is unknown nothing is stored.
+     */
+    @Transactional
+    public void executeAll(List<CreateReadingSessionEntryCommand> commands) {
+        List<ReadingSessionEntry> readingSessionEntries = commands.stream()
+                .map(command -> {
+                    if (!bookSnapshotIndex.contains(command.bookId())) {
+                        throw new BookSnapshotNotFoundException();
+                    }
+                    return ReadingSessionEntry.create(
+                            command.bookProgressId(),
+                            bookSnapshotRepository.getReference(command.bookId()),
+                            command.userId(),
+                            command.type(),
+                            command.pageRead()
+                    );
+                })
+                .toList();
+
+        readingSessionEntryRepository.saveAll(readingSessionEntries);
+    }
+
 }
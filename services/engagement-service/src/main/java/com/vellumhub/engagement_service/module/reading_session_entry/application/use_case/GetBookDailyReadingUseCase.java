@@ -0,0 +1,24 @@
+package com.vellumhub.engagement_service.module.reading_session_entry.application.use_case;
+
+import com.vellumhub.engagement_service.module.reading_session_entry.application.query.GetDailyReadingQuery;
+import com.vellumhub.engagement_service.module.reading_session_entry.domain.model.DailyBookReadingStats;
+import com.vellumhub.engagement_service.module.reading_session_entry.domain.port.DailyReadingStatsRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+public class GetBookDailyReadingUseCase {
+
+    private final DailyReadingStatsRepository dailyReadingStatsRepository;
+
+    public GetBookDailyReadingUseCase(DailyReadingStatsRepository dailyReadingStatsRepository) {
+        this.dailyReadingStatsRepository = dailyReadingStatsRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public List<DailyBookReadingStats> execute(GetDailyReadingQuery query) {
+        return dailyReadingStatsRepository.findByBook(query.id(), query.from(), query.to());
+    }
+}
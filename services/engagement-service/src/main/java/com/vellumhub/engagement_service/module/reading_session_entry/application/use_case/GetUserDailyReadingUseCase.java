@@ -0,0 +1,24 @@
+package com.vellumhub.engagement_service.module.reading_session_entry.application.use_case;
+
+import com.vellumhub.engagement_service.module.reading_session_entry.application.query.GetDailyReadingQuery;
+import com.vellumhub.engagement_service.module.reading_session_entry.domain.model.DailyUserReadingStats;
+import com.vellumhub.engagement_service.module.reading_session_entry.domain.port.DailyReadingStatsRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+public class GetUserDailyReadingUseCase {
+
+    private final DailyReadingStatsRepository dailyReadingStatsRepository;
+
+    public GetUserDailyReadingUseCase(DailyReadingStatsRepository dailyReadingStatsRepository) {
+        this.dailyReadingStatsRepository = dailyReadingStatsRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public List<DailyUserReadingStats> execute(GetDailyReadingQuery query) {
+        return dailyReadingStatsRepository.findByUser(query.id(), query.from(), query.to());
+    }
+}
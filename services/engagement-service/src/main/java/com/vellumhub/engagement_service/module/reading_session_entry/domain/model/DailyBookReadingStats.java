@@ -0,0 +1,50 @@
+package com.vellumhub.engagement_service.module.reading_session_entry.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Reading activity on a book, across all readers, on one UTC day. Written only by the reading rollup job.
+ */
+@Entity
+@Immutable
+@Table(name = "reading_daily_book_stats")
+@IdClass(DailyBookReadingStats.Key.class)
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyBookReadingStats {
+
+    @Id
+    private UUID bookId;
+
+    @Id
+    private LocalDate activityDate;
+
+    @Column(nullable = false)
+    private long pagesRead;
+
+    @Column(nullable = false)
+    private long entries;
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private UUID bookId;
+        private LocalDate activityDate;
+    }
+}
@@ -17,7 +17,8 @@ import java.util.UUID;
 public class ReadingSessionEntry {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reading_session_entries_seq")
+    @SequenceGenerator(name = "reading_session_entries_seq", sequenceName = "reading_session_entries_seq", allocationSize = 50)
     private Long id;
 
     private UUID readingSessionId;
@@ -39,6 +40,7 @@ public class ReadingSessionEntry {
 
     private String type;
 
+    @Column(nullable = false)
     private Instant timestamp;
 
     public static ReadingSessionEntry create(UUID bookProgressId, BookSnapshot bookSnapshot, UUID userId, String type, int pageRead) {
@@ -48,6 +50,7 @@ public class ReadingSessionEntry {
                 .userId(userId)
                 .bookSnapshot(bookSnapshot)
                 .pageRead(pageRead)
+                .timestamp(Instant.now())
                 .build();
     }
 
@@ -0,0 +1,14 @@
+package com.vellumhub.engagement_service.module.reading_session_entry.domain.port;
+
+import com.vellumhub.engagement_service.module.reading_session_entry.domain.model.DailyBookReadingStats;
+import com.vellumhub.engagement_service.module.reading_session_entry.domain.model.DailyUserReadingStats;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface DailyReadingStatsRepository {
+    List<DailyUserReadingStats> findByUser(UUID userId, LocalDate from, LocalDate to);
+
+    List<DailyBookReadingStats> findByBook(UUID bookId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,35 @@
+package com.vellumhub.engagement_service.module.reading_session_entry.domain.port;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Maintenance of the monthly partitions of {@code reading_session_entries} and of the daily reading stats
+ * derived from them.
+ */
+public interface ReadingRollups {
+
+    /**
+     * Adds the entries stored after the last rollup to the daily stats, up to {@code until} but at most
+     * {@code maxWindow} of entries at once, and moves the rollup watermark to the end of what was added.
+     */
+    Step rollUp(Instant until, Duration maxWindow);
+
+    /**
+     * Creates the partition holding the entries of the given UTC month, unless it exists.
+     */
+    void createPartition(YearMonth month);
+
+    List<YearMonth> findPartitions();
+
+    void dropPartition(YearMonth month);
+
+    /**
+     * @param processedUntil the rollup watermark after the step; every older entry is counted in the stats
+     * @param entries        the number of entries added by the step
+     */
+    record Step(Instant processedUntil, long entries) {
+    }
+}
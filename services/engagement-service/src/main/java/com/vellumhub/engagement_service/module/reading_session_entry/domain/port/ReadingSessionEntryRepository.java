@@ -2,6 +2,10 @@ package com.vellumhub.engagement_service.module.reading_session_entry.domain.por
 
 import com.vellumhub.engagement_service.module.reading_session_entry.domain.model.ReadingSessionEntry;
 
+import java.util.List;
+
 public interface ReadingSessionEntryRepository {
     void save(ReadingSessionEntry readingSessionEntry);
+
+    void saveAll(List<ReadingSessionEntry> readingSessionEntries);
 }
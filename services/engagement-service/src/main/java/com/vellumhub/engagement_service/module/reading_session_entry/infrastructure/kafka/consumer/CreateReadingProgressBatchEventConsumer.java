@@ -0,0 +1,62 @@
+package com.vellumhub.engagement_service.module.reading_session_entry.infrastructure.kafka.consumer;
+
+import com.vellumhub.engagement_service.module.reading_session_entry.application.command.CreateReadingSessionEntryCommand;
+import com.vellumhub.engagement_service.module.reading_session_entry.application.use_case.CreateReadingSessionEntryUseCase;
+import com.vellumhub.engagement_service.share.metrics.VellumHubMetrics;
+import com.vellumhub.kafka.contracts.KafkaConsumerGroups;
+import com.vellumhub.kafka.contracts.KafkaTopics;
+import com.vellumhub.kafka.contracts.readingprogress.CreateBookProgressEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Batch counterpart of {@link CreateReadingProgressEventConsumer}, active when {@code app.reading-session-ingestion.mode=batch}.
+ * <p>
+ * The whole poll is stored in one transaction. If that fails nothing is stored, and the records are replayed
+ * one by one so the failing record can be reported by index and sent to its DLT on its own.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "app.reading-session-ingestion.mode", havingValue = "batch")
+public class CreateReadingProgressBatchEventConsumer {
+
+    private static final String TOPIC = KafkaTopics.CREATED_READING_PROGRESS;
+    private static final String EVENT_TYPE = "CreateBookProgressEvent";
+    private static final String CONSUMER_GROUP = KafkaConsumerGroups.ENGAGEMENT_SERVICE;
+
+    private final CreateReadingSessionEntryUseCase createReadingSessionEntryUseCase;
+    private final ReadingProgressBatchProcessor<CreateBookProgressEvent> batchProcessor;
+
+    public CreateReadingProgressBatchEventConsumer(CreateReadingSessionEntryUseCase createReadingSessionEntryUseCase, VellumHubMetrics metrics) {
+        this.createReadingSessionEntryUseCase = createReadingSessionEntryUseCase;
+        this.batchProcessor = new ReadingProgressBatchProcessor<>(TOPIC, EVENT_TYPE, CONSUMER_GROUP, "Reading session entry creation", metrics);
+    }
+
+    @KafkaListener(
+            topics = KafkaTopics.CREATED_READING_PROGRESS,
+            groupId = KafkaConsumerGroups.ENGAGEMENT_SERVICE,
+            containerFactory = "readingSessionBatchKafkaListenerContainerFactory"
+    )
+    public void consume(List<CreateBookProgressEvent> events) {
+        batchProcessor.process(
+                events,
+                batch -> createReadingSessionEntryUseCase.executeAll(batch.stream().map(CreateReadingProgressBatchEventConsumer::toCommand).toList()),
+                event -> createReadingSessionEntryUseCase.execute(toCommand(event)),
+                event -> "userId=" + event.userId() + ", bookId=" + event.bookId()
+        );
+    }
+
+    private static CreateReadingSessionEntryCommand toCommand(CreateBookProgressEvent event) {
+        return CreateReadingSessionEntryCommand.create(
+                event.bookId(),
+                event.bookProgressId(),
+                event.userId(),
+                event.progress(),
+                event.initPage()
+        );
+    }
+
+}
@@ -8,11 +8,13 @@ import com.vellumhub.kafka.contracts.KafkaTopics;
 import com.vellumhub.kafka.contracts.readingprogress.CreateBookProgressEvent;
 import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
 @Component
 @Slf4j
+@ConditionalOnProperty(name = "app.reading-session-ingestion.mode", havingValue = "single", matchIfMissing = true)
 public class CreateReadingProgressEventConsumer {
 
     private static final String TOPIC = KafkaTopics.CREATED_READING_PROGRESS;
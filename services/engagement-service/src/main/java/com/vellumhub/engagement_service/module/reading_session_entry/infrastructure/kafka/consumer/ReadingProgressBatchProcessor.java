@@ -0,0 +1,86 @@
+package com.vellumhub.engagement_service.module.reading_session_entry.infrastructure.kafka.consumer;
+
+import com.vellumhub.engagement_service.share.metrics.VellumHubMetrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Shared body of the reading progress batch listeners: stores the whole poll with one call and, if that
+ * fails, replays the records one by one so the failing record can be reported by index and sent to its DLT
+ * on its own. Batches are recorded in the reading session ingestion metrics.
+ * <p>
+ * Each listener keeps one instance for its topic and only supplies how to store a batch, how to store a
+ * single record and how to identify a record in the failure message.
+ * </p>
+ *
+ * @param <E> the event type of the topic
+ */
+@Slf4j
+final class ReadingProgressBatchProcessor<E> {
+
+    private final String topic;
+    private final String eventType;
+    private final String consumerGroup;
+    private final String operation;
+    private final VellumHubMetrics metrics;
+
+    /**
+     * @param operation human-readable name of what a record does, such as {@code "Reading session entry creation"},
+     *                  used in failure messages
+     */
+    ReadingProgressBatchProcessor(String topic, String eventType, String consumerGroup, String operation, VellumHubMetrics metrics) {
+        this.topic = topic;
+        this.eventType = eventType;
+        this.consumerGroup = consumerGroup;
+        this.operation = operation;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Stores {@code events} with {@code applyAll}, falling back to {@code applyOne} per record when the
+     * batch fails.
+     *
+     * @throws BatchListenerFailedException carrying the index of the first record that also fails alone
+     */
+    void process(List<E> events, Consumer<List<E>> applyAll, Consumer<E> applyOne, Function<E, String> describe) {
+        Timer.Sample sample = metrics.startKafkaProcessing();
+        log.info("Received {} batch. operation=kafka_consume, topic={}, event_type={}, size={}", eventType, topic, eventType, events.size());
+
+        try {
+            applyAll.accept(events);
+        } catch (RuntimeException ex) {
+            metrics.recordReadingSessionIngestionBatch(sample, topic, events.size(), "failure");
+            log.warn("{} batch failed, replaying records individually. size={}, error={}",
+                    eventType,
+                    events.size(),
+                    ex.getMessage());
+            processIndividually(events, applyOne, describe);
+            return;
+        }
+
+        events.forEach(event -> metrics.recordKafkaConsumed(topic, eventType, consumerGroup));
+        metrics.recordReadingSessionIngestionBatch(sample, topic, events.size(), "success");
+        log.info("Finished processing {} batch. size={}", eventType, events.size());
+    }
+
+    private void processIndividually(List<E> events, Consumer<E> applyOne, Function<E, String> describe) {
+        for (int index = 0; index < events.size(); index++) {
+            E event = events.get(index);
+            Timer.Sample sample = metrics.startKafkaProcessing();
+            try {
+                applyOne.accept(event);
+                metrics.recordKafkaConsumed(topic, eventType, consumerGroup);
+                metrics.recordKafkaProcessingDuration(sample, topic, eventType, consumerGroup, "success");
+            } catch (RuntimeException ex) {
+                metrics.recordKafkaConsumeFailed(topic, eventType, consumerGroup);
+                metrics.recordKafkaProcessingDuration(sample, topic, eventType, consumerGroup, "failure");
+                throw new BatchListenerFailedException(operation + " failed. " + describe.apply(event), ex, index);
+            }
+        }
+    }
+}
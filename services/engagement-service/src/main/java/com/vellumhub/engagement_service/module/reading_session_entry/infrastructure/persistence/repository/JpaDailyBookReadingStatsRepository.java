@@ -0,0 +1,12 @@
+package com.vellumhub.engagement_service.module.reading_session_entry.infrastructure.persistence.repository;
+
+import com.vellumhub.engagement_service.module.reading_session_entry.domain.model.DailyBookReadingStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface JpaDailyBookReadingStatsRepository extends JpaRepository<DailyBookReadingStats, DailyBookReadingStats.Key> {
+    List<DailyBookReadingStats> findAllByBookIdAndActivityDateBetweenOrderByActivityDate(UUID bookId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,12 @@
+package com.vellumhub.engagement_service.module.reading_session_entry.infrastructure.persistence.repository;
+
+import com.vellumhub.engagement_service.module.reading_session_entry.domain.model.DailyUserReadingStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface JpaDailyUserReadingStatsRepository extends JpaRepository<DailyUserReadingStats, DailyUserReadingStats.Key> {
+    List<DailyUserReadingStats> findAllByUserIdAndActivityDateBetweenOrderByActivityDate(UUID userId, LocalDate from, LocalDate to);
+}
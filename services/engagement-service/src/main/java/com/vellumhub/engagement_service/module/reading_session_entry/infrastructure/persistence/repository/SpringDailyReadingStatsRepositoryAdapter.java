@@ -0,0 +1,35 @@
+package com.vellumhub.engagement_service.module.reading_session_entry.infrastructure.persistence.repository;
+
+import com.vellumhub.engagement_service.module.reading_session_entry.domain.model.DailyBookReadingStats;
+import com.vellumhub.engagement_service.module.reading_session_entry.domain.model.DailyUserReadingStats;
+import com.vellumhub.engagement_service.module.reading_session_entry.domain.port.DailyReadingStatsRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public class SpringDailyReadingStatsRepositoryAdapter implements DailyReadingStatsRepository {
+
+    private final JpaDailyUserReadingStatsRepository jpaDailyUserReadingStatsRepository;
+    private final JpaDailyBookReadingStatsRepository jpaDailyBookReadingStatsRepository;
+
+    public SpringDailyReadingStatsRepositoryAdapter(
+            JpaDailyUserReadingStatsRepository jpaDailyUserReadingStatsRepository,
+            JpaDailyBookReadingStatsRepository jpaDailyBookReadingStatsRepository
+    ) {
+        this.jpaDailyUserReadingStatsRepository = jpaDailyUserReadingStatsRepository;
+        this.jpaDailyBookReadingStatsRepository = jpaDailyBookReadingStatsRepository;
+    }
+
+    @Override
+    public List<DailyUserReadingStats> findByUser(UUID userId, LocalDate from, LocalDate to) {
+        return jpaDailyUserReadingStatsRepository.findAllByUserIdAndActivityDateBetweenOrderByActivityDate(userId, from, to);
+    }
+
+    @Override
+    public List<DailyBookReadingStats> findByBook(UUID bookId, LocalDate from, LocalDate to) {
+        return jpaDailyBookReadingStatsRepository.findAllByBookIdAndActivityDateBetweenOrderByActivityDate(bookId, from, to);
+    }
+}
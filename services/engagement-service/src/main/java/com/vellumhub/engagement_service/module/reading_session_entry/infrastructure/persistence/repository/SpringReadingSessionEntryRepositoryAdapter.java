@@ -4,6 +4,8 @@ import com.vellumhub.engagement_service.module.reading_session_entry.domain.mode
 import com.vellumhub.engagement_service.module.reading_session_entry.domain.port.ReadingSessionEntryRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public class SpringReadingSessionEntryRepositoryAdapter implements ReadingSessionEntryRepository {
 
@@ -17,4 +19,9 @@ public class SpringReadingSessionEntryRepositoryAdapter implements ReadingSessio
     public void save(ReadingSessionEntry readingSessionEntry) {
         jpaReadingSessionEntryRepository.save(readingSessionEntry);
     }
+
+    @Override
+    public void saveAll(List<ReadingSessionEntry> readingSessionEntries) {
+        jpaReadingSessionEntryRepository.saveAll(readingSessionEntries);
+    }
 }
@@ -0,0 +1,156 @@
+package com.vellumhub.engagement_service.module.reading_session_entry.infrastructure.rollup;
+
+import com.vellumhub.engagement_service.module.reading_session_entry.domain.port.ReadingRollups;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@link ReadingRollups} over PostgreSQL declarative partitioning.
+ * <p>
+ * The watermark lives in {@code reading_rollup_state} and is locked for the whole step, so instances
+ * running the job at the same time roll up one after the other instead of counting entries twice. The
+ * pages read by an entry are its progress over the previous entry of the same reading session, looked up
+ * before the window when the session started earlier; the first entry of a session and entries without a
+ * session count as an update but add no pages. Days are UTC days of the entry timestamp.
+ * </p>
+ */
+@Repository
+public class JdbcReadingRollups implements ReadingRollups {
+
+    static final String STATE_NAME = "reading_daily_stats";
+    private static final String PARTITION_PREFIX = "reading_session_entries_p";
+    private static final Pattern PARTITION_NAME = Pattern.compile(PARTITION_PREFIX + "(\\d{4})_(\\d{2})");
+
+    private static final String LOCK_STATE = """
+            SELECT processed_until
+            FROM reading_rollup_state
+            WHERE name = ?
+            FOR UPDATE
+            """;
+
+    private static final String ROLL_UP = """
+            WITH window_entries AS (
+                SELECT id, reading_session_id, user_id, book_snapshot_book_id AS book_id, page_read, timestamp
+                FROM reading_session_entries
+                WHERE timestamp >= ? AND timestamp < ?
+            ),
+            previous_pages AS (
+                SELECT s.reading_session_id, p.page_read
+                FROM (SELECT DISTINCT reading_session_id FROM window_entries WHERE reading_session_id IS NOT NULL) s
+                CROSS JOIN LATERAL (
+                    SELECT e.page_read
+                    FROM reading_session_entries e
+                    WHERE e.reading_session_id = s.reading_session_id
+                      AND e.timestamp < ?
+                    ORDER BY e.timestamp DESC, e.id DESC
+                    LIMIT 1
+                ) p
+            ),
+            deltas AS (
+                SELECT w.user_id,
+                       w.book_id,
+                       (w.timestamp AT TIME ZONE 'UTC')::date AS activity_date,
+                       CASE WHEN w.reading_session_id IS NULL THEN 0
+                            ELSE GREATEST(w.page_read - COALESCE(
+                                    lag(w.page_read) OVER (PARTITION BY w.reading_session_id ORDER BY w.timestamp, w.id),
+                                    pp.page_read,
+                                    w.page_read), 0)
+                       END AS pages_read
+                FROM window_entries w
+                LEFT JOIN previous_pages pp ON pp.reading_session_id = w.reading_session_id
+            ),
+            user_rollup AS (
+                INSERT INTO reading_daily_user_stats AS s (user_id, activity_date, pages_read, entries)
+                SELECT user_id, activity_date, sum(pages_read), count(*)
+                FROM deltas
+                GROUP BY user_id, activity_date
+                ON CONFLICT (user_id, activity_date) DO UPDATE
+                SET pages_read = s.pages_read + EXCLUDED.pages_read,
+                    entries = s.entries + EXCLUDED.entries
+            ),
+            book_rollup AS (
+                INSERT INTO reading_daily_book_stats AS s (book_id, activity_date, pages_read, entries)
+                SELECT book_id, activity_date, sum(pages_read), count(*)
+                FROM deltas
+                WHERE book_id IS NOT NULL
+                GROUP BY book_id, activity_date
+                ON CONFLICT (book_id, activity_date) DO UPDATE
+                SET pages_read = s.pages_read + EXCLUDED.pages_read,
+                    entries = s.entries + EXCLUDED.entries
+            )
+            SELECT count(*) FROM deltas
+            """;
+
+    private static final String ADVANCE_STATE = """
+            UPDATE reading_rollup_state
+            SET processed_until = ?
+            WHERE name = ?
+            """;
+
+    private static final String FIND_PARTITIONS = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'reading_session_entries'::regclass
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcReadingRollups(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public Step rollUp(Instant until, Duration maxWindow) {
+        Instant from = jdbcTemplate.queryForObject(LOCK_STATE, (resultSet, rowNum) -> resultSet.getTimestamp(1).toInstant(), STATE_NAME);
+        if (!Objects.requireNonNull(from).isBefore(until)) {
+            return new Step(from, 0);
+        }
+
+        Instant to = from.plus(maxWindow).isBefore(until) ? from.plus(maxWindow) : until;
+        Long entries = jdbcTemplate.queryForObject(ROLL_UP, Long.class, Timestamp.from(from), Timestamp.from(to), Timestamp.from(from));
+        jdbcTemplate.update(ADVANCE_STATE, Timestamp.from(to), STATE_NAME);
+        return new Step(to, entries == null ? 0 : entries);
+    }
+
+    @Override
+    public void createPartition(YearMonth month) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(month)
+                + " PARTITION OF reading_session_entries FOR VALUES FROM ('" + start(month) + "') TO ('" + start(month.plusMonths(1)) + "')");
+    }
+
+    @Override
+    public List<YearMonth> findPartitions() {
+        return jdbcTemplate.queryForList(FIND_PARTITIONS, String.class).stream()
+                .map(PARTITION_NAME::matcher)
+                .filter(Matcher::matches)
+                .map(matcher -> YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))))
+                .sorted()
+                .toList();
+    }
+
+    @Override
+    public void dropPartition(YearMonth month) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + partitionName(month));
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + "%04d_%02d".formatted(month.getYear(), month.getMonthValue());
+    }
+
+    private static String start(YearMonth month) {
+        return month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC).toString();
+    }
+}
@@ -0,0 +1,135 @@
+package com.vellumhub.engagement_service.module.reading_session_entry.infrastructure.rollup;
+
+import com.vellumhub.engagement_service.module.reading_session_entry.domain.port.ReadingRollups;
+import com.vellumhub.engagement_service.share.metrics.VellumHubMetrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the daily reading stats and the monthly partitions of {@code reading_session_entries} current.
+ * <p>
+ * On a fixed delay it creates the partitions of the current month and the next {@code partitions-ahead}
+ * months, rolls up the entries stored since the last run in windows of at most {@code max-window}, and
+ * drops the partitions whose month ended more than {@code retention} ago once every entry in them is
+ * counted. Entries younger than {@code grace} are left for the next run, so an entry whose transaction
+ * commits a little after its timestamp is not skipped.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "app.reading-analytics.rollup.enabled", havingValue = "true")
+@Slf4j
+public class ReadingRollupJob {
+
+    private final ReadingRollups readingRollups;
+    private final VellumHubMetrics metrics;
+    private final Duration interval;
+    private final Duration grace;
+    private final Duration maxWindow;
+    private final Duration retention;
+    private final int partitionsAhead;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "reading-rollup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ReadingRollupJob(
+            ReadingRollups readingRollups,
+            VellumHubMetrics metrics,
+            @Value("${app.reading-analytics.rollup.interval:PT5M}") Duration interval,
+            @Value("${app.reading-analytics.rollup.grace:PT5M}") Duration grace,
+            @Value("${app.reading-analytics.rollup.max-window:PT6H}") Duration maxWindow,
+            @Value("${app.reading-analytics.retention:P395D}") Duration retention,
+            @Value("${app.reading-analytics.partitions-ahead:2}") int partitionsAhead
+    ) {
+        if (interval.isZero() || interval.isNegative() || grace.isNegative() || maxWindow.isZero() || maxWindow.isNegative()
+                || retention.isZero() || retention.isNegative()) {
+            throw new IllegalArgumentException("app.reading-analytics durations must be positive");
+        }
+        if (partitionsAhead < 1) {
+            throw new IllegalArgumentException("app.reading-analytics.partitions-ahead must be at least 1");
+        }
+        this.readingRollups = readingRollups;
+        this.metrics = metrics;
+        this.interval = interval;
+        this.grace = grace;
+        this.maxWindow = maxWindow;
+        this.retention = retention;
+        this.partitionsAhead = partitionsAhead;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::runQuietly, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs the partition maintenance and the rollup as of {@code now}. Returns the number of entries rolled up.
+     */
+    long run(Instant now) {
+        YearMonth currentMonth = YearMonth.from(now.atOffset(ZoneOffset.UTC));
+        for (int i = 0; i <= partitionsAhead; i++) {
+            readingRollups.createPartition(currentMonth.plusMonths(i));
+        }
+
+        Instant until = now.minus(grace);
+        long entries = 0;
+        ReadingRollups.Step step = null;
+        Instant previous;
+        do {
+            previous = step == null ? null : step.processedUntil();
+            Timer.Sample sample = metrics.startBusinessTimer();
+            try {
+                step = readingRollups.rollUp(until, maxWindow);
+                metrics.recordReadingRollup(sample, step.entries(), "success");
+            } catch (RuntimeException ex) {
+                metrics.recordReadingRollup(sample, 0, "failure");
+                throw ex;
+            }
+            entries += step.entries();
+        } while (step.processedUntil().isBefore(until) && !step.processedUntil().equals(previous));
+        metrics.recordReadingRollupLag(Duration.between(step.processedUntil(), now));
+
+        Instant retainedFrom = now.minus(retention);
+        for (YearMonth month : readingRollups.findPartitions()) {
+            Instant monthEnd = month.plusMonths(1).atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+            if (!monthEnd.isAfter(retainedFrom) && !monthEnd.isAfter(step.processedUntil())) {
+                readingRollups.dropPartition(month);
+                log.info("Reading session entries partition dropped. operation=reading_rollup, month={}", month);
+            }
+        }
+
+        if (entries > 0) {
+            log.info("Reading session entries rolled up. operation=reading_rollup, entries={}, processedUntil={}", entries, step.processedUntil());
+        }
+        return entries;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void runQuietly() {
+        try {
+            run(Instant.now());
+        } catch (RuntimeException ex) {
+            log.warn("Reading rollup failed. operation=reading_rollup, error={}", ex.getMessage());
+        }
+    }
+}
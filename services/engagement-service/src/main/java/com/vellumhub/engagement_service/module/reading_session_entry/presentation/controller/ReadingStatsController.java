@@ -0,0 +1,76 @@
+package com.vellumhub.engagement_service.module.reading_session_entry.presentation.controller;
+
+import com.vellumhub.engagement_service.module.reading_session_entry.application.query.GetDailyReadingQuery;
+import com.vellumhub.engagement_service.module.reading_session_entry.application.use_case.GetBookDailyReadingUseCase;
+import com.vellumhub.engagement_service.module.reading_session_entry.application.use_case.GetUserDailyReadingUseCase;
+import com.vellumhub.engagement_service.module.reading_session_entry.presentation.dto.response.DailyReadingResponse;
+import com.vellumhub.engagement_service.module.reading_session_entry.presentation.mapper.DailyReadingMapper;
+import com.vellumhub.engagement_service.share.service.AuthenticationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Tag(
+        name = "Reading Stats Controller",
+        description = "Controller for daily reading activity rolled up from reading progress updates."
+)
+@RestController
+@RequestMapping("/reading-stats")
+public class ReadingStatsController {
+
+    private final GetUserDailyReadingUseCase getUserDailyReadingUseCase;
+    private final GetBookDailyReadingUseCase getBookDailyReadingUseCase;
+
+    private final AuthenticationService authenticationService;
+    private final DailyReadingMapper dailyReadingMapper;
+
+    public ReadingStatsController(GetUserDailyReadingUseCase getUserDailyReadingUseCase, GetBookDailyReadingUseCase getBookDailyReadingUseCase, AuthenticationService authenticationService, DailyReadingMapper dailyReadingMapper) {
+        this.getUserDailyReadingUseCase = getUserDailyReadingUseCase;
+        this.getBookDailyReadingUseCase = getBookDailyReadingUseCase;
+        this.authenticationService = authenticationService;
+        this.dailyReadingMapper = dailyReadingMapper;
+    }
+
+    @Operation(
+            summary = "Get My Daily Reading",
+            description = "Returns the pages read and progress updates of the authenticated user per UTC day. Days without activity are omitted."
+    )
+    @GetMapping("/me/daily")
+    public ResponseEntity<List<DailyReadingResponse>> getMyDailyReading(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        var userId = authenticationService.getAuthenticatedUserId();
+
+        var query = GetDailyReadingQuery.of(userId, from, to);
+        var response = getUserDailyReadingUseCase.execute(query).stream()
+                .map(dailyReadingMapper::toResponse)
+                .toList();
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "Get Book Daily Reading",
+            description = "Returns the pages read and progress updates on a book across all readers per UTC day. Days without activity are omitted."
+    )
+    @GetMapping("/books/{bookId}/daily")
+    public ResponseEntity<List<DailyReadingResponse>> getBookDailyReading(
+            @PathVariable UUID bookId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        var query = GetDailyReadingQuery.of(bookId, from, to);
+        var response = getBookDailyReadingUseCase.execute(query).stream()
+                .map(dailyReadingMapper::toResponse)
+                .toList();
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,10 @@
+package com.vellumhub.engagement_service.module.reading_session_entry.presentation.dto.response;
+
+import java.time.LocalDate;
+
+public record DailyReadingResponse(
+        LocalDate date,
+        long pagesRead,
+        long entries
+) {
+}
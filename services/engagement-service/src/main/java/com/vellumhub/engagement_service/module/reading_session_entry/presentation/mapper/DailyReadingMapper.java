@@ -0,0 +1,18 @@
+package com.vellumhub.engagement_service.module.reading_session_entry.presentation.mapper;
+
+import com.vellumhub.engagement_service.module.reading_session_entry.domain.model.DailyBookReadingStats;
+import com.vellumhub.engagement_service.module.reading_session_entry.domain.model.DailyUserReadingStats;
+import com.vellumhub.engagement_service.module.reading_session_entry.presentation.dto.response.DailyReadingResponse;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DailyReadingMapper {
+
+    public DailyReadingResponse toResponse(DailyUserReadingStats stats) {
+        return new DailyReadingResponse(stats.getActivityDate(), stats.getPagesRead(), stats.getEntries());
+    }
+
+    public DailyReadingResponse toResponse(DailyBookReadingStats stats) {
+        return new DailyReadingResponse(stats.getActivityDate(), stats.getPagesRead(), stats.getEntries());
+    }
+}
@@ -21,6 +21,7 @@ import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -39,24 +40,31 @@ public class KafkaRetryConfig {
 
     /**
      * Defines a default retry configuration for Kafka listeners in the application.
+     * Reading progress topics are left out in batch ingestion mode, where {@link ReadingSessionBatchKafkaConsumerConfig} handles their failures.
      * @return a RetryTopicConfiguration that applies to all specified topics with a fixed backoff strategy and a maximum of 3 attempts.
      */
     @Bean
     public RetryTopicConfiguration defaultRetryConfig(
-            @Value("${spring.kafka.bootstrap-servers}") String bootstrapServers
+            @Value("${spring.kafka.bootstrap-servers}") String bootstrapServers,
+            @Value("${app.reading-session-ingestion.mode:single}") String readingSessionIngestionMode
     ) {
+        List<String> topics = new ArrayList<>(List.of(
+                KafkaTopics.CREATED_BOOK,
+                KafkaTopics.DELETED_BOOK,
+                KafkaTopics.CREATED_READING_PROGRESS,
+                KafkaTopics.UPDATED_READING_PROGRESS
+        ));
+        if ("batch".equals(readingSessionIngestionMode)) {
+            topics.removeAll(List.of(KafkaTopics.CREATED_READING_PROGRESS, KafkaTopics.UPDATED_READING_PROGRESS));
+        }
+
         return RetryTopicConfigurationBuilder
                 .newInstance()
                 .maxAttempts(3)
                 .fixedBackOff(3000)
                 .doNotRetryOnDltFailure()
                 .autoStartDltHandler(false)
-                .includeTopics(List.of(
-                        KafkaTopics.CREATED_BOOK,
-                        KafkaTopics.DELETED_BOOK,
-                        KafkaTopics.CREATED_READING_PROGRESS,
-                        KafkaTopics.UPDATED_READING_PROGRESS
-                ))
+                .includeTopics(topics)
                 .create(retryTopicKafkaTemplate(bootstrapServers));
     }
 
@@ -102,7 +110,7 @@ public class KafkaRetryConfig {
         return payload == null ? 0 : payload.length;
     }
 
-    private KafkaTemplate<String, Object> retryTopicKafkaTemplate(String bootstrapServers) {
+    static KafkaTemplate<String, Object> retryTopicKafkaTemplate(String bootstrapServers) {
         Map<String, Object> properties = Map.of(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
 
         Map<Class<?>, org.apache.kafka.common.serialization.Serializer<?>> delegates = new LinkedHashMap<>();
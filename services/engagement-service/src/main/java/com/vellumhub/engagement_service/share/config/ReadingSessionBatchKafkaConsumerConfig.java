@@ -0,0 +1,65 @@
+package com.vellumhub.engagement_service.share.config;
+
+import com.vellumhub.kafka.contracts.KafkaTopics;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Batch listener factory for the reading progress topics when {@code app.reading-session-ingestion.mode=batch}.
+ * <p>
+ * A poll returns up to {@code max-size} records, and the broker holds the fetch for up to {@code max-wait}
+ * while the batch fills, so a poll is flushed to the database on whichever limit is reached first. Offsets
+ * are committed once the listener returned, that is after the flush committed. Retries mirror
+ * {@link KafkaRetryConfig}: three attempts three seconds apart, after which only the failing record is
+ * published to its {@code -dlt} topic.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.reading-session-ingestion.mode", havingValue = "batch")
+public class ReadingSessionBatchKafkaConsumerConfig {
+
+    private static final int ESTIMATED_EVENT_BYTES = 512;
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> readingSessionBatchKafkaListenerContainerFactory(
+            KafkaProperties kafkaProperties,
+            @Value("${spring.kafka.bootstrap-servers}") String bootstrapServers,
+            @Value("${app.reading-session-ingestion.batch.max-size:500}") int maxBatchSize,
+            @Value("${app.reading-session-ingestion.batch.max-wait:PT0.5S}") Duration maxWait
+    ) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("app.reading-session-ingestion.batch.max-size must be at least 1");
+        }
+        Map<String, Object> properties = kafkaProperties.buildConsumerProperties();
+        properties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxBatchSize);
+        properties.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, maxBatchSize * ESTIMATED_EVENT_BYTES);
+        properties.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, (int) maxWait.toMillis());
+        properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(
+                KafkaRetryConfig.retryTopicKafkaTemplate(bootstrapServers),
+                (record, exception) -> new TopicPartition(record.topic() + KafkaTopics.DLT_SUFFIX, -1)
+        );
+
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(properties));
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(recoverer, new FixedBackOff(3000, 2)));
+        return factory;
+    }
+}
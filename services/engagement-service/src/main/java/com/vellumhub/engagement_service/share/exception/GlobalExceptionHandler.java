@@ -2,6 +2,8 @@ package com.vellumhub.engagement_service.share.exception;
 
 import com.vellumhub.engagement_service.module.rating.application.exception.EngagementApplicationException;
 import com.vellumhub.engagement_service.module.rating.domain.exception.RatingDomainException;
+import com.vellumhub.engagement_service.module.reading_session_entry.application.exception.InvalidReadingRangeException;
+import com.vellumhub.engagement_service.module.reading_session_entry.application.query.GetDailyReadingQuery;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -76,6 +78,21 @@ public class GlobalExceptionHandler {
                 .build());
     }
 
+    @ExceptionHandler(InvalidReadingRangeException.class)
+    public ResponseEntity<ApiResponseError> handleInvalidReadingRangeException(
+            InvalidReadingRangeException ex, HttpServletRequest request) {
+
+        HttpStatus status = HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(ApiResponseError.builder()
+                .status(status.value())
+                .error("Invalid Reading Range")
+                .message(ex.getMessage())
+                .details(List.of("Daily reading stats cover at most " + GetDailyReadingQuery.MAX_DAYS + " days"))
+                .path(request.getRequestURI())
+                .timestamp(Instant.now())
+                .build());
+    }
+
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<ApiResponseError> handleDataIntegrityViolationException(
             DataIntegrityViolationException ex, HttpServletRequest request) {
@@ -1,11 +1,17 @@
 package com.vellumhub.engagement_service.share.metrics;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component
 public class VellumHubMetrics {
@@ -16,6 +22,18 @@ public class VellumHubMetrics {
     public static final String KAFKA_EVENTS_CONSUME_FAILED = "vellumhub.kafka.events.consume.failed";
     public static final String KAFKA_EVENT_PROCESSING_DURATION = "vellumhub.kafka.event.processing.duration";
     public static final String KAFKA_DLT_EVENTS = "vellumhub.kafka.dlt.events";
+    public static final String READING_SESSION_INGESTION_BATCH_SIZE = "vellumhub.reading.session.ingestion.batch.size";
+    public static final String READING_SESSION_INGESTION_BATCH_DURATION = "vellumhub.reading.session.ingestion.batch.duration";
+    public static final String OUTBOX_EVENTS_RELAYED = "vellumhub.outbox.events.relayed";
+    public static final String OUTBOX_RELAY_LAG = "vellumhub.outbox.relay.lag";
+    public static final String OUTBOX_PENDING = "vellumhub.outbox.pending";
+    public static final String OUTBOX_OLDEST_AGE = "vellumhub.outbox.oldest.age";
+    public static final String READING_ROLLUP_ENTRIES = "vellumhub.reading.rollup.entries";
+    public static final String READING_ROLLUP_DURATION = "vellumhub.reading.rollup.duration";
+    public static final String READING_ROLLUP_LAG = "vellumhub.reading.rollup.lag";
+    public static final String BOOK_SNAPSHOT_INDEX_LOOKUPS = "vellumhub.book.snapshot.index.lookups";
+    public static final String BOOK_SNAPSHOT_INDEX_SIZE = "vellumhub.book.snapshot.index.size";
+    public static final String BOOK_SNAPSHOT_INDEX_DRIFT = "vellumhub.book.snapshot.index.drift";
 
     public static final String USERS_CREATED = "vellumhub.users.created";
     public static final String BOOKS_CREATED = "vellumhub.books.created";
@@ -30,9 +48,19 @@ public class VellumHubMetrics {
     public static final String RECOMMENDATION_GENERATION_DURATION = "vellumhub.recommendation.generation.duration";
 
     private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicLong> outboxPending = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> outboxOldestAgeMillis = new ConcurrentHashMap<>();
+    private final AtomicLong readingRollupLagMillis = new AtomicLong();
+    private final AtomicLong bookSnapshotIndexSize = new AtomicLong();
+    private final AtomicLong bookSnapshotIndexDrift = new AtomicLong();
 
     public VellumHubMetrics(MeterRegistry meterRegistry) {
         this.meterRegistry = Objects.requireNonNull(meterRegistry, "meterRegistry must not be null");
+        Gauge.builder(READING_ROLLUP_LAG, readingRollupLagMillis, millis -> millis.get() / 1000.0)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder(BOOK_SNAPSHOT_INDEX_SIZE, bookSnapshotIndexSize, AtomicLong::get).register(meterRegistry);
+        Gauge.builder(BOOK_SNAPSHOT_INDEX_DRIFT, bookSnapshotIndexDrift, AtomicLong::get).register(meterRegistry);
     }
 
     public void recordKafkaPublished(String topic, Object event) {
@@ -65,6 +93,86 @@ public class VellumHubMetrics {
         counter(KAFKA_DLT_EVENTS, "topic", originalTopic, "event_type", "kafka_dlt", "consumer_group", consumerGroup, "operation", "kafka_dlt_quarantine", "result", "quarantined").increment();
     }
 
+    /**
+     * Records one reading progress poll stored by the batch ingestion path.
+     */
+    public void recordReadingSessionIngestionBatch(Timer.Sample sample, String topic, int batchSize, String result) {
+        DistributionSummary.builder(READING_SESSION_INGESTION_BATCH_SIZE)
+                .tags("topic", topic)
+                .register(meterRegistry)
+                .record(batchSize);
+        sample.stop(Timer.builder(READING_SESSION_INGESTION_BATCH_DURATION)
+                .tags("topic", topic, "result", result)
+                .register(meterRegistry));
+    }
+
+    public void recordOutboxRelayed(String topic, String eventType, Duration lag) {
+        counter(KAFKA_EVENTS_PUBLISHED, "topic", topic, "event_type", simpleName(eventType), "result", "success").increment();
+        counter(OUTBOX_EVENTS_RELAYED, "topic", topic, "result", "success").increment();
+        Timer.builder(OUTBOX_RELAY_LAG)
+                .tags("topic", topic)
+                .register(meterRegistry)
+                .record(lag);
+    }
+
+    public void recordOutboxRelayFailed(String topic, String eventType) {
+        counter(KAFKA_EVENTS_PUBLISH_FAILED, "topic", topic, "event_type", simpleName(eventType), "result", "failure").increment();
+        counter(OUTBOX_EVENTS_RELAYED, "topic", topic, "result", "failure").increment();
+    }
+
+    public void recordOutboxDeadLettered(String topic) {
+        counter(OUTBOX_EVENTS_RELAYED, "topic", topic, "result", "dead_letter").increment();
+    }
+
+    public void recordOutboxBacklog(String topic, long pending, Duration oldestAge) {
+        outboxPending.computeIfAbsent(topic, key -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder(OUTBOX_PENDING, value, AtomicLong::get).tags("topic", key).register(meterRegistry);
+            return value;
+        }).set(pending);
+        outboxOldestAgeMillis.computeIfAbsent(topic, key -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder(OUTBOX_OLDEST_AGE, value, millis -> millis.get() / 1000.0)
+                    .tags("topic", key)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            return value;
+        }).set(oldestAge.toMillis());
+    }
+
+    /**
+     * Records one rollup step of reading session entries into the daily reading stats.
+     */
+    public void recordReadingRollup(Timer.Sample sample, long entries, String result) {
+        counter(READING_ROLLUP_ENTRIES, "result", result).increment(entries);
+        sample.stop(Timer.builder(READING_ROLLUP_DURATION)
+                .tags("result", result)
+                .register(meterRegistry));
+    }
+
+    /**
+     * Records how far the rollup watermark trails the wall clock, grace period included.
+     */
+    public void recordReadingRollupLag(Duration lag) {
+        readingRollupLagMillis.set(lag.toMillis());
+    }
+
+    /**
+     * Records one book existence check: answered by the index ({@code hit}), found only in the database
+     * ({@code fallback_hit}) or unknown ({@code miss}).
+     */
+    public void recordBookSnapshotIndexLookup(String result) {
+        counter(BOOK_SNAPSHOT_INDEX_LOOKUPS, "result", result).increment();
+    }
+
+    /**
+     * Records the outcome of a book snapshot index reload: its size and how many IDs it had wrong.
+     */
+    public void recordBookSnapshotIndexCheck(long size, long drift) {
+        bookSnapshotIndexSize.set(size);
+        bookSnapshotIndexDrift.set(drift);
+    }
+
     public void recordBusinessCounter(String name, String operation, String result) {
         counter(name, "operation", operation, "result", result).increment();
     }
@@ -86,4 +194,8 @@ public class VellumHubMetrics {
     private String eventType(Object event) {
         return event == null ? "unknown" : event.getClass().getSimpleName();
     }
+
+    private String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
 }
@@ -0,0 +1,36 @@
+package com.vellumhub.engagement_service.share.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Records Kafka events in the outbox as part of the caller's transaction, so an event exists exactly when
+ * the change it describes was committed. The {@link OutboxRelay} publishes them afterwards.
+ */
+@Component
+public class Outbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public Outbox(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String topic, String key, Object event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Event " + event.getClass().getName() + " cannot be serialized", ex);
+        }
+        outboxEventRepository.save(new OutboxEvent(topic, key, event.getClass().getName(), payload, Instant.now()));
+    }
+}
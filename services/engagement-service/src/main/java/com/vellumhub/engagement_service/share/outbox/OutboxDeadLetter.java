@@ -0,0 +1,70 @@
+package com.vellumhub.engagement_service.share.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * An {@link OutboxEvent} the {@link OutboxRelay} gave up on after {@code app.outbox.max-attempts} failed
+ * sends, kept in {@code outbox_dead_letters} for inspection and manual replay.
+ */
+@Entity
+@Table(name = "outbox_dead_letters")
+@Getter
+public class OutboxDeadLetter {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long outboxEventId;
+
+    @Column(nullable = false)
+    private String topic;
+
+    private String messageKey;
+
+    @Column(nullable = false)
+    private String eventType;
+
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(nullable = false)
+    private Instant deadLetteredAt;
+
+    protected OutboxDeadLetter() {
+    }
+
+    public OutboxDeadLetter(OutboxEvent event, String lastError, Instant deadLetteredAt) {
+        this.outboxEventId = event.getId();
+        this.topic = event.getTopic();
+        this.messageKey = event.getMessageKey();
+        this.eventType = event.getEventType();
+        this.payload = event.getPayload();
+        this.createdAt = event.getCreatedAt();
+        this.attempts = event.getAttempts();
+        this.lastError = lastError == null || lastError.length() <= MAX_ERROR_LENGTH
+                ? lastError
+                : lastError.substring(0, MAX_ERROR_LENGTH);
+        this.deadLetteredAt = deadLetteredAt;
+    }
+}
@@ -0,0 +1,276 @@
+package com.vellumhub.engagement_service.share.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vellumhub.engagement_service.share.metrics.VellumHubMetrics;
+import com.vellumhub.kafka.contracts.KafkaTopics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Publishes {@link OutboxEvent}s to Kafka in batches.
+ * <p>
+ * Only the instance holding the row of {@code outbox_relay_lease} relays, so events of a key leave in the
+ * order they were written. The lease is renewed on every batch and lapses after {@code lease} if its holder
+ * stops. Each batch is read in one short transaction, sent in one go outside it so the producer can pack it
+ * into compressed record batches, and settled in a second short transaction once Kafka answered, so no
+ * database transaction stays open while the relay waits for acknowledgements.
+ * </p>
+ * <p>
+ * A row whose send fails or times out stays in the table and is retried on the next poll, so delivery is
+ * at-least-once. The later rows of its key in the same batch stay as well, even if Kafka acknowledged them,
+ * so they are sent again after it and the consumer ends on the newest event. After {@code max-attempts}
+ * failed sends a row is moved to {@code outbox_dead_letters} and stops holding its key back.
+ * </p>
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private static final int LEASE_ID = 1;
+
+    private static final Set<String> RELAYED_TOPICS = Set.of(KafkaTopics.CREATED_RATING, KafkaTopics.USER_REACTION_CHANGED);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxDeadLetterRepository outboxDeadLetterRepository;
+    private final OutboxRelayLeaseRepository outboxRelayLeaseRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final VellumHubMetrics metrics;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration sendTimeout;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            OutboxDeadLetterRepository outboxDeadLetterRepository,
+            OutboxRelayLeaseRepository outboxRelayLeaseRepository,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            ObjectMapper objectMapper,
+            TransactionTemplate transactionTemplate,
+            VellumHubMetrics metrics,
+            @Value("${app.outbox.batch-size:200}") int batchSize,
+            @Value("${app.outbox.poll-interval:PT0.5S}") Duration pollInterval,
+            @Value("${app.outbox.send-timeout:PT30S}") Duration sendTimeout,
+            @Value("${app.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${app.outbox.lease:PT1M}") Duration lease
+    ) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("app.outbox.batch-size must be at least 1");
+        }
+        if (pollInterval.isZero() || pollInterval.isNegative() || sendTimeout.isZero() || sendTimeout.isNegative()) {
+            throw new IllegalArgumentException("app.outbox durations must be positive");
+        }
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("app.outbox.max-attempts must be at least 1");
+        }
+        if (lease.compareTo(sendTimeout) <= 0) {
+            throw new IllegalArgumentException("app.outbox.lease must exceed app.outbox.send-timeout");
+        }
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxDeadLetterRepository = outboxDeadLetterRepository;
+        this.outboxRelayLeaseRepository = outboxRelayLeaseRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.metrics = metrics;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.sendTimeout = sendTimeout;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::relayQuietly, pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Publishes and removes one batch of the oldest events. Returns the number published, or {@code 0} when
+     * another instance holds the relay lease.
+     */
+    int relayBatch() {
+        if (!acquireLease()) {
+            return 0;
+        }
+        List<OutboxEvent> batch = transactionTemplate.execute(status -> outboxEventRepository.findNextBatch(Limit.of(batchSize)));
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<SendResult<String, Object>>> sends = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            sends.add(send(event));
+        }
+
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        Set<String> failedKeys = new HashSet<>();
+        List<Long> removed = new ArrayList<>(batch.size());
+        List<Long> failed = new ArrayList<>();
+        List<OutboxDeadLetter> deadLetters = new ArrayList<>();
+        int acknowledged = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxEvent event = batch.get(i);
+            if (event.getMessageKey() != null && failedKeys.contains(event.getMessageKey())) {
+                continue;
+            }
+            try {
+                sends.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                acknowledged++;
+                removed.add(event.getId());
+                metrics.recordOutboxRelayed(event.getTopic(), event.getEventType(), Duration.between(event.getCreatedAt(), Instant.now()));
+            } catch (ExecutionException | TimeoutException ex) {
+                event.recordFailedAttempt();
+                if (event.getMessageKey() != null) {
+                    failedKeys.add(event.getMessageKey());
+                }
+                metrics.recordOutboxRelayFailed(event.getTopic(), event.getEventType());
+                if (event.getAttempts() >= maxAttempts) {
+                    deadLetters.add(new OutboxDeadLetter(event, failureMessage(ex), Instant.now()));
+                    removed.add(event.getId());
+                    metrics.recordOutboxDeadLettered(event.getTopic());
+                    log.error("Outbox event dead-lettered. operation=outbox_relay, topic={}, key={}, attempts={}, error={}",
+                            event.getTopic(), event.getMessageKey(), event.getAttempts(), failureMessage(ex));
+                } else {
+                    failed.add(event.getId());
+                    log.warn("Outbox event not published. operation=outbox_relay, topic={}, key={}, attempts={}, error={}",
+                            event.getTopic(), event.getMessageKey(), event.getAttempts(), failureMessage(ex));
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for Kafka acknowledgements", ex);
+            }
+        }
+
+        transactionTemplate.execute(status -> {
+            if (!failed.isEmpty()) {
+                outboxEventRepository.incrementAttempts(failed);
+            }
+            if (!deadLetters.isEmpty()) {
+                outboxDeadLetterRepository.saveAll(deadLetters);
+            }
+            if (!removed.isEmpty()) {
+                outboxEventRepository.deleteAllByIdInBatch(removed);
+            }
+            return null;
+        });
+        return acknowledged;
+    }
+
+    /**
+     * Relays full batches until the outbox is drained, then refreshes the backlog gauges.
+     */
+    int relay() {
+        int relayed = 0;
+        int published;
+        do {
+            published = relayBatch();
+            relayed += published;
+        } while (published == batchSize);
+
+        recordBacklog();
+        return relayed;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        try {
+            transactionTemplate.execute(status -> outboxRelayLeaseRepository.release(LEASE_ID, instanceId, Instant.now()));
+        } catch (RuntimeException ex) {
+            log.warn("Outbox relay lease not released. operation=outbox_relay, error={}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Renews the relay lease for this instance, creating the lease row if it does not exist yet. Returns
+     * whether this instance holds the lease.
+     */
+    private boolean acquireLease() {
+        Instant now = Instant.now();
+        Instant leasedUntil = now.plus(lease);
+        Integer renewed = transactionTemplate.execute(status -> outboxRelayLeaseRepository.renew(LEASE_ID, instanceId, now, leasedUntil));
+        if (renewed != null && renewed == 1) {
+            return true;
+        }
+        if (outboxRelayLeaseRepository.existsById(LEASE_ID)) {
+            return false;
+        }
+        try {
+            transactionTemplate.execute(status -> {
+                outboxRelayLeaseRepository.insert(LEASE_ID, instanceId, leasedUntil);
+                return null;
+            });
+            return true;
+        } catch (DataIntegrityViolationException ex) {
+            return false;
+        }
+    }
+
+    private CompletableFuture<SendResult<String, Object>> send(OutboxEvent event) {
+        try {
+            Object payload = objectMapper.readValue(event.getPayload(), Class.forName(event.getEventType()));
+            return kafkaTemplate.send(event.getTopic(), event.getMessageKey(), payload);
+        } catch (Exception ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    private void recordBacklog() {
+        Set<String> emptyTopics = new HashSet<>(RELAYED_TOPICS);
+        Instant now = Instant.now();
+        for (Object[] row : outboxEventRepository.findBacklogByTopic()) {
+            String topic = (String) row[0];
+            emptyTopics.remove(topic);
+            metrics.recordOutboxBacklog(topic, ((Number) row[1]).longValue(), Duration.between((Instant) row[2], now));
+        }
+        for (String topic : emptyTopics) {
+            metrics.recordOutboxBacklog(topic, 0, Duration.ZERO);
+        }
+    }
+
+    private void relayQuietly() {
+        try {
+            relay();
+        } catch (RuntimeException ex) {
+            log.warn("Outbox relay failed. operation=outbox_relay, error={}", ex.getMessage());
+        }
+    }
+
+    private static String failureMessage(Exception ex) {
+        return ex instanceof ExecutionException && ex.getCause() != null ? ex.getCause().getMessage() : ex.getMessage();
+    }
+}
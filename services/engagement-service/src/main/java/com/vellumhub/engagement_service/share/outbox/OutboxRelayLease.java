@@ -0,0 +1,30 @@
+package com.vellumhub.engagement_service.share.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * The single row of {@code outbox_relay_lease}: which {@link OutboxRelay} instance may relay, and until when.
+ */
+@Entity
+@Table(name = "outbox_relay_lease")
+@Getter
+public class OutboxRelayLease {
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false, length = 64)
+    private String owner;
+
+    @Column(nullable = false)
+    private Instant leasedUntil;
+
+    protected OutboxRelayLease() {
+    }
+}
@@ -0,0 +1,38 @@
+package com.vellumhub.engagement_service.share.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+@Repository
+public interface OutboxRelayLeaseRepository extends JpaRepository<OutboxRelayLease, Integer> {
+
+    /**
+     * Extends the lease to {@code leasedUntil} if {@code owner} holds it or it expired before {@code now}.
+     * Returns {@code 1} when {@code owner} holds the lease afterwards, {@code 0} otherwise.
+     */
+    @Modifying
+    @Query("""
+            UPDATE OutboxRelayLease l SET l.owner = :owner, l.leasedUntil = :leasedUntil
+            WHERE l.id = :id AND (l.owner = :owner OR l.leasedUntil < :now)
+            """)
+    int renew(@Param("id") int id, @Param("owner") String owner, @Param("now") Instant now, @Param("leasedUntil") Instant leasedUntil);
+
+    /**
+     * Creates the lease row. Fails with a primary key violation when another instance created it first.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO outbox_relay_lease (id, owner, leased_until) VALUES (:id, :owner, :leasedUntil)", nativeQuery = true)
+    void insert(@Param("id") int id, @Param("owner") String owner, @Param("leasedUntil") Instant leasedUntil);
+
+    /**
+     * Lets the lease of {@code owner} expire now, so another instance can take over without waiting.
+     */
+    @Modifying
+    @Query("UPDATE OutboxRelayLease l SET l.leasedUntil = :now WHERE l.id = :id AND l.owner = :owner")
+    int release(@Param("id") int id, @Param("owner") String owner, @Param("now") Instant now);
+}
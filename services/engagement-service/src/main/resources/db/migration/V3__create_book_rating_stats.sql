@@ -0,0 +1,24 @@
+CREATE TABLE book_rating_stats (
+    book_id UUID PRIMARY KEY,
+    rating_count BIGINT NOT NULL DEFAULT 0,
+    stars_sum BIGINT NOT NULL DEFAULT 0,
+    stars_0 BIGINT NOT NULL DEFAULT 0,
+    stars_1 BIGINT NOT NULL DEFAULT 0,
+    stars_2 BIGINT NOT NULL DEFAULT 0,
+    stars_3 BIGINT NOT NULL DEFAULT 0,
+    stars_4 BIGINT NOT NULL DEFAULT 0,
+    stars_5 BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO book_rating_stats (book_id, rating_count, stars_sum, stars_0, stars_1, stars_2, stars_3, stars_4, stars_5)
+SELECT book_id,
+       count(*),
+       sum(stars),
+       count(*) FILTER (WHERE stars = 0),
+       count(*) FILTER (WHERE stars = 1),
+       count(*) FILTER (WHERE stars = 2),
+       count(*) FILTER (WHERE stars = 3),
+       count(*) FILTER (WHERE stars = 4),
+       count(*) FILTER (WHERE stars = 5)
+FROM rating
+GROUP BY book_id;
@@ -0,0 +1,12 @@
+ALTER TABLE reading_session_entries
+    ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE reading_session_entries_seq INCREMENT BY 50;
+
+-- Hibernate's pooled optimizer hands out the 50 IDs up to each value it fetches, so the first fetch must
+-- be at least 50 above the highest existing ID.
+SELECT setval(
+    'reading_session_entries_seq',
+    COALESCE((SELECT max(id) FROM reading_session_entries), 0) + 51,
+    false
+);
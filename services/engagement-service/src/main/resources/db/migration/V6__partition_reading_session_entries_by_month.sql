@@ -0,0 +1,72 @@
+-- Entries were stored without a timestamp until now; those rows are dated to this migration.
+ALTER TABLE reading_session_entries RENAME TO reading_session_entries_unpartitioned;
+
+CREATE TABLE reading_session_entries (
+    id BIGINT NOT NULL,
+    reading_session_id UUID,
+    user_id UUID NOT NULL,
+    page_read INTEGER NOT NULL,
+    book_snapshot_book_id UUID,
+    type VARCHAR(255),
+    timestamp TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_reading_session_entries PRIMARY KEY (id, timestamp),
+    CONSTRAINT fk_reading_session_entries_book_snapshot_book_id
+        FOREIGN KEY (book_snapshot_book_id) REFERENCES book_snapshot (book_id)
+) PARTITION BY RANGE (timestamp);
+
+CREATE TABLE reading_session_entries_default PARTITION OF reading_session_entries DEFAULT;
+
+-- One partition per UTC month, from the oldest entry to two months ahead. The rollup job keeps creating
+-- the months ahead from here on.
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', COALESCE(
+        (SELECT min(timestamp) FROM reading_session_entries_unpartitioned), now()) AT TIME ZONE 'UTC')::date;
+    last_month DATE := (date_trunc('month', now() AT TIME ZONE 'UTC') + INTERVAL '2 months')::date;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE %I PARTITION OF reading_session_entries FOR VALUES FROM (%L) TO (%L)',
+            'reading_session_entries_p' || to_char(month_start, 'YYYY_MM'),
+            month_start::timestamp AT TIME ZONE 'UTC',
+            (month_start + INTERVAL '1 month')::timestamp AT TIME ZONE 'UTC'
+        );
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO reading_session_entries (id, reading_session_id, user_id, page_read, book_snapshot_book_id, type, timestamp)
+SELECT id, reading_session_id, user_id, page_read, book_snapshot_book_id, type, COALESCE(timestamp, now())
+FROM reading_session_entries_unpartitioned;
+
+DROP TABLE reading_session_entries_unpartitioned;
+
+CREATE INDEX idx_reading_session_entries_timestamp ON reading_session_entries (timestamp);
+CREATE INDEX idx_reading_session_entries_user_id_timestamp ON reading_session_entries (user_id, timestamp);
+CREATE INDEX idx_reading_session_entries_session_timestamp ON reading_session_entries (reading_session_id, timestamp);
+
+CREATE TABLE reading_daily_user_stats (
+    user_id UUID NOT NULL,
+    activity_date DATE NOT NULL,
+    pages_read BIGINT NOT NULL,
+    entries BIGINT NOT NULL,
+    CONSTRAINT pk_reading_daily_user_stats PRIMARY KEY (user_id, activity_date)
+);
+
+CREATE TABLE reading_daily_book_stats (
+    book_id UUID NOT NULL,
+    activity_date DATE NOT NULL,
+    pages_read BIGINT NOT NULL,
+    entries BIGINT NOT NULL,
+    CONSTRAINT pk_reading_daily_book_stats PRIMARY KEY (book_id, activity_date)
+);
+
+-- Entries older than processed_until are already counted in the daily stats.
+CREATE TABLE reading_rollup_state (
+    name VARCHAR(64) PRIMARY KEY,
+    processed_until TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+INSERT INTO reading_rollup_state (name, processed_until)
+SELECT 'reading_daily_stats', COALESCE(min(timestamp), now())
+FROM reading_session_entries;
@@ -0,0 +1,14 @@
+CREATE TABLE outbox_dead_letters (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    outbox_event_id BIGINT NOT NULL,
+    topic VARCHAR(255) NOT NULL,
+    message_key VARCHAR(255),
+    event_type VARCHAR(255) NOT NULL,
+    payload VARCHAR(4000) NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    attempts INTEGER NOT NULL,
+    last_error VARCHAR(1000),
+    dead_lettered_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_outbox_dead_letters_topic ON outbox_dead_letters (topic, dead_lettered_at);
@@ -0,0 +1,5 @@
+CREATE TABLE outbox_relay_lease (
+    id INTEGER PRIMARY KEY,
+    owner VARCHAR(64) NOT NULL,
+    leased_until TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
@@ -2,6 +2,7 @@ package com.vellumhub.engagement_service.module.book_snapshot.application.use_ca
 
 import com.vellumhub.engagement_service.module.book_snapshot.application.command.CreateBookSnapshotCommand;
 import com.vellumhub.engagement_service.module.book_snapshot.domain.model.BookSnapshot;
+import com.vellumhub.engagement_service.module.book_snapshot.domain.port.BookSnapshotIndex;
 import com.vellumhub.engagement_service.module.book_snapshot.domain.port.BookSnapshotRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,6 +25,9 @@ class CreateBookSnapshotUseCaseTest {
     @Mock
     private BookSnapshotRepository bookSnapshotRepository;
 
+    @Mock
+    private BookSnapshotIndex bookSnapshotIndex;
+
     @InjectMocks
     private CreateBookSnapshotUseCase createBookSnapshotUseCase;
 
@@ -39,6 +43,7 @@ class CreateBookSnapshotUseCaseTest {
         ArgumentCaptor<BookSnapshot> captor = ArgumentCaptor.forClass(BookSnapshot.class);
         verify(bookSnapshotRepository).save(captor.capture());
         assertThat(captor.getValue().getBookId()).isEqualTo(bookId);
+        verify(bookSnapshotIndex).add(bookId);
     }
 
     @Test
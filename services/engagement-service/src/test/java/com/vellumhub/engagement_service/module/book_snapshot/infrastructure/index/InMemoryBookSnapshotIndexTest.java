@@ -0,0 +1,104 @@
+package com.vellumhub.engagement_service.module.book_snapshot.infrastructure.index;
+
+import com.vellumhub.engagement_service.module.book_snapshot.domain.port.BookSnapshotRepository;
+import com.vellumhub.engagement_service.share.metrics.VellumHubMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryBookSnapshotIndexTest {
+
+    @Mock
+    private BookSnapshotRepository bookSnapshotRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private InMemoryBookSnapshotIndex index;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new InMemoryBookSnapshotIndex(bookSnapshotRepository, new VellumHubMetrics(meterRegistry), 2, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("Should load IDs in pages and answer lookups without the database")
+    void shouldLoadIdsInPages() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        when(bookSnapshotRepository.findIdsAfter(null, 2)).thenReturn(List.of(first, second));
+        when(bookSnapshotRepository.findIdsAfter(second, 2)).thenReturn(List.of(third));
+
+        assertThat(index.check()).isZero();
+
+        assertThat(index.contains(first)).isTrue();
+        assertThat(index.contains(third)).isTrue();
+        verify(bookSnapshotRepository, never()).existsById(any());
+        assertThat(meterRegistry.get(VellumHubMetrics.BOOK_SNAPSHOT_INDEX_SIZE).gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get(VellumHubMetrics.BOOK_SNAPSHOT_INDEX_LOOKUPS).tag("result", "hit").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the database on a miss and remember books found there")
+    void shouldFallBackOnMiss() {
+        UUID created = UUID.randomUUID();
+        UUID unknown = UUID.randomUUID();
+        when(bookSnapshotRepository.findIdsAfter(isNull(), anyInt())).thenReturn(List.of());
+        when(bookSnapshotRepository.existsById(created)).thenReturn(true);
+        when(bookSnapshotRepository.existsById(unknown)).thenReturn(false);
+        index.check();
+
+        assertThat(index.contains(created)).isTrue();
+        assertThat(index.contains(created)).isTrue();
+        assertThat(index.contains(unknown)).isFalse();
+
+        verify(bookSnapshotRepository).existsById(created);
+        assertThat(meterRegistry.get(VellumHubMetrics.BOOK_SNAPSHOT_INDEX_LOOKUPS).tag("result", "fallback_hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(VellumHubMetrics.BOOK_SNAPSHOT_INDEX_LOOKUPS).tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should report drift on reload and keep changes made while loading")
+    void shouldReportDriftAndKeepConcurrentChanges() {
+        UUID kept = UUID.randomUUID();
+        UUID deletedElsewhere = UUID.randomUUID();
+        UUID createdElsewhere = UUID.randomUUID();
+        UUID deletedDuringLoad = UUID.randomUUID();
+        when(bookSnapshotRepository.findIdsAfter(null, 2)).thenReturn(List.of(kept, deletedElsewhere));
+        when(bookSnapshotRepository.findIdsAfter(deletedElsewhere, 2)).thenReturn(List.of());
+        index.check();
+        index.add(deletedDuringLoad);
+
+        doAnswer(invocation -> {
+            index.remove(deletedDuringLoad);
+            return List.of(kept, createdElsewhere);
+        }).when(bookSnapshotRepository).findIdsAfter(null, 2);
+        when(bookSnapshotRepository.findIdsAfter(createdElsewhere, 2)).thenReturn(List.of(deletedDuringLoad));
+        when(bookSnapshotRepository.existsById(any())).thenReturn(false);
+
+        assertThat(index.check()).isEqualTo(2);
+
+        assertThat(index.contains(createdElsewhere)).isTrue();
+        assertThat(index.contains(deletedElsewhere)).isFalse();
+        assertThat(index.contains(deletedDuringLoad)).isFalse();
+        assertThat(meterRegistry.get(VellumHubMetrics.BOOK_SNAPSHOT_INDEX_DRIFT).gauge().value()).isEqualTo(2);
+    }
+}
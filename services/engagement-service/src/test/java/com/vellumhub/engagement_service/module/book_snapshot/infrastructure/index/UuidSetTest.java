@@ -0,0 +1,80 @@
+package com.vellumhub.engagement_service.module.book_snapshot.infrastructure.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidSetTest {
+
+    @Test
+    @DisplayName("Should match a HashSet through growth and random removals")
+    void shouldMatchHashSet() {
+        Random random = new Random(42);
+        List<UUID> ids = IntStream.range(0, 5_000)
+                .mapToObj(i -> new UUID(random.nextLong(), random.nextLong()))
+                .toList();
+        UuidSet set = new UuidSet(0);
+        Set<UUID> expected = new HashSet<>();
+
+        for (UUID id : ids) {
+            assertThat(set.add(id)).isEqualTo(expected.add(id));
+        }
+        for (int i = 0; i < ids.size(); i += 3) {
+            assertThat(set.remove(ids.get(i))).isEqualTo(expected.remove(ids.get(i)));
+        }
+
+        assertThat(set.size()).isEqualTo(expected.size());
+        assertThat(ids).allSatisfy(id -> assertThat(set.contains(id)).isEqualTo(expected.contains(id)));
+        Set<UUID> iterated = new HashSet<>();
+        set.forEach(iterated::add);
+        assertThat(iterated).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Should track the nil UUID and count IDs missing from another set")
+    void shouldTrackNilUuidAndCountMissing() {
+        UUID nil = new UUID(0, 0);
+        UUID shared = UUID.randomUUID();
+        UuidSet set = new UuidSet(4);
+        UuidSet other = new UuidSet(4);
+
+        set.add(nil);
+        set.add(shared);
+        other.add(shared);
+        other.add(UUID.randomUUID());
+
+        assertThat(set.contains(nil)).isTrue();
+        assertThat(set.size()).isEqualTo(2);
+        assertThat(set.countMissingFrom(other)).isEqualTo(1);
+        assertThat(set.remove(nil)).isTrue();
+        assertThat(set.contains(nil)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should copy into an independent set")
+    void shouldCopyIndependently() {
+        UUID kept = UUID.randomUUID();
+        UUID removed = UUID.randomUUID();
+        UuidSet set = new UuidSet(0);
+        set.add(kept);
+        set.add(removed);
+
+        UuidSet copy = set.copy();
+        copy.remove(removed);
+        copy.add(UUID.randomUUID());
+
+        assertThat(set.size()).isEqualTo(2);
+        assertThat(set.contains(removed)).isTrue();
+        assertThat(copy.contains(kept)).isTrue();
+        assertThat(copy.contains(removed)).isFalse();
+        assertThat(copy.size()).isEqualTo(2);
+    }
+}
@@ -1,9 +1,10 @@
 package com.vellumhub.engagement_service.module.rating.domain.use_case;
 
-import com.vellumhub.engagement_service.module.book_snapshot.domain.port.BookSnapshotRepository;
+import com.vellumhub.engagement_service.module.book_snapshot.domain.port.BookSnapshotIndex;
 import com.vellumhub.engagement_service.module.rating.domain.command.CreateRatingCommand;
 import com.vellumhub.engagement_service.module.rating.domain.exception.RatingAlreadyExistException;
 import com.vellumhub.engagement_service.module.rating.domain.model.Rating;
+import com.vellumhub.engagement_service.module.rating.domain.port.BookRatingStatsRepository;
 import com.vellumhub.engagement_service.module.rating.domain.port.RatingRepository;
 import com.vellumhub.engagement_service.share.metrics.VellumHubMetrics;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
@@ -29,7 +30,10 @@ class CreateRatingUseCaseTest {
     private RatingRepository ratingRepository;
 
     @Mock
-    private BookSnapshotRepository bookSnapshotRepository;
+    private BookSnapshotIndex bookSnapshotIndex;
+
+    @Mock
+    private BookRatingStatsRepository bookRatingStatsRepository;
 
     private CreateRatingUseCase createRatingUseCase;
 
@@ -40,7 +44,8 @@ class CreateRatingUseCaseTest {
         meterRegistry = new SimpleMeterRegistry();
         createRatingUseCase = new CreateRatingUseCase(
                 ratingRepository,
-                bookSnapshotRepository,
+                bookSnapshotIndex,
+                bookRatingStatsRepository,
                 new VellumHubMetrics(meterRegistry)
         );
     }
@@ -53,7 +58,7 @@ class CreateRatingUseCaseTest {
         UUID bookId = UUID.randomUUID();
         CreateRatingCommand command = new CreateRatingCommand(userId, bookId, 4, "Great book!");
 
-        when(bookSnapshotRepository.existsById(bookId)).thenReturn(true);
+        when(bookSnapshotIndex.contains(bookId)).thenReturn(true);
         when(ratingRepository.existsByUserIdAndBookId(userId, bookId)).thenReturn(false);
         when(ratingRepository.save(any(Rating.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -70,6 +75,7 @@ class CreateRatingUseCaseTest {
         ArgumentCaptor<Rating> captor = ArgumentCaptor.forClass(Rating.class);
         verify(ratingRepository, times(1)).save(captor.capture());
         assertThat(captor.getValue().getTimestamp()).isNotNull();
+        verify(bookRatingStatsRepository).add(bookId, 4);
         assertThat(ratingsCreatedCount()).isEqualTo(1.0);
     }
 
@@ -81,7 +87,7 @@ class CreateRatingUseCaseTest {
         UUID bookId = UUID.randomUUID();
         CreateRatingCommand command = new CreateRatingCommand(userId, bookId, 3, "OK");
 
-        when(bookSnapshotRepository.existsById(bookId)).thenReturn(true);
+        when(bookSnapshotIndex.contains(bookId)).thenReturn(true);
         when(ratingRepository.existsByUserIdAndBookId(userId, bookId)).thenReturn(true);
 
         // Act & Assert
@@ -89,6 +95,7 @@ class CreateRatingUseCaseTest {
                 .isInstanceOf(RatingAlreadyExistException.class);
 
         verify(ratingRepository, never()).save(any());
+        verifyNoInteractions(bookRatingStatsRepository);
     }
 
     private double ratingsCreatedCount() {
@@ -0,0 +1,67 @@
+package com.vellumhub.engagement_service.module.rating.domain.use_case;
+
+import com.vellumhub.engagement_service.module.rating.domain.command.GetBookRatingStatsCommand;
+import com.vellumhub.engagement_service.module.rating.domain.exception.RatingDomainException;
+import com.vellumhub.engagement_service.module.rating.domain.model.BookRatingStats;
+import com.vellumhub.engagement_service.module.rating.domain.port.BookRatingStatsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetBookRatingStatsUseCaseTest {
+
+    @Mock
+    private BookRatingStatsRepository bookRatingStatsRepository;
+
+    @InjectMocks
+    private GetBookRatingStatsUseCase getBookRatingStatsUseCase;
+
+    @Test
+    @DisplayName("Should return stats in request order with empty stats for unrated books")
+    void shouldReturnStatsInRequestOrder() {
+        // Arrange
+        UUID ratedBookId = UUID.randomUUID();
+        UUID unratedBookId = UUID.randomUUID();
+        BookRatingStats ratedStats = new BookRatingStats(ratedBookId, 9, new long[]{0, 0, 0, 1, 0, 1});
+        GetBookRatingStatsCommand command = GetBookRatingStatsCommand.of(List.of(unratedBookId, ratedBookId, unratedBookId));
+
+        when(bookRatingStatsRepository.findAllByBookIds(List.of(unratedBookId, ratedBookId))).thenReturn(List.of(ratedStats));
+
+        // Act
+        List<BookRatingStats> result = getBookRatingStatsUseCase.execute(command);
+
+        // Assert
+        assertThat(result).extracting(BookRatingStats::getBookId).containsExactly(unratedBookId, ratedBookId);
+        assertThat(result.get(0).getRatingCount()).isZero();
+        assertThat(result.get(0).averageRating()).isZero();
+        assertThat(result.get(1).getRatingCount()).isEqualTo(2);
+        assertThat(result.get(1).averageRating()).isEqualTo(4.5);
+        assertThat(result.get(1).starCounts()).containsExactly(0L, 0L, 0L, 1L, 0L, 1L);
+    }
+
+    @Test
+    @DisplayName("Should reject an empty or oversized list of book ids")
+    void shouldRejectInvalidBookIds() {
+        List<UUID> tooMany = Stream.generate(UUID::randomUUID)
+                .limit(GetBookRatingStatsCommand.MAX_BOOK_IDS + 1)
+                .toList();
+
+        assertThatThrownBy(() -> GetBookRatingStatsCommand.of(Collections.emptyList()))
+                .isInstanceOf(RatingDomainException.class);
+        assertThatThrownBy(() -> GetBookRatingStatsCommand.of(tooMany))
+                .isInstanceOf(RatingDomainException.class);
+    }
+}
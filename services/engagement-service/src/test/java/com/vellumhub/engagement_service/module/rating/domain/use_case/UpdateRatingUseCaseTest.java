@@ -3,6 +3,7 @@ package com.vellumhub.engagement_service.module.rating.domain.use_case;
 import com.vellumhub.engagement_service.module.rating.domain.command.UpdateRatingCommand;
 import com.vellumhub.engagement_service.module.rating.domain.exception.RatingDomainException;
 import com.vellumhub.engagement_service.module.rating.domain.model.Rating;
+import com.vellumhub.engagement_service.module.rating.domain.port.BookRatingStatsRepository;
 import com.vellumhub.engagement_service.module.rating.domain.port.RatingRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,6 +26,9 @@ class UpdateRatingUseCaseTest {
     @Mock
     private RatingRepository ratingRepository;
 
+    @Mock
+    private BookRatingStatsRepository bookRatingStatsRepository;
+
     @InjectMocks
     private UpdateRatingUseCase updateRatingUseCase;
 
@@ -33,10 +37,11 @@ class UpdateRatingUseCaseTest {
     void shouldUpdateRatingSuccessfully() {
         // Arrange
         long ratingId = 1L;
-        Rating existingRating = new Rating(UUID.randomUUID(), UUID.randomUUID(), 3, "Average", null);
+        UUID bookId = UUID.randomUUID();
+        Rating existingRating = new Rating(UUID.randomUUID(), bookId, 3, "Average", null);
         UpdateRatingCommand command = new UpdateRatingCommand(ratingId, 5, "Excellent!");
 
-        when(ratingRepository.findById(ratingId)).thenReturn(Optional.of(existingRating));
+        when(ratingRepository.findForUpdate(ratingId)).thenReturn(Optional.of(existingRating));
         when(ratingRepository.save(any(Rating.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
@@ -46,6 +51,7 @@ class UpdateRatingUseCaseTest {
         assertThat(result.getStars()).isEqualTo(5);
         assertThat(result.getReview()).isEqualTo("Excellent!");
         verify(ratingRepository, times(1)).save(existingRating);
+        verify(bookRatingStatsRepository).change(bookId, 3, 5);
     }
 
     @Test
@@ -55,7 +61,7 @@ class UpdateRatingUseCaseTest {
         long ratingId = 99L;
         UpdateRatingCommand command = new UpdateRatingCommand(ratingId, 4, "Good");
 
-        when(ratingRepository.findById(ratingId)).thenReturn(Optional.empty());
+        when(ratingRepository.findForUpdate(ratingId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> updateRatingUseCase.execute(command))
@@ -63,5 +69,6 @@ class UpdateRatingUseCaseTest {
                 .hasMessageContaining("Rating not found");
 
         verify(ratingRepository, never()).save(any());
+        verifyNoInteractions(bookRatingStatsRepository);
     }
 }
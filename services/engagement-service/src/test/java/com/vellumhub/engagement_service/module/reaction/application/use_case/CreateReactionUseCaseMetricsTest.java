@@ -1,6 +1,7 @@
 package com.vellumhub.engagement_service.module.reaction.application.use_case;
 
 import com.vellumhub.engagement_service.module.book_snapshot.domain.model.BookSnapshot;
+import com.vellumhub.engagement_service.module.book_snapshot.domain.port.BookSnapshotIndex;
 import com.vellumhub.engagement_service.module.book_snapshot.domain.port.BookSnapshotRepository;
 import com.vellumhub.engagement_service.module.reaction.application.command.CreateReactionCommand;
 import com.vellumhub.kafka.contracts.engagement.ReactionChangedEvent;
@@ -18,7 +19,6 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -35,6 +35,9 @@ class CreateReactionUseCaseMetricsTest {
     @Mock
     private BookSnapshotRepository bookSnapshotRepository;
 
+    @Mock
+    private BookSnapshotIndex bookSnapshotIndex;
+
     @Mock
     private EventProducer<String, ReactionChangedEvent> eventProducer;
 
@@ -47,6 +50,7 @@ class CreateReactionUseCaseMetricsTest {
         useCase = new CreateReactionUseCase(
                 reactionRepository,
                 bookSnapshotRepository,
+                bookSnapshotIndex,
                 eventProducer,
                 new VellumHubMetrics(meterRegistry)
         );
@@ -58,7 +62,8 @@ class CreateReactionUseCaseMetricsTest {
         UUID userId = UUID.randomUUID();
         UUID bookId = UUID.randomUUID();
         var command = new CreateReactionCommand(userId, bookId, TypeReaction.POSITIVE);
-        when(bookSnapshotRepository.findById(bookId)).thenReturn(Optional.of(new BookSnapshot(bookId)));
+        when(bookSnapshotIndex.contains(bookId)).thenReturn(true);
+        when(bookSnapshotRepository.getReference(bookId)).thenReturn(new BookSnapshot(bookId));
 
         useCase.execute(command);
 
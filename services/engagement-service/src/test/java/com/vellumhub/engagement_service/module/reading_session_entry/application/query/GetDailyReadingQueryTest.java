@@ -0,0 +1,40 @@
+package com.vellumhub.engagement_service.module.reading_session_entry.application.query;
+
+import com.vellumhub.engagement_service.module.reading_session_entry.application.exception.InvalidReadingRangeException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GetDailyReadingQueryTest {
+
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Should default to the last 30 days up to today")
+    void shouldDefaultToLastThirtyDays() {
+        GetDailyReadingQuery query = GetDailyReadingQuery.of(userId, null, null);
+
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        assertThat(query.to()).isEqualTo(today);
+        assertThat(query.from()).isEqualTo(today.minusDays(29));
+    }
+
+    @Test
+    @DisplayName("Should reject reversed or oversized date ranges")
+    void shouldRejectInvalidRanges() {
+        LocalDate to = LocalDate.of(2026, 10, 18);
+
+        assertThatThrownBy(() -> GetDailyReadingQuery.of(userId, to.plusDays(1), to))
+                .isInstanceOf(InvalidReadingRangeException.class);
+        assertThatThrownBy(() -> GetDailyReadingQuery.of(userId, to.minusDays(GetDailyReadingQuery.MAX_DAYS), to))
+                .isInstanceOf(InvalidReadingRangeException.class);
+        assertThat(GetDailyReadingQuery.of(userId, to.minusDays(GetDailyReadingQuery.MAX_DAYS - 1), to).from())
+                .isEqualTo(to.minusDays(GetDailyReadingQuery.MAX_DAYS - 1));
+    }
+}
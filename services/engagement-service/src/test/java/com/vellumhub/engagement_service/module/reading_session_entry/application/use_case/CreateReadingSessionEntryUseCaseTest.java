@@ -1,6 +1,8 @@
 package com.vellumhub.engagement_service.module.reading_session_entry.application.use_case;
 
+import com.vellumhub.engagement_service.module.book_snapshot.domain.exception.BookSnapshotNotFoundException;
 import com.vellumhub.engagement_service.module.book_snapshot.domain.model.BookSnapshot;
+import com.vellumhub.engagement_service.module.book_snapshot.domain.port.BookSnapshotIndex;
 import com.vellumhub.engagement_service.module.book_snapshot.domain.port.BookSnapshotRepository;
 import com.vellumhub.engagement_service.module.reading_session_entry.application.command.CreateReadingSessionEntryCommand;
 import com.vellumhub.engagement_service.module.reading_session_entry.domain.model.ReadingSessionEntry;
@@ -15,10 +17,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Optional;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -32,6 +38,9 @@ class CreateReadingSessionEntryUseCaseTest {
     @Mock
     private BookSnapshotRepository bookSnapshotRepository;
 
+    @Mock
+    private BookSnapshotIndex bookSnapshotIndex;
+
     @Mock
     private RequestContext requestContext;
 
@@ -41,6 +50,9 @@ class CreateReadingSessionEntryUseCaseTest {
     @Captor
     private ArgumentCaptor<ReadingSessionEntry> entryCaptor;
 
+    @Captor
+    private ArgumentCaptor<List<ReadingSessionEntry>> entriesCaptor;
+
     @Test
     @DisplayName("Should use the event user id instead of request context")
     void shouldUseEventUserIdInsteadOfRequestContext() throws Exception {
@@ -52,7 +64,8 @@ class CreateReadingSessionEntryUseCaseTest {
                 .getDeclaredConstructor(UUID.class, UUID.class, UUID.class, String.class, int.class)
                 .newInstance(bookId, bookProgressId, userId, "READING", 90);
 
-        when(bookSnapshotRepository.findById(bookId)).thenReturn(Optional.of(bookSnapshot));
+        when(bookSnapshotIndex.contains(bookId)).thenReturn(true);
+        when(bookSnapshotRepository.getReference(bookId)).thenReturn(bookSnapshot);
 
         useCase.execute(command);
 
@@ -66,4 +79,51 @@ class CreateReadingSessionEntryUseCaseTest {
         assertThat(savedEntry.getPageRead()).isEqualTo(90);
         verifyNoInteractions(requestContext);
     }
+
+    @Test
+    @DisplayName("Should check a batch's books against the index and save all entries together")
+    void shouldSaveBatchWithoutBookQueries() {
+        UUID bookId = UUID.randomUUID();
+        UUID firstUserId = UUID.randomUUID();
+        UUID secondUserId = UUID.randomUUID();
+        BookSnapshot bookSnapshot = new BookSnapshot(bookId);
+        List<CreateReadingSessionEntryCommand> commands = List.of(
+                CreateReadingSessionEntryCommand.create(bookId, UUID.randomUUID(), firstUserId, "READING", 10),
+                CreateReadingSessionEntryCommand.create(bookId, UUID.randomUUID(), secondUserId, "READING", 20)
+        );
+
+        when(bookSnapshotIndex.contains(bookId)).thenReturn(true);
+        when(bookSnapshotRepository.getReference(bookId)).thenReturn(bookSnapshot);
+
+        useCase.executeAll(commands);
+
+        verify(readingSessionEntryRepository).saveAll(entriesCaptor.capture());
+        assertThat(entriesCaptor.getValue())
+                .extracting(ReadingSessionEntry::getUserId, ReadingSessionEntry::getPageRead)
+                .containsExactly(
+                        tuple(firstUserId, 10),
+                        tuple(secondUserId, 20)
+                );
+        verify(bookSnapshotRepository, never()).findById(any());
+        verify(bookSnapshotRepository, never()).existsById(any());
+    }
+
+    @Test
+    @DisplayName("Should store nothing when a batch references an unknown book")
+    void shouldRejectBatchWithUnknownBook() {
+        UUID knownBookId = UUID.randomUUID();
+        UUID unknownBookId = UUID.randomUUID();
+        List<CreateReadingSessionEntryCommand> commands = List.of(
+                CreateReadingSessionEntryCommand.create(knownBookId, UUID.randomUUID(), UUID.randomUUID(), "READING", 10),
+                CreateReadingSessionEntryCommand.create(unknownBookId, UUID.randomUUID(), UUID.randomUUID(), "READING", 20)
+        );
+
+        when(bookSnapshotIndex.contains(knownBookId)).thenReturn(true);
+        when(bookSnapshotIndex.contains(unknownBookId)).thenReturn(false);
+        when(bookSnapshotRepository.getReference(knownBookId)).thenReturn(new BookSnapshot(knownBookId));
+
+        assertThatThrownBy(() -> useCase.executeAll(commands))
+                .isInstanceOf(BookSnapshotNotFoundException.class);
+        verify(readingSessionEntryRepository, never()).saveAll(any());
+    }
 }
@@ -2,6 +2,7 @@ package com.vellumhub.engagement_service.module.reading_session_entry.domain.mod
 
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
+import jakarta.persistence.SequenceGenerator;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -9,12 +10,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 class ReadingSessionEntryMappingTest {
 
     @Test
-    void idShouldBeGeneratedByTheDatabase() throws NoSuchFieldException {
+    void idShouldComeFromAPooledSequenceSoInsertsCanBeBatched() throws NoSuchFieldException {
         var idField = ReadingSessionEntry.class.getDeclaredField("id");
 
         var generatedValue = idField.getAnnotation(GeneratedValue.class);
+        var sequenceGenerator = idField.getAnnotation(SequenceGenerator.class);
 
         assertThat(generatedValue).isNotNull();
-        assertThat(generatedValue.strategy()).isEqualTo(GenerationType.IDENTITY);
+        assertThat(generatedValue.strategy()).isEqualTo(GenerationType.SEQUENCE);
+        assertThat(sequenceGenerator.sequenceName()).isEqualTo("reading_session_entries_seq");
+        assertThat(sequenceGenerator.allocationSize()).isEqualTo(50);
     }
 }
@@ -0,0 +1,80 @@
+package com.vellumhub.engagement_service.module.reading_session_entry.infrastructure.kafka.consumer;
+
+import com.vellumhub.engagement_service.module.book_snapshot.domain.exception.BookSnapshotNotFoundException;
+import com.vellumhub.engagement_service.module.reading_session_entry.application.command.CreateReadingSessionEntryCommand;
+import com.vellumhub.engagement_service.module.reading_session_entry.application.use_case.CreateReadingSessionEntryUseCase;
+import com.vellumhub.engagement_service.share.metrics.VellumHubMetrics;
+import com.vellumhub.kafka.contracts.readingprogress.UpdateBookProgressEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UpdateReadingProgressBatchEventConsumerTest {
+
+    @Mock
+    private CreateReadingSessionEntryUseCase createReadingSessionEntryUseCase;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UpdateReadingProgressBatchEventConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        consumer = new UpdateReadingProgressBatchEventConsumer(createReadingSessionEntryUseCase, new VellumHubMetrics(meterRegistry));
+    }
+
+    @Test
+    @DisplayName("Should store a poll with one batch call")
+    void shouldStorePollInOneCall() {
+        List<UpdateBookProgressEvent> events = List.of(event(), event());
+
+        consumer.consume(events);
+
+        verify(createReadingSessionEntryUseCase).executeAll(anyList());
+        verify(createReadingSessionEntryUseCase, never()).execute(any());
+        assertThat(meterRegistry.get(VellumHubMetrics.READING_SESSION_INGESTION_BATCH_SIZE).summary().totalAmount()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should replay a failed poll record by record and report the failing index")
+    void shouldReplayFailedPollAndReportFailingIndex() {
+        UpdateBookProgressEvent stored = event();
+        UpdateBookProgressEvent failing = event();
+
+        doThrow(new BookSnapshotNotFoundException()).when(createReadingSessionEntryUseCase).executeAll(anyList());
+        doAnswer(invocation -> {
+            CreateReadingSessionEntryCommand command = invocation.getArgument(0);
+            if (command.bookId().equals(failing.bookId())) {
+                throw new BookSnapshotNotFoundException();
+            }
+            return null;
+        }).when(createReadingSessionEntryUseCase).execute(any());
+
+        assertThatThrownBy(() -> consumer.consume(List.of(stored, failing)))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class, ex -> assertThat(ex.getIndex()).isEqualTo(1));
+        verify(createReadingSessionEntryUseCase).execute(
+                CreateReadingSessionEntryCommand.create(stored.bookId(), stored.bookProgressId(), stored.userId(), stored.progress(), stored.newPage()));
+    }
+
+    private static UpdateBookProgressEvent event() {
+        return new UpdateBookProgressEvent(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "READING", 12, 90);
+    }
+}
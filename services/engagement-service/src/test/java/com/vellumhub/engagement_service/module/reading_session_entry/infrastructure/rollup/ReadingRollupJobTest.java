@@ -0,0 +1,89 @@
+package com.vellumhub.engagement_service.module.reading_session_entry.infrastructure.rollup;
+
+import com.vellumhub.engagement_service.module.reading_session_entry.domain.port.ReadingRollups;
+import com.vellumhub.engagement_service.share.metrics.VellumHubMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReadingRollupJobTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-18T12:00:00Z");
+    private static final Duration GRACE = Duration.ofMinutes(5);
+    private static final Duration MAX_WINDOW = Duration.ofHours(6);
+
+    @Mock
+    private ReadingRollups readingRollups;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReadingRollupJob job;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        job = new ReadingRollupJob(readingRollups, new VellumHubMetrics(meterRegistry),
+                Duration.ofMinutes(5), GRACE, MAX_WINDOW, Duration.ofDays(395), 2);
+    }
+
+    @Test
+    @DisplayName("Should roll up to the grace period in bounded steps and drop expired partitions")
+    void shouldRollUpAndDropExpiredPartitions() {
+        // Arrange
+        Instant until = NOW.minus(GRACE);
+        when(readingRollups.rollUp(until, MAX_WINDOW)).thenReturn(
+                new ReadingRollups.Step(until.minus(MAX_WINDOW), 3),
+                new ReadingRollups.Step(until, 2));
+        when(readingRollups.findPartitions()).thenReturn(List.of(
+                YearMonth.of(2025, 7), YearMonth.of(2025, 8), YearMonth.of(2025, 9), YearMonth.of(2026, 10)));
+
+        // Act
+        long entries = job.run(NOW);
+
+        // Assert
+        assertThat(entries).isEqualTo(5);
+        verify(readingRollups, times(2)).rollUp(until, MAX_WINDOW);
+        verify(readingRollups).createPartition(YearMonth.of(2026, 10));
+        verify(readingRollups).createPartition(YearMonth.of(2026, 11));
+        verify(readingRollups).createPartition(YearMonth.of(2026, 12));
+        verify(readingRollups).dropPartition(YearMonth.of(2025, 7));
+        verify(readingRollups).dropPartition(YearMonth.of(2025, 8));
+        verify(readingRollups, never()).dropPartition(YearMonth.of(2025, 9));
+        verify(readingRollups, never()).dropPartition(YearMonth.of(2026, 10));
+        assertThat(meterRegistry.get(VellumHubMetrics.READING_ROLLUP_ENTRIES).tag("result", "success").counter().count()).isEqualTo(5);
+        assertThat(meterRegistry.get(VellumHubMetrics.READING_ROLLUP_LAG).gauge().value()).isEqualTo(GRACE.toSeconds());
+    }
+
+    @Test
+    @DisplayName("Should keep expired partitions whose entries are not rolled up yet")
+    void shouldKeepPartitionsAheadOfTheWatermark() {
+        // Arrange
+        Instant watermark = Instant.parse("2025-08-15T00:00:00Z");
+        when(readingRollups.rollUp(any(), any())).thenReturn(new ReadingRollups.Step(watermark, 0));
+        when(readingRollups.findPartitions()).thenReturn(List.of(YearMonth.of(2025, 7), YearMonth.of(2025, 8)));
+
+        // Act
+        job.run(NOW);
+
+        // Assert
+        verify(readingRollups, times(2)).rollUp(any(), any());
+        verify(readingRollups).dropPartition(YearMonth.of(2025, 7));
+        verify(readingRollups, never()).dropPartition(YearMonth.of(2025, 8));
+    }
+}
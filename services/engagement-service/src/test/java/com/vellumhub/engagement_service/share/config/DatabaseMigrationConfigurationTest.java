@@ -29,6 +29,44 @@ class DatabaseMigrationConfigurationTest {
                 .contains("CREATE TABLE reading_session_entries");
     }
 
+    @Test
+    void bookRatingStatsMigrationBackfillsExistingRatings() throws IOException {
+        String migration = readResource("db/migration/V3__create_book_rating_stats.sql");
+
+        assertThat(migration)
+                .contains("CREATE TABLE book_rating_stats")
+                .contains("INSERT INTO book_rating_stats")
+                .contains("FROM rating");
+    }
+
+    @Test
+    void outboxMigrationIsPackaged() throws IOException {
+        String migration = readResource("db/migration/V4__create_outbox_events.sql");
+
+        assertThat(migration).contains("CREATE TABLE outbox_events");
+    }
+
+    @Test
+    void readingSessionEntriesUsePooledSequence() throws IOException {
+        String migration = readResource("db/migration/V5__use_pooled_sequence_for_reading_session_entries.sql");
+
+        assertThat(migration)
+                .contains("DROP IDENTITY")
+                .contains("CREATE SEQUENCE reading_session_entries_seq INCREMENT BY 50");
+    }
+
+    @Test
+    void readingSessionEntriesArePartitionedByMonth() throws IOException {
+        String migration = readResource("db/migration/V6__partition_reading_session_entries_by_month.sql");
+
+        assertThat(migration)
+                .contains("PARTITION BY RANGE (timestamp)")
+                .contains("PARTITION OF reading_session_entries DEFAULT")
+                .contains("CREATE TABLE reading_daily_user_stats")
+                .contains("CREATE TABLE reading_daily_book_stats")
+                .contains("CREATE TABLE reading_rollup_state");
+    }
+
     @Test
     void productionProfileValidatesSchemaInsteadOfUpdatingIt() throws IOException {
         Properties properties = loadProperties("application-prod.properties");
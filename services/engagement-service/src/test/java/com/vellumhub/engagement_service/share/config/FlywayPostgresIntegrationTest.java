@@ -43,11 +43,17 @@ class FlywayPostgresIntegrationTest {
     @Test
     @Order(1)
     void startsAgainstAnEmptyPostgresDatabaseAndAppliesAllMigrations(@Autowired JdbcTemplate jdbcTemplate) {
-        assertThat(jdbcTemplate.queryForObject("select count(*) from flyway_schema_history where version in ('1', '2') and success", Integer.class)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from flyway_schema_history where version in ('1', '2', '3', '4', '5', '6', '7', '8') and success", Integer.class)).isEqualTo(8);
         assertThat(tableExists(jdbcTemplate, "book_snapshot")).isTrue();
         assertThat(tableExists(jdbcTemplate, "rating")).isTrue();
         assertThat(tableExists(jdbcTemplate, "reactions")).isTrue();
         assertThat(tableExists(jdbcTemplate, "reading_session_entries")).isTrue();
+        assertThat(tableExists(jdbcTemplate, "book_rating_stats")).isTrue();
+        assertThat(tableExists(jdbcTemplate, "outbox_events")).isTrue();
+        assertThat(tableExists(jdbcTemplate, "outbox_dead_letters")).isTrue();
+        assertThat(tableExists(jdbcTemplate, "outbox_relay_lease")).isTrue();
+        assertThat(tableExists(jdbcTemplate, "reading_daily_user_stats")).isTrue();
+        assertThat(tableExists(jdbcTemplate, "reading_daily_book_stats")).isTrue();
         assertThat(indexExists(jdbcTemplate, "idx_rating_user_id")).isTrue();
     }
 
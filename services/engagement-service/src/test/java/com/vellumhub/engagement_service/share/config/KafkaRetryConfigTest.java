@@ -68,11 +68,24 @@ class KafkaRetryConfigTest {
     void retryTopicDltHandlersAreNotAutoStarted() {
         KafkaRetryConfig config = new KafkaRetryConfig(new VellumHubMetrics(new SimpleMeterRegistry()));
 
-        var retryConfig = config.defaultRetryConfig("localhost:9092");
+        var retryConfig = config.defaultRetryConfig("localhost:9092", "single");
 
         assertThat(retryConfig.getDestinationTopicProperties())
                 .filteredOn(properties -> properties.isDltTopic())
                 .isNotEmpty()
                 .allSatisfy(properties -> assertThat(properties.autoStartDltHandler()).isFalse());
     }
+
+    @Test
+    void batchReadingSessionIngestionLeavesReadingProgressTopicsToTheBatchErrorHandler() {
+        KafkaRetryConfig config = new KafkaRetryConfig(new VellumHubMetrics(new SimpleMeterRegistry()));
+
+        var single = config.defaultRetryConfig("localhost:9092", "single");
+        var batch = config.defaultRetryConfig("localhost:9092", "batch");
+
+        assertThat(single.hasConfigurationForTopics(new String[]{"updated-reading-progress"})).isTrue();
+        assertThat(batch.hasConfigurationForTopics(new String[]{"updated-reading-progress"})).isFalse();
+        assertThat(batch.hasConfigurationForTopics(new String[]{"created-reading-progress"})).isFalse();
+        assertThat(batch.hasConfigurationForTopics(new String[]{"created-book"})).isTrue();
+    }
 }
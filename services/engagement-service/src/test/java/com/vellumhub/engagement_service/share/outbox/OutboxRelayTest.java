@@ -0,0 +1,265 @@
+package com.vellumhub.engagement_service.share.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vellumhub.engagement_service.share.metrics.VellumHubMetrics;
+import com.vellumhub.kafka.contracts.KafkaTopics;
+import com.vellumhub.kafka.contracts.engagement.CreatedRatingEvent;
+import com.vellumhub.kafka.contracts.engagement.ReactionChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxDeadLetterRepository outboxDeadLetterRepository;
+
+    @Mock
+    private OutboxRelayLeaseRepository outboxRelayLeaseRepository;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong ids = new AtomicLong();
+    private final AtomicBoolean inTransaction = new AtomicBoolean();
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(
+                outboxEventRepository,
+                outboxDeadLetterRepository,
+                outboxRelayLeaseRepository,
+                kafkaTemplate,
+                objectMapper,
+                transactionTemplate,
+                new VellumHubMetrics(meterRegistry),
+                2,
+                Duration.ofMillis(500),
+                Duration.ofSeconds(5),
+                3,
+                Duration.ofSeconds(10)
+        );
+    }
+
+    @Test
+    @DisplayName("Should publish a batch and delete the acknowledged events")
+    void shouldPublishAndDeleteAcknowledgedEvents() throws Exception {
+        OutboxEvent rating = event(KafkaTopics.CREATED_RATING, new CreatedRatingEvent(UUID.randomUUID(), UUID.randomUUID(), 4));
+        OutboxEvent reaction = event(KafkaTopics.USER_REACTION_CHANGED, new ReactionChangedEvent(UUID.randomUUID(), UUID.randomUUID(), "POSITIVE"));
+        holdingLease();
+        when(outboxEventRepository.findNextBatch(Limit.of(2))).thenReturn(List.of(rating, reaction));
+        when(kafkaTemplate.send(eq(KafkaTopics.CREATED_RATING), eq(rating.getMessageKey()), any(CreatedRatingEvent.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(kafkaTemplate.send(eq(KafkaTopics.USER_REACTION_CHANGED), eq(reaction.getMessageKey()), any(ReactionChangedEvent.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        int published = relay.relayBatch();
+
+        assertThat(published).isEqualTo(2);
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(rating.getId(), reaction.getId()));
+        assertThat(meterRegistry.get(VellumHubMetrics.OUTBOX_EVENTS_RELAYED)
+                .tag("topic", KafkaTopics.CREATED_RATING).tag("result", "success").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get(VellumHubMetrics.OUTBOX_RELAY_LAG).timers()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should send outside of any database transaction")
+    void shouldSendOutsideTransaction() throws Exception {
+        OutboxEvent rating = event(KafkaTopics.CREATED_RATING, new CreatedRatingEvent(UUID.randomUUID(), UUID.randomUUID(), 4));
+        AtomicBoolean sentInTransaction = new AtomicBoolean();
+        holdingLease();
+        when(outboxEventRepository.findNextBatch(Limit.of(2))).thenReturn(List.of(rating));
+        when(kafkaTemplate.send(eq(KafkaTopics.CREATED_RATING), eq(rating.getMessageKey()), any())).thenAnswer(invocation -> {
+            sentInTransaction.set(inTransaction.get());
+            return CompletableFuture.completedFuture(null);
+        });
+
+        relay.relayBatch();
+
+        assertThat(sentInTransaction).isFalse();
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(rating.getId()));
+    }
+
+    @Test
+    @DisplayName("Should keep events whose send failed for the next poll")
+    void shouldKeepFailedEvents() throws Exception {
+        OutboxEvent failing = event(KafkaTopics.CREATED_RATING, new CreatedRatingEvent(UUID.randomUUID(), UUID.randomUUID(), 2));
+        OutboxEvent succeeding = event(KafkaTopics.CREATED_RATING, new CreatedRatingEvent(UUID.randomUUID(), UUID.randomUUID(), 5));
+        holdingLease();
+        when(outboxEventRepository.findNextBatch(Limit.of(2))).thenReturn(List.of(failing, succeeding));
+        when(kafkaTemplate.send(eq(KafkaTopics.CREATED_RATING), eq(failing.getMessageKey()), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+        when(kafkaTemplate.send(eq(KafkaTopics.CREATED_RATING), eq(succeeding.getMessageKey()), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        int published = relay.relayBatch();
+
+        assertThat(published).isEqualTo(1);
+        verify(outboxEventRepository).incrementAttempts(List.of(failing.getId()));
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(succeeding.getId()));
+        assertThat(meterRegistry.get(VellumHubMetrics.OUTBOX_EVENTS_RELAYED)
+                .tag("result", "failure").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should keep the later events of a key whose send failed")
+    void shouldHoldBackLaterEventsOfFailedKey() throws Exception {
+        String key = UUID.randomUUID().toString();
+        OutboxEvent failing = event(KafkaTopics.CREATED_RATING, key, new CreatedRatingEvent(UUID.randomUUID(), UUID.randomUUID(), 2));
+        OutboxEvent later = event(KafkaTopics.CREATED_RATING, key, new CreatedRatingEvent(UUID.randomUUID(), UUID.randomUUID(), 5));
+        holdingLease();
+        when(outboxEventRepository.findNextBatch(Limit.of(2))).thenReturn(List.of(failing, later));
+        when(kafkaTemplate.send(eq(KafkaTopics.CREATED_RATING), eq(key), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        int published = relay.relayBatch();
+
+        assertThat(published).isZero();
+        verify(outboxEventRepository).incrementAttempts(List.of(failing.getId()));
+        verify(outboxEventRepository, never()).deleteAllByIdInBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("Should move an event to the dead letters after its last attempt")
+    void shouldDeadLetterAfterMaxAttempts() throws Exception {
+        OutboxEvent poison = event(KafkaTopics.CREATED_RATING, new CreatedRatingEvent(UUID.randomUUID(), UUID.randomUUID(), 2));
+        poison.recordFailedAttempt();
+        poison.recordFailedAttempt();
+        holdingLease();
+        when(outboxEventRepository.findNextBatch(Limit.of(2))).thenReturn(List.of(poison));
+        when(kafkaTemplate.send(eq(KafkaTopics.CREATED_RATING), eq(poison.getMessageKey()), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("record too large")));
+
+        int published = relay.relayBatch();
+
+        assertThat(published).isZero();
+        verify(outboxDeadLetterRepository).saveAll(argThat((List<OutboxDeadLetter> deadLetters) ->
+                deadLetters.size() == 1
+                        && deadLetters.getFirst().getAttempts() == 3
+                        && deadLetters.getFirst().getLastError().equals("record too large")));
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(poison.getId()));
+        verify(outboxEventRepository, never()).incrementAttempts(anyList());
+        assertThat(meterRegistry.get(VellumHubMetrics.OUTBOX_EVENTS_RELAYED)
+                .tag("result", "dead_letter").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should not read events while another instance holds the relay lease")
+    void shouldSkipWhileAnotherInstanceRelays() {
+        inTransaction();
+        when(outboxRelayLeaseRepository.renew(anyInt(), anyString(), any(), any())).thenReturn(0);
+        when(outboxRelayLeaseRepository.existsById(1)).thenReturn(true);
+
+        int published = relay.relayBatch();
+
+        assertThat(published).isZero();
+        verify(outboxRelayLeaseRepository, never()).insert(anyInt(), anyString(), any());
+        verify(outboxEventRepository, never()).findNextBatch(any());
+    }
+
+    @Test
+    @DisplayName("Should create the relay lease when no instance took it yet")
+    void shouldCreateMissingLease() {
+        inTransaction();
+        when(outboxRelayLeaseRepository.renew(anyInt(), anyString(), any(), any())).thenReturn(0);
+        when(outboxRelayLeaseRepository.existsById(1)).thenReturn(false);
+        when(outboxEventRepository.findNextBatch(Limit.of(2))).thenReturn(List.of());
+
+        relay.relayBatch();
+
+        verify(outboxRelayLeaseRepository).insert(eq(1), anyString(), any());
+        verify(outboxEventRepository).findNextBatch(Limit.of(2));
+    }
+
+    @Test
+    @DisplayName("Should report the backlog of every relayed topic after draining")
+    void shouldReportBacklog() {
+        holdingLease();
+        when(outboxEventRepository.findNextBatch(Limit.of(2))).thenReturn(List.of());
+        when(outboxEventRepository.findBacklogByTopic()).thenReturn(List.<Object[]>of(
+                new Object[]{KafkaTopics.CREATED_RATING, 3L, Instant.now().minusSeconds(60)}
+        ));
+
+        relay.relay();
+
+        assertThat(meterRegistry.get(VellumHubMetrics.OUTBOX_PENDING).tag("topic", KafkaTopics.CREATED_RATING).gauge().value())
+                .isEqualTo(3.0);
+        assertThat(meterRegistry.get(VellumHubMetrics.OUTBOX_OLDEST_AGE).tag("topic", KafkaTopics.CREATED_RATING).gauge().value())
+                .isGreaterThanOrEqualTo(60.0);
+        assertThat(meterRegistry.get(VellumHubMetrics.OUTBOX_PENDING).tag("topic", KafkaTopics.USER_REACTION_CHANGED).gauge().value())
+                .isZero();
+    }
+
+    private OutboxEvent event(String topic, Object payload) throws Exception {
+        return event(topic, UUID.randomUUID().toString(), payload);
+    }
+
+    private OutboxEvent event(String topic, String key, Object payload) throws Exception {
+        OutboxEvent event = new OutboxEvent(
+                topic,
+                key,
+                payload.getClass().getName(),
+                objectMapper.writeValueAsString(payload),
+                Instant.now().minusSeconds(1)
+        );
+        ReflectionTestUtils.setField(event, "id", ids.incrementAndGet());
+        return event;
+    }
+
+    private void holdingLease() {
+        inTransaction();
+        when(outboxRelayLeaseRepository.renew(anyInt(), anyString(), any(), any())).thenReturn(1);
+    }
+
+    private void inTransaction() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            inTransaction.set(true);
+            try {
+                return invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+            } finally {
+                inTransaction.set(false);
+            }
+        });
+    }
+}
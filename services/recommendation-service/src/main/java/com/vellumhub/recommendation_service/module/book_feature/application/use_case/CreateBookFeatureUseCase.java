@@ -1,21 +1,31 @@
 package com.vellumhub.recommendation_service.module.book_feature.application.use_case;
 
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookContent;
 import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookFeature;
 import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookFeatureRepository;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookNeighbors;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookVectorIndex;
 import com.vellumhub.recommendation_service.module.book_feature.domain.port.EmbeddingBookProvider;
 import com.vellumhub.kafka.contracts.book.CreateBookEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Component
 public class CreateBookFeatureUseCase {
 
     private final BookFeatureRepository bookFeatureRepository;
     private final EmbeddingBookProvider embeddingBookProvider;
+    private final BookVectorIndex bookVectorIndex;
+    private final BookNeighbors bookNeighbors;
 
-    public CreateBookFeatureUseCase(BookFeatureRepository bookFeatureRepository, EmbeddingBookProvider embeddingBookProvider) {
+    public CreateBookFeatureUseCase(BookFeatureRepository bookFeatureRepository, EmbeddingBookProvider embeddingBookProvider, BookVectorIndex bookVectorIndex, BookNeighbors bookNeighbors) {
         this.bookFeatureRepository = bookFeatureRepository;
         this.embeddingBookProvider = embeddingBookProvider;
+        this.bookVectorIndex = bookVectorIndex;
+        this.bookNeighbors = bookNeighbors;
     }
 
     @Transactional
@@ -27,9 +37,33 @@ public class CreateBookFeatureUseCase {
                 event.genres()
         );
 
-        BookFeature bookFeature = BookFeature.create(event.bookId(), vectors, 1);
+        BookFeature bookFeature = BookFeature.create(event.bookId(), vectors, 0);
 
         bookFeatureRepository.save(bookFeature);
+        bookVectorIndex.upsert(bookFeature.getBookId(), bookFeature.getEmbedding(), bookFeature.getPopularityScore());
+        bookNeighbors.refresh(List.of(bookFeature.getBookId()));
+    }
+
+    /**
+     * Creates the features of several books with a single embedding call and a single batched save.
+     *
+     * @param events creation events, embedded in the given order
+     */
+    @Transactional
+    public void executeAll(List<CreateBookEvent> events) {
+        List<float[]> vectors = embeddingBookProvider.ofAll(events.stream()
+                .map(event -> new BookContent(event.title(), event.author(), event.description(), event.genres()))
+                .toList());
+
+        List<BookFeature> bookFeatures = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            bookFeatures.add(BookFeature.create(events.get(i).bookId(), vectors.get(i), 0));
+        }
+
+        bookFeatureRepository.saveAll(bookFeatures);
+        bookFeatures.forEach(bookFeature ->
+                bookVectorIndex.upsert(bookFeature.getBookId(), bookFeature.getEmbedding(), bookFeature.getPopularityScore()));
+        bookNeighbors.refresh(bookFeatures.stream().map(BookFeature::getBookId).toList());
     }
 
 }
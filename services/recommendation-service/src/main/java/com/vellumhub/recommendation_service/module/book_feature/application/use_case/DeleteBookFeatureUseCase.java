@@ -1,6 +1,9 @@
 package com.vellumhub.recommendation_service.module.book_feature.application.use_case;
 
 import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookFeatureRepository;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookNeighbors;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookVectorCache;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookVectorIndex;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
@@ -9,13 +12,22 @@ import java.util.UUID;
 public class DeleteBookFeatureUseCase {
 
     private final BookFeatureRepository bookFeatureRepository;
+    private final BookVectorIndex bookVectorIndex;
+    private final BookNeighbors bookNeighbors;
+    private final BookVectorCache bookVectorCache;
 
-    public DeleteBookFeatureUseCase(BookFeatureRepository bookFeatureRepository) {
+    public DeleteBookFeatureUseCase(BookFeatureRepository bookFeatureRepository, BookVectorIndex bookVectorIndex, BookNeighbors bookNeighbors, BookVectorCache bookVectorCache) {
         this.bookFeatureRepository = bookFeatureRepository;
+        this.bookVectorIndex = bookVectorIndex;
+        this.bookNeighbors = bookNeighbors;
+        this.bookVectorCache = bookVectorCache;
     }
 
     public void execute(UUID bookId){
         bookFeatureRepository.deleteById(bookId);
+        bookVectorIndex.remove(bookId);
+        bookNeighbors.remove(bookId);
+        bookVectorCache.invalidate(bookId);
     }
 
 }
@@ -2,20 +2,37 @@ package com.vellumhub.recommendation_service.module.book_feature.application.use
 
 import com.vellumhub.recommendation_service.module.book_feature.application.command.UpdateBookFeatureCommand;
 import com.vellumhub.recommendation_service.module.book_feature.domain.exception.BookFeatureNotFoundException;
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookContent;
 import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookFeature;
 import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookFeatureRepository;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookNeighbors;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookVectorCache;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookVectorIndex;
 import com.vellumhub.recommendation_service.module.book_feature.domain.port.EmbeddingBookProvider;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 public class UpdateBookFeatureUseCase {
 
     private final BookFeatureRepository bookFeatureRepository;
     private final EmbeddingBookProvider embeddingBookProvider;
+    private final BookVectorIndex bookVectorIndex;
+    private final BookNeighbors bookNeighbors;
+    private final BookVectorCache bookVectorCache;
 
-    public UpdateBookFeatureUseCase(BookFeatureRepository bookFeatureRepository, EmbeddingBookProvider embeddingBookProvider) {
+    public UpdateBookFeatureUseCase(BookFeatureRepository bookFeatureRepository, EmbeddingBookProvider embeddingBookProvider, BookVectorIndex bookVectorIndex, BookNeighbors bookNeighbors, BookVectorCache bookVectorCache) {
         this.bookFeatureRepository = bookFeatureRepository;
         this.embeddingBookProvider = embeddingBookProvider;
+        this.bookVectorIndex = bookVectorIndex;
+        this.bookNeighbors = bookNeighbors;
+        this.bookVectorCache = bookVectorCache;
     }
 
     public void execute(UpdateBookFeatureCommand command){
@@ -32,6 +49,46 @@ public class UpdateBookFeatureUseCase {
         bookFeature.updateEmbedding(vectors);
 
         bookFeatureRepository.save(bookFeature);
+        bookVectorIndex.upsert(bookFeature.getBookId(), bookFeature.getEmbedding(), bookFeature.getPopularityScore());
+        bookNeighbors.refresh(List.of(command.bookId()));
+        bookVectorCache.invalidate(command.bookId());
+    }
+
+    /**
+     * Re-embeds several books with one lookup, one embedding call and one batched save.
+     * Fails the whole batch when any book has no feature yet.
+     */
+    @Transactional
+    public void executeAll(List<UpdateBookFeatureCommand> commands) {
+        Map<UUID, BookFeature> bookFeatures = bookFeatureRepository.findAllById(commands.stream()
+                        .map(UpdateBookFeatureCommand::bookId)
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(BookFeature::getBookId, Function.identity()));
+
+        commands.stream()
+                .map(UpdateBookFeatureCommand::bookId)
+                .filter(bookId -> !bookFeatures.containsKey(bookId))
+                .findFirst()
+                .ifPresent(missing -> {
+                    throw new BookFeatureNotFoundException(missing.toString());
+                });
+
+        List<float[]> vectors = embeddingBookProvider.ofAll(commands.stream()
+                .map(command -> new BookContent(command.title(), command.author(), command.description(), command.genres()))
+                .toList());
+
+        for (int i = 0; i < commands.size(); i++) {
+            bookFeatures.get(commands.get(i).bookId()).updateEmbedding(vectors.get(i));
+        }
+
+        List<BookFeature> updated = List.copyOf(bookFeatures.values());
+        bookFeatureRepository.saveAll(updated);
+        updated.forEach(bookFeature ->
+                bookVectorIndex.upsert(bookFeature.getBookId(), bookFeature.getEmbedding(), bookFeature.getPopularityScore()));
+        bookNeighbors.refresh(bookFeatures.keySet());
+        bookFeatures.keySet().forEach(bookVectorCache::invalidate);
     }
 
 }
@@ -0,0 +1,14 @@
+package com.vellumhub.recommendation_service.module.book_feature.domain.model;
+
+import java.util.List;
+
+/**
+ * Textual attributes of a book that feed its embedding.
+ */
+public record BookContent(
+        String title,
+        String author,
+        String description,
+        List<String> genres
+) {
+}
@@ -0,0 +1,13 @@
+package com.vellumhub.recommendation_service.module.book_feature.domain.model;
+
+import java.util.UUID;
+
+/**
+ * A book returned by a nearest-neighbour search, with its cosine distance to the query vector.
+ */
+public record BookVectorMatch(
+        UUID bookId,
+        float distance,
+        double popularityScore
+) {
+}
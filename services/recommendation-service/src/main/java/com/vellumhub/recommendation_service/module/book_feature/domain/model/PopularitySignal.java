@@ -0,0 +1,42 @@
+package com.vellumhub.recommendation_service.module.book_feature.domain.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One engagement event counted towards a book's popularity, weighted by how strong an interest it shows.
+ * Negative feedback carries no weight: it is engagement, but it should not push a book up the cold-start list.
+ */
+public record PopularitySignal(
+        UUID bookId,
+        double weight,
+        Instant occurredAt
+) {
+
+    public static PopularitySignal rating(UUID bookId, int stars, Instant occurredAt) {
+        return new PopularitySignal(bookId, Math.clamp(stars, 0, 5) / 5.0, occurredAt);
+    }
+
+    public static PopularitySignal reaction(UUID bookId, String reactionType, Instant occurredAt) {
+        double weight = switch (reactionType == null ? "" : reactionType) {
+            case "VERY_POSITIVE" -> 1.0;
+            case "POSITIVE" -> 0.5;
+            default -> 0.0;
+        };
+        return new PopularitySignal(bookId, weight, occurredAt);
+    }
+
+    public static PopularitySignal progress(UUID bookId, String progress, Instant occurredAt) {
+        double weight = switch (progress == null ? "" : progress) {
+            case "WANT_TO_READ" -> 0.5;
+            case "READING" -> 0.25;
+            case "COMPLETED" -> 1.0;
+            default -> 0.0;
+        };
+        return new PopularitySignal(bookId, weight, occurredAt);
+    }
+
+    public boolean counts() {
+        return bookId != null && weight > 0;
+    }
+}
@@ -1,20 +1,36 @@
 package com.vellumhub.recommendation_service.module.book_feature.domain.port;
 
 import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookFeature;
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookVectorMatch;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.InteractedBookFilter;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface BookFeatureRepository {
+
+    /**
+     * Saves and flushes the feature, so SQL run later in the same transaction sees its embedding.
+     */
     void save(BookFeature bookFeature);
 
+    /**
+     * Saves and flushes the features, so SQL run later in the same transaction sees their embeddings.
+     */
+    void saveAll(List<BookFeature> bookFeatures);
+
     void deleteById(UUID uuid);
 
-    List<UUID> findAllByUserId(UUID userId, int limit, int offset);
+    /**
+     * Returns the nearest books to the user's profile vector outside {@code interacted}, in distance order.
+     */
+    List<BookVectorMatch> findVectorCandidates(UUID userId, InteractedBookFilter interacted);
 
     Optional<BookFeature> findById(UUID uuid);
 
+    List<BookFeature> findAllById(List<UUID> ids);
+
     List<UUID> findMostPopularMedias(int limit, int offset);
 
 }
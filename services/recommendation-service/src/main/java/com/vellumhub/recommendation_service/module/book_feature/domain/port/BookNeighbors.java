@@ -0,0 +1,34 @@
+package com.vellumhub.recommendation_service.module.book_feature.domain.port;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Precomputed nearest neighbours of each book by embedding distance.
+ */
+public interface BookNeighbors {
+
+    /**
+     * Returns up to {@code limit} neighbours of the book, nearest first. The list is empty when none were
+     * computed for the book yet.
+     */
+    List<UUID> find(UUID bookId, int limit);
+
+    /**
+     * Recomputes the neighbours of the given books from their stored embeddings and adds them to the
+     * existing lists of books they are now among the nearest of. Other books' lists are re-ranked but never
+     * shrink, and refreshing the same book concurrently is safe.
+     */
+    void refresh(Collection<UUID> bookIds);
+
+    /**
+     * Drops the book's own list and its entries in other lists.
+     */
+    void remove(UUID bookId);
+
+    /**
+     * Number of neighbours kept per book.
+     */
+    int size();
+}
@@ -0,0 +1,33 @@
+package com.vellumhub.recommendation_service.module.book_feature.domain.port;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read-through cache of book embeddings by book ID, so profile learning does not reload the vectors of
+ * hot books from {@code book_features} for every engagement event.
+ */
+public interface BookVectorCache {
+
+    /**
+     * Returns the book's embedding, loading it on a miss.
+     *
+     * @return the embedding, or empty when the book has no features yet
+     */
+    Optional<float[]> get(UUID bookId);
+
+    /**
+     * Bulk form of {@link #get}: misses are loaded with one query. Books without features are left out.
+     */
+    Map<UUID, float[]> getAll(Collection<UUID> bookIds);
+
+    /**
+     * Drops the book's embedding after it was re-embedded or deleted.
+     */
+    void invalidate(UUID bookId);
+
+    void invalidateAll();
+
+}
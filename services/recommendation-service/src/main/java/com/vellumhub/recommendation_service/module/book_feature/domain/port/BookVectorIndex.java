@@ -0,0 +1,39 @@
+package com.vellumhub.recommendation_service.module.book_feature.domain.port;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookVectorMatch;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * In-process nearest-neighbour index over book embeddings, kept in sync with {@code book_features}.
+ */
+public interface BookVectorIndex {
+
+    void upsert(UUID bookId, float[] embedding, double popularityScore);
+
+    void remove(UUID bookId);
+
+    /**
+     * Replaces the popularity used to re-rank matches. Books that are not indexed are ignored.
+     */
+    void updatePopularity(Map<UUID, Double> popularityScores);
+
+    /**
+     * Returns up to {@code limit} books closest to the query vector, ordered by ascending cosine distance.
+     *
+     * @param query           the vector to search around
+     * @param limit           maximum number of matches to return
+     * @param excluded        books that must not appear in the result; callers over-fetch through
+     *                        {@code limit} when they expect many exclusions near the query
+     */
+    List<BookVectorMatch> search(float[] query, int limit, Predicate<UUID> excluded);
+
+    /**
+     * Whether the index has finished loading and can serve searches.
+     */
+    boolean isReady();
+
+}
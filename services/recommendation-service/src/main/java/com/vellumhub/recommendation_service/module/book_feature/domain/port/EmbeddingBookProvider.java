@@ -1,9 +1,16 @@
 package com.vellumhub.recommendation_service.module.book_feature.domain.port;
 
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookContent;
+
 import java.util.List;
 
 public interface EmbeddingBookProvider {
 
     float[] of(String title, String author, String description, List<String> genres);
 
+    /**
+     * Embeds several books in one model call. Vectors are returned in the order of {@code books}.
+     */
+    List<float[]> ofAll(List<BookContent> books);
+
 }
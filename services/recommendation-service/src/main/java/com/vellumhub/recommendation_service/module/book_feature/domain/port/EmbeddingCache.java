@@ -0,0 +1,34 @@
+package com.vellumhub.recommendation_service.module.book_feature.domain.port;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Content-addressed store of book embeddings, keyed by a hash of the model ID and the exact text that was
+ * embedded.
+ */
+public interface EmbeddingCache {
+
+    /**
+     * Looks up the embedding previously computed for the given content hash.
+     *
+     * @param contentHash hex-encoded hash of the embedded text
+     * @return the cached vector, or empty when the text has never been embedded
+     */
+    Optional<float[]> get(String contentHash);
+
+    void put(String contentHash, float[] embedding);
+
+    /**
+     * Stores several embeddings with one write that joins the caller's transaction, if any. Hashes that are
+     * already stored keep their vector.
+     */
+    void putAll(Map<String, float[]> embeddings);
+
+    /**
+     * Deletes the persisted entries created before {@code cutoff} and returns how many were removed.
+     */
+    int removeCreatedBefore(Instant cutoff);
+
+}
@@ -0,0 +1,13 @@
+package com.vellumhub.recommendation_service.module.book_feature.domain.port;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.PopularitySignal;
+
+/**
+ * Accumulates engagement signals into {@code book_features.popularity_score}. Recording is in-memory and
+ * cheap; scores are written in the background.
+ */
+public interface PopularityAggregator {
+
+    void record(PopularitySignal signal);
+
+}
@@ -0,0 +1,114 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookFeature;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookFeatureRepository;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookVectorCache;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * {@link BookVectorCache} holding bare {@code float[]} embeddings in Caffeine, bounded by their estimated
+ * heap footprint rather than by entry count.
+ * <p>
+ * Only the vector is kept, not the {@link BookFeature} entity, so an entry costs the array plus a fixed
+ * overhead and popularity changes never make it stale. Books without features are not cached, so a book
+ * created after a miss is found on the next lookup. Invalidation only reaches the local instance, so entries
+ * also expire {@code ttl} after they were loaded, which bounds how long another replica's embedding update or
+ * a re-embedding promotion stays unseen here.
+ * </p>
+ */
+@Component
+public class CaffeineBookVectorCache implements BookVectorCache {
+
+    /**
+     * UUID key, array header and cache node, measured roughly on a 64-bit JVM with compressed oops.
+     */
+    static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final Cache<UUID, float[]> cache;
+    private final BookFeatureRepository bookFeatureRepository;
+    private final VellumHubMetrics metrics;
+
+    public CaffeineBookVectorCache(
+            @Value("${recommendation.book-vector-cache.maximum-size:64MB}") DataSize maximumSize,
+            @Value("${recommendation.book-vector-cache.ttl:PT5M}") Duration ttl,
+            BookFeatureRepository bookFeatureRepository,
+            VellumHubMetrics metrics
+    ) {
+        this.bookFeatureRepository = bookFeatureRepository;
+        this.metrics = metrics;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumSize.toBytes())
+                .weigher((UUID bookId, float[] embedding) -> weight(embedding))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .executor(Runnable::run)
+                .build();
+
+        metrics.registerGauge(VellumHubMetrics.BOOK_VECTOR_CACHE_SIZE, cache, Cache::estimatedSize);
+        metrics.registerGauge(VellumHubMetrics.BOOK_VECTOR_CACHE_BYTES, cache,
+                c -> c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L));
+        metrics.registerGauge(VellumHubMetrics.BOOK_VECTOR_CACHE_HIT_RATIO, cache, c -> c.stats().hitRate());
+    }
+
+    @Override
+    public Optional<float[]> get(UUID bookId) {
+        boolean[] loaded = {false};
+        float[] embedding = cache.get(bookId, id -> {
+            loaded[0] = true;
+            return bookFeatureRepository.findById(id).map(BookFeature::getEmbedding).orElse(null);
+        });
+
+        metrics.recordBookVectorCacheLookups(loaded[0] ? 0 : 1, loaded[0] ? 1 : 0);
+        return Optional.ofNullable(embedding).map(float[]::clone);
+    }
+
+    @Override
+    public Map<UUID, float[]> getAll(Collection<UUID> bookIds) {
+        Set<UUID> distinct = Set.copyOf(bookIds);
+        int[] misses = {0};
+        Map<UUID, float[]> embeddings = cache.getAll(distinct, missing -> {
+            misses[0] = missing.size();
+            return load(missing);
+        });
+
+        metrics.recordBookVectorCacheLookups(distinct.size() - misses[0], misses[0]);
+        Map<UUID, float[]> copies = new HashMap<>(embeddings.size());
+        embeddings.forEach((bookId, embedding) -> copies.put(bookId, embedding.clone()));
+        return copies;
+    }
+
+    @Override
+    public void invalidate(UUID bookId) {
+        cache.invalidate(bookId);
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private Map<UUID, float[]> load(Set<? extends UUID> bookIds) {
+        Map<UUID, float[]> embeddings = new HashMap<>(bookIds.size());
+        bookFeatureRepository.findAllById(List.copyOf(bookIds))
+                .forEach(bookFeature -> embeddings.put(bookFeature.getBookId(), bookFeature.getEmbedding()));
+        return embeddings;
+    }
+
+    private static int weight(float[] embedding) {
+        return ENTRY_OVERHEAD_BYTES + Float.BYTES * embedding.length;
+    }
+}
@@ -1,12 +1,26 @@
 package com.vellumhub.recommendation_service.module.book_feature.infrastructure.embedding;
 
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookContent;
 import com.vellumhub.recommendation_service.module.book_feature.domain.port.EmbeddingBookProvider;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.EmbeddingCache;
+import com.vellumhub.recommendation_service.share.math.VectorMath;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Component
@@ -15,40 +29,100 @@ public class LangChain4jEmbeddingBookProvider implements EmbeddingBookProvider {
     private static final int MAX_DESCRIPTION_LENGTH = 2000;
 
     private final EmbeddingModel embeddingModel;
-
-    public LangChain4jEmbeddingBookProvider(EmbeddingModel embeddingModel) {
+    private final EmbeddingCache embeddingCache;
+
+    /**
+     * Part of every cache key, so vectors from a different model are never reused.
+     */
+    private final String modelId;
+
+    public LangChain4jEmbeddingBookProvider(
+            EmbeddingModel embeddingModel,
+            EmbeddingCache embeddingCache,
+            @Value("${recommendation.embedding.model-id:all-minilm-l6-v2}") String modelId
+    ) {
         this.embeddingModel = embeddingModel;
+        this.embeddingCache = embeddingCache;
+        this.modelId = modelId;
     }
 
     @Override
     public float[] of(String title, String author, String description, List<String> genres) {
 
         String semanticContent = buildSemanticContent(title, author, description, genres);
+        String contentHash = contentHash(semanticContent);
+
+        Optional<float[]> cached = embeddingCache.get(contentHash);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
 
         var rawVectors = embeddingModel
                 .embed(semanticContent)
                 .content()
                 .vector();
 
-        return normalizeVectors(rawVectors);
+        float[] vectors = VectorMath.normalized(rawVectors);
+        embeddingCache.put(contentHash, vectors);
+        return vectors;
     }
 
-    private float[] normalizeVectors(float[] rawVectors) {
-        double sumSqrs = 0.0;
-        for (float value : rawVectors) {
-            sumSqrs += value * value;
+    @Override
+    public List<float[]> ofAll(List<BookContent> books) {
+        if (books.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> contentHashes = new ArrayList<>(books.size());
+        Map<String, String> missingContent = new LinkedHashMap<>();
+        Map<String, float[]> vectorsByHash = new LinkedHashMap<>();
+
+        for (BookContent book : books) {
+            String semanticContent = buildSemanticContent(book.title(), book.author(), book.description(), book.genres());
+            String contentHash = contentHash(semanticContent);
+            contentHashes.add(contentHash);
+
+            if (vectorsByHash.containsKey(contentHash) || missingContent.containsKey(contentHash)) {
+                continue;
+            }
+            embeddingCache.get(contentHash).ifPresentOrElse(
+                    vectors -> vectorsByHash.put(contentHash, vectors),
+                    () -> missingContent.put(contentHash, semanticContent)
+            );
         }
-        double magnitude = Math.sqrt(sumSqrs);
 
-        if (magnitude < 1e-9) {
-            return rawVectors;
+        if (!missingContent.isEmpty()) {
+            List<TextSegment> segments = missingContent.values().stream()
+                    .map(TextSegment::from)
+                    .toList();
+
+            List<Embedding> embeddings = embeddingModel.embedAll(segments).content();
+            if (embeddings.size() != segments.size()) {
+                throw new IllegalStateException("Embedding model returned " + embeddings.size() + " vectors for " + segments.size() + " books");
+            }
+
+            Map<String, float[]> computed = new LinkedHashMap<>();
+            int index = 0;
+            for (String contentHash : missingContent.keySet()) {
+                computed.put(contentHash, VectorMath.normalized(embeddings.get(index++).vector()));
+            }
+            embeddingCache.putAll(computed);
+            vectorsByHash.putAll(computed);
         }
 
-        float[] normalizedVectors = new float[rawVectors.length];
-        for (int i = 0; i < rawVectors.length; i++) {
-            normalizedVectors[i] = (float) (rawVectors[i] / magnitude);
+        return contentHashes.stream()
+                .map(contentHash -> vectorsByHash.get(contentHash).clone())
+                .toList();
+    }
+
+    private String contentHash(String semanticContent) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((modelId + "\n" + semanticContent).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
         }
-        return normalizedVectors;
     }
 
     private String buildSemanticContent(String title, String author, String description, List<String> genres) {
@@ -0,0 +1,36 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.embedding.cache;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "book_embedding_cache")
+@Getter
+@NoArgsConstructor
+public class BookEmbeddingCacheEntry {
+
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @JdbcTypeCode(SqlTypes.VECTOR)
+    @Column(name = "embedding", columnDefinition = "vector(384)", nullable = false)
+    private float[] embedding;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public BookEmbeddingCacheEntry(String contentHash, float[] embedding) {
+        this.contentHash = contentHash;
+        this.embedding = embedding;
+        this.createdAt = Instant.now();
+    }
+}
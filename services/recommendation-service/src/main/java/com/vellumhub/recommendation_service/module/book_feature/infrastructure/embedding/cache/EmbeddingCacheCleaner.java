@@ -0,0 +1,77 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.embedding.cache;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.EmbeddingCache;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deletes persisted {@link EmbeddingCache} entries older than {@code retention} on a fixed delay, so vectors
+ * of retired models and of book texts that no longer exist do not pile up. A deleted entry that is still
+ * needed is recomputed once on its next miss.
+ */
+@Component
+@Slf4j
+public class EmbeddingCacheCleaner {
+
+    private final EmbeddingCache embeddingCache;
+    private final Duration retention;
+    private final Duration cleanupInterval;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "embedding-cache-cleanup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public EmbeddingCacheCleaner(
+            EmbeddingCache embeddingCache,
+            @Value("${recommendation.embedding-cache.retention:P90D}") Duration retention,
+            @Value("${recommendation.embedding-cache.cleanup-interval:PT6H}") Duration cleanupInterval
+    ) {
+        if (retention.isZero() || retention.isNegative() || cleanupInterval.isZero() || cleanupInterval.isNegative()) {
+            throw new IllegalArgumentException("recommendation.embedding-cache durations must be positive");
+        }
+        this.embeddingCache = embeddingCache;
+        this.retention = retention;
+        this.cleanupInterval = cleanupInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::cleanUpQuietly, cleanupInterval.toMillis(), cleanupInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Deletes the entries that outlived the retention as of {@code now} and returns how many were removed.
+     */
+    int cleanUp(Instant now) {
+        int removed = embeddingCache.removeCreatedBefore(now.minus(retention));
+        if (removed > 0) {
+            log.info("Expired book embedding cache entries removed. operation=book_embedding_cache_cleanup, removed={}", removed);
+        }
+        return removed;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void cleanUpQuietly() {
+        try {
+            cleanUp(Instant.now());
+        } catch (RuntimeException ex) {
+            log.warn("Book embedding cache cleanup failed. operation=book_embedding_cache_cleanup, error={}", ex.getMessage());
+        }
+    }
+}
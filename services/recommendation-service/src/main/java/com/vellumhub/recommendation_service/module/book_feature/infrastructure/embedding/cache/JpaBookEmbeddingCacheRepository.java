@@ -0,0 +1,8 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.embedding.cache;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JpaBookEmbeddingCacheRepository extends JpaRepository<BookEmbeddingCacheEntry, String> {
+}
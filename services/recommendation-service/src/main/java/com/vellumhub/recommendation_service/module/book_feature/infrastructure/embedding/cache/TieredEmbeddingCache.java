@@ -0,0 +1,104 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.embedding.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.EmbeddingCache;
+import com.vellumhub.recommendation_service.share.math.VectorMath;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@link EmbeddingCache} with an LRU tier in memory and a persistent tier in {@code book_embedding_cache}.
+ * <p>
+ * Persistent reads are promoted into memory. Persistent writes are one batched
+ * {@code INSERT ... ON CONFLICT DO NOTHING} on the caller's connection, so a concurrent writer of the same
+ * hash never fails the caller and a batch of misses does not open a transaction per book. Persisted entries
+ * are deleted by {@link EmbeddingCacheCleaner} once they are older than the configured retention.
+ * </p>
+ */
+@Component
+public class TieredEmbeddingCache implements EmbeddingCache {
+
+    private static final String OPERATION = "book_embedding_cache";
+
+    private static final String INSERT_ENTRY = """
+            INSERT INTO book_embedding_cache (content_hash, embedding, created_at)
+            VALUES (?, CAST(? AS vector), ?)
+            ON CONFLICT (content_hash) DO NOTHING
+            """;
+
+    private static final String DELETE_CREATED_BEFORE = """
+            DELETE FROM book_embedding_cache
+            WHERE created_at < ?
+            """;
+
+    private final Cache<String, float[]> memory;
+    private final JpaBookEmbeddingCacheRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+    private final VellumHubMetrics metrics;
+
+    public TieredEmbeddingCache(
+            @Value("${recommendation.embedding-cache.maximum-size:20000}") long maximumSize,
+            JpaBookEmbeddingCacheRepository repository,
+            JdbcTemplate jdbcTemplate,
+            VellumHubMetrics metrics
+    ) {
+        this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.metrics = metrics;
+        this.memory = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .executor(Runnable::run)
+                .build();
+
+        metrics.registerGauge(VellumHubMetrics.EMBEDDING_CACHE_SIZE, memory, Cache::estimatedSize);
+    }
+
+    @Override
+    public Optional<float[]> get(String contentHash) {
+        float[] cached = memory.getIfPresent(contentHash);
+        if (cached != null) {
+            metrics.recordBusinessCounter(VellumHubMetrics.EMBEDDING_CACHE_LOOKUPS, OPERATION, "memory_hit");
+            return Optional.of(cached.clone());
+        }
+
+        Optional<float[]> persisted = repository.findById(contentHash).map(BookEmbeddingCacheEntry::getEmbedding);
+        persisted.ifPresent(embedding -> memory.put(contentHash, embedding.clone()));
+
+        metrics.recordBusinessCounter(VellumHubMetrics.EMBEDDING_CACHE_LOOKUPS, OPERATION, persisted.isPresent() ? "database_hit" : "miss");
+        return persisted;
+    }
+
+    @Override
+    public void put(String contentHash, float[] embedding) {
+        putAll(Map.of(contentHash, embedding));
+    }
+
+    @Override
+    public void putAll(Map<String, float[]> embeddings) {
+        if (embeddings.isEmpty()) {
+            return;
+        }
+        Timestamp createdAt = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(embeddings.size());
+        embeddings.forEach((contentHash, embedding) -> {
+            memory.put(contentHash, embedding.clone());
+            rows.add(new Object[]{contentHash, VectorMath.toLiteral(embedding), createdAt});
+        });
+        jdbcTemplate.batchUpdate(INSERT_ENTRY, rows);
+    }
+
+    @Override
+    public int removeCreatedBefore(Instant cutoff) {
+        return jdbcTemplate.update(DELETE_CREATED_BEFORE, Timestamp.from(cutoff));
+    }
+}
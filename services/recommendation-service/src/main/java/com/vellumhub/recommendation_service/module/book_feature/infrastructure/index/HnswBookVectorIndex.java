@@ -0,0 +1,398 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.index;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookFeature;
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookVectorMatch;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookVectorIndex;
+import com.vellumhub.recommendation_service.module.book_feature.infrastructure.repository.JpaBookFeatureRepository;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import com.vellumhub.recommendation_service.share.math.VectorMath;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * {@link BookVectorIndex} backed by an in-JVM {@link HnswGraph}.
+ * <p>
+ * The graph is loaded from {@code book_features} once the application is ready and then kept current by
+ * the book feature use cases. Their changes are applied once the surrounding transaction commits, so a
+ * rolled-back write never reaches the graph. Only the instance that consumed an event sees it that way, so
+ * every instance also re-reads, on a fixed delay, the books updated, re-scored or deleted since its last
+ * pass, looking back {@code resync-lookback} further to cover commits that landed late and clock skew.
+ * </p>
+ * <p>
+ * Updates re-insert the book and tombstone its previous node; the graph is rebuilt from live nodes once
+ * tombstones outnumber them.
+ * </p>
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "recommendation.candidate-search.mode", havingValue = "hnsw")
+public class HnswBookVectorIndex implements BookVectorIndex {
+
+    private static final int DIMENSIONS = 384;
+    private static final int BOOTSTRAP_PAGE_SIZE = 500;
+    private static final int MIN_NODES_BEFORE_COMPACTION = 1024;
+
+    private final JpaBookFeatureRepository jpaBookFeatureRepository;
+    private final JdbcBookFeatureChanges bookFeatureChanges;
+    private final Duration resyncInterval;
+    private final Duration resyncLookback;
+    private final Duration tombstoneRetention;
+    private final int maxLinks;
+    private final int efConstruction;
+    private final int efSearch;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final Set<UUID> removedDuringBootstrap = new HashSet<>();
+
+    private HnswGraph graph;
+    private UUID[] bookIds = new UUID[0];
+    private double[] popularityScores = new double[0];
+
+    private volatile boolean ready;
+    private boolean bootstrapping;
+    private Instant resyncedAt;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "vector-index-resync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public HnswBookVectorIndex(
+            JpaBookFeatureRepository jpaBookFeatureRepository,
+            JdbcBookFeatureChanges bookFeatureChanges,
+            VellumHubMetrics metrics,
+            @Value("${recommendation.candidate-search.hnsw.max-links:16}") int maxLinks,
+            @Value("${recommendation.candidate-search.hnsw.ef-construction:200}") int efConstruction,
+            @Value("${recommendation.candidate-search.hnsw.ef-search:256}") int efSearch,
+            @Value("${recommendation.candidate-search.hnsw.resync-interval:PT30S}") Duration resyncInterval,
+            @Value("${recommendation.candidate-search.hnsw.resync-lookback:PT1M}") Duration resyncLookback,
+            @Value("${recommendation.candidate-search.hnsw.tombstone-retention:P1D}") Duration tombstoneRetention
+    ) {
+        if (resyncInterval.isZero() || resyncInterval.isNegative()) {
+            throw new IllegalArgumentException("recommendation.candidate-search.hnsw.resync-interval must be positive");
+        }
+        if (resyncLookback.isNegative()) {
+            throw new IllegalArgumentException("recommendation.candidate-search.hnsw.resync-lookback must not be negative");
+        }
+        if (tombstoneRetention.compareTo(resyncInterval.plus(resyncLookback)) <= 0) {
+            throw new IllegalArgumentException(
+                    "recommendation.candidate-search.hnsw.tombstone-retention must exceed resync-interval plus resync-lookback");
+        }
+        this.jpaBookFeatureRepository = jpaBookFeatureRepository;
+        this.bookFeatureChanges = bookFeatureChanges;
+        this.resyncInterval = resyncInterval;
+        this.resyncLookback = resyncLookback;
+        this.tombstoneRetention = tombstoneRetention;
+        this.maxLinks = maxLinks;
+        this.efConstruction = efConstruction;
+        this.efSearch = efSearch;
+        this.graph = newGraph();
+
+        metrics.registerGauge(VellumHubMetrics.VECTOR_INDEX_SIZE, this, HnswBookVectorIndex::liveSize);
+    }
+
+    /**
+     * Loads every persisted book feature into the graph and starts the periodic resync. Books already
+     * touched by an event while the bootstrap was running keep the event's version.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        long startedAt = System.nanoTime();
+        Instant loadedAt = Instant.now();
+        setBootstrapping(true);
+
+        try {
+            Slice<BookFeature> page = jpaBookFeatureRepository.findAll(PageRequest.of(0, BOOTSTRAP_PAGE_SIZE, Sort.by("bookId")));
+            while (true) {
+                loadIfAbsent(page.getContent());
+                if (!page.hasNext()) {
+                    break;
+                }
+                page = jpaBookFeatureRepository.findAll(page.nextPageable());
+            }
+        } finally {
+            setBootstrapping(false);
+        }
+
+        resyncedAt = loadedAt;
+        ready = true;
+        log.info("HNSW book vector index loaded. operation=vector_index_bootstrap, books={}, durationMs={}",
+                liveSize(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+
+        scheduler.scheduleWithFixedDelay(this::resyncQuietly, resyncInterval.toMillis(), resyncInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void upsert(UUID bookId, float[] embedding, double popularityScore) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                removedDuringBootstrap.remove(bookId);
+                insert(bookId, embedding, popularityScore);
+                compactIfNeeded();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    @Override
+    public void remove(UUID bookId) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                delete(bookId);
+                if (bootstrapping) {
+                    removedDuringBootstrap.add(bookId);
+                }
+                compactIfNeeded();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    @Override
+    public void updatePopularity(Map<UUID, Double> popularityScores) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                setPopularity(popularityScores);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Applies the book features written since the previous pass, minus the lookback, and returns how many
+     * books changed in the graph. Vectors that are already indexed are not re-inserted.
+     */
+    int resync(Instant now) {
+        Instant since = resyncedAt.minus(resyncLookback);
+        List<UUID> deleted = bookFeatureChanges.findDeletedSince(since);
+        List<BookFeature> updated = jpaBookFeatureRepository.findByLastUpdatedAfter(since);
+        Map<UUID, Double> rescored = bookFeatureChanges.findPopularityChangedSince(since);
+
+        int changed = 0;
+        lock.writeLock().lock();
+        try {
+            for (UUID bookId : deleted) {
+                if (delete(bookId)) {
+                    changed++;
+                }
+            }
+            for (BookFeature bookFeature : updated) {
+                if (bookFeature.getEmbedding() == null) {
+                    continue;
+                }
+                Integer ordinal = ordinals.get(bookFeature.getBookId());
+                if (ordinal != null && Arrays.equals(graph.vector(ordinal), VectorMath.normalized(bookFeature.getEmbedding()))) {
+                    popularityScores[ordinal] = bookFeature.getPopularityScore();
+                    continue;
+                }
+                insert(bookFeature.getBookId(), bookFeature.getEmbedding(), bookFeature.getPopularityScore());
+                changed++;
+            }
+            setPopularity(rescored);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        resyncedAt = now;
+        bookFeatureChanges.purgeTombstonesBefore(now.minus(tombstoneRetention));
+        if (changed > 0) {
+            log.info("HNSW book vector index resynced. operation=vector_index_resync, changedBooks={}, rescoredBooks={}",
+                    changed,
+                    rescored.size());
+        }
+        return changed;
+    }
+
+    @Override
+    public List<BookVectorMatch> search(float[] query, int limit, Predicate<UUID> excluded) {
+        lock.readLock().lock();
+        try {
+            int ef = Math.max(efSearch, limit);
+            HnswGraph.SearchResult result = graph.search(query, limit, ef, node -> !excluded.test(bookIds[node]));
+
+            List<BookVectorMatch> matches = new ArrayList<>(result.nodes().length);
+            for (int i = 0; i < result.nodes().length; i++) {
+                int node = result.nodes()[i];
+                matches.add(new BookVectorMatch(bookIds[node], result.distances()[i], popularityScores[node]));
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    int liveSize() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void resyncQuietly() {
+        try {
+            resync(Instant.now());
+        } catch (RuntimeException ex) {
+            log.warn("HNSW book vector index resync failed. operation=vector_index_resync, error={}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Runs {@code mutation} once the current transaction commits and drops it on rollback, or right away
+     * when there is no transaction.
+     */
+    private static void afterCommit(Runnable mutation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            mutation.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                mutation.run();
+            }
+        });
+    }
+
+    private boolean delete(UUID bookId) {
+        Integer ordinal = ordinals.remove(bookId);
+        if (ordinal == null) {
+            return false;
+        }
+        graph.markDeleted(ordinal);
+        return true;
+    }
+
+    private void setPopularity(Map<UUID, Double> scores) {
+        scores.forEach((bookId, popularityScore) -> {
+            Integer ordinal = ordinals.get(bookId);
+            if (ordinal != null) {
+                popularityScores[ordinal] = popularityScore;
+            }
+        });
+    }
+
+    private void loadIfAbsent(List<BookFeature> bookFeatures) {
+        lock.writeLock().lock();
+        try {
+            for (BookFeature bookFeature : bookFeatures) {
+                UUID bookId = bookFeature.getBookId();
+                if (bookFeature.getEmbedding() == null || ordinals.containsKey(bookId) || removedDuringBootstrap.contains(bookId)) {
+                    continue;
+                }
+                insert(bookId, bookFeature.getEmbedding(), bookFeature.getPopularityScore());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void insert(UUID bookId, float[] embedding, double popularityScore) {
+        Integer previous = ordinals.remove(bookId);
+        if (previous != null) {
+            graph.markDeleted(previous);
+        }
+
+        int node = graph.add(embedding);
+        ensureAttributeCapacity(node + 1);
+        bookIds[node] = bookId;
+        popularityScores[node] = popularityScore;
+        ordinals.put(bookId, node);
+    }
+
+    /**
+     * Rebuilds the graph from live nodes when tombstones dominate, so deleted books stop costing memory
+     * and search hops.
+     */
+    private void compactIfNeeded() {
+        if (graph.size() < MIN_NODES_BEFORE_COMPACTION || graph.deletedCount() <= ordinals.size()) {
+            return;
+        }
+
+        HnswGraph previousGraph = graph;
+        double[] previousScores = popularityScores;
+        Map<UUID, Integer> live = new HashMap<>(ordinals);
+
+        graph = newGraph();
+        bookIds = new UUID[0];
+        popularityScores = new double[0];
+        ordinals.clear();
+
+        live.forEach((bookId, ordinal) -> insert(bookId, previousGraph.vector(ordinal), previousScores[ordinal]));
+        log.info("HNSW book vector index compacted. operation=vector_index_compaction, liveBooks={}, discardedNodes={}",
+                ordinals.size(),
+                previousGraph.size() - ordinals.size());
+    }
+
+    private void ensureAttributeCapacity(int required) {
+        if (required <= bookIds.length) {
+            return;
+        }
+        int capacity = Math.max(required, Math.max(16, bookIds.length * 2));
+        bookIds = Arrays.copyOf(bookIds, capacity);
+        popularityScores = Arrays.copyOf(popularityScores, capacity);
+    }
+
+    private void setBootstrapping(boolean value) {
+        lock.writeLock().lock();
+        try {
+            bootstrapping = value;
+            if (!value) {
+                removedDuringBootstrap.clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private HnswGraph newGraph() {
+        return new HnswGraph(DIMENSIONS, maxLinks, efConstruction, 42L);
+    }
+}
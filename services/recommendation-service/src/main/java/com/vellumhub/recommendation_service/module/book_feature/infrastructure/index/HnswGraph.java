@@ -0,0 +1,407 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.index;
+
+import com.vellumhub.recommendation_service.share.math.VectorMath;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.SplittableRandom;
+import java.util.function.IntPredicate;
+
+/**
+ * Hierarchical Navigable Small World graph over fixed-size vectors, using cosine distance.
+ * <p>
+ * Nodes are addressed by dense ordinals. Vectors live in one flat {@code float[]} and adjacency lists in
+ * {@code int[]} blocks whose first slot holds the link count, so a search allocates no per-node objects.
+ * Deleted nodes stay in the graph as routing points and are only filtered out of results.
+ * </p>
+ * Not thread-safe: callers must guard writes against concurrent searches.
+ */
+final class HnswGraph {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MAX_LEVEL = 16;
+
+    private final int dimensions;
+    private final int maxLinks;
+    private final int maxLevelZeroLinks;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final SplittableRandom random;
+
+    private float[] vectors;
+    private int[][][] links;
+    private final BitSet deleted = new BitSet();
+
+    private int size;
+    private int deletedCount;
+    private int entryPoint = -1;
+    private int topLevel = -1;
+
+    HnswGraph(int dimensions, int maxLinks, int efConstruction, long seed) {
+        if (dimensions <= 0 || maxLinks < 2 || efConstruction < 1) {
+            throw new IllegalArgumentException("HNSW dimensions, links and efConstruction must be positive");
+        }
+        this.dimensions = dimensions;
+        this.maxLinks = maxLinks;
+        this.maxLevelZeroLinks = maxLinks * 2;
+        this.efConstruction = efConstruction;
+        this.levelMultiplier = 1 / Math.log(maxLinks);
+        this.random = new SplittableRandom(seed);
+        this.vectors = new float[INITIAL_CAPACITY * dimensions];
+        this.links = new int[INITIAL_CAPACITY][][];
+    }
+
+    /**
+     * Inserts a vector and returns its ordinal.
+     */
+    int add(float[] vector) {
+        if (vector == null || vector.length != dimensions) {
+            throw new IllegalArgumentException("Vector must have " + dimensions + " dimensions");
+        }
+
+        int node = size;
+        ensureCapacity(node + 1);
+        normalizeInto(vector, vectors, node * dimensions);
+
+        int level = randomLevel();
+        links[node] = new int[level + 1][];
+        for (int layer = 0; layer <= level; layer++) {
+            links[node][layer] = new int[linkLimit(layer) + 1];
+        }
+        size++;
+
+        if (entryPoint < 0) {
+            entryPoint = node;
+            topLevel = level;
+            return node;
+        }
+
+        float[] query = Arrays.copyOfRange(vectors, node * dimensions, (node + 1) * dimensions);
+        int closest = entryPoint;
+        for (int layer = topLevel; layer > level; layer--) {
+            closest = greedyClosest(query, closest, layer);
+        }
+
+        int[] entryPoints = {closest};
+        for (int layer = Math.min(level, topLevel); layer >= 0; layer--) {
+            long[] nearest = searchLayer(query, entryPoints, efConstruction, layer);
+            int connections = Math.min(maxLinks, nearest.length);
+            for (int i = 0; i < connections; i++) {
+                int neighbour = node(nearest[i]);
+                link(node, neighbour, layer);
+                link(neighbour, node, layer);
+            }
+            entryPoints = nodes(nearest);
+        }
+
+        if (level > topLevel) {
+            topLevel = level;
+            entryPoint = node;
+        }
+        return node;
+    }
+
+    void markDeleted(int node) {
+        if (node >= 0 && node < size && !deleted.get(node)) {
+            deleted.set(node);
+            deletedCount++;
+        }
+    }
+
+    boolean isDeleted(int node) {
+        return deleted.get(node);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int deletedCount() {
+        return deletedCount;
+    }
+
+    /**
+     * Returns up to {@code limit} live nodes accepted by the filter, closest first.
+     *
+     * @param ef size of the dynamic candidate list; larger values trade latency for recall
+     */
+    SearchResult search(float[] query, int limit, int ef, IntPredicate accept) {
+        if (query == null || query.length != dimensions) {
+            throw new IllegalArgumentException("Query must have " + dimensions + " dimensions");
+        }
+        if (entryPoint < 0 || limit <= 0) {
+            return SearchResult.EMPTY;
+        }
+
+        float[] normalizedQuery = new float[dimensions];
+        normalizeInto(query, normalizedQuery, 0);
+
+        int closest = entryPoint;
+        for (int layer = topLevel; layer > 0; layer--) {
+            closest = greedyClosest(normalizedQuery, closest, layer);
+        }
+
+        long[] nearest = searchLayer(normalizedQuery, new int[]{closest}, Math.max(ef, limit), 0);
+
+        int[] nodes = new int[Math.min(limit, nearest.length)];
+        float[] distances = new float[nodes.length];
+        int found = 0;
+        for (int i = 0; i < nearest.length && found < nodes.length; i++) {
+            int node = node(nearest[i]);
+            if (!deleted.get(node) && accept.test(node)) {
+                nodes[found] = node;
+                distances[found] = distance(nearest[i]);
+                found++;
+            }
+        }
+        return new SearchResult(Arrays.copyOf(nodes, found), Arrays.copyOf(distances, found));
+    }
+
+    /**
+     * Copies the normalized vector stored for a node.
+     */
+    float[] vector(int node) {
+        return Arrays.copyOfRange(vectors, node * dimensions, (node + 1) * dimensions);
+    }
+
+    private long[] searchLayer(float[] query, int[] entryPoints, int ef, int layer) {
+        BitSet visited = new BitSet(size);
+        LongHeap candidates = new LongHeap(false, ef + 1);
+        LongHeap results = new LongHeap(true, ef + 1);
+
+        for (int entry : entryPoints) {
+            if (visited.get(entry)) {
+                continue;
+            }
+            visited.set(entry);
+            long encoded = encode(distanceTo(query, entry), entry);
+            candidates.push(encoded);
+            results.push(encoded);
+            if (results.size() > ef) {
+                results.pop();
+            }
+        }
+
+        while (!candidates.isEmpty()) {
+            long candidate = candidates.pop();
+            if (results.size() >= ef && distance(candidate) > distance(results.peek())) {
+                break;
+            }
+
+            int[] neighbours = links[node(candidate)][layer];
+            for (int i = 1; i <= neighbours[0]; i++) {
+                int neighbour = neighbours[i];
+                if (visited.get(neighbour)) {
+                    continue;
+                }
+                visited.set(neighbour);
+
+                float neighbourDistance = distanceTo(query, neighbour);
+                if (results.size() < ef || neighbourDistance < distance(results.peek())) {
+                    long encoded = encode(neighbourDistance, neighbour);
+                    candidates.push(encoded);
+                    results.push(encoded);
+                    if (results.size() > ef) {
+                        results.pop();
+                    }
+                }
+            }
+        }
+
+        long[] ordered = results.toArray();
+        Arrays.sort(ordered);
+        return ordered;
+    }
+
+    private int greedyClosest(float[] query, int start, int layer) {
+        int current = start;
+        float currentDistance = distanceTo(query, current);
+        boolean improved = true;
+
+        while (improved) {
+            improved = false;
+            int[] neighbours = links[current][layer];
+            for (int i = 1; i <= neighbours[0]; i++) {
+                float candidateDistance = distanceTo(query, neighbours[i]);
+                if (candidateDistance < currentDistance) {
+                    current = neighbours[i];
+                    currentDistance = candidateDistance;
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Adds a directed link, replacing the farthest existing neighbour when the list is full.
+     */
+    private void link(int from, int to, int layer) {
+        int[] neighbours = links[from][layer];
+        int count = neighbours[0];
+        for (int i = 1; i <= count; i++) {
+            if (neighbours[i] == to) {
+                return;
+            }
+        }
+
+        if (count < neighbours.length - 1) {
+            neighbours[count + 1] = to;
+            neighbours[0] = count + 1;
+            return;
+        }
+
+        int farthestSlot = -1;
+        float farthestDistance = nodeDistance(from, to);
+        for (int i = 1; i <= count; i++) {
+            float existingDistance = nodeDistance(from, neighbours[i]);
+            if (existingDistance > farthestDistance) {
+                farthestDistance = existingDistance;
+                farthestSlot = i;
+            }
+        }
+        if (farthestSlot > 0) {
+            neighbours[farthestSlot] = to;
+        }
+    }
+
+    private float distanceTo(float[] query, int node) {
+        return clampDistance(1f - VectorMath.dot(query, 0, vectors, node * dimensions, dimensions));
+    }
+
+    private float nodeDistance(int first, int second) {
+        return clampDistance(1f - VectorMath.dot(vectors, first * dimensions, vectors, second * dimensions, dimensions));
+    }
+
+    private int randomLevel() {
+        double uniform = 1.0 - random.nextDouble();
+        return Math.min(MAX_LEVEL, (int) Math.floor(-Math.log(uniform) * levelMultiplier));
+    }
+
+    private int linkLimit(int layer) {
+        return layer == 0 ? maxLevelZeroLinks : maxLinks;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= links.length) {
+            return;
+        }
+        int capacity = Math.max(required, links.length * 2);
+        links = Arrays.copyOf(links, capacity);
+        vectors = Arrays.copyOf(vectors, capacity * dimensions);
+    }
+
+    private void normalizeInto(float[] source, float[] target, int offset) {
+        System.arraycopy(source, 0, target, offset, dimensions);
+        VectorMath.normalizeInPlace(target, offset, dimensions);
+    }
+
+    private static float clampDistance(float distance) {
+        return Math.max(0f, distance);
+    }
+
+    /**
+     * Packs a non-negative distance and a node ordinal into one sortable long: the IEEE bits of a
+     * non-negative float order the same way as the float itself.
+     */
+    private static long encode(float distance, int node) {
+        return ((long) Float.floatToIntBits(distance) << 32) | (node & 0xFFFFFFFFL);
+    }
+
+    private static int node(long encoded) {
+        return (int) encoded;
+    }
+
+    private static float distance(long encoded) {
+        return Float.intBitsToFloat((int) (encoded >>> 32));
+    }
+
+    private static int[] nodes(long[] encoded) {
+        int[] nodes = new int[encoded.length];
+        for (int i = 0; i < encoded.length; i++) {
+            nodes[i] = node(encoded[i]);
+        }
+        return nodes;
+    }
+
+    record SearchResult(int[] nodes, float[] distances) {
+        static final SearchResult EMPTY = new SearchResult(new int[0], new float[0]);
+    }
+
+    /**
+     * Binary heap of primitive longs, ordered as a min-heap or a max-heap.
+     */
+    private static final class LongHeap {
+
+        private final boolean max;
+        private long[] values;
+        private int size;
+
+        LongHeap(boolean max, int capacity) {
+            this.max = max;
+            this.values = new long[Math.max(capacity, 4)];
+        }
+
+        void push(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            int index = size++;
+            values[index] = value;
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!before(values[index], values[parent])) {
+                    break;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        long pop() {
+            long top = values[0];
+            values[0] = values[--size];
+            int index = 0;
+            while (true) {
+                int left = index * 2 + 1;
+                if (left >= size) {
+                    break;
+                }
+                int right = left + 1;
+                int child = right < size && before(values[right], values[left]) ? right : left;
+                if (!before(values[child], values[index])) {
+                    break;
+                }
+                swap(index, child);
+                index = child;
+            }
+            return top;
+        }
+
+        long peek() {
+            return values[0];
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+
+        private boolean before(long first, long second) {
+            return max ? first > second : first < second;
+        }
+
+        private void swap(int first, int second) {
+            long value = values[first];
+            values[first] = values[second];
+            values[second] = value;
+        }
+    }
+}
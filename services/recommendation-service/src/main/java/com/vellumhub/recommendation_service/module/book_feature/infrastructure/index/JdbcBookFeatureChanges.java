@@ -0,0 +1,70 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.index;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Reads the book feature changes that {@link HnswBookVectorIndex} did not necessarily see as events: popularity
+ * flushed by other replicas and books deleted through them. Changed embeddings are read through
+ * {@code last_updated} with the JPA repository.
+ */
+@Repository
+public class JdbcBookFeatureChanges {
+
+    private static final String FIND_POPULARITY_CHANGED_SINCE = """
+            SELECT book_id, popularity_score
+            FROM book_features
+            WHERE popularity_decayed_at > ?
+            """;
+
+    /**
+     * Books deleted and not created again since.
+     */
+    private static final String FIND_DELETED_SINCE = """
+            SELECT t.book_id
+            FROM book_feature_tombstones t
+            WHERE t.deleted_at > ?
+              AND NOT EXISTS (SELECT 1 FROM book_features b WHERE b.book_id = t.book_id)
+            """;
+
+    private static final String PURGE_TOMBSTONES_BEFORE = """
+            DELETE FROM book_feature_tombstones
+            WHERE deleted_at < ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcBookFeatureChanges(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Map<UUID, Double> findPopularityChangedSince(Instant since) {
+        Map<UUID, Double> scores = new HashMap<>();
+        jdbcTemplate.query(
+                FIND_POPULARITY_CHANGED_SINCE,
+                (RowCallbackHandler) resultSet -> scores.put(resultSet.getObject(1, UUID.class), resultSet.getDouble(2)),
+                Timestamp.from(since)
+        );
+        return scores;
+    }
+
+    public List<UUID> findDeletedSince(Instant since) {
+        return jdbcTemplate.query(
+                FIND_DELETED_SINCE,
+                (resultSet, rowNum) -> resultSet.getObject(1, UUID.class),
+                Timestamp.from(since)
+        );
+    }
+
+    public int purgeTombstonesBefore(Instant cutoff) {
+        return jdbcTemplate.update(PURGE_TOMBSTONES_BEFORE, Timestamp.from(cutoff));
+    }
+}
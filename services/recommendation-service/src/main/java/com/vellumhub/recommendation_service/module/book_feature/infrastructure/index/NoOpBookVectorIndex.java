@@ -0,0 +1,41 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.index;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookVectorMatch;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookVectorIndex;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Index used when candidate search runs on pgvector: writes are ignored and it never reports ready.
+ */
+@Component
+@ConditionalOnProperty(name = "recommendation.candidate-search.mode", havingValue = "pgvector", matchIfMissing = true)
+public class NoOpBookVectorIndex implements BookVectorIndex {
+
+    @Override
+    public void upsert(UUID bookId, float[] embedding, double popularityScore) {
+    }
+
+    @Override
+    public void remove(UUID bookId) {
+    }
+
+    @Override
+    public void updatePopularity(Map<UUID, Double> popularityScores) {
+    }
+
+    @Override
+    public List<BookVectorMatch> search(float[] query, int limit, Predicate<UUID> excluded) {
+        return List.of();
+    }
+
+    @Override
+    public boolean isReady() {
+        return false;
+    }
+}
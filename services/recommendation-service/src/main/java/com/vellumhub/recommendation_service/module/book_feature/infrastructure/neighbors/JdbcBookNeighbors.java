@@ -0,0 +1,166 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.neighbors;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookNeighbors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@link BookNeighbors} stored in {@code book_neighbors}, one row per book and neighbour.
+ * <p>
+ * A refresh replaces only the books' own lists with a pgvector nearest-neighbour query each, recomputes the
+ * distance of their entries in other books' lists, then offers every refreshed book to the existing lists of
+ * its new neighbours and trims every touched list back to {@code size} by distance. Other lists never lose
+ * an entry to a refresh. Cosine distance is symmetric, so this catches the lists a new or moved book now
+ * belongs to whenever they are also among its own nearest; lists it would only enter from further away, or
+ * that lose a removed book, stay one entry short of exact until their own book is refreshed. Every write is
+ * an upsert, so the lazy refresh on first read and an event-driven refresh of the same book can overlap.
+ * </p>
+ */
+@Repository
+public class JdbcBookNeighbors implements BookNeighbors {
+
+    private static final String FIND = """
+            SELECT neighbor_book_id
+            FROM book_neighbors
+            WHERE book_id = ?
+            ORDER BY distance
+            LIMIT ?
+            """;
+
+    private static final String DELETE_OWN_LISTS = """
+            DELETE FROM book_neighbors
+            WHERE book_id = ANY(?)
+            """;
+
+    private static final String DELETE_LISTS = """
+            DELETE FROM book_neighbors
+            WHERE book_id = ANY(?) OR neighbor_book_id = ANY(?)
+            """;
+
+    private static final String INSERT_NEAREST = """
+            INSERT INTO book_neighbors (book_id, neighbor_book_id, distance)
+            SELECT t.book_id, n.book_id, n.distance
+            FROM book_features t
+            CROSS JOIN LATERAL (
+                SELECT b.book_id, b.embedding <=> t.embedding AS distance
+                FROM book_features b
+                WHERE b.book_id <> t.book_id
+                  AND b.embedding IS NOT NULL
+                ORDER BY b.embedding <=> t.embedding
+                LIMIT ?
+            ) n
+            WHERE t.book_id = ANY(?)
+              AND t.embedding IS NOT NULL
+            ON CONFLICT (book_id, neighbor_book_id) DO UPDATE
+            SET distance = EXCLUDED.distance
+            """;
+
+    private static final String UPDATE_DISTANCES_IN_OTHER_LISTS = """
+            UPDATE book_neighbors n
+            SET distance = o.embedding <=> t.embedding
+            FROM book_features t, book_features o
+            WHERE n.neighbor_book_id = ANY(?)
+              AND t.book_id = n.neighbor_book_id
+              AND o.book_id = n.book_id
+              AND t.embedding IS NOT NULL
+              AND o.embedding IS NOT NULL
+            """;
+
+    private static final String OFFER_TO_NEIGHBORS = """
+            INSERT INTO book_neighbors (book_id, neighbor_book_id, distance)
+            SELECT n.neighbor_book_id, n.book_id, n.distance
+            FROM book_neighbors n
+            WHERE n.book_id = ANY(?)
+              AND EXISTS (SELECT 1 FROM book_neighbors e WHERE e.book_id = n.neighbor_book_id)
+            ON CONFLICT (book_id, neighbor_book_id) DO UPDATE
+            SET distance = EXCLUDED.distance
+            """;
+
+    private static final String TRIM_NEIGHBORS = """
+            DELETE FROM book_neighbors d
+            USING (
+                SELECT book_id, neighbor_book_id,
+                       row_number() OVER (PARTITION BY book_id ORDER BY distance) AS position
+                FROM book_neighbors
+                WHERE book_id = ANY(?)
+                   OR book_id IN (SELECT neighbor_book_id FROM book_neighbors WHERE book_id = ANY(?))
+            ) ranked
+            WHERE d.book_id = ranked.book_id
+              AND d.neighbor_book_id = ranked.neighbor_book_id
+              AND ranked.position > ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int size;
+
+    public JdbcBookNeighbors(
+            JdbcTemplate jdbcTemplate,
+            @Value("${recommendation.similar-books.neighbors:20}") int size
+    ) {
+        if (size < 1) {
+            throw new IllegalArgumentException("recommendation.similar-books.neighbors must be at least 1");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.size = size;
+    }
+
+    @Override
+    public List<UUID> find(UUID bookId, int limit) {
+        return jdbcTemplate.queryForList(FIND, UUID.class, bookId, Math.min(limit, size));
+    }
+
+    @Override
+    @Transactional
+    public void refresh(Collection<UUID> bookIds) {
+        if (bookIds.isEmpty()) {
+            return;
+        }
+        UUID[] ids = bookIds.toArray(UUID[]::new);
+
+        jdbcTemplate.execute(DELETE_OWN_LISTS, (PreparedStatement statement) -> {
+            statement.setArray(1, statement.getConnection().createArrayOf("uuid", ids));
+            return statement.executeUpdate();
+        });
+        jdbcTemplate.execute(INSERT_NEAREST, (PreparedStatement statement) -> {
+            statement.setInt(1, size);
+            statement.setArray(2, statement.getConnection().createArrayOf("uuid", ids));
+            return statement.executeUpdate();
+        });
+        jdbcTemplate.execute(UPDATE_DISTANCES_IN_OTHER_LISTS, (PreparedStatement statement) -> {
+            statement.setArray(1, statement.getConnection().createArrayOf("uuid", ids));
+            return statement.executeUpdate();
+        });
+        jdbcTemplate.execute(OFFER_TO_NEIGHBORS, (PreparedStatement statement) -> {
+            statement.setArray(1, statement.getConnection().createArrayOf("uuid", ids));
+            return statement.executeUpdate();
+        });
+        jdbcTemplate.execute(TRIM_NEIGHBORS, (PreparedStatement statement) -> {
+            statement.setArray(1, statement.getConnection().createArrayOf("uuid", ids));
+            statement.setArray(2, statement.getConnection().createArrayOf("uuid", ids));
+            statement.setInt(3, size);
+            return statement.executeUpdate();
+        });
+    }
+
+    @Override
+    public void remove(UUID bookId) {
+        UUID[] ids = {bookId};
+        jdbcTemplate.execute(DELETE_LISTS, (PreparedStatement statement) -> {
+            statement.setArray(1, statement.getConnection().createArrayOf("uuid", ids));
+            statement.setArray(2, statement.getConnection().createArrayOf("uuid", ids));
+            return statement.executeUpdate();
+        });
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,246 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.popularity;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.PopularitySignal;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookVectorIndex;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.PopularityAggregator;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PopularityAggregator} that keeps a time-decayed delta per book in memory and periodically adds
+ * the deltas to {@code book_features} in chunked set-based statements.
+ * <p>
+ * Each delta is decayed from the event's own timestamp, so replayed or late events weigh what they would
+ * have weighed live. A slower sweep decays books that received no signal, keeping cold-start order fresh.
+ * Rescored books are pushed to the {@link BookVectorIndex} so in-process re-ranking sees the same values.
+ * Deltas that fail to flush are put back and retried on the next run; deltas still in memory when the
+ * process dies are lost, which bounds the loss to one flush interval of engagement.
+ * </p>
+ */
+@Component
+@Slf4j
+public class DecayingPopularityAggregator implements PopularityAggregator {
+
+    private static final String FLUSH_OPERATION = "popularity_flush";
+    private static final String DECAY_OPERATION = "popularity_decay";
+
+    private final JdbcBookPopularityRepository popularityRepository;
+    private final BookVectorIndex bookVectorIndex;
+    private final PopularityDecay decay;
+    private final VellumHubMetrics metrics;
+    private final Duration flushInterval;
+    private final Duration decayInterval;
+    private final int batchSize;
+
+    private final ConcurrentHashMap<UUID, PendingSignal> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "popularity-aggregator");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public DecayingPopularityAggregator(
+            JdbcBookPopularityRepository popularityRepository,
+            BookVectorIndex bookVectorIndex,
+            PopularityDecay decay,
+            VellumHubMetrics metrics,
+            @Value("${recommendation.popularity.flush-interval:PT30S}") Duration flushInterval,
+            @Value("${recommendation.popularity.decay-interval:PT1H}") Duration decayInterval,
+            @Value("${recommendation.popularity.batch-size:500}") int batchSize
+    ) {
+        if (flushInterval.isZero() || flushInterval.isNegative() || decayInterval.isZero() || decayInterval.isNegative()) {
+            throw new IllegalArgumentException("recommendation.popularity flush and decay intervals must be positive");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("recommendation.popularity.batch-size must be at least 1");
+        }
+        this.popularityRepository = popularityRepository;
+        this.bookVectorIndex = bookVectorIndex;
+        this.decay = decay;
+        this.metrics = metrics;
+        this.flushInterval = flushInterval;
+        this.decayInterval = decayInterval;
+        this.batchSize = batchSize;
+
+        metrics.registerGauge(VellumHubMetrics.POPULARITY_PENDING_BOOKS, pending, Map::size);
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::decayQuietly, decayInterval.toMillis(), decayInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void record(PopularitySignal signal) {
+        if (!signal.counts()) {
+            return;
+        }
+        long occurredAt = signal.occurredAt() == null ? System.currentTimeMillis() : signal.occurredAt().toEpochMilli();
+        pending.compute(signal.bookId(), (bookId, current) -> {
+            PendingSignal next = current == null ? new PendingSignal(occurredAt) : current;
+            next.add(signal.weight(), occurredAt, decay);
+            return next;
+        });
+    }
+
+    /**
+     * Writes every pending delta, decayed to {@code now}. Returns the number of books rescored.
+     */
+    int flush(Instant now) {
+        Map<UUID, Double> deltas = drain(now.toEpochMilli());
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        int rescored = 0;
+        for (Map<UUID, Double> chunk : chunks(deltas)) {
+            Timer.Sample sample = metrics.startBusinessTimer();
+            try {
+                Map<UUID, Double> scores = popularityRepository.addSignals(chunk, now);
+                bookVectorIndex.updatePopularity(scores);
+                rescored += scores.size();
+                metrics.recordPopularityWrite(sample, FLUSH_OPERATION, scores.size(), "success");
+            } catch (RuntimeException ex) {
+                chunk.forEach((bookId, delta) -> restore(bookId, delta, now.toEpochMilli()));
+                metrics.recordPopularityWrite(sample, FLUSH_OPERATION, 0, "failure");
+                log.warn("Popularity flush failed, keeping signals for the next run. operation=popularity_flush, books={}, error={}",
+                        chunk.size(),
+                        ex.getMessage());
+            }
+        }
+        return rescored;
+    }
+
+    /**
+     * Decays the persisted signal of every book up to {@code now}. Returns the number of books rescored.
+     */
+    int decayAll(Instant now) {
+        Timer.Sample sample = metrics.startBusinessTimer();
+        try {
+            Map<UUID, Double> scores = popularityRepository.decayAll(now);
+            bookVectorIndex.updatePopularity(scores);
+            metrics.recordPopularityWrite(sample, DECAY_OPERATION, scores.size(), "success");
+            return scores.size();
+        } catch (RuntimeException ex) {
+            metrics.recordPopularityWrite(sample, DECAY_OPERATION, 0, "failure");
+            throw ex;
+        }
+    }
+
+    /**
+     * Stops the schedule and writes what is still pending.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        scheduler.shutdown();
+        if (!scheduler.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Popularity aggregator did not stop in time. operation=popularity_shutdown");
+        }
+        flushQuietly();
+    }
+
+    private void flushQuietly() {
+        try {
+            int rescored = flush(Instant.now());
+            if (rescored > 0) {
+                log.debug("Popularity signals flushed. operation=popularity_flush, books={}", rescored);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Popularity flush failed. operation=popularity_flush, error={}", ex.getMessage());
+        }
+    }
+
+    private void decayQuietly() {
+        try {
+            int rescored = decayAll(Instant.now());
+            log.info("Popularity decayed. operation=popularity_decay, books={}", rescored);
+        } catch (RuntimeException ex) {
+            log.warn("Popularity decay failed. operation=popularity_decay, error={}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Removes each pending entry atomically, so a signal recorded concurrently lands in a fresh entry for
+     * the next flush instead of being lost.
+     */
+    private Map<UUID, Double> drain(long nowMillis) {
+        Map<UUID, Double> deltas = new HashMap<>();
+        for (UUID bookId : pending.keySet()) {
+            PendingSignal signal = pending.remove(bookId);
+            if (signal != null) {
+                deltas.put(bookId, signal.valueAt(nowMillis, decay));
+            }
+        }
+        return deltas;
+    }
+
+    private void restore(UUID bookId, double delta, long atMillis) {
+        pending.compute(bookId, (id, current) -> {
+            PendingSignal next = current == null ? new PendingSignal(atMillis) : current;
+            next.add(delta, atMillis, decay);
+            return next;
+        });
+    }
+
+    private List<Map<UUID, Double>> chunks(Map<UUID, Double> deltas) {
+        List<Map<UUID, Double>> chunks = new ArrayList<>();
+        Map<UUID, Double> chunk = new LinkedHashMap<>();
+        for (Map.Entry<UUID, Double> delta : deltas.entrySet()) {
+            chunk.put(delta.getKey(), delta.getValue());
+            if (chunk.size() == batchSize) {
+                chunks.add(chunk);
+                chunk = new LinkedHashMap<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    /**
+     * Decayed weight of one book, anchored at the newest event seen. Only touched inside
+     * {@link ConcurrentHashMap#compute} or after removal from the map.
+     */
+    private static final class PendingSignal {
+
+        private double value;
+        private long anchorMillis;
+
+        private PendingSignal(long anchorMillis) {
+            this.anchorMillis = anchorMillis;
+        }
+
+        private void add(double weight, long atMillis, PopularityDecay decay) {
+            if (atMillis >= anchorMillis) {
+                value = value * decay.factor(atMillis - anchorMillis) + weight;
+                anchorMillis = atMillis;
+            } else {
+                value += weight * decay.factor(anchorMillis - atMillis);
+            }
+        }
+
+        private double valueAt(long nowMillis, PopularityDecay decay) {
+            return value * decay.factor(nowMillis - anchorMillis);
+        }
+    }
+}
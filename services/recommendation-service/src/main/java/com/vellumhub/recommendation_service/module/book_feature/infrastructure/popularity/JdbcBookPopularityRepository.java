@@ -0,0 +1,130 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.popularity;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Set-based writes of {@code book_features.popularity_signal} and the {@code popularity_score} derived from it.
+ * <p>
+ * The stored signal is decayed up to {@code popularity_decayed_at} only; each statement first brings it to
+ * the write time and then adds the new weight, so instances flushing independently compose correctly.
+ * Signals below {@value #MIN_SIGNAL} are stored as zero, which keeps PostgreSQL's float arithmetic away
+ * from underflow and lets the sweep skip books that went quiet.
+ * </p>
+ */
+@Repository
+public class JdbcBookPopularityRepository {
+
+    private static final double MIN_SIGNAL = 1e-6;
+
+    private static final String PARAMS = """
+            WITH params AS (
+                SELECT CAST(? AS double precision) AS rate,
+                       CAST(? AS timestamptz) AS decayed_at,
+                       CAST(? AS double precision) AS saturation
+            )
+            """;
+
+    private static final String DECAYED_SIGNAL = """
+            b.popularity_signal * exp(-LEAST(p.rate * GREATEST(
+                CAST(EXTRACT(EPOCH FROM (p.decayed_at - b.popularity_decayed_at)) AS double precision), 0), 700))""";
+
+    private static final String APPLY = """
+            UPDATE book_features b
+            SET popularity_signal = n.signal,
+                popularity_score = 1 - exp(-LEAST(n.signal / p.saturation, 700)),
+                popularity_decayed_at = GREATEST(b.popularity_decayed_at, p.decayed_at)
+            FROM rescored n, params p
+            WHERE b.book_id = n.book_id
+            RETURNING b.book_id, b.popularity_score
+            """;
+
+    private static final String ADD_SIGNALS = PARAMS + """
+            , deltas AS (
+                SELECT * FROM unnest(CAST(? AS uuid[]), CAST(? AS double precision[])) AS d(book_id, delta)
+            ), rescored AS (
+                SELECT b.book_id,
+                       CASE WHEN decayed.signal + d.delta < %1$s THEN 0 ELSE decayed.signal + d.delta END AS signal
+                FROM book_features b
+                JOIN deltas d ON d.book_id = b.book_id
+                CROSS JOIN params p
+                CROSS JOIN LATERAL (SELECT %2$s AS signal) decayed
+            )
+            """.formatted(MIN_SIGNAL, DECAYED_SIGNAL) + APPLY;
+
+    private static final String DECAY_ALL = PARAMS + """
+            , rescored AS (
+                SELECT b.book_id,
+                       CASE WHEN decayed.signal < %1$s THEN 0 ELSE decayed.signal END AS signal
+                FROM book_features b
+                CROSS JOIN params p
+                CROSS JOIN LATERAL (SELECT %2$s AS signal) decayed
+                WHERE b.popularity_signal > 0
+            )
+            """.formatted(MIN_SIGNAL, DECAYED_SIGNAL) + APPLY;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PopularityDecay decay;
+
+    public JdbcBookPopularityRepository(JdbcTemplate jdbcTemplate, PopularityDecay decay) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.decay = decay;
+    }
+
+    /**
+     * Adds already-decayed signal deltas in one statement and returns the new score of every book that
+     * exists. Deltas for unknown books are dropped.
+     */
+    public Map<UUID, Double> addSignals(Map<UUID, Double> deltas, Instant decayedAt) {
+        UUID[] bookIds = new UUID[deltas.size()];
+        Double[] weights = new Double[deltas.size()];
+        int i = 0;
+        for (Map.Entry<UUID, Double> delta : deltas.entrySet()) {
+            bookIds[i] = delta.getKey();
+            weights[i] = delta.getValue();
+            i++;
+        }
+
+        return jdbcTemplate.execute(ADD_SIGNALS, (PreparedStatement statement) -> {
+            bindParams(statement, decayedAt);
+            statement.setArray(4, statement.getConnection().createArrayOf("uuid", bookIds));
+            statement.setArray(5, statement.getConnection().createArrayOf("float8", weights));
+            return readScores(statement);
+        });
+    }
+
+    /**
+     * Brings every book with a positive signal up to {@code decayedAt} and returns their new scores.
+     */
+    public Map<UUID, Double> decayAll(Instant decayedAt) {
+        return jdbcTemplate.execute(DECAY_ALL, (PreparedStatement statement) -> {
+            bindParams(statement, decayedAt);
+            return readScores(statement);
+        });
+    }
+
+    private void bindParams(PreparedStatement statement, Instant decayedAt) throws SQLException {
+        statement.setDouble(1, decay.ratePerSecond());
+        statement.setTimestamp(2, Timestamp.from(decayedAt));
+        statement.setDouble(3, decay.saturation());
+    }
+
+    private static Map<UUID, Double> readScores(PreparedStatement statement) throws SQLException {
+        Map<UUID, Double> scores = new HashMap<>();
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                scores.put(resultSet.getObject(1, UUID.class), resultSet.getDouble(2));
+            }
+        }
+        return scores;
+    }
+}
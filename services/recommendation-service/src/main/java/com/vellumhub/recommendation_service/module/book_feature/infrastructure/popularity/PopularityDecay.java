@@ -0,0 +1,54 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.popularity;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Exponential decay shared by the in-memory counters and the persisted signal.
+ * <p>
+ * A signal loses half its weight every half-life. The persisted score maps the decayed signal into
+ * {@code [0, 1)} with {@code 1 - exp(-signal / saturation)}, so each book is scored on its own and the
+ * re-rank can keep treating popularity as a fraction.
+ * </p>
+ */
+@Component
+public class PopularityDecay {
+
+    private final double ratePerMilli;
+    private final double saturation;
+
+    public PopularityDecay(
+            @Value("${recommendation.popularity.half-life:P7D}") Duration halfLife,
+            @Value("${recommendation.popularity.saturation:10}") double saturation
+    ) {
+        if (halfLife.isZero() || halfLife.isNegative()) {
+            throw new IllegalArgumentException("recommendation.popularity.half-life must be positive");
+        }
+        if (saturation <= 0) {
+            throw new IllegalArgumentException("recommendation.popularity.saturation must be positive");
+        }
+        this.ratePerMilli = Math.log(2) / halfLife.toMillis();
+        this.saturation = saturation;
+    }
+
+    /**
+     * Weight left after {@code elapsedMillis}; events from the future are not amplified.
+     */
+    public double factor(long elapsedMillis) {
+        return elapsedMillis <= 0 ? 1.0 : Math.exp(-ratePerMilli * elapsedMillis);
+    }
+
+    public double ratePerSecond() {
+        return ratePerMilli * 1000;
+    }
+
+    public double saturation() {
+        return saturation;
+    }
+
+    public double score(double signal) {
+        return 1 - Math.exp(-Math.max(signal, 0) / saturation);
+    }
+}
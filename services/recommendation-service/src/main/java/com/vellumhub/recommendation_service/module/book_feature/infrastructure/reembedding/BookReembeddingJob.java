@@ -0,0 +1,249 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.reembedding;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookContent;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookVectorCache;
+import com.vellumhub.recommendation_service.module.book_feature.infrastructure.reembedding.JdbcReembeddingRepository.BookText;
+import com.vellumhub.recommendation_service.module.book_feature.infrastructure.reembedding.JdbcReembeddingRepository.ProfilePage;
+import com.vellumhub.recommendation_service.module.book_feature.infrastructure.reembedding.JdbcReembeddingRepository.Promotion;
+import com.vellumhub.recommendation_service.module.book_feature.infrastructure.reembedding.ReembeddingCheckpoint.Phase;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Re-embeds every book into {@code book_features.embedding_shadow} with the {@link ReembeddingBookProvider}
+ * model, for model or semantic text upgrades, while the live vectors keep serving.
+ * <p>
+ * Books are read in key order, {@code workers} batches at a time, embedded in parallel and written back with
+ * one JDBC batch that also moves the checkpoint, so a restarted job carries on after the last written page.
+ * A catch-up pass then embeds books created or updated since the job started. Profile shadows are derived
+ * from each user's weighted interactions with the shadow book vectors; profiles without interactions keep
+ * their live vector, and preference-text learning is not replayed. A live write clears the row's shadow, so
+ * {@code promote} first re-embeds books whose shadow was cleared, then swaps every shadow in at once while
+ * re-deriving the profiles changed since the start. Similar-book lists are dropped with the swap and
+ * recomputed on first request.
+ * Instances running the HNSW index reload the new vectors on their next start.
+ * </p>
+ */
+@Component
+@Slf4j
+public class BookReembeddingJob {
+
+    private static final String OPERATION = "book_reembedding";
+
+    private final JdbcReembeddingRepository repository;
+    private final ReembeddingBookProvider embeddingBookProvider;
+    private final BookVectorCache bookVectorCache;
+    private final VellumHubMetrics metrics;
+    private final boolean enabled;
+    private final String jobName;
+    private final int batchSize;
+    private final int workerCount;
+    private final boolean promote;
+
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "book-reembedding");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ThreadPoolExecutor workers;
+
+    public BookReembeddingJob(
+            JdbcReembeddingRepository repository,
+            ReembeddingBookProvider embeddingBookProvider,
+            BookVectorCache bookVectorCache,
+            VellumHubMetrics metrics,
+            @Value("${recommendation.reembedding.enabled:false}") boolean enabled,
+            @Value("${recommendation.reembedding.job-name:book-embeddings}") String jobName,
+            @Value("${recommendation.reembedding.batch-size:64}") int batchSize,
+            @Value("${recommendation.reembedding.workers:2}") int workerCount,
+            @Value("${recommendation.reembedding.promote:false}") boolean promote
+    ) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("recommendation.reembedding.batch-size must be at least 1");
+        }
+        if (workerCount < 1) {
+            throw new IllegalArgumentException("recommendation.reembedding.workers must be at least 1");
+        }
+        this.repository = repository;
+        this.embeddingBookProvider = embeddingBookProvider;
+        this.bookVectorCache = bookVectorCache;
+        this.metrics = metrics;
+        this.enabled = enabled;
+        this.jobName = jobName;
+        this.batchSize = batchSize;
+        this.workerCount = workerCount;
+        this.promote = promote;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(
+                workerCount,
+                workerCount,
+                0,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workerCount),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "book-reembedding-worker-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            runner.execute(this::runQuietly);
+        }
+    }
+
+    /**
+     * Runs the job from its checkpoint until every shadow is written and, when enabled, promoted.
+     */
+    void run() {
+        ReembeddingCheckpoint checkpoint = repository.findCheckpoint(jobName).orElseGet(() -> {
+            ReembeddingCheckpoint started = ReembeddingCheckpoint.start(jobName, Instant.now());
+            repository.saveCheckpoint(started);
+            return started;
+        });
+        log.info("Book re-embedding resumed. operation=book_reembedding, job={}, model={}, phase={}, processed={}",
+                jobName, embeddingBookProvider.modelId(), checkpoint.phase(), checkpoint.processed());
+
+        while (!Thread.currentThread().isInterrupted()) {
+            switch (checkpoint.phase()) {
+                case BOOKS -> checkpoint = advance(embedBooks(checkpoint, null), Phase.CATCH_UP);
+                case CATCH_UP -> checkpoint = advance(embedBooks(checkpoint, checkpoint.startedAt()), Phase.PROFILES);
+                case PROFILES -> checkpoint = advance(shadowProfiles(checkpoint), Phase.READY);
+                case READY -> {
+                    if (!promote) {
+                        log.info("Book re-embedding waiting for promotion. operation=book_reembedding, job={}, processed={}",
+                                jobName, checkpoint.processed());
+                        return;
+                    }
+                    checkpoint = embedBooks(checkpoint.next(Phase.READY), checkpoint.startedAt());
+                    if (Thread.currentThread().isInterrupted()) {
+                        return;
+                    }
+                    Promotion promotion = repository.promote(checkpoint);
+                    bookVectorCache.invalidateAll();
+                    metrics.recordBusinessCounter(VellumHubMetrics.REEMBEDDING_PROMOTIONS, OPERATION, "success");
+                    log.info("Book re-embedding promoted. operation=book_reembedding, job={}, books={}, profiles={}",
+                            jobName, promotion.books(), promotion.profiles());
+                    return;
+                }
+                case PROMOTED -> {
+                    log.info("Book re-embedding already promoted. operation=book_reembedding, job={}", jobName);
+                    return;
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    private void runQuietly() {
+        try {
+            run();
+        } catch (RuntimeException ex) {
+            log.error("Book re-embedding stopped, it resumes from the last checkpoint on the next start. "
+                    + "operation=book_reembedding, job={}, error={}", jobName, ex.getMessage(), ex);
+        }
+    }
+
+    private ReembeddingCheckpoint advance(ReembeddingCheckpoint checkpoint, Phase next) {
+        if (Thread.currentThread().isInterrupted()) {
+            return checkpoint;
+        }
+        ReembeddingCheckpoint advanced = checkpoint.next(next);
+        repository.saveCheckpoint(advanced);
+        return advanced;
+    }
+
+    private ReembeddingCheckpoint embedBooks(ReembeddingCheckpoint checkpoint, Instant changedSince) {
+        String phase = checkpoint.phase().name().toLowerCase();
+        while (!Thread.currentThread().isInterrupted()) {
+            List<BookText> page = repository.findBooksAfter(checkpoint.lastKey(), changedSince, batchSize * workerCount);
+            if (page.isEmpty()) {
+                break;
+            }
+
+            Timer.Sample sample = metrics.startBusinessTimer();
+            try {
+                List<float[]> vectors = embed(page);
+                List<UUID> bookIds = page.stream().map(BookText::bookId).toList();
+                checkpoint = checkpoint.advance(bookIds.getLast(), bookIds.size());
+                repository.writeBookShadows(bookIds, vectors, checkpoint);
+                metrics.recordReembeddingBatch(sample, phase, page.size(), "success");
+            } catch (RuntimeException ex) {
+                metrics.recordReembeddingBatch(sample, phase, page.size(), "failure");
+                throw ex;
+            }
+        }
+        return checkpoint;
+    }
+
+    /**
+     * Embeds the page in {@code batch-size} slices on the worker pool and returns the vectors in page order.
+     */
+    private List<float[]> embed(List<BookText> page) {
+        List<Future<List<float[]>>> slices = new ArrayList<>();
+        for (int from = 0; from < page.size(); from += batchSize) {
+            List<BookContent> contents = page.subList(from, Math.min(from + batchSize, page.size())).stream()
+                    .map(BookText::content)
+                    .toList();
+            slices.add(workers.submit(() -> embeddingBookProvider.ofAll(contents)));
+        }
+
+        List<float[]> vectors = new ArrayList<>(page.size());
+        try {
+            for (Future<List<float[]>> slice : slices) {
+                vectors.addAll(slice.get());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            slices.forEach(slice -> slice.cancel(true));
+            throw new IllegalStateException("Book re-embedding was interrupted", ex);
+        } catch (ExecutionException ex) {
+            slices.forEach(slice -> slice.cancel(true));
+            throw new IllegalStateException("Book re-embedding batch failed", ex.getCause());
+        }
+        return vectors;
+    }
+
+    private ReembeddingCheckpoint shadowProfiles(ReembeddingCheckpoint checkpoint) {
+        while (!Thread.currentThread().isInterrupted()) {
+            Timer.Sample sample = metrics.startBusinessTimer();
+            ProfilePage page = repository.shadowProfilesAfter(checkpoint.lastKey(), batchSize * workerCount);
+            if (page.lastUserId() == null) {
+                break;
+            }
+            checkpoint = checkpoint.advance(page.lastUserId(), page.profiles());
+            repository.saveCheckpoint(checkpoint);
+            metrics.recordReembeddingBatch(sample, "profiles", page.profiles(), "success");
+        }
+        return checkpoint;
+    }
+}
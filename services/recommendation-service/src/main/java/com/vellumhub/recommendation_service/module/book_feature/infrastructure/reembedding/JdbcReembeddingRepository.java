@@ -0,0 +1,263 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.reembedding;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookContent;
+import com.vellumhub.recommendation_service.share.math.VectorMath;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Array;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Keyset reads and batched shadow-column writes for the re-embedding job.
+ * <p>
+ * Pages are ordered by primary key and continue after the last key seen, so every page is an index range
+ * scan no matter how far the job has got. Vectors are bound as pgvector text literals.
+ * </p>
+ */
+@Repository
+public class JdbcReembeddingRepository {
+
+    private static final String FIND_CHECKPOINT = """
+            SELECT job_name, phase, last_key, processed, started_at
+            FROM reembedding_checkpoints
+            WHERE job_name = ?
+            """;
+
+    private static final String SAVE_CHECKPOINT = """
+            INSERT INTO reembedding_checkpoints (job_name, phase, last_key, processed, started_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, now())
+            ON CONFLICT (job_name) DO UPDATE
+            SET phase = EXCLUDED.phase,
+                last_key = EXCLUDED.last_key,
+                processed = EXCLUDED.processed,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String FIND_BOOKS_AFTER = """
+            SELECT b.book_id, r.title, r.author, r.description,
+                   COALESCE(array_agg(g.genres) FILTER (WHERE g.genres IS NOT NULL), '{}') AS genres
+            FROM book_features b
+            JOIN recommendations r ON r.book_id = b.book_id
+            LEFT JOIN recommendation_genres g ON g.recommendation_book_id = b.book_id
+            WHERE (CAST(? AS uuid) IS NULL OR b.book_id > ?)
+              AND (CAST(? AS timestamptz) IS NULL OR b.embedding_shadow IS NULL OR b.last_updated >= ?)
+            GROUP BY b.book_id, r.title, r.author, r.description
+            ORDER BY b.book_id
+            LIMIT ?
+            """;
+
+    private static final String WRITE_BOOK_SHADOW = """
+            UPDATE book_features
+            SET embedding_shadow = CAST(? AS vector)
+            WHERE book_id = ?
+            """;
+
+    /**
+     * Sets the shadow vector of every user in the preceding {@code batch} CTE to the unit-length sum of the
+     * shadow vectors of the user's interacted books, each scaled by the user's cumulative weight for the
+     * book, so liked books pull and disliked books push as they did when the live vector was learned.
+     * Users whose weighted sum is zero keep no shadow.
+     */
+    private static final String DERIVE_PROFILE_SHADOWS = """
+            weighted AS (
+                SELECT i.user_id, e.position, SUM(i.weight * e.value) AS value
+                FROM batch
+                JOIN user_book_interactions i ON i.user_id = batch.user_id
+                JOIN book_features b ON b.book_id = i.book_id
+                CROSS JOIN LATERAL unnest(CAST(b.embedding_shadow AS real[])) WITH ORDINALITY AS e(value, position)
+                WHERE b.embedding_shadow IS NOT NULL
+                  AND i.weight <> 0
+                GROUP BY i.user_id, e.position
+            ), derived AS (
+                SELECT user_id, CAST(array_agg(value ORDER BY position) AS vector) AS summed
+                FROM weighted
+                GROUP BY user_id
+            ), updated AS (
+                UPDATE user_profiles u
+                SET profile_vector_shadow = l2_normalize(derived.summed)
+                FROM derived
+                WHERE u.user_id = derived.user_id
+                  AND vector_norm(derived.summed) > 0
+                RETURNING u.user_id
+            )
+            """;
+
+    private static final String SHADOW_PROFILES_AFTER = """
+            WITH batch AS (
+                SELECT user_id
+                FROM user_profiles
+                WHERE (CAST(? AS uuid) IS NULL OR user_id > ?)
+                ORDER BY user_id
+                LIMIT ?
+            ),
+            """ + DERIVE_PROFILE_SHADOWS + """
+            SELECT (SELECT user_id FROM batch ORDER BY user_id DESC LIMIT 1),
+                   (SELECT count(*) FROM updated)
+            """;
+
+    private static final String SHADOW_CHANGED_PROFILES = """
+            WITH batch AS (
+                SELECT user_id
+                FROM user_profiles
+                WHERE last_updated >= ?
+            ),
+            """ + DERIVE_PROFILE_SHADOWS + """
+            SELECT count(*) FROM updated
+            """;
+
+    private static final String PROMOTE_BOOKS = """
+            UPDATE book_features
+            SET embedding = embedding_shadow,
+                embedding_shadow = NULL,
+                last_updated = now()
+            WHERE embedding_shadow IS NOT NULL
+            """;
+
+    private static final String CLEAR_BOOK_NEIGHBORS = """
+            DELETE FROM book_neighbors
+            """;
+
+    private static final String PROMOTE_PROFILES = """
+            UPDATE user_profiles
+            SET profile_vector = profile_vector_shadow,
+                profile_vector_shadow = NULL,
+                last_updated = now()
+            WHERE profile_vector_shadow IS NOT NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcReembeddingRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<ReembeddingCheckpoint> findCheckpoint(String jobName) {
+        return jdbcTemplate.query(FIND_CHECKPOINT, (resultSet, rowNum) -> new ReembeddingCheckpoint(
+                resultSet.getString(1),
+                ReembeddingCheckpoint.Phase.valueOf(resultSet.getString(2)),
+                resultSet.getObject(3, UUID.class),
+                resultSet.getLong(4),
+                resultSet.getTimestamp(5).toInstant()
+        ), jobName).stream().findFirst();
+    }
+
+    public void saveCheckpoint(ReembeddingCheckpoint checkpoint) {
+        jdbcTemplate.update(SAVE_CHECKPOINT, statement -> {
+            statement.setString(1, checkpoint.jobName());
+            statement.setString(2, checkpoint.phase().name());
+            statement.setObject(3, checkpoint.lastKey(), Types.OTHER);
+            statement.setLong(4, checkpoint.processed());
+            statement.setTimestamp(5, Timestamp.from(checkpoint.startedAt()));
+        });
+    }
+
+    /**
+     * Returns up to {@code limit} books after {@code after} in key order with the text they are embedded
+     * from. With {@code changedSince}, only books without a shadow vector or updated since then are returned.
+     * Books without a recommendation row have no text and are never returned.
+     */
+    public List<BookText> findBooksAfter(UUID after, Instant changedSince, int limit) {
+        Timestamp since = changedSince == null ? null : Timestamp.from(changedSince);
+        return jdbcTemplate.query(FIND_BOOKS_AFTER, statement -> {
+            statement.setObject(1, after, Types.OTHER);
+            statement.setObject(2, after, Types.OTHER);
+            statement.setTimestamp(3, since);
+            statement.setTimestamp(4, since);
+            statement.setInt(5, limit);
+        }, (resultSet, rowNum) -> new BookText(
+                resultSet.getObject(1, UUID.class),
+                new BookContent(
+                        resultSet.getString(2),
+                        resultSet.getString(3),
+                        resultSet.getString(4),
+                        genres(resultSet.getArray(5))
+                )
+        ));
+    }
+
+    /**
+     * Writes the shadow vectors of one page in a JDBC batch and moves the checkpoint past it atomically.
+     */
+    @Transactional
+    public void writeBookShadows(List<UUID> bookIds, List<float[]> vectors, ReembeddingCheckpoint checkpoint) {
+        List<Object[]> rows = new ArrayList<>(bookIds.size());
+        for (int i = 0; i < bookIds.size(); i++) {
+            rows.add(new Object[]{VectorMath.toLiteral(vectors.get(i)), bookIds.get(i)});
+        }
+        jdbcTemplate.batchUpdate(WRITE_BOOK_SHADOW, rows);
+        saveCheckpoint(checkpoint);
+    }
+
+    /**
+     * Derives the shadow vector of up to {@code limit} profiles after {@code after} from their weighted
+     * interactions. Profiles without weighted interactions get no shadow. Running a page twice gives the
+     * same result, so the caller checkpoints after it.
+     */
+    public ProfilePage shadowProfilesAfter(UUID after, int limit) {
+        return jdbcTemplate.query(SHADOW_PROFILES_AFTER, statement -> {
+            statement.setObject(1, after, Types.OTHER);
+            statement.setObject(2, after, Types.OTHER);
+            statement.setInt(3, limit);
+        }, resultSet -> {
+            resultSet.next();
+            return new ProfilePage(resultSet.getObject(1, UUID.class), resultSet.getInt(2));
+        });
+    }
+
+    /**
+     * Re-derives the shadows of profiles changed since the job started, copies every shadow into its live
+     * column, clears the shadows and records the promotion, in one transaction. Rows written live after
+     * their shadow had no shadow left to promote and keep their live vector.
+     * <p>
+     * Promoted books move every vector at once, so the {@code book_neighbors} lists are dropped in the same
+     * transaction rather than refreshed book by book; each list is recomputed from the new vectors on its
+     * first request, like the lists of books that predate the table.
+     * Promoted profiles get a new {@code last_updated}, so neighbour lists and cached rankings built from
+     * the old vectors are recomputed.
+     * </p>
+     */
+    @Transactional
+    public Promotion promote(ReembeddingCheckpoint checkpoint) {
+        jdbcTemplate.queryForObject(SHADOW_CHANGED_PROFILES, Long.class, Timestamp.from(checkpoint.startedAt()));
+        int books = jdbcTemplate.update(PROMOTE_BOOKS);
+        if (books > 0) {
+            jdbcTemplate.update(CLEAR_BOOK_NEIGHBORS);
+        }
+        int profiles = jdbcTemplate.update(PROMOTE_PROFILES);
+        saveCheckpoint(checkpoint.next(ReembeddingCheckpoint.Phase.PROMOTED));
+        return new Promotion(books, profiles);
+    }
+
+    private static List<String> genres(Array array) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+        try {
+            return List.of((String[]) array.getArray());
+        } finally {
+            array.free();
+        }
+    }
+
+    public record BookText(UUID bookId, BookContent content) {
+    }
+
+    /**
+     * @param lastUserId the last profile of the page, or {@code null} when there were none left
+     * @param profiles   profiles written
+     */
+    public record ProfilePage(UUID lastUserId, int profiles) {
+    }
+
+    public record Promotion(int books, int profiles) {
+    }
+}
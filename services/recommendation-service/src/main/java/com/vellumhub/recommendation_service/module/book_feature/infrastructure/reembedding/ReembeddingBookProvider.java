@@ -0,0 +1,69 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.reembedding;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookContent;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.EmbeddingBookProvider;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.EmbeddingCache;
+import com.vellumhub.recommendation_service.module.book_feature.infrastructure.embedding.LangChain4jEmbeddingBookProvider;
+import com.vellumhub.recommendation_service.share.embedding.InProcessEmbeddingModels;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Embeds books for {@link BookReembeddingJob} with the model configured under {@code recommendation.reembedding},
+ * which defaults to the live model for semantic text upgrades.
+ * <p>
+ * The model runs on the job's own worker threads instead of the live embedding pool, and cache entries are
+ * keyed by its model ID, so shadow vectors never come from the live model. It is loaded on first use, so
+ * instances that never run the job do not hold a second model.
+ * </p>
+ */
+@Component
+public class ReembeddingBookProvider {
+
+    private final EmbeddingCache embeddingCache;
+    private final String modelId;
+    private final String modelPath;
+
+    private volatile EmbeddingBookProvider delegate;
+
+    public ReembeddingBookProvider(
+            EmbeddingCache embeddingCache,
+            @Value("${recommendation.reembedding.model-id:${recommendation.embedding.model-id:all-minilm-l6-v2}}") String modelId,
+            @Value("${recommendation.reembedding.model-path:${recommendation.embedding.model-path:}}") String modelPath
+    ) {
+        this.embeddingCache = embeddingCache;
+        this.modelId = modelId;
+        this.modelPath = modelPath;
+    }
+
+    public String modelId() {
+        return modelId;
+    }
+
+    /**
+     * Embeds several books in one model call. Vectors are returned in the order of {@code books}.
+     */
+    public List<float[]> ofAll(List<BookContent> books) {
+        return delegate().ofAll(books);
+    }
+
+    private EmbeddingBookProvider delegate() {
+        EmbeddingBookProvider loaded = delegate;
+        if (loaded == null) {
+            synchronized (this) {
+                loaded = delegate;
+                if (loaded == null) {
+                    loaded = new LangChain4jEmbeddingBookProvider(
+                            InProcessEmbeddingModels.load(modelId, modelPath),
+                            embeddingCache,
+                            modelId
+                    );
+                    delegate = loaded;
+                }
+            }
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,47 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.reembedding;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Progress of a re-embedding job, saved in the same transaction as every batch it covers.
+ *
+ * @param jobName   identifies one model upgrade; a new name starts over
+ * @param phase     the phase in progress
+ * @param lastKey   the last book or user ID written in this phase, or {@code null} before the first batch
+ * @param processed rows written so far across all phases
+ * @param startedAt when the job first started; rows changed after it are embedded again in the catch-up phase
+ */
+public record ReembeddingCheckpoint(
+        String jobName,
+        Phase phase,
+        UUID lastKey,
+        long processed,
+        Instant startedAt
+) {
+
+    public static ReembeddingCheckpoint start(String jobName, Instant startedAt) {
+        return new ReembeddingCheckpoint(jobName, Phase.BOOKS, null, 0, startedAt);
+    }
+
+    public ReembeddingCheckpoint advance(UUID key, int rows) {
+        return new ReembeddingCheckpoint(jobName, phase, key, processed + rows, startedAt);
+    }
+
+    public ReembeddingCheckpoint next(Phase nextPhase) {
+        return new ReembeddingCheckpoint(jobName, nextPhase, null, processed, startedAt);
+    }
+
+    public enum Phase {
+        /** Every book is embedded into {@code embedding_shadow}. */
+        BOOKS,
+        /** Books without a shadow vector or changed since the start are embedded again. */
+        CATCH_UP,
+        /** Profile shadows are rebuilt from the shadow vectors of the books each user interacted with. */
+        PROFILES,
+        /** Every shadow is written and waits for promotion. */
+        READY,
+        /** Shadows were copied into the live columns. */
+        PROMOTED
+    }
+}
@@ -1,7 +1,10 @@
 package com.vellumhub.recommendation_service.module.book_feature.infrastructure.repository;
 
 import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookFeature;
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookVectorMatch;
 import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookFeatureRepository;
+import com.vellumhub.recommendation_service.module.book_feature.infrastructure.search.BookCandidateSearch;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.InteractedBookFilter;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,14 +15,21 @@ import java.util.UUID;
 public class BookFeatureRepositoryAdapter implements BookFeatureRepository {
 
     private final JpaBookFeatureRepository mediaFeatureRepositoryJpa;
+    private final BookCandidateSearch bookCandidateSearch;
 
-    public BookFeatureRepositoryAdapter(JpaBookFeatureRepository mediaFeatureRepositoryJpa) {
+    public BookFeatureRepositoryAdapter(JpaBookFeatureRepository mediaFeatureRepositoryJpa, BookCandidateSearch bookCandidateSearch) {
         this.mediaFeatureRepositoryJpa = mediaFeatureRepositoryJpa;
+        this.bookCandidateSearch = bookCandidateSearch;
     }
 
     @Override
     public void save(BookFeature bookFeature) {
-        mediaFeatureRepositoryJpa.save(bookFeature);
+        mediaFeatureRepositoryJpa.saveAndFlush(bookFeature);
+    }
+
+    @Override
+    public void saveAll(List<BookFeature> bookFeatures) {
+        mediaFeatureRepositoryJpa.saveAllAndFlush(bookFeatures);
     }
 
     @Override
@@ -28,8 +38,8 @@ public class BookFeatureRepositoryAdapter implements BookFeatureRepository {
     }
 
     @Override
-    public List<UUID> findAllByUserId(UUID userId, int limit, int offset) {
-        return mediaFeatureRepositoryJpa.findTopVectorRecommendations(userId, limit, offset);
+    public List<BookVectorMatch> findVectorCandidates(UUID userId, InteractedBookFilter interacted) {
+        return bookCandidateSearch.findCandidates(userId, interacted);
     }
 
     @Override
@@ -37,6 +47,11 @@ public class BookFeatureRepositoryAdapter implements BookFeatureRepository {
         return mediaFeatureRepositoryJpa.findById(uuid);
     }
 
+    @Override
+    public List<BookFeature> findAllById(List<UUID> ids) {
+        return mediaFeatureRepositoryJpa.findAllById(ids);
+    }
+
     @Override
     public List<UUID> findMostPopularMedias(int limit, int offset) {
         return mediaFeatureRepositoryJpa.findMostPopularMedias(limit, offset);
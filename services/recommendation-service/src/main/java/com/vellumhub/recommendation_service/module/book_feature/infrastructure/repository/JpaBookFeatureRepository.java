@@ -6,44 +6,36 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface JpaBookFeatureRepository extends JpaRepository<BookFeature, UUID> {
 
+    /**
+     * Returns the {@code candidates} nearest books to the user's profile vector in distance order, with
+     * their popularity. Interacted books are not excluded and nothing is re-ranked here; the ranking
+     * pipeline does both in memory.
+     */
     @Query(value = """
                 WITH user_data AS (
-                    -- 1. Isolamos os dados do usuário e garantimos um array vazio seguro para a filtragem
-                    SELECT
-                        profile_vector,
-                        COALESCE(interacted_book_ids, '{}'::uuid[]) AS interacted_ids
+                    SELECT profile_vector
                     FROM user_profiles
                     WHERE user_id = :userId
-                ),
-                candidates AS (
-                    -- 2. Busca Rápida (Candidate Generation) usando o Índice HNSW
-                    SELECT
-                        b.book_id,
-                        b.popularity_score,
-                        (b.embedding <=> u.profile_vector) AS vector_dist
-                    FROM book_features b
-                    CROSS JOIN user_data u
-                    WHERE b.book_id <> ALL(u.interacted_ids)
-                    ORDER BY b.embedding <=> u.profile_vector ASC
-                    LIMIT 200
                 )
-                -- 3. Re-rankeamento (Scoring) e Paginação
-                SELECT c.book_id
-                FROM candidates c
-                ORDER BY
-                    (c.vector_dist * 0.7) + ((1 - COALESCE(c.popularity_score, 0)) * 0.3) ASC
-                LIMIT :limit OFFSET :offset
+                SELECT
+                    b.book_id AS "bookId",
+                    (b.embedding <=> u.profile_vector) AS "distance",
+                    COALESCE(b.popularity_score, 0) AS "popularityScore"
+                FROM book_features b
+                CROSS JOIN user_data u
+                ORDER BY b.embedding <=> u.profile_vector ASC
+                LIMIT :candidates
             """, nativeQuery = true)
-    List<UUID> findTopVectorRecommendations(
+    List<NearestBookRow> findNearestBooks(
             @Param("userId") UUID userId,
-            @Param("limit") int limit,
-            @Param("offset") int offset
+            @Param("candidates") int candidates
     );
 
 
@@ -57,4 +49,9 @@ public interface JpaBookFeatureRepository extends JpaRepository<BookFeature, UUI
             @Param("limit") int limit,
             @Param("offset") int offset
     );
+
+    /**
+     * Returns the books whose {@code last_updated} is later than {@code since}.
+     */
+    List<BookFeature> findByLastUpdatedAfter(Instant since);
 }
\ No newline at end of file
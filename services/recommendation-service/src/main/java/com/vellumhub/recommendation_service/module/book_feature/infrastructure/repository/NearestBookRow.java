@@ -0,0 +1,15 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.repository;
+
+import java.util.UUID;
+
+/**
+ * Row of {@link JpaBookFeatureRepository#findNearestBooks}.
+ */
+public interface NearestBookRow {
+
+    UUID getBookId();
+
+    double getDistance();
+
+    double getPopularityScore();
+}
@@ -0,0 +1,21 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.search;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookVectorMatch;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.InteractedBookFilter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Strategy producing the nearest vector candidates for a user, selected by
+ * {@code recommendation.candidate-search.mode}.
+ */
+public interface BookCandidateSearch {
+
+    /**
+     * Returns up to {@code candidate-depth} books nearest to the user's profile vector, in distance order,
+     * leaving out books in {@code interacted}.
+     */
+    List<BookVectorMatch> findCandidates(UUID userId, InteractedBookFilter interacted);
+
+}
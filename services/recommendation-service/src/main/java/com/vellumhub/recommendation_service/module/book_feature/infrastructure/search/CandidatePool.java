@@ -0,0 +1,80 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.search;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookVectorMatch;
+import com.vellumhub.recommendation_service.module.book_feature.infrastructure.repository.JpaBookFeatureRepository;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.InteractedBookFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Over-fetched candidate pool shared by the search strategies.
+ * <p>
+ * Interacted books are no longer excluded inside the vector query. The pool instead holds up to
+ * {@code candidate-depth} extra neighbours per interacted book, capped at {@code max-overfetch} times
+ * the depth, and books in the user's {@link InteractedBookFilter} are dropped from it in distance order.
+ * A reader whose history covers more of the nearest neighbours than the cap allows gets fewer
+ * candidates, not a slower query.
+ * </p>
+ */
+@Component
+public class CandidatePool {
+
+    private final JpaBookFeatureRepository jpaBookFeatureRepository;
+    private final int candidateDepth;
+    private final int maxExtraCandidates;
+
+    public CandidatePool(
+            JpaBookFeatureRepository jpaBookFeatureRepository,
+            @Value("${recommendation.ranking.candidate-depth:200}") int candidateDepth,
+            @Value("${recommendation.ranking.max-overfetch:1.0}") double maxOverfetch
+    ) {
+        if (candidateDepth < 1) {
+            throw new IllegalArgumentException("recommendation.ranking.candidate-depth must be at least 1");
+        }
+        if (maxOverfetch < 0) {
+            throw new IllegalArgumentException("recommendation.ranking.max-overfetch must not be negative");
+        }
+        this.jpaBookFeatureRepository = jpaBookFeatureRepository;
+        this.candidateDepth = candidateDepth;
+        this.maxExtraCandidates = (int) Math.ceil(candidateDepth * maxOverfetch);
+    }
+
+    /**
+     * Number of nearest books to fetch so that, after dropping interacted ones, about
+     * {@code candidate-depth} remain.
+     */
+    int size(InteractedBookFilter interacted) {
+        return candidateDepth + Math.min(interacted.count(), maxExtraCandidates);
+    }
+
+    /**
+     * Drops interacted books from matches sorted by distance and keeps at most {@code candidate-depth}.
+     */
+    List<BookVectorMatch> exclude(List<BookVectorMatch> nearest, InteractedBookFilter interacted) {
+        List<BookVectorMatch> candidates = new ArrayList<>(Math.min(nearest.size(), candidateDepth));
+        for (BookVectorMatch match : nearest) {
+            if (candidates.size() >= candidateDepth) {
+                break;
+            }
+            if (!interacted.mightContain(match.bookId())) {
+                candidates.add(match);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Runs the pgvector nearest-neighbour query for the user and drops interacted books.
+     */
+    List<BookVectorMatch> fromPgVector(UUID userId, InteractedBookFilter interacted) {
+        List<BookVectorMatch> nearest = jpaBookFeatureRepository.findNearestBooks(userId, size(interacted))
+                .stream()
+                .map(row -> new BookVectorMatch(row.getBookId(), (float) row.getDistance(), row.getPopularityScore()))
+                .toList();
+        return exclude(nearest, interacted);
+    }
+}
@@ -0,0 +1,107 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.search;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookVectorMatch;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookVectorIndex;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.InteractedBookFilter;
+import com.vellumhub.recommendation_service.module.user_profile.domain.port.UserProfileRepository;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Candidate search served from the in-JVM {@link BookVectorIndex}.
+ * <p>
+ * Returns the same candidates as the pgvector query: the nearest books outside the user's
+ * {@link InteractedBookFilter}, over-fetched by the {@link CandidatePool}, in distance order. Until the
+ * index has loaded, and for users without a profile, the pgvector query answers instead. A sample of
+ * requests also runs the pgvector query to measure recall.
+ * </p>
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "recommendation.candidate-search.mode", havingValue = "hnsw")
+public class HnswBookCandidateSearch implements BookCandidateSearch {
+
+    static final String MODE = "hnsw";
+
+    private final BookVectorIndex bookVectorIndex;
+    private final UserProfileRepository userProfileRepository;
+    private final CandidatePool candidatePool;
+    private final VellumHubMetrics metrics;
+    private final double recallSampleRate;
+
+    public HnswBookCandidateSearch(
+            BookVectorIndex bookVectorIndex,
+            UserProfileRepository userProfileRepository,
+            CandidatePool candidatePool,
+            VellumHubMetrics metrics,
+            @Value("${recommendation.candidate-search.recall-sample-rate:0.01}") double recallSampleRate
+    ) {
+        this.bookVectorIndex = bookVectorIndex;
+        this.userProfileRepository = userProfileRepository;
+        this.candidatePool = candidatePool;
+        this.metrics = metrics;
+        this.recallSampleRate = recallSampleRate;
+    }
+
+    @Override
+    public List<BookVectorMatch> findCandidates(UUID userId, InteractedBookFilter interacted) {
+        Optional<float[]> profileVector = bookVectorIndex.isReady()
+                ? userProfileRepository.findProfileVector(userId)
+                : Optional.empty();
+
+        if (profileVector.isEmpty()) {
+            return candidatePool.fromPgVector(userId, interacted);
+        }
+
+        Timer.Sample sample = metrics.startBusinessTimer();
+        List<BookVectorMatch> candidates;
+        try {
+            candidates = nearest(profileVector.get(), interacted);
+        } finally {
+            metrics.recordCandidateSearchDuration(sample, MODE);
+        }
+
+        if (recallSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < recallSampleRate) {
+            sampleRecall(userId, interacted, candidates);
+        }
+        return candidates;
+    }
+
+    private List<BookVectorMatch> nearest(float[] profileVector, InteractedBookFilter interacted) {
+        List<BookVectorMatch> nearest = bookVectorIndex.search(profileVector, candidatePool.size(interacted), interacted::mightContain)
+                .stream()
+                .sorted(Comparator.comparingDouble(BookVectorMatch::distance))
+                .toList();
+        return candidatePool.exclude(nearest, interacted);
+    }
+
+    private void sampleRecall(UUID userId, InteractedBookFilter interacted, List<BookVectorMatch> candidates) {
+        List<BookVectorMatch> exact = candidatePool.fromPgVector(userId, interacted);
+        if (exact.isEmpty()) {
+            return;
+        }
+
+        Set<UUID> overlap = new HashSet<>();
+        exact.forEach(match -> overlap.add(match.bookId()));
+        overlap.retainAll(candidates.stream().map(BookVectorMatch::bookId).toList());
+        double recall = (double) overlap.size() / exact.size();
+
+        metrics.recordCandidateSearchRecall(MODE, recall);
+        log.debug("Candidate search recall sampled. operation=candidate_search, mode={}, userId={}, recall={}",
+                MODE,
+                userId,
+                recall);
+    }
+}
@@ -0,0 +1,40 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.search;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookVectorMatch;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.InteractedBookFilter;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Candidate search delegated to the pgvector HNSW index, with interacted books dropped from the
+ * over-fetched pool by the {@link CandidatePool}.
+ */
+@Component
+@ConditionalOnProperty(name = "recommendation.candidate-search.mode", havingValue = "pgvector", matchIfMissing = true)
+public class PgVectorBookCandidateSearch implements BookCandidateSearch {
+
+    static final String MODE = "pgvector";
+
+    private final CandidatePool candidatePool;
+    private final VellumHubMetrics metrics;
+
+    public PgVectorBookCandidateSearch(CandidatePool candidatePool, VellumHubMetrics metrics) {
+        this.candidatePool = candidatePool;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public List<BookVectorMatch> findCandidates(UUID userId, InteractedBookFilter interacted) {
+        Timer.Sample sample = metrics.startBusinessTimer();
+        try {
+            return candidatePool.fromPgVector(userId, interacted);
+        } finally {
+            metrics.recordCandidateSearchDuration(sample, MODE);
+        }
+    }
+}
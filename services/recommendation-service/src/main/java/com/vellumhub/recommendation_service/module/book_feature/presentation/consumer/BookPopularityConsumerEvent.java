@@ -0,0 +1,132 @@
+package com.vellumhub.recommendation_service.module.book_feature.presentation.consumer;
+
+import com.vellumhub.kafka.contracts.KafkaConsumerGroups;
+import com.vellumhub.kafka.contracts.KafkaTopics;
+import com.vellumhub.kafka.contracts.engagement.CreatedRatingEvent;
+import com.vellumhub.kafka.contracts.engagement.ReactionChangedEvent;
+import com.vellumhub.kafka.contracts.readingprogress.CreateBookProgressEvent;
+import com.vellumhub.kafka.contracts.readingprogress.UpdateBookProgressEvent;
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.PopularitySignal;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.PopularityAggregator;
+import com.vellumhub.recommendation_service.share.kafka.config.KafkaRetryConfig;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import org.springframework.kafka.annotation.BackOff;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.retrytopic.DltStrategy;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.time.Instant;
+
+/**
+ * Feeds engagement events into the popularity aggregator. Runs in its own consumer group so popularity
+ * keeps its own offsets and never slows down profile updates.
+ * <p>
+ * Failed records are retried through {@code -popularity-retry} topics rather than the {@code -retry} topics
+ * of the profile listeners on the same topics, so a retry in one group is never replayed in the other.
+ * </p>
+ */
+@Component
+public class BookPopularityConsumerEvent {
+
+    static final String RETRY_TOPIC_SUFFIX = "-popularity-retry";
+    static final String DLT_TOPIC_SUFFIX = "-popularity" + KafkaTopics.DLT_SUFFIX;
+
+    private static final String CONSUMER_GROUP = KafkaConsumerGroups.RECOMMENDATION_POPULARITY;
+
+    private final PopularityAggregator popularityAggregator;
+    private final VellumHubMetrics metrics;
+
+    public BookPopularityConsumerEvent(PopularityAggregator popularityAggregator, VellumHubMetrics metrics) {
+        this.popularityAggregator = popularityAggregator;
+        this.metrics = metrics;
+    }
+
+    @KafkaListener(
+            topics = KafkaTopics.CREATED_RATING,
+            groupId = KafkaConsumerGroups.RECOMMENDATION_POPULARITY
+    )
+    @PopularityRetryableTopic
+    public void consumeRating(
+            @Payload CreatedRatingEvent event,
+            @Header(KafkaHeaders.RECEIVED_TIMESTAMP) long timestamp
+    ) {
+        record(PopularitySignal.rating(event.bookId(), event.stars(), Instant.ofEpochMilli(timestamp)),
+                KafkaTopics.CREATED_RATING, "CreatedRatingEvent");
+    }
+
+    @KafkaListener(
+            topics = KafkaTopics.USER_REACTION_CHANGED,
+            groupId = KafkaConsumerGroups.RECOMMENDATION_POPULARITY
+    )
+    @PopularityRetryableTopic
+    public void consumeReaction(
+            @Payload ReactionChangedEvent event,
+            @Header(KafkaHeaders.RECEIVED_TIMESTAMP) long timestamp
+    ) {
+        record(PopularitySignal.reaction(event.bookId(), event.typeReaction(), Instant.ofEpochMilli(timestamp)),
+                KafkaTopics.USER_REACTION_CHANGED, "ReactionChangedEvent");
+    }
+
+    @KafkaListener(
+            topics = KafkaTopics.CREATED_READING_PROGRESS,
+            groupId = KafkaConsumerGroups.RECOMMENDATION_POPULARITY
+    )
+    @PopularityRetryableTopic
+    public void consumeProgressCreated(
+            @Payload CreateBookProgressEvent event,
+            @Header(KafkaHeaders.RECEIVED_TIMESTAMP) long timestamp
+    ) {
+        record(PopularitySignal.progress(event.bookId(), event.progress(), Instant.ofEpochMilli(timestamp)),
+                KafkaTopics.CREATED_READING_PROGRESS, "CreateBookProgressEvent");
+    }
+
+    @KafkaListener(
+            topics = KafkaTopics.UPDATED_READING_PROGRESS,
+            groupId = KafkaConsumerGroups.RECOMMENDATION_POPULARITY
+    )
+    @PopularityRetryableTopic
+    public void consumeProgressUpdated(
+            @Payload UpdateBookProgressEvent event,
+            @Header(KafkaHeaders.RECEIVED_TIMESTAMP) long timestamp
+    ) {
+        record(PopularitySignal.progress(event.bookId(), event.progress(), Instant.ofEpochMilli(timestamp)),
+                KafkaTopics.UPDATED_READING_PROGRESS, "UpdateBookProgressEvent");
+    }
+
+    private void record(PopularitySignal signal, String topic, String eventType) {
+        try {
+            popularityAggregator.record(signal);
+            metrics.recordBusinessCounter(VellumHubMetrics.POPULARITY_SIGNALS, "popularity_signal", signal.counts() ? "counted" : "ignored");
+            metrics.recordKafkaConsumed(topic, eventType, CONSUMER_GROUP);
+        } catch (RuntimeException ex) {
+            metrics.recordKafkaConsumeFailed(topic, eventType, CONSUMER_GROUP);
+            throw ex;
+        }
+    }
+
+    /**
+     * Retry settings of the default retry configuration, on topics of their own. Declared per listener
+     * method because a class-level {@link RetryableTopic} is not applied to method-level listeners.
+     */
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @RetryableTopic(
+            attempts = "3",
+            backOff = @BackOff(delay = 3000),
+            retryTopicSuffix = RETRY_TOPIC_SUFFIX,
+            dltTopicSuffix = DLT_TOPIC_SUFFIX,
+            dltStrategy = DltStrategy.FAIL_ON_ERROR,
+            autoStartDltHandler = "false",
+            kafkaTemplate = KafkaRetryConfig.RETRYABLE_TOPIC_KAFKA_TEMPLATE
+    )
+    @interface PopularityRetryableTopic {
+    }
+}
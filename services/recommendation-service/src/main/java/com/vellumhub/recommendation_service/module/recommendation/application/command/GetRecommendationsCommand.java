@@ -2,9 +2,17 @@ package com.vellumhub.recommendation_service.module.recommendation.application.c
 
 import java.util.UUID;
 
+/**
+ * @param cursor token returned with a previous page; when present it takes precedence over {@code offset}
+ */
 public record GetRecommendationsCommand(
         UUID userId,
         int limit,
-        int offset
+        int offset,
+        String cursor
 ) {
+
+    public GetRecommendationsCommand(UUID userId, int limit, int offset) {
+        this(userId, limit, offset, null);
+    }
 }
@@ -0,0 +1,13 @@
+package com.vellumhub.recommendation_service.module.recommendation.application.command;
+
+import java.util.UUID;
+
+/**
+ * @param bookId the book to find similar books for
+ * @param limit  maximum number of similar books to return
+ */
+public record GetSimilarBooksCommand(
+        UUID bookId,
+        int limit
+) {
+}
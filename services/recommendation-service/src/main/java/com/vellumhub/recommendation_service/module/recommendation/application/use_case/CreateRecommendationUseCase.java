@@ -2,20 +2,49 @@ package com.vellumhub.recommendation_service.module.recommendation.application.u
 
 import com.vellumhub.recommendation_service.module.recommendation.application.command.CreateRecommendationCommand;
 import com.vellumhub.recommendation_service.module.recommendation.domain.model.Recommendation;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.BookRankingFeatures;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.PopularRecommendations;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.RecommendationCache;
 import com.vellumhub.recommendation_service.module.recommendation.domain.port.RecommendationRepository;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 public class CreateRecommendationUseCase {
 
     private final RecommendationRepository recommendationRepository;
+    private final RecommendationCache recommendationCache;
+    private final PopularRecommendations popularRecommendations;
+    private final BookRankingFeatures bookRankingFeatures;
 
-    public CreateRecommendationUseCase(RecommendationRepository recommendationRepository) {
+    public CreateRecommendationUseCase(RecommendationRepository recommendationRepository, RecommendationCache recommendationCache, PopularRecommendations popularRecommendations, BookRankingFeatures bookRankingFeatures) {
         this.recommendationRepository = recommendationRepository;
+        this.recommendationCache = recommendationCache;
+        this.popularRecommendations = popularRecommendations;
+        this.bookRankingFeatures = bookRankingFeatures;
     }
 
     public void execute(CreateRecommendationCommand command){
-        Recommendation recommendation = Recommendation.builder()
+        Recommendation recommendation = toRecommendation(command);
+        recommendationRepository.save(recommendation);
+        bookRankingFeatures.upsert(recommendation);
+        recommendationCache.invalidateAll();
+        popularRecommendations.invalidate();
+    }
+
+    public void executeAll(List<CreateRecommendationCommand> commands){
+        List<Recommendation> recommendations = commands.stream()
+                .map(this::toRecommendation)
+                .toList();
+        recommendationRepository.saveAll(recommendations);
+        recommendations.forEach(bookRankingFeatures::upsert);
+        recommendationCache.invalidateAll();
+        popularRecommendations.invalidate();
+    }
+
+    private Recommendation toRecommendation(CreateRecommendationCommand command) {
+        return Recommendation.builder()
                 .bookId(command.bookId())
                 .title(command.title())
                 .description(command.description())
@@ -24,8 +53,6 @@ public class CreateRecommendationUseCase {
                 .releaseYear(command.releaseYear())
                 .genres(command.genres())
                 .build();
-
-        recommendationRepository.save(recommendation);
     }
 
 }
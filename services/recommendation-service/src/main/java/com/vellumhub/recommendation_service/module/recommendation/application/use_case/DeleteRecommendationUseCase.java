@@ -1,6 +1,9 @@
 package com.vellumhub.recommendation_service.module.recommendation.application.use_case;
 
 import com.vellumhub.recommendation_service.module.recommendation.application.command.DeleteRecommendationCommand;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.BookRankingFeatures;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.PopularRecommendations;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.RecommendationCache;
 import com.vellumhub.recommendation_service.module.recommendation.domain.port.RecommendationRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -9,13 +12,22 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteRecommendationUseCase {
 
     private final RecommendationRepository recommendationRepository;
+    private final RecommendationCache recommendationCache;
+    private final PopularRecommendations popularRecommendations;
+    private final BookRankingFeatures bookRankingFeatures;
 
-    public DeleteRecommendationUseCase(RecommendationRepository recommendationRepository) {
+    public DeleteRecommendationUseCase(RecommendationRepository recommendationRepository, RecommendationCache recommendationCache, PopularRecommendations popularRecommendations, BookRankingFeatures bookRankingFeatures) {
         this.recommendationRepository = recommendationRepository;
+        this.recommendationCache = recommendationCache;
+        this.popularRecommendations = popularRecommendations;
+        this.bookRankingFeatures = bookRankingFeatures;
     }
 
     @Transactional
     public void execute(DeleteRecommendationCommand command) {
         recommendationRepository.deleteById(command.bookId());
+        bookRankingFeatures.remove(command.bookId());
+        recommendationCache.invalidateAll();
+        popularRecommendations.invalidate();
     }
 }
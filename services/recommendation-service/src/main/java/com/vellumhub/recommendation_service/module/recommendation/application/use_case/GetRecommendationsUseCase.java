@@ -2,44 +2,80 @@ package com.vellumhub.recommendation_service.module.recommendation.application.u
 
 import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookFeatureRepository;
 import com.vellumhub.recommendation_service.module.recommendation.application.command.GetRecommendationsCommand;
+import com.vellumhub.recommendation_service.module.recommendation.domain.exception.RecommendationDomainException;
 import com.vellumhub.recommendation_service.module.recommendation.domain.model.Recommendation;
+import com.vellumhub.recommendation_service.module.recommendation.domain.model.RecommendationCursor;
+import com.vellumhub.recommendation_service.module.recommendation.domain.model.RecommendationPage;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.PopularRecommendations;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.RecommendationCache;
 import com.vellumhub.recommendation_service.module.recommendation.domain.port.RecommendationRepository;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.RecommendationSessionStore;
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.RankingPipeline;
+import com.vellumhub.recommendation_service.module.user_profile.domain.port.UserProfileRepository;
 import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @Component
 public class GetRecommendationsUseCase {
 
     private final BookFeatureRepository bookFeatureRepository;
     private final RecommendationRepository recommendationRepository;
+    private final RecommendationCache recommendationCache;
+    private final PopularRecommendations popularRecommendations;
+    private final RecommendationSessionStore recommendationSessionStore;
+    private final RankingPipeline rankingPipeline;
+    private final UserProfileRepository userProfileRepository;
     private final VellumHubMetrics metrics;
+    private final int candidateDepth;
 
-    public GetRecommendationsUseCase(BookFeatureRepository bookFeatureRepository, RecommendationRepository recommendationRepository, VellumHubMetrics metrics) {
+    public GetRecommendationsUseCase(
+            BookFeatureRepository bookFeatureRepository,
+            RecommendationRepository recommendationRepository,
+            RecommendationCache recommendationCache,
+            PopularRecommendations popularRecommendations,
+            RecommendationSessionStore recommendationSessionStore,
+            RankingPipeline rankingPipeline,
+            UserProfileRepository userProfileRepository,
+            VellumHubMetrics metrics,
+            @Value("${recommendation.ranking.candidate-depth:200}") int candidateDepth
+    ) {
+        if (candidateDepth < 1) {
+            throw new IllegalArgumentException("recommendation.ranking.candidate-depth must be at least 1");
+        }
         this.bookFeatureRepository = bookFeatureRepository;
         this.recommendationRepository = recommendationRepository;
+        this.recommendationCache = recommendationCache;
+        this.popularRecommendations = popularRecommendations;
+        this.recommendationSessionStore = recommendationSessionStore;
+        this.rankingPipeline = rankingPipeline;
+        this.userProfileRepository = userProfileRepository;
         this.metrics = metrics;
+        this.candidateDepth = candidateDepth;
     }
 
-    public List<Recommendation> execute(GetRecommendationsCommand command) {
+    /**
+     * Returns one page of the user's feed. A request without a cursor ranks up to {@code candidateDepth}
+     * books (or reuses the cached ranking). Its cursor stores nothing: it pages the popularity feed by offset
+     * when the user has no ranking, and the user's current ranking otherwise. The request serving a ranking
+     * cursor pins that ranking in a session, so the pages after it stay consistent while the profile changes;
+     * a user who never asks for a second page costs no session write.
+     */
+    public RecommendationPage execute(GetRecommendationsCommand command) {
         var sample = metrics.startBusinessTimer();
 
         try {
-            List<UUID> booksId = bookFeatureRepository.findAllByUserId(
-                    command.userId(),
-                    command.limit(),
-                    command.offset()
-            );
-
-            if(booksId == null || booksId.isEmpty()){
-                booksId = bookFeatureRepository.findMostPopularMedias(command.limit(), command.offset());
-            }
-
-            List<Recommendation> recommendations = recommendationRepository.findAllById(booksId);
+            RecommendationPage page = command.cursor() == null
+                    ? firstPage(command)
+                    : nextPage(command, RecommendationCursor.decode(command.cursor()));
 
-            if (recommendations == null || recommendations.isEmpty()) {
+            if (page.recommendations() == null || page.recommendations().isEmpty()) {
                 metrics.recordBusinessCounter(VellumHubMetrics.RECOMMENDATION_EMPTY_RESULTS, "recommendation_generation", "empty");
                 metrics.recordRecommendationGenerationDuration(sample, "empty");
             } else {
@@ -47,11 +83,127 @@ public class GetRecommendationsUseCase {
                 metrics.recordRecommendationGenerationDuration(sample, "success");
             }
 
-            return recommendations;
+            return page;
         } catch (RuntimeException exception) {
             metrics.recordRecommendationGenerationDuration(sample, "failure");
             throw exception;
         }
     }
 
+    private RecommendationPage firstPage(GetRecommendationsCommand command) {
+        List<UUID> rankedBookIds = rankedBooksFor(command.userId());
+        int offset = Math.max(command.offset(), 0);
+        List<Recommendation> recommendations = pageOf(rankedBookIds, command.limit(), offset);
+
+        if (!hasMore(rankedBookIds, recommendations, command.limit(), offset)) {
+            return new RecommendationPage(recommendations, null);
+        }
+        int nextOffset = offset + command.limit();
+        RecommendationCursor next = rankedBookIds.isEmpty()
+                ? RecommendationCursor.popular(nextOffset)
+                : RecommendationCursor.ranking(nextOffset);
+        return new RecommendationPage(recommendations, next.encode());
+    }
+
+    private RecommendationPage nextPage(GetRecommendationsCommand command, RecommendationCursor cursor) {
+        List<UUID> rankedBookIds = switch (cursor.source()) {
+            case POPULAR -> List.of();
+            case RANKING -> rankedBooksFor(command.userId());
+            case SESSION -> timed("session_lookup", () -> recommendationSessionStore.find(cursor.sessionId(), command.userId()))
+                    .orElseThrow(() -> new RecommendationDomainException("Recommendation cursor has expired"));
+        };
+        List<Recommendation> recommendations = pageOf(rankedBookIds, command.limit(), cursor.offset());
+
+        if (!hasMore(rankedBookIds, recommendations, command.limit(), cursor.offset())) {
+            return new RecommendationPage(recommendations, null);
+        }
+        int nextOffset = cursor.offset() + command.limit();
+        RecommendationCursor next = switch (cursor.source()) {
+            case POPULAR -> RecommendationCursor.popular(nextOffset);
+            case RANKING -> rankedBookIds.isEmpty()
+                    ? RecommendationCursor.popular(nextOffset)
+                    : RecommendationCursor.session(timed("session_open", () -> recommendationSessionStore.open(command.userId(), rankedBookIds)), nextOffset);
+            case SESSION -> RecommendationCursor.session(cursor.sessionId(), nextOffset);
+        };
+        return new RecommendationPage(recommendations, next.encode());
+    }
+
+    /**
+     * Slices the ranked list, or pages the popularity ranking when the page holds no ranked candidates.
+     */
+    private List<Recommendation> pageOf(List<UUID> rankedBookIds, int limit, int offset) {
+        List<UUID> booksId = page(rankedBookIds, limit, offset);
+        if (booksId.isEmpty()) {
+            return timed("popular_fallback", () -> popularPage(limit, offset));
+        }
+        metrics.recordBusinessCounter(VellumHubMetrics.RECOMMENDATION_PAGE_SOURCE, "recommendation_generation", "ranked");
+        return timed("hydration", () -> recommendationRepository.findAllInOrder(booksId));
+    }
+
+    /**
+     * A ranked feed ends at its last candidate; the popularity feed ends at the first short page.
+     */
+    private boolean hasMore(List<UUID> rankedBookIds, List<Recommendation> recommendations, int limit, int offset) {
+        if (limit <= 0 || recommendations == null) {
+            return false;
+        }
+        return rankedBookIds.isEmpty()
+                ? recommendations.size() == limit
+                : offset + limit < rankedBookIds.size();
+    }
+
+    /**
+     * Returns the user's ranked candidate window, running the ranking pipeline only on a cache miss. The
+     * profile version is read before ranking, so a profile update racing the ranking leaves an entry that the
+     * next version check treats as stale.
+     */
+    private List<UUID> rankedBooksFor(UUID userId) {
+        Optional<List<UUID>> cached = timed("cache_lookup", () -> recommendationCache.get(userId, () -> profileVersionOf(userId)));
+        if (cached.isPresent()) {
+            metrics.recordRecommendationCandidates("cache", cached.get().size());
+            return cached.get();
+        }
+
+        Instant profileVersion = profileVersionOf(userId);
+        List<UUID> rankedBookIds = timed("ranking", () -> rankingPipeline.rank(userId, candidateDepth));
+        metrics.recordRecommendationCandidates("ranking", rankedBookIds.size());
+        recommendationCache.put(userId, profileVersion, rankedBookIds);
+        return rankedBookIds;
+    }
+
+    private Instant profileVersionOf(UUID userId) {
+        return userProfileRepository.findLastUpdated(userId).orElse(null);
+    }
+
+    /**
+     * Serves the cold-start fallback from the in-memory snapshot, querying the database only for pages
+     * the snapshot does not cover.
+     */
+    private List<Recommendation> popularPage(int limit, int offset) {
+        Optional<List<Recommendation>> snapshotPage = popularRecommendations.page(limit, offset);
+        if (snapshotPage.isPresent()) {
+            metrics.recordBusinessCounter(VellumHubMetrics.RECOMMENDATION_PAGE_SOURCE, "recommendation_generation", "popular_snapshot");
+            return snapshotPage.get();
+        }
+        metrics.recordBusinessCounter(VellumHubMetrics.RECOMMENDATION_PAGE_SOURCE, "recommendation_generation", "popular_database");
+        return recommendationRepository.findAllInOrder(bookFeatureRepository.findMostPopularMedias(limit, offset));
+    }
+
+    private List<UUID> page(List<UUID> rankedBookIds, int limit, int offset) {
+        int from = Math.max(offset, 0);
+        if (limit <= 0 || from >= rankedBookIds.size()) {
+            return List.of();
+        }
+        return List.copyOf(rankedBookIds.subList(from, Math.min(rankedBookIds.size(), from + limit)));
+    }
+
+    private <T> T timed(String stage, Supplier<T> step) {
+        var sample = metrics.startBusinessTimer();
+        try {
+            return step.get();
+        } finally {
+            metrics.recordRecommendationStageDuration(sample, stage);
+        }
+    }
+
 }
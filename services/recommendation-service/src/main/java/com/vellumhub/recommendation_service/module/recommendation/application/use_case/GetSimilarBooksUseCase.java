@@ -0,0 +1,62 @@
+package com.vellumhub.recommendation_service.module.recommendation.application.use_case;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.exception.BookFeatureNotFoundException;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookFeatureRepository;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookNeighbors;
+import com.vellumhub.recommendation_service.module.recommendation.application.command.GetSimilarBooksCommand;
+import com.vellumhub.recommendation_service.module.recommendation.domain.exception.RecommendationDomainException;
+import com.vellumhub.recommendation_service.module.recommendation.domain.model.Recommendation;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.RecommendationRepository;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Component
+public class GetSimilarBooksUseCase {
+
+    private static final String OPERATION = "similar_books";
+
+    private final BookNeighbors bookNeighbors;
+    private final BookFeatureRepository bookFeatureRepository;
+    private final RecommendationRepository recommendationRepository;
+    private final VellumHubMetrics metrics;
+
+    public GetSimilarBooksUseCase(
+            BookNeighbors bookNeighbors,
+            BookFeatureRepository bookFeatureRepository,
+            RecommendationRepository recommendationRepository,
+            VellumHubMetrics metrics
+    ) {
+        this.bookNeighbors = bookNeighbors;
+        this.bookFeatureRepository = bookFeatureRepository;
+        this.recommendationRepository = recommendationRepository;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the books nearest to the given one, nearest first, from its precomputed neighbour list.
+     * Books whose list was never computed get it computed and stored on this first request.
+     *
+     * @throws BookFeatureNotFoundException when the book has no feature
+     */
+    public List<Recommendation> execute(GetSimilarBooksCommand command) {
+        if (command.limit() < 1 || command.limit() > bookNeighbors.size()) {
+            throw new RecommendationDomainException("Similar books limit must be between 1 and " + bookNeighbors.size());
+        }
+
+        List<UUID> neighbors = bookNeighbors.find(command.bookId(), command.limit());
+        if (neighbors.isEmpty()) {
+            bookFeatureRepository.findById(command.bookId())
+                    .orElseThrow(() -> new BookFeatureNotFoundException(command.bookId().toString()));
+            bookNeighbors.refresh(List.of(command.bookId()));
+            neighbors = bookNeighbors.find(command.bookId(), command.limit());
+            metrics.recordBusinessCounter(VellumHubMetrics.SIMILAR_BOOKS_LOOKUPS, OPERATION, "computed");
+        } else {
+            metrics.recordBusinessCounter(VellumHubMetrics.SIMILAR_BOOKS_LOOKUPS, OPERATION, "precomputed");
+        }
+
+        return recommendationRepository.findAllInOrder(neighbors);
+    }
+}
@@ -3,16 +3,31 @@ package com.vellumhub.recommendation_service.module.recommendation.application.u
 import com.vellumhub.recommendation_service.module.recommendation.application.command.UpdateRecommendationCommand;
 import com.vellumhub.recommendation_service.module.recommendation.domain.exception.RecommendationDomainException;
 import com.vellumhub.recommendation_service.module.recommendation.domain.model.Recommendation;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.BookRankingFeatures;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.PopularRecommendations;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.RecommendationCache;
 import com.vellumhub.recommendation_service.module.recommendation.domain.port.RecommendationRepository;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 public class UpdateRecommendationUseCase {
 
     private final RecommendationRepository recommendationRepository;
+    private final RecommendationCache recommendationCache;
+    private final PopularRecommendations popularRecommendations;
+    private final BookRankingFeatures bookRankingFeatures;
 
-    public UpdateRecommendationUseCase(RecommendationRepository recommendationRepository) {
+    public UpdateRecommendationUseCase(RecommendationRepository recommendationRepository, RecommendationCache recommendationCache, PopularRecommendations popularRecommendations, BookRankingFeatures bookRankingFeatures) {
         this.recommendationRepository = recommendationRepository;
+        this.recommendationCache = recommendationCache;
+        this.popularRecommendations = popularRecommendations;
+        this.bookRankingFeatures = bookRankingFeatures;
     }
 
     public void execute(UpdateRecommendationCommand command){
@@ -29,6 +44,38 @@ public class UpdateRecommendationUseCase {
         );
 
         recommendationRepository.save(recommendation);
+        bookRankingFeatures.upsert(recommendation);
+        recommendationCache.invalidateAll();
+        popularRecommendations.invalidate();
+    }
+
+    public void executeAll(List<UpdateRecommendationCommand> commands){
+        Map<UUID, Recommendation> recommendations = recommendationRepository.findAllById(commands.stream()
+                        .map(UpdateRecommendationCommand::bookId)
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Recommendation::getBookId, Function.identity()));
+
+        for (UpdateRecommendationCommand command : commands) {
+            Recommendation recommendation = recommendations.get(command.bookId());
+            if (recommendation == null) {
+                throw new RecommendationDomainException("Recommendation not found");
+            }
+            recommendation.update(
+                    command.title(),
+                    command.description(),
+                    command.author(),
+                    command.coverUrl(),
+                    command.releaseYear(),
+                    command.genres()
+            );
+        }
+
+        recommendationRepository.saveAll(List.copyOf(recommendations.values()));
+        recommendations.values().forEach(bookRankingFeatures::upsert);
+        recommendationCache.invalidateAll();
+        popularRecommendations.invalidate();
     }
 
 }
@@ -0,0 +1,76 @@
+package com.vellumhub.recommendation_service.module.recommendation.domain.model;
+
+import com.vellumhub.recommendation_service.module.recommendation.domain.exception.RecommendationDomainException;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position inside a recommendation feed, handed to clients as an opaque URL-safe token.
+ * <p>
+ * A {@link Source#POPULAR} cursor pages the popularity feed by offset and a {@link Source#RANKING} cursor pages
+ * the user's current ranking; neither needs stored state. The request serving a ranking cursor pins the ranking
+ * in a session and hands out a {@link Source#SESSION} cursor, so the pages after it stay consistent.
+ * </p>
+ */
+public record RecommendationCursor(Source source, UUID sessionId, int offset) {
+
+    private static final int UNPINNED_BYTES = 1 + Integer.BYTES;
+    private static final int SESSION_BYTES = UNPINNED_BYTES + 2 * Long.BYTES;
+
+    public enum Source {
+        POPULAR,
+        RANKING,
+        SESSION
+    }
+
+    public static RecommendationCursor popular(int offset) {
+        return new RecommendationCursor(Source.POPULAR, null, offset);
+    }
+
+    public static RecommendationCursor ranking(int offset) {
+        return new RecommendationCursor(Source.RANKING, null, offset);
+    }
+
+    public static RecommendationCursor session(UUID sessionId, int offset) {
+        return new RecommendationCursor(Source.SESSION, sessionId, offset);
+    }
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(source == Source.SESSION ? SESSION_BYTES : UNPINNED_BYTES)
+                .put((byte) source.ordinal())
+                .putInt(offset);
+        if (source == Source.SESSION) {
+            buffer.putLong(sessionId.getMostSignificantBits())
+                    .putLong(sessionId.getLeastSignificantBits());
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static RecommendationCursor decode(String token) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException ex) {
+            throw new RecommendationDomainException("Invalid recommendation cursor");
+        }
+        if (bytes.length != UNPINNED_BYTES && bytes.length != SESSION_BYTES) {
+            throw new RecommendationDomainException("Invalid recommendation cursor");
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int sourceIndex = buffer.get();
+        int offset = buffer.getInt();
+        if (sourceIndex < 0 || sourceIndex >= Source.values().length || offset < 0) {
+            throw new RecommendationDomainException("Invalid recommendation cursor");
+        }
+        Source source = Source.values()[sourceIndex];
+        if ((source == Source.SESSION) != (bytes.length == SESSION_BYTES)) {
+            throw new RecommendationDomainException("Invalid recommendation cursor");
+        }
+        return source == Source.SESSION
+                ? session(new UUID(buffer.getLong(), buffer.getLong()), offset)
+                : new RecommendationCursor(source, null, offset);
+    }
+}
@@ -0,0 +1,15 @@
+package com.vellumhub.recommendation_service.module.recommendation.domain.model;
+
+import java.util.List;
+
+/**
+ * One page of a recommendation feed.
+ *
+ * @param recommendations the recommendations in rank order
+ * @param nextCursor      token for the following page, or {@code null} when the feed is exhausted
+ */
+public record RecommendationPage(
+        List<Recommendation> recommendations,
+        String nextCursor
+) {
+}
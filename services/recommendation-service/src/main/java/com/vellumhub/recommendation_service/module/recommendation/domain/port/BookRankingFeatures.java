@@ -0,0 +1,37 @@
+package com.vellumhub.recommendation_service.module.recommendation.domain.port;
+
+import com.vellumhub.recommendation_service.module.recommendation.domain.model.Recommendation;
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.RankingCandidates;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Catalog attributes the ranking pipeline reads per candidate (release year, genres, popularity), kept in
+ * memory so re-ranking never queries the database.
+ */
+public interface BookRankingFeatures {
+
+    /**
+     * Describes the candidates from {@code fromSlot} on. Books the catalog does not know are left as they are.
+     */
+    void describe(RankingCandidates candidates, int fromSlot);
+
+    /**
+     * Returns up to {@code limit} books, most popular first.
+     */
+    List<UUID> mostPopular(int limit);
+
+    /**
+     * Returns up to {@code limit} books having at least one of {@code genreBits}, most popular first.
+     */
+    List<UUID> mostPopularInGenres(long genreBits, int limit);
+
+    /**
+     * Records a created or updated book so ranking sees it before the next refresh.
+     */
+    void upsert(Recommendation recommendation);
+
+    void remove(UUID bookId);
+
+}
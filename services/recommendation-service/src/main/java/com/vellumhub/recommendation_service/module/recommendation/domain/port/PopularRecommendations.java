@@ -0,0 +1,24 @@
+package com.vellumhub.recommendation_service.module.recommendation.domain.port;
+
+import com.vellumhub.recommendation_service.module.recommendation.domain.model.Recommendation;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Cold-start ranking of the most popular books, hydrated ahead of time and served from memory.
+ */
+public interface PopularRecommendations {
+
+    /**
+     * Returns the requested page of the popular ranking, or empty when the in-memory ranking cannot
+     * answer it: before the first load, or when the page reaches past the books it holds.
+     */
+    Optional<List<Recommendation>> page(int limit, int offset);
+
+    /**
+     * Schedules a rebuild, used when the book catalog changes.
+     */
+    void invalidate();
+
+}
@@ -0,0 +1,37 @@
+package com.vellumhub.recommendation_service.module.recommendation.domain.port;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Cache of ranked recommendation book IDs per user.
+ * Entries hold the full ranked window for a user so any page can be sliced from memory, tagged with the
+ * {@code last_updated} version of the profile they were ranked from. Explicit invalidation only reaches the
+ * local replica, so an entry is checked against the current profile version now and then, and an entry ranked
+ * from an older one is a miss.
+ */
+public interface RecommendationCache {
+
+    /**
+     * Returns the cached ranking unless it turns out to be ranked from another profile version.
+     * {@code profileVersion} is only asked when the entry was not checked recently; it returns {@code null}
+     * for a user without a profile.
+     */
+    Optional<List<UUID>> get(UUID userId, Supplier<Instant> profileVersion);
+
+    void put(UUID userId, Instant profileVersion, List<UUID> rankedBookIds);
+
+    /**
+     * Drops the cached ranking of a single user, used when the user's profile changes.
+     */
+    void invalidate(UUID userId);
+
+    /**
+     * Drops every cached ranking, used when the book catalog changes.
+     */
+    void invalidateAll();
+
+}
@@ -9,9 +9,17 @@ import java.util.UUID;
 public interface RecommendationRepository {
     void save(Recommendation recommendation);
 
+    void saveAll(List<Recommendation> recommendations);
+
     Optional<Recommendation> findById(UUID id);
 
     void deleteById(UUID id);
 
     List<Recommendation> findAllById(List<UUID> booksId);
+
+    /**
+     * Loads the recommendations for a ranked list of books, genres included, in the order given. Books
+     * without a recommendation are skipped. The results are read-only copies, not managed entities.
+     */
+    List<Recommendation> findAllInOrder(List<UUID> bookIds);
 }
@@ -0,0 +1,30 @@
+package com.vellumhub.recommendation_service.module.recommendation.domain.port;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Short-lived store of the ranked book list a feed was opened with, so later pages come from the same
+ * ranking even if the user's profile changes in between. Sessions must be visible to every instance, since
+ * consecutive pages of one feed can reach different replicas.
+ */
+public interface RecommendationSessionStore {
+
+    /**
+     * Keeps {@code rankedBookIds} for the user and returns the new session ID.
+     */
+    UUID open(UUID userId, List<UUID> rankedBookIds);
+
+    /**
+     * Returns the ranked list of a session, or empty when the session expired or belongs to another user.
+     */
+    Optional<List<UUID>> find(UUID sessionId, UUID userId);
+
+    /**
+     * Deletes the sessions that expired as of {@code now} and returns how many were removed.
+     */
+    int removeExpired(Instant now);
+
+}
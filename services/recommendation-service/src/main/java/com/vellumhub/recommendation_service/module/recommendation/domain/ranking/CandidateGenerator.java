@@ -0,0 +1,20 @@
+package com.vellumhub.recommendation_service.module.recommendation.domain.ranking;
+
+/**
+ * First stage of the ranking pipeline: adds candidate books for a user.
+ * <p>
+ * Generators run in {@link org.springframework.core.annotation.Order} order and see what earlier ones
+ * added, already described with catalog attributes. They must leave out books in the user's
+ * interacted-book filter.
+ * </p>
+ */
+public interface CandidateGenerator {
+
+    /**
+     * Stage name used to tag the generator's latency.
+     */
+    String name();
+
+    void generate(RankingContext context, RankingCandidates candidates);
+
+}
@@ -0,0 +1,17 @@
+package com.vellumhub.recommendation_service.module.recommendation.domain.ranking;
+
+/**
+ * Second stage of the ranking pipeline: adds a weighted signal to every candidate's score.
+ * <p>
+ * Scorers are additive and independent, so they can be enabled, removed or re-weighted without touching
+ * each other. Higher scores rank first.
+ * </p>
+ */
+public interface CandidateScorer {
+
+    /**
+     * Adds this scorer's contribution to {@code scores}, indexed by candidate slot.
+     */
+    void score(RankingCandidates candidates, double[] scores);
+
+}
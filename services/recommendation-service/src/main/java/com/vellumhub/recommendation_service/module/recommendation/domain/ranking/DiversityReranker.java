@@ -0,0 +1,91 @@
+package com.vellumhub.recommendation_service.module.recommendation.domain.ranking;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Final ranking stage: orders scored candidates, optionally trading score for genre variety with maximal
+ * marginal relevance (MMR).
+ * <p>
+ * With {@code diversity = d > 0}, each pick maximizes {@code (1 - d) * score - d * overlap}, where overlap
+ * is the highest genre Jaccard similarity to any book picked so far. The overlap of every remaining book
+ * is updated once per pick, so selecting {@code k} of {@code n} costs {@code O(n * k)}.
+ * With {@code d = 0} the best {@code k} candidates are taken by score with {@link TopScores}.
+ * </p>
+ */
+@Component
+public class DiversityReranker {
+
+    private final double diversity;
+
+    public DiversityReranker(@Value("${recommendation.ranking.diversity:0.0}") double diversity) {
+        if (diversity < 0 || diversity > 1) {
+            throw new IllegalArgumentException("recommendation.ranking.diversity must be between 0 and 1");
+        }
+        this.diversity = diversity;
+    }
+
+    /**
+     * Returns up to {@code limit} book IDs, best first.
+     */
+    public List<UUID> select(RankingCandidates candidates, double[] scores, int limit) {
+        int count = Math.min(limit, candidates.size());
+        if (count <= 0) {
+            return List.of();
+        }
+        return diversity == 0
+                ? byScore(candidates, scores, count)
+                : byMarginalRelevance(candidates, scores, count);
+    }
+
+    private List<UUID> byScore(RankingCandidates candidates, double[] scores, int count) {
+        int[] best = TopScores.select(scores, candidates.size(), count);
+        List<UUID> selected = new ArrayList<>(best.length);
+        for (int slot : best) {
+            selected.add(candidates.bookId(slot));
+        }
+        return selected;
+    }
+
+    private List<UUID> byMarginalRelevance(RankingCandidates candidates, double[] scores, int count) {
+        int size = candidates.size();
+        boolean[] picked = new boolean[size];
+        double[] overlap = new double[size];
+        List<UUID> selected = new ArrayList<>(count);
+
+        while (selected.size() < count) {
+            int best = -1;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (int slot = 0; slot < size; slot++) {
+                if (picked[slot]) {
+                    continue;
+                }
+                double value = (1 - diversity) * scores[slot] - diversity * overlap[slot];
+                if (value > bestValue) {
+                    best = slot;
+                    bestValue = value;
+                }
+            }
+
+            picked[best] = true;
+            selected.add(candidates.bookId(best));
+
+            long bestGenres = candidates.genres(best);
+            for (int slot = 0; slot < size; slot++) {
+                if (!picked[slot]) {
+                    overlap[slot] = Math.max(overlap[slot], jaccard(candidates.genres(slot), bestGenres));
+                }
+            }
+        }
+        return selected;
+    }
+
+    private static double jaccard(long left, long right) {
+        int union = Long.bitCount(left | right);
+        return union == 0 ? 0 : (double) Long.bitCount(left & right) / union;
+    }
+}
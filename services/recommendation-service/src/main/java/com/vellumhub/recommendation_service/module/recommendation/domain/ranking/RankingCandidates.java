@@ -0,0 +1,161 @@
+package com.vellumhub.recommendation_service.module.recommendation.domain.ranking;
+
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.InteractedBookFilter;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Candidate books of one ranking request, held as parallel primitive arrays so scorers run as tight
+ * loops without boxing.
+ * <p>
+ * A book added by several generators keeps one slot. Distance and popularity are {@code NaN} until a
+ * generator or the {@code BookRankingFeatures} provide them; release year and genres stay {@code 0}
+ * for books the catalog snapshot does not know, and the collaborative score stays {@code 0} for books
+ * no similar reader interacted with.
+ * </p>
+ */
+public final class RankingCandidates {
+
+    private UUID[] bookIds;
+    private float[] distances;
+    private double[] popularity;
+    private int[] releaseYears;
+    private long[] genres;
+    private double[] collaborative;
+    private int size;
+
+    private final Map<UUID, Integer> slots;
+
+    public RankingCandidates(int expectedSize) {
+        int capacity = Math.max(expectedSize, 16);
+        this.bookIds = new UUID[capacity];
+        this.distances = new float[capacity];
+        this.popularity = new double[capacity];
+        this.releaseYears = new int[capacity];
+        this.genres = new long[capacity];
+        this.collaborative = new double[capacity];
+        this.slots = HashMap.newHashMap(capacity);
+    }
+
+    /**
+     * Adds a book without a known distance, returning its slot.
+     */
+    public int add(UUID bookId) {
+        return add(bookId, Float.NaN, Double.NaN);
+    }
+
+    /**
+     * Adds a book, or keeps the closer distance when it is already present. Returns its slot.
+     */
+    public int add(UUID bookId, float distance, double popularityScore) {
+        Integer existing = slots.get(bookId);
+        if (existing != null) {
+            if (Float.isNaN(distances[existing]) || distance < distances[existing]) {
+                distances[existing] = distance;
+            }
+            if (Double.isNaN(popularity[existing])) {
+                popularity[existing] = popularityScore;
+            }
+            return existing;
+        }
+
+        if (size == bookIds.length) {
+            grow();
+        }
+        int slot = size++;
+        bookIds[slot] = bookId;
+        distances[slot] = distance;
+        popularity[slot] = popularityScore;
+        slots.put(bookId, slot);
+        return slot;
+    }
+
+    /**
+     * Adds up to {@code limit} books from {@code ranked}, in order, skipping books already present or in
+     * {@code interacted}. Returns how many were added.
+     */
+    public int addUnseen(List<UUID> ranked, InteractedBookFilter interacted, int limit) {
+        int added = 0;
+        for (UUID bookId : ranked) {
+            if (added >= limit) {
+                break;
+            }
+            if (!contains(bookId) && !interacted.mightContain(bookId)) {
+                add(bookId);
+                added++;
+            }
+        }
+        return added;
+    }
+
+    public boolean contains(UUID bookId) {
+        return slots.containsKey(bookId);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public UUID bookId(int slot) {
+        return bookIds[slot];
+    }
+
+    public float distance(int slot) {
+        return distances[slot];
+    }
+
+    public double popularity(int slot) {
+        return popularity[slot];
+    }
+
+    public int releaseYear(int slot) {
+        return releaseYears[slot];
+    }
+
+    /**
+     * Genre bit set of the book, as assigned by the {@code BookRankingFeatures}.
+     */
+    public long genres(int slot) {
+        return genres[slot];
+    }
+
+    /**
+     * Similarity-weighted count of the user's neighbours that interacted with the book.
+     */
+    public double collaborative(int slot) {
+        return collaborative[slot];
+    }
+
+    public void setCollaborative(int slot, double score) {
+        collaborative[slot] = score;
+    }
+
+    /**
+     * Sets the catalog attributes of a slot. Popularity is only filled in when no generator provided one.
+     */
+    public void describe(int slot, int releaseYear, long genreBits, double popularityScore) {
+        releaseYears[slot] = releaseYear;
+        genres[slot] = genreBits;
+        if (Double.isNaN(popularity[slot])) {
+            popularity[slot] = popularityScore;
+        }
+    }
+
+    private void grow() {
+        int capacity = bookIds.length * 2;
+        bookIds = Arrays.copyOf(bookIds, capacity);
+        distances = Arrays.copyOf(distances, capacity);
+        popularity = Arrays.copyOf(popularity, capacity);
+        releaseYears = Arrays.copyOf(releaseYears, capacity);
+        genres = Arrays.copyOf(genres, capacity);
+        collaborative = Arrays.copyOf(collaborative, capacity);
+    }
+}
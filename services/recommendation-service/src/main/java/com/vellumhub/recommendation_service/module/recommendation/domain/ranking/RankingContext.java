@@ -0,0 +1,14 @@
+package com.vellumhub.recommendation_service.module.recommendation.domain.ranking;
+
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.InteractedBookFilter;
+
+import java.util.UUID;
+
+/**
+ * Per-request input shared by the candidate generators.
+ */
+public record RankingContext(
+        UUID userId,
+        InteractedBookFilter interacted
+) {
+}
@@ -0,0 +1,91 @@
+package com.vellumhub.recommendation_service.module.recommendation.domain.ranking;
+
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.BookRankingFeatures;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.InteractedBookFilter;
+import com.vellumhub.recommendation_service.module.user_profile.domain.port.UserProfileRepository;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Two-stage ranking of a user's feed.
+ * <p>
+ * Candidate generators run in order, each followed by an in-memory lookup of catalog attributes for the
+ * books it added. Every {@link CandidateScorer} then adds its weighted signal to one primitive score
+ * array, and the {@link DiversityReranker} picks the final order. Only candidate generation touches the
+ * database; scoring and selection run over the arrays, so re-ranking can be tuned without adding queries.
+ * Each stage is timed separately.
+ * </p>
+ */
+@Component
+public class RankingPipeline {
+
+    private final UserProfileRepository userProfileRepository;
+    private final List<CandidateGenerator> generators;
+    private final List<CandidateScorer> scorers;
+    private final DiversityReranker diversityReranker;
+    private final BookRankingFeatures bookRankingFeatures;
+    private final VellumHubMetrics metrics;
+
+    public RankingPipeline(
+            UserProfileRepository userProfileRepository,
+            List<CandidateGenerator> generators,
+            List<CandidateScorer> scorers,
+            DiversityReranker diversityReranker,
+            BookRankingFeatures bookRankingFeatures,
+            VellumHubMetrics metrics
+    ) {
+        this.userProfileRepository = userProfileRepository;
+        this.generators = List.copyOf(generators);
+        this.scorers = List.copyOf(scorers);
+        this.diversityReranker = diversityReranker;
+        this.bookRankingFeatures = bookRankingFeatures;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns up to {@code depth} book IDs ranked for the user, or an empty list for users without a
+     * profile.
+     */
+    public List<UUID> rank(UUID userId, int depth) {
+        Optional<InteractedBookFilter> interacted = userProfileRepository.findInteractedBookFilter(userId);
+        if (interacted.isEmpty()) {
+            return List.of();
+        }
+
+        RankingContext context = new RankingContext(userId, interacted.get());
+        RankingCandidates candidates = new RankingCandidates(depth * 2);
+        for (CandidateGenerator generator : generators) {
+            Timer.Sample sample = metrics.startBusinessTimer();
+            try {
+                int from = candidates.size();
+                generator.generate(context, candidates);
+                bookRankingFeatures.describe(candidates, from);
+            } finally {
+                metrics.recordRankingStageDuration(sample, "generate_" + generator.name());
+            }
+        }
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        Timer.Sample scoring = metrics.startBusinessTimer();
+        double[] scores = new double[candidates.size()];
+        try {
+            scorers.forEach(scorer -> scorer.score(candidates, scores));
+        } finally {
+            metrics.recordRankingStageDuration(scoring, "score");
+        }
+
+        Timer.Sample selection = metrics.startBusinessTimer();
+        try {
+            return diversityReranker.select(candidates, scores, depth);
+        } finally {
+            metrics.recordRankingStageDuration(selection, "select");
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.vellumhub.recommendation_service.module.recommendation.domain.ranking;
+
+/**
+ * Orders positions of a primitive score array, best first, without boxing them for a comparator.
+ * <p>
+ * A bounded min-heap of positions keeps the best {@code limit} seen so far, so selecting {@code k} of
+ * {@code n} costs {@code O(n log k)} and a full ordering is a heap sort. Scores compare like
+ * {@link Double#compare}, and equal scores keep position order, as a stable sort would.
+ * </p>
+ */
+public final class TopScores {
+
+    private TopScores() {
+    }
+
+    /**
+     * Returns the positions of the {@code limit} highest of the first {@code size} scores, best first.
+     */
+    public static int[] select(double[] scores, int size, int limit) {
+        int count = Math.min(limit, size);
+        if (count <= 0) {
+            return new int[0];
+        }
+
+        int[] heap = new int[count];
+        int heapSize = 0;
+        for (int position = 0; position < size; position++) {
+            if (heapSize < count) {
+                heap[heapSize] = position;
+                siftUp(heap, heapSize++, scores);
+            } else if (isBetter(position, heap[0], scores)) {
+                heap[0] = position;
+                siftDown(heap, heapSize, scores);
+            }
+        }
+
+        int[] ordered = new int[count];
+        for (int rank = count - 1; rank >= 0; rank--) {
+            ordered[rank] = heap[0];
+            heap[0] = heap[--heapSize];
+            siftDown(heap, heapSize, scores);
+        }
+        return ordered;
+    }
+
+    private static boolean isBetter(int left, int right, double[] scores) {
+        int order = Double.compare(scores[left], scores[right]);
+        return order > 0 || (order == 0 && left < right);
+    }
+
+    /**
+     * Moves the entry at {@code index} towards the root, which holds the worst position kept.
+     */
+    private static void siftUp(int[] heap, int index, double[] scores) {
+        int position = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!isBetter(heap[parent], position, scores)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = position;
+    }
+
+    private static void siftDown(int[] heap, int size, double[] scores) {
+        if (size == 0) {
+            return;
+        }
+        int position = heap[0];
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && isBetter(heap[child], heap[child + 1], scores)) {
+                child++;
+            }
+            if (!isBetter(position, heap[child], scores)) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = position;
+    }
+}
@@ -0,0 +1,101 @@
+package com.vellumhub.recommendation_service.module.recommendation.domain.ranking.generator;
+
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.CandidateGenerator;
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.RankingCandidates;
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.RankingContext;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.NeighborBooks;
+import com.vellumhub.recommendation_service.module.user_profile.domain.port.UserNeighbors;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * "Readers like you": books the user's precomputed nearest neighbours interacted with, each scored by the
+ * summed similarity of the neighbours that read it.
+ * <p>
+ * The neighbour lists are kept by a background job, so a request reads at most {@code user-neighbors.size}
+ * neighbours with {@code books-per-neighbor} books each and merges them in memory. Books the vector search
+ * already found keep their slot and gain the score; the best-scored remaining books are added up to
+ * {@code count}.
+ * </p>
+ */
+@Component
+@Order(1)
+public class CollaborativeCandidateGenerator implements CandidateGenerator {
+
+    private final UserNeighbors userNeighbors;
+    private final VellumHubMetrics metrics;
+    private final int count;
+    private final int booksPerNeighbor;
+
+    public CollaborativeCandidateGenerator(
+            UserNeighbors userNeighbors,
+            VellumHubMetrics metrics,
+            @Value("${recommendation.ranking.collaborative-candidates:50}") int count,
+            @Value("${recommendation.ranking.collaborative.books-per-neighbor:50}") int booksPerNeighbor
+    ) {
+        if (count < 0) {
+            throw new IllegalArgumentException("recommendation.ranking.collaborative-candidates must not be negative");
+        }
+        if (booksPerNeighbor < 1) {
+            throw new IllegalArgumentException("recommendation.ranking.collaborative.books-per-neighbor must be at least 1");
+        }
+        this.userNeighbors = userNeighbors;
+        this.metrics = metrics;
+        this.count = count;
+        this.booksPerNeighbor = booksPerNeighbor;
+    }
+
+    @Override
+    public String name() {
+        return "collaborative";
+    }
+
+    @Override
+    public void generate(RankingContext context, RankingCandidates candidates) {
+        if (count == 0) {
+            return;
+        }
+        List<NeighborBooks> neighbors = userNeighbors.findNeighborBooks(context.userId(), booksPerNeighbor);
+        if (neighbors.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, Double> scores = HashMap.newHashMap(neighbors.size() * booksPerNeighbor);
+        for (NeighborBooks neighbor : neighbors) {
+            if (neighbor.similarity() <= 0) {
+                continue;
+            }
+            for (UUID bookId : neighbor.bookIds()) {
+                if (!context.interacted().mightContain(bookId)) {
+                    scores.merge(bookId, (double) neighbor.similarity(), Double::sum);
+                }
+            }
+        }
+        metrics.recordCollaborativeCandidates(scores.size());
+
+        int added = 0;
+        for (Map.Entry<UUID, Double> entry : byScore(scores)) {
+            boolean present = candidates.contains(entry.getKey());
+            if (!present && added >= count) {
+                continue;
+            }
+            candidates.setCollaborative(candidates.add(entry.getKey()), entry.getValue());
+            if (!present) {
+                added++;
+            }
+        }
+    }
+
+    private static List<Map.Entry<UUID, Double>> byScore(Map<UUID, Double> scores) {
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<UUID, Double>comparingByValue().reversed())
+                .toList();
+    }
+}
@@ -0,0 +1,81 @@
+package com.vellumhub.recommendation_service.module.recommendation.domain.ranking.generator;
+
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.BookRankingFeatures;
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.CandidateGenerator;
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.RankingCandidates;
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.RankingContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds popular unseen books from the genres that dominate the candidates found so far, which reach
+ * books whose embeddings sit outside the vector neighbourhood.
+ */
+@Component
+@Order(3)
+public class GenreCandidateGenerator implements CandidateGenerator {
+
+    static final int TOP_GENRES = 3;
+
+    private final BookRankingFeatures bookRankingFeatures;
+    private final int count;
+
+    public GenreCandidateGenerator(
+            BookRankingFeatures bookRankingFeatures,
+            @Value("${recommendation.ranking.genre-candidates:50}") int count
+    ) {
+        if (count < 0) {
+            throw new IllegalArgumentException("recommendation.ranking.genre-candidates must not be negative");
+        }
+        this.bookRankingFeatures = bookRankingFeatures;
+        this.count = count;
+    }
+
+    @Override
+    public String name() {
+        return "genre";
+    }
+
+    @Override
+    public void generate(RankingContext context, RankingCandidates candidates) {
+        if (count == 0) {
+            return;
+        }
+        long topGenres = topGenres(candidates);
+        if (topGenres == 0) {
+            return;
+        }
+        candidates.addUnseen(bookRankingFeatures.mostPopularInGenres(topGenres, count * 2), context.interacted(), count);
+    }
+
+    /**
+     * Bits of the {@link #TOP_GENRES} genres carried by the most candidates.
+     */
+    static long topGenres(RankingCandidates candidates) {
+        int[] counts = new int[Long.SIZE];
+        for (int slot = 0; slot < candidates.size(); slot++) {
+            long genres = candidates.genres(slot);
+            while (genres != 0) {
+                counts[Long.numberOfTrailingZeros(genres)]++;
+                genres &= genres - 1;
+            }
+        }
+
+        long selected = 0;
+        for (int pick = 0; pick < TOP_GENRES; pick++) {
+            int best = -1;
+            for (int bit = 0; bit < Long.SIZE; bit++) {
+                if (counts[bit] > 0 && (best < 0 || counts[bit] > counts[best])) {
+                    best = bit;
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+            selected |= 1L << best;
+            counts[best] = 0;
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,45 @@
+package com.vellumhub.recommendation_service.module.recommendation.domain.ranking.generator;
+
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.BookRankingFeatures;
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.CandidateGenerator;
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.RankingCandidates;
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.RankingContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Blends the most popular unseen books into a personalized pool. Users without vector or collaborative
+ * candidates are left to the popularity feed, which pages past what this generator would add.
+ */
+@Component
+@Order(2)
+public class PopularCandidateGenerator implements CandidateGenerator {
+
+    private final BookRankingFeatures bookRankingFeatures;
+    private final int count;
+
+    public PopularCandidateGenerator(
+            BookRankingFeatures bookRankingFeatures,
+            @Value("${recommendation.ranking.popular-candidates:50}") int count
+    ) {
+        if (count < 0) {
+            throw new IllegalArgumentException("recommendation.ranking.popular-candidates must not be negative");
+        }
+        this.bookRankingFeatures = bookRankingFeatures;
+        this.count = count;
+    }
+
+    @Override
+    public String name() {
+        return "popular";
+    }
+
+    @Override
+    public void generate(RankingContext context, RankingCandidates candidates) {
+        if (count == 0 || candidates.isEmpty()) {
+            return;
+        }
+        candidates.addUnseen(bookRankingFeatures.mostPopular(count * 2), context.interacted(), count);
+    }
+}
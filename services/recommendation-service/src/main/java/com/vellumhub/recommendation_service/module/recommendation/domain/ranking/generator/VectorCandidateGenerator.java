@@ -0,0 +1,33 @@
+package com.vellumhub.recommendation_service.module.recommendation.domain.ranking.generator;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookFeatureRepository;
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.CandidateGenerator;
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.RankingCandidates;
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.RankingContext;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Nearest books to the user's profile vector, from the configured candidate search.
+ */
+@Component
+@Order(0)
+public class VectorCandidateGenerator implements CandidateGenerator {
+
+    private final BookFeatureRepository bookFeatureRepository;
+
+    public VectorCandidateGenerator(BookFeatureRepository bookFeatureRepository) {
+        this.bookFeatureRepository = bookFeatureRepository;
+    }
+
+    @Override
+    public String name() {
+        return "vector";
+    }
+
+    @Override
+    public void generate(RankingContext context, RankingCandidates candidates) {
+        bookFeatureRepository.findVectorCandidates(context.userId(), context.interacted())
+                .forEach(match -> candidates.add(match.bookId(), match.distance(), match.popularityScore()));
+    }
+}
@@ -0,0 +1,37 @@
+package com.vellumhub.recommendation_service.module.recommendation.domain.ranking.scorer;
+
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.CandidateScorer;
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.RankingCandidates;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rewards books read by similar users with {@code weight * collaborative / max collaborative}, so the
+ * book most backed by the user's neighbours gets the full weight whatever the number of neighbours.
+ */
+@Component
+public class CollaborativeScorer implements CandidateScorer {
+
+    private final double weight;
+
+    public CollaborativeScorer(@Value("${recommendation.ranking.weights.collaborative:0.2}") double weight) {
+        if (weight < 0) {
+            throw new IllegalArgumentException("recommendation.ranking.weights.collaborative must not be negative");
+        }
+        this.weight = weight;
+    }
+
+    @Override
+    public void score(RankingCandidates candidates, double[] scores) {
+        double max = 0;
+        for (int slot = 0; slot < candidates.size(); slot++) {
+            max = Math.max(max, candidates.collaborative(slot));
+        }
+        if (max == 0) {
+            return;
+        }
+        for (int slot = 0; slot < candidates.size(); slot++) {
+            scores[slot] += weight * candidates.collaborative(slot) / max;
+        }
+    }
+}
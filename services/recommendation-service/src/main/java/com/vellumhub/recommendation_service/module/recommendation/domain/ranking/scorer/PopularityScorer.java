@@ -0,0 +1,32 @@
+package com.vellumhub.recommendation_service.module.recommendation.domain.ranking.scorer;
+
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.CandidateScorer;
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.RankingCandidates;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rewards the decayed engagement score of each book with {@code weight * popularity}.
+ */
+@Component
+public class PopularityScorer implements CandidateScorer {
+
+    private final double weight;
+
+    public PopularityScorer(@Value("${recommendation.ranking.weights.popularity:0.3}") double weight) {
+        if (weight < 0) {
+            throw new IllegalArgumentException("recommendation.ranking.weights.popularity must not be negative");
+        }
+        this.weight = weight;
+    }
+
+    @Override
+    public void score(RankingCandidates candidates, double[] scores) {
+        for (int slot = 0; slot < candidates.size(); slot++) {
+            double popularity = candidates.popularity(slot);
+            if (!Double.isNaN(popularity)) {
+                scores[slot] += weight * popularity;
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.vellumhub.recommendation_service.module.recommendation.domain.ranking.scorer;
+
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.CandidateScorer;
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.RankingCandidates;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Year;
+
+/**
+ * Rewards recent releases with {@code weight * 0.5^(age / half-life)}, where age is in years since
+ * {@code releaseYear}. Books without a known release year get nothing. Off by default.
+ */
+@Component
+public class RecencyScorer implements CandidateScorer {
+
+    private final double weight;
+    private final double halfLifeYears;
+
+    public RecencyScorer(
+            @Value("${recommendation.ranking.weights.recency:0.0}") double weight,
+            @Value("${recommendation.ranking.recency.half-life-years:10}") double halfLifeYears
+    ) {
+        if (weight < 0) {
+            throw new IllegalArgumentException("recommendation.ranking.weights.recency must not be negative");
+        }
+        if (halfLifeYears <= 0) {
+            throw new IllegalArgumentException("recommendation.ranking.recency.half-life-years must be positive");
+        }
+        this.weight = weight;
+        this.halfLifeYears = halfLifeYears;
+    }
+
+    @Override
+    public void score(RankingCandidates candidates, double[] scores) {
+        if (weight == 0) {
+            return;
+        }
+        int currentYear = Year.now().getValue();
+        for (int slot = 0; slot < candidates.size(); slot++) {
+            int releaseYear = candidates.releaseYear(slot);
+            if (releaseYear > 0) {
+                int age = Math.max(currentYear - releaseYear, 0);
+                scores[slot] += weight * Math.pow(0.5, age / halfLifeYears);
+            }
+        }
+    }
+}
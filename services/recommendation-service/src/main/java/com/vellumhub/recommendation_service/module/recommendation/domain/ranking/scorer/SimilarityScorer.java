@@ -0,0 +1,33 @@
+package com.vellumhub.recommendation_service.module.recommendation.domain.ranking.scorer;
+
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.CandidateScorer;
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.RankingCandidates;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rewards closeness to the profile vector with {@code weight * (1 - cosine distance)}. Candidates found
+ * without a vector search get nothing from this scorer.
+ */
+@Component
+public class SimilarityScorer implements CandidateScorer {
+
+    private final double weight;
+
+    public SimilarityScorer(@Value("${recommendation.ranking.weights.similarity:0.7}") double weight) {
+        if (weight < 0) {
+            throw new IllegalArgumentException("recommendation.ranking.weights.similarity must not be negative");
+        }
+        this.weight = weight;
+    }
+
+    @Override
+    public void score(RankingCandidates candidates, double[] scores) {
+        for (int slot = 0; slot < candidates.size(); slot++) {
+            float distance = candidates.distance(slot);
+            if (!Float.isNaN(distance)) {
+                scores[slot] += weight * (1 - distance);
+            }
+        }
+    }
+}
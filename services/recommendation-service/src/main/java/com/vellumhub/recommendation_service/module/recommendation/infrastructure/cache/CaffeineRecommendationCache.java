@@ -0,0 +1,117 @@
+package com.vellumhub.recommendation_service.module.recommendation.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.RecommendationCache;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Size-bounded, in-memory {@link RecommendationCache} backed by Caffeine.
+ * The TTL is only a safety net; entries are normally dropped by profile and catalog events. A profile change
+ * consumed by another replica does not reach this one, so a hit older than {@code version-check-interval}
+ * since its last check asks the caller for the current profile version and is dropped if it changed. Hits in
+ * between cost no database read, and another replica's change is served stale for at most that interval.
+ */
+@Component
+public class CaffeineRecommendationCache implements RecommendationCache {
+
+    private static final String OPERATION = "recommendation_cache";
+
+    private final Cache<UUID, CachedRanking> cache;
+    private final VellumHubMetrics metrics;
+    private final long versionCheckIntervalNanos;
+
+    public CaffeineRecommendationCache(
+            @Value("${recommendation.cache.maximum-size:10000}") long maximumSize,
+            @Value("${recommendation.cache.ttl:PT10M}") Duration ttl,
+            @Value("${recommendation.cache.version-check-interval:PT5S}") Duration versionCheckInterval,
+            VellumHubMetrics metrics
+    ) {
+        if (versionCheckInterval.isNegative()) {
+            throw new IllegalArgumentException("recommendation.cache.version-check-interval must not be negative");
+        }
+        this.metrics = metrics;
+        this.versionCheckIntervalNanos = versionCheckInterval.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .executor(Runnable::run)
+                .removalListener((UUID userId, CachedRanking ranking, RemovalCause cause) -> recordRemoval(cause))
+                .build();
+
+        metrics.registerGauge(VellumHubMetrics.RECOMMENDATION_CACHE_SIZE, cache, Cache::estimatedSize);
+    }
+
+    @Override
+    public Optional<List<UUID>> get(UUID userId, Supplier<Instant> profileVersion) {
+        CachedRanking ranking = cache.getIfPresent(userId);
+        if (ranking == null) {
+            metrics.recordBusinessCounter(VellumHubMetrics.RECOMMENDATION_CACHE_LOOKUPS, OPERATION, "miss");
+            return Optional.empty();
+        }
+        long now = System.nanoTime();
+        if (now - ranking.checkedAtNanos >= versionCheckIntervalNanos) {
+            if (!Objects.equals(ranking.profileVersion, profileVersion.get())) {
+                cache.asMap().remove(userId, ranking);
+                metrics.recordBusinessCounter(VellumHubMetrics.RECOMMENDATION_CACHE_LOOKUPS, OPERATION, "stale");
+                return Optional.empty();
+            }
+            ranking.checkedAtNanos = now;
+        }
+
+        metrics.recordBusinessCounter(VellumHubMetrics.RECOMMENDATION_CACHE_LOOKUPS, OPERATION, "hit");
+        return Optional.of(ranking.bookIds);
+    }
+
+    @Override
+    public void put(UUID userId, Instant profileVersion, List<UUID> rankedBookIds) {
+        cache.put(userId, new CachedRanking(profileVersion, List.copyOf(rankedBookIds), System.nanoTime()));
+    }
+
+    @Override
+    public void invalidate(UUID userId) {
+        cache.invalidate(userId);
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private void recordRemoval(RemovalCause cause) {
+        if (cause == RemovalCause.REPLACED) {
+            return;
+        }
+        metrics.recordBusinessCounter(VellumHubMetrics.RECOMMENDATION_CACHE_EVICTIONS, OPERATION, cause.name().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * A ranking and when it was last known to match the profile version, written racily by readers since a
+     * lost update only causes one extra version check.
+     */
+    private static final class CachedRanking {
+
+        private final Instant profileVersion;
+        private final List<UUID> bookIds;
+        private volatile long checkedAtNanos;
+
+        private CachedRanking(Instant profileVersion, List<UUID> bookIds, long checkedAtNanos) {
+            this.profileVersion = profileVersion;
+            this.bookIds = bookIds;
+            this.checkedAtNanos = checkedAtNanos;
+        }
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.vellumhub.recommendation_service.module.recommendation.infrastructure.cache;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookFeatureRepository;
+import com.vellumhub.recommendation_service.module.recommendation.domain.model.Recommendation;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.PopularRecommendations;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.RecommendationRepository;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link PopularRecommendations} holding the top books by popularity as an immutable, fully hydrated list.
+ * <p>
+ * The list is rebuilt in the background on a fixed delay and shortly after catalog changes, then swapped
+ * in with a single volatile write, so readers never see a partially built ranking and never wait on the
+ * database. Pages past the snapshot fall back to the caller unless the snapshot already holds the whole
+ * catalog.
+ * </p>
+ */
+@Component
+@Slf4j
+public class PopularRecommendationSnapshot implements PopularRecommendations {
+
+    private static final String OPERATION = "popular_snapshot";
+    private static final long INVALIDATION_DELAY_MILLIS = 1_000;
+
+    private final BookFeatureRepository bookFeatureRepository;
+    private final RecommendationRepository recommendationRepository;
+    private final VellumHubMetrics metrics;
+    private final int size;
+    private final Duration refreshInterval;
+
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "popular-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Snapshot snapshot;
+
+    public PopularRecommendationSnapshot(
+            BookFeatureRepository bookFeatureRepository,
+            RecommendationRepository recommendationRepository,
+            VellumHubMetrics metrics,
+            @Value("${recommendation.popular-snapshot.size:500}") int size,
+            @Value("${recommendation.popular-snapshot.refresh-interval:PT1M}") Duration refreshInterval
+    ) {
+        if (size < 1) {
+            throw new IllegalArgumentException("recommendation.popular-snapshot.size must be at least 1");
+        }
+        this.bookFeatureRepository = bookFeatureRepository;
+        this.recommendationRepository = recommendationRepository;
+        this.metrics = metrics;
+        this.size = size;
+        this.refreshInterval = refreshInterval;
+
+        metrics.registerGauge(VellumHubMetrics.POPULAR_SNAPSHOT_SIZE, this, PopularRecommendationSnapshot::snapshotSize);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::rebuildQuietly, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Optional<List<Recommendation>> page(int limit, int offset) {
+        Snapshot current = snapshot;
+        int from = Math.max(offset, 0);
+        if (current == null || (!current.wholeCatalog() && from + Math.max(limit, 0) > current.ranked().size())) {
+            metrics.recordBusinessCounter(VellumHubMetrics.POPULAR_SNAPSHOT_LOOKUPS, OPERATION, "miss");
+            return Optional.empty();
+        }
+
+        metrics.recordBusinessCounter(VellumHubMetrics.POPULAR_SNAPSHOT_LOOKUPS, OPERATION, "hit");
+        if (limit <= 0 || from >= current.ranked().size()) {
+            return Optional.of(List.of());
+        }
+        return Optional.of(current.ranked().subList(from, Math.min(current.ranked().size(), from + limit)));
+    }
+
+    @Override
+    public void invalidate() {
+        if (!rebuildScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            scheduler.schedule(this::rebuildQuietly, INVALIDATION_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ex) {
+            rebuildScheduled.set(false);
+        }
+    }
+
+    /**
+     * Loads the top books and their recommendation data and swaps the result in. The hydrated objects are
+     * not managed entities, so the snapshot never lazy-loads or follows later changes to the table.
+     */
+    void rebuild() {
+        rebuildScheduled.set(false);
+
+        List<UUID> rankedBookIds = bookFeatureRepository.findMostPopularMedias(size, 0);
+        List<Recommendation> ranked = recommendationRepository.findAllInOrder(rankedBookIds);
+
+        snapshot = new Snapshot(List.copyOf(ranked), rankedBookIds.size() < size);
+        metrics.recordBusinessCounter(VellumHubMetrics.POPULAR_SNAPSHOT_REBUILDS, OPERATION, "success");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    int snapshotSize() {
+        Snapshot current = snapshot;
+        return current == null ? 0 : current.ranked().size();
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException ex) {
+            metrics.recordBusinessCounter(VellumHubMetrics.POPULAR_SNAPSHOT_REBUILDS, OPERATION, "failure");
+            log.warn("Popular recommendation snapshot rebuild failed, keeping the previous one. operation=popular_snapshot, error={}",
+                    ex.getMessage());
+        }
+    }
+
+    private record Snapshot(List<Recommendation> ranked, boolean wholeCatalog) {
+    }
+}
@@ -0,0 +1,127 @@
+package com.vellumhub.recommendation_service.module.recommendation.infrastructure.persistence.repository;
+
+import com.vellumhub.recommendation_service.module.recommendation.domain.model.Recommendation;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Read-only hydration of {@code recommendations} for a ranked list of book IDs.
+ * <p>
+ * Rows and their genres come back from one statement, ordered by the position of each ID in the input,
+ * and are mapped to plain {@link Recommendation} objects that the persistence context never sees.
+ * </p>
+ */
+@Repository
+public class JdbcRecommendationReader {
+
+    private static final String FIND_ALL_IN_ORDER = """
+            SELECT r.book_id, r.title, r.description, r.release_year, r.cover_url, r.author,
+                   COALESCE(array_agg(g.genres) FILTER (WHERE g.genres IS NOT NULL), '{}') AS genres
+            FROM unnest(CAST(? AS uuid[])) WITH ORDINALITY AS ranked(book_id, position)
+            JOIN recommendations r ON r.book_id = ranked.book_id
+            LEFT JOIN recommendation_genres g ON g.recommendation_book_id = r.book_id
+            GROUP BY ranked.position, r.book_id
+            ORDER BY ranked.position
+            """;
+
+    private static final String FIND_RANKING_FEATURES = """
+            SELECT r.book_id, r.release_year, COALESCE(b.popularity_score, 0) AS popularity_score,
+                   COALESCE(array_agg(g.genres) FILTER (WHERE g.genres IS NOT NULL), '{}') AS genres
+            FROM recommendations r
+            LEFT JOIN book_features b ON b.book_id = r.book_id
+            LEFT JOIN recommendation_genres g ON g.recommendation_book_id = r.book_id
+            GROUP BY r.book_id, r.release_year, b.popularity_score
+            """;
+    private static final int RANKING_FEATURES_FETCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcRecommendationReader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Returns the recommendations for {@code bookIds} in the same order. IDs without a recommendation are
+     * skipped.
+     */
+    public List<Recommendation> findAllInOrder(List<UUID> bookIds) {
+        if (bookIds.isEmpty()) {
+            return List.of();
+        }
+        UUID[] ids = bookIds.toArray(UUID[]::new);
+
+        return jdbcTemplate.execute(FIND_ALL_IN_ORDER, (PreparedStatement statement) -> {
+            statement.setArray(1, statement.getConnection().createArrayOf("uuid", ids));
+            List<Recommendation> recommendations = new ArrayList<>(ids.length);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    recommendations.add(toRecommendation(resultSet));
+                }
+            }
+            return recommendations;
+        });
+    }
+
+    /**
+     * Streams the ranking attributes of every recommendation to {@code consumer}, one row at a time.
+     * <p>
+     * Runs in a read-only transaction because PostgreSQL only honours the fetch size, and so only uses a
+     * cursor instead of buffering the whole catalog, when autocommit is off.
+     * </p>
+     */
+    @Transactional(readOnly = true)
+    public void forEachRankingFeature(Consumer<RankingFeatureRow> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(FIND_RANKING_FEATURES);
+            statement.setFetchSize(RANKING_FEATURES_FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> consumer.accept(new RankingFeatureRow(
+                resultSet.getObject(1, UUID.class),
+                resultSet.getInt(2),
+                resultSet.getDouble(3),
+                genres(resultSet.getArray(4))
+        )));
+    }
+
+    private static Recommendation toRecommendation(ResultSet resultSet) throws SQLException {
+        return Recommendation.builder()
+                .bookId(resultSet.getObject(1, UUID.class))
+                .title(resultSet.getString(2))
+                .description(resultSet.getString(3))
+                .releaseYear(resultSet.getInt(4))
+                .coverUrl(resultSet.getString(5))
+                .author(resultSet.getString(6))
+                .genres(genres(resultSet.getArray(7)))
+                .build();
+    }
+
+    private static List<String> genres(Array array) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+        try {
+            return List.of((String[]) array.getArray());
+        } finally {
+            array.free();
+        }
+    }
+
+    public record RankingFeatureRow(
+            UUID bookId,
+            int releaseYear,
+            double popularityScore,
+            List<String> genres
+    ) {
+    }
+}
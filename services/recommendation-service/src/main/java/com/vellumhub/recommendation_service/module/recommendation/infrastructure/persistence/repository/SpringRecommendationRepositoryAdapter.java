@@ -12,9 +12,11 @@ import java.util.UUID;
 public class SpringRecommendationRepositoryAdapter implements RecommendationRepository {
 
     private final RecommendationRepositoryJpa recommendationRepositoryJpa;
+    private final JdbcRecommendationReader jdbcRecommendationReader;
 
-    public SpringRecommendationRepositoryAdapter(RecommendationRepositoryJpa recommendationRepositoryJpa) {
+    public SpringRecommendationRepositoryAdapter(RecommendationRepositoryJpa recommendationRepositoryJpa, JdbcRecommendationReader jdbcRecommendationReader) {
         this.recommendationRepositoryJpa = recommendationRepositoryJpa;
+        this.jdbcRecommendationReader = jdbcRecommendationReader;
     }
 
     @Override
@@ -22,6 +24,11 @@ public class SpringRecommendationRepositoryAdapter implements RecommendationRepo
         recommendationRepositoryJpa.save(recommendation);
     }
 
+    @Override
+    public void saveAll(List<Recommendation> recommendations) {
+        recommendationRepositoryJpa.saveAll(recommendations);
+    }
+
     @Override
     public Optional<Recommendation> findById(UUID id) {
         return recommendationRepositoryJpa.findById(id);
@@ -37,4 +44,9 @@ public class SpringRecommendationRepositoryAdapter implements RecommendationRepo
         return recommendationRepositoryJpa.findAllById(booksId);
     }
 
+    @Override
+    public List<Recommendation> findAllInOrder(List<UUID> bookIds) {
+        return jdbcRecommendationReader.findAllInOrder(bookIds);
+    }
+
 }
@@ -0,0 +1,286 @@
+package com.vellumhub.recommendation_service.module.recommendation.infrastructure.ranking;
+
+import com.vellumhub.recommendation_service.module.recommendation.domain.model.Recommendation;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.BookRankingFeatures;
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.RankingCandidates;
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.TopScores;
+import com.vellumhub.recommendation_service.module.recommendation.infrastructure.persistence.repository.JdbcRecommendationReader;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * {@link BookRankingFeatures} holding the release year, genres and popularity of every recommendation in
+ * primitive arrays.
+ * <p>
+ * The arrays are reloaded in the background on a fixed delay and swapped in with a single volatile write.
+ * Books created, updated or deleted since the last load are kept in a small overlay that takes precedence
+ * until the next load includes them. The most popular books overall and per genre are ordered at load
+ * time, so the popular and genre generators only walk prepared lists. Popularity is as fresh as the last
+ * load. Genres map to bits in order of first appearance; past 64 distinct genres bits are shared, which
+ * only blurs genre matching and diversity.
+ * </p>
+ */
+@Component
+@Slf4j
+public class InMemoryBookRankingFeatures implements BookRankingFeatures {
+
+    private static final String OPERATION = "ranking_features";
+
+    private final JdbcRecommendationReader jdbcRecommendationReader;
+    private final VellumHubMetrics metrics;
+    private final int listSize;
+    private final Duration refreshInterval;
+
+    private final ConcurrentHashMap<String, Integer> genreBits = new ConcurrentHashMap<>();
+    private final AtomicInteger nextGenreBit = new AtomicInteger();
+    private final ConcurrentHashMap<UUID, Change> changes = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ranking-features");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public InMemoryBookRankingFeatures(
+            JdbcRecommendationReader jdbcRecommendationReader,
+            VellumHubMetrics metrics,
+            @Value("${recommendation.ranking.features.list-size:500}") int listSize,
+            @Value("${recommendation.ranking.features.refresh-interval:PT5M}") Duration refreshInterval
+    ) {
+        if (listSize < 1) {
+            throw new IllegalArgumentException("recommendation.ranking.features.list-size must be at least 1");
+        }
+        this.jdbcRecommendationReader = jdbcRecommendationReader;
+        this.metrics = metrics;
+        this.listSize = listSize;
+        this.refreshInterval = refreshInterval;
+
+        metrics.registerGauge(VellumHubMetrics.RANKING_FEATURES_SIZE, this, InMemoryBookRankingFeatures::size);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::rebuildQuietly, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void describe(RankingCandidates candidates, int fromSlot) {
+        Snapshot current = snapshot;
+        for (int slot = fromSlot; slot < candidates.size(); slot++) {
+            UUID bookId = candidates.bookId(slot);
+            Integer index = current.index().get(bookId);
+            Change change = changes.get(bookId);
+
+            if (change != null) {
+                if (!change.removed()) {
+                    double popularity = index == null ? 0 : current.popularity()[index];
+                    candidates.describe(slot, change.releaseYear(), change.genres(), popularity);
+                }
+            } else if (index != null) {
+                candidates.describe(slot, current.releaseYears()[index], current.genres()[index], current.popularity()[index]);
+            }
+        }
+    }
+
+    @Override
+    public List<UUID> mostPopular(int limit) {
+        return withoutRemoved(snapshot.popular(), limit);
+    }
+
+    @Override
+    public List<UUID> mostPopularInGenres(long genreBits, int limit) {
+        List<List<UUID>> lists = new ArrayList<>();
+        for (long bits = genreBits; bits != 0; bits &= bits - 1) {
+            lists.add(snapshot.popularByGenre().get(Long.numberOfTrailingZeros(bits)));
+        }
+
+        Set<UUID> merged = new LinkedHashSet<>();
+        for (int position = 0; merged.size() < limit * 2; position++) {
+            boolean any = false;
+            for (List<UUID> list : lists) {
+                if (position < list.size()) {
+                    merged.add(list.get(position));
+                    any = true;
+                }
+            }
+            if (!any) {
+                break;
+            }
+        }
+        return withoutRemoved(List.copyOf(merged), limit);
+    }
+
+    @Override
+    public void upsert(Recommendation recommendation) {
+        changes.put(recommendation.getBookId(), new Change(
+                recommendation.getReleaseYear(),
+                genreBits(recommendation.getGenres()),
+                false,
+                System.nanoTime()
+        ));
+    }
+
+    @Override
+    public void remove(UUID bookId) {
+        changes.put(bookId, new Change(0, 0, true, System.nanoTime()));
+    }
+
+    /**
+     * Reloads every book and drops overlay entries the new arrays already reflect.
+     */
+    void rebuild() {
+        long startedAt = System.nanoTime();
+
+        SnapshotBuilder builder = new SnapshotBuilder();
+        jdbcRecommendationReader.forEachRankingFeature(row ->
+                builder.add(row.bookId(), row.releaseYear(), genreBits(row.genres()), row.popularityScore()));
+        snapshot = builder.build(listSize);
+
+        changes.values().removeIf(change -> change.changedAt() < startedAt);
+        metrics.recordBusinessCounter(VellumHubMetrics.RANKING_FEATURES_REBUILDS, OPERATION, "success");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    int size() {
+        return snapshot.index().size();
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (RuntimeException ex) {
+            metrics.recordBusinessCounter(VellumHubMetrics.RANKING_FEATURES_REBUILDS, OPERATION, "failure");
+            log.warn("Ranking features reload failed, keeping the previous ones. operation=ranking_features, error={}",
+                    ex.getMessage());
+        }
+    }
+
+    private List<UUID> withoutRemoved(List<UUID> ranked, int limit) {
+        List<UUID> result = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (UUID bookId : ranked) {
+            if (result.size() >= limit) {
+                break;
+            }
+            Change change = changes.get(bookId);
+            if (change == null || !change.removed()) {
+                result.add(bookId);
+            }
+        }
+        return result;
+    }
+
+    private long genreBits(Collection<String> genres) {
+        if (genres == null) {
+            return 0;
+        }
+        long bits = 0;
+        for (String genre : genres) {
+            bits |= 1L << genreBits.computeIfAbsent(genre, key -> nextGenreBit.getAndIncrement() % Long.SIZE);
+        }
+        return bits;
+    }
+
+    private record Change(int releaseYear, long genres, boolean removed, long changedAt) {
+    }
+
+    private record Snapshot(
+            Map<UUID, Integer> index,
+            int[] releaseYears,
+            long[] genres,
+            double[] popularity,
+            List<UUID> popular,
+            List<List<UUID>> popularByGenre
+    ) {
+        static final Snapshot EMPTY = new Snapshot(
+                Map.of(),
+                new int[0],
+                new long[0],
+                new double[0],
+                List.of(),
+                IntStream.range(0, Long.SIZE).mapToObj(bit -> List.<UUID>of()).toList()
+        );
+    }
+
+    private static final class SnapshotBuilder {
+
+        private final Map<UUID, Integer> index = new HashMap<>();
+        private UUID[] bookIds = new UUID[1024];
+        private int[] releaseYears = new int[1024];
+        private long[] genres = new long[1024];
+        private double[] popularity = new double[1024];
+        private int size;
+
+        void add(UUID bookId, int releaseYear, long genreBits, double popularityScore) {
+            if (size == bookIds.length) {
+                int capacity = size * 2;
+                bookIds = Arrays.copyOf(bookIds, capacity);
+                releaseYears = Arrays.copyOf(releaseYears, capacity);
+                genres = Arrays.copyOf(genres, capacity);
+                popularity = Arrays.copyOf(popularity, capacity);
+            }
+            index.put(bookId, size);
+            bookIds[size] = bookId;
+            releaseYears[size] = releaseYear;
+            genres[size] = genreBits;
+            popularity[size] = popularityScore;
+            size++;
+        }
+
+        Snapshot build(int listSize) {
+            int[] byPopularity = TopScores.select(popularity, size, size);
+
+            List<UUID> popular = new ArrayList<>(Math.min(listSize, size));
+            List<List<UUID>> popularByGenre = new ArrayList<>(Long.SIZE);
+            for (int bit = 0; bit < Long.SIZE; bit++) {
+                popularByGenre.add(new ArrayList<>());
+            }
+            for (int position : byPopularity) {
+                if (popular.size() < listSize) {
+                    popular.add(bookIds[position]);
+                }
+                for (long bits = genres[position]; bits != 0; bits &= bits - 1) {
+                    List<UUID> genreList = popularByGenre.get(Long.numberOfTrailingZeros(bits));
+                    if (genreList.size() < listSize) {
+                        genreList.add(bookIds[position]);
+                    }
+                }
+            }
+
+            return new Snapshot(
+                    index,
+                    Arrays.copyOf(releaseYears, size),
+                    Arrays.copyOf(genres, size),
+                    Arrays.copyOf(popularity, size),
+                    List.copyOf(popular),
+                    popularByGenre.stream().map(List::copyOf).toList()
+            );
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.vellumhub.recommendation_service.module.recommendation.infrastructure.session;
+
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.RecommendationSessionStore;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * {@link RecommendationSessionStore} stored in {@code recommendation_sessions}, so a cursor opened on one replica
+ * can be paged on any other.
+ * <p>
+ * Sessions expire after {@code idle-timeout} without page requests. A lookup is a plain read of the owner, the
+ * expiry and the ranking; it pushes the expiry forward only once less than half of {@code idle-timeout} is left,
+ * so paging writes at most once per half timeout. Expired rows are only deleted by {@link #removeExpired}.
+ * </p>
+ */
+@Repository
+public class JdbcRecommendationSessionStore implements RecommendationSessionStore {
+
+    private static final String OPERATION = "recommendation_session";
+
+    private static final String INSERT_SESSION = """
+            INSERT INTO recommendation_sessions (session_id, user_id, ranked_book_ids, expires_at)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private static final String FIND_SESSION = """
+            SELECT ranked_book_ids, expires_at
+            FROM recommendation_sessions
+            WHERE session_id = ?
+              AND user_id = ?
+              AND expires_at > ?
+            """;
+
+    private static final String EXTEND_SESSION = """
+            UPDATE recommendation_sessions
+            SET expires_at = ?
+            WHERE session_id = ?
+            """;
+
+    private static final String DELETE_EXPIRED = """
+            DELETE FROM recommendation_sessions
+            WHERE expires_at <= ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final VellumHubMetrics metrics;
+    private final Duration idleTimeout;
+
+    public JdbcRecommendationSessionStore(
+            JdbcTemplate jdbcTemplate,
+            VellumHubMetrics metrics,
+            @Value("${recommendation.session.idle-timeout:PT30M}") Duration idleTimeout
+    ) {
+        if (idleTimeout.isZero() || idleTimeout.isNegative()) {
+            throw new IllegalArgumentException("recommendation.session.idle-timeout must be positive");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.metrics = metrics;
+        this.idleTimeout = idleTimeout;
+    }
+
+    @Override
+    public UUID open(UUID userId, List<UUID> rankedBookIds) {
+        UUID sessionId = UUID.randomUUID();
+        UUID[] bookIds = rankedBookIds.toArray(UUID[]::new);
+        Timestamp expiresAt = Timestamp.from(Instant.now().plus(idleTimeout));
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_SESSION);
+            statement.setObject(1, sessionId);
+            statement.setObject(2, userId);
+            statement.setArray(3, connection.createArrayOf("uuid", bookIds));
+            statement.setTimestamp(4, expiresAt);
+            return statement;
+        });
+        return sessionId;
+    }
+
+    @Override
+    public Optional<List<UUID>> find(UUID sessionId, UUID userId) {
+        Instant now = Instant.now();
+        List<Session> sessions = jdbcTemplate.query(
+                FIND_SESSION,
+                (resultSet, rowNum) -> new Session(toBookIds(resultSet), resultSet.getTimestamp(2).toInstant()),
+                sessionId,
+                userId,
+                Timestamp.from(now)
+        );
+
+        metrics.recordBusinessCounter(VellumHubMetrics.RECOMMENDATION_SESSION_LOOKUPS, OPERATION, sessions.isEmpty() ? "miss" : "hit");
+        if (sessions.isEmpty()) {
+            return Optional.empty();
+        }
+        Session session = sessions.getFirst();
+        if (session.expiresAt().isBefore(now.plus(idleTimeout.dividedBy(2)))) {
+            jdbcTemplate.update(EXTEND_SESSION, Timestamp.from(now.plus(idleTimeout)), sessionId);
+        }
+        return Optional.of(session.rankedBookIds());
+    }
+
+    @Override
+    public int removeExpired(Instant now) {
+        return jdbcTemplate.update(DELETE_EXPIRED, Timestamp.from(now));
+    }
+
+    private static List<UUID> toBookIds(ResultSet resultSet) throws SQLException {
+        Array bookIds = resultSet.getArray(1);
+        try {
+            return List.of((UUID[]) bookIds.getArray());
+        } finally {
+            bookIds.free();
+        }
+    }
+
+    private record Session(List<UUID> rankedBookIds, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.vellumhub.recommendation_service.module.recommendation.infrastructure.session;
+
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.RecommendationSessionStore;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deletes expired {@link RecommendationSessionStore} sessions on a fixed delay. Every instance runs it; the
+ * delete is idempotent, so overlapping runs only repeat work.
+ */
+@Component
+@Slf4j
+public class RecommendationSessionCleaner {
+
+    private final RecommendationSessionStore recommendationSessionStore;
+    private final Duration cleanupInterval;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "recommendation-session-cleanup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RecommendationSessionCleaner(
+            RecommendationSessionStore recommendationSessionStore,
+            @Value("${recommendation.session.cleanup-interval:PT5M}") Duration cleanupInterval
+    ) {
+        if (cleanupInterval.isZero() || cleanupInterval.isNegative()) {
+            throw new IllegalArgumentException("recommendation.session.cleanup-interval must be positive");
+        }
+        this.recommendationSessionStore = recommendationSessionStore;
+        this.cleanupInterval = cleanupInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::cleanUpQuietly, cleanupInterval.toMillis(), cleanupInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Deletes the sessions expired as of {@code now} and returns how many were removed.
+     */
+    int cleanUp(Instant now) {
+        int removed = recommendationSessionStore.removeExpired(now);
+        if (removed > 0) {
+            log.info("Expired recommendation sessions removed. operation=recommendation_session_cleanup, removed={}", removed);
+        }
+        return removed;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void cleanUpQuietly() {
+        try {
+            cleanUp(Instant.now());
+        } catch (RuntimeException ex) {
+            log.warn("Recommendation session cleanup failed. operation=recommendation_session_cleanup, error={}", ex.getMessage());
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.vellumhub.recommendation_service.module.recommendation.presentation.d
 import com.vellumhub.recommendation_service.module.recommendation.presentation.mapper.RecommendationMapper;
 import com.vellumhub.recommendation_service.module.recommendation.application.use_case.GetRecommendationsUseCase;
 import com.vellumhub.recommendation_service.module.recommendation.application.command.GetRecommendationsCommand;
+import com.vellumhub.recommendation_service.module.recommendation.application.command.GetSimilarBooksCommand;
+import com.vellumhub.recommendation_service.module.recommendation.application.use_case.GetSimilarBooksUseCase;
 import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
 import com.vellumhub.recommendation_service.share.provider.UserAuthenticationProvider;
 
@@ -17,47 +19,56 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/recommendations")
 @Tag(name = "Recommendations", description = "Endpoints for obtaining personalized book recommendations")
 public class RecommendationController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final UserAuthenticationProvider userAuthenticationProvider;
     private final RecommendationMapper mapper;
 
     private final GetRecommendationsUseCase getRecommendationsUseCase;
+    private final GetSimilarBooksUseCase getSimilarBooksUseCase;
     private final VellumHubMetrics metrics;
 
-    public RecommendationController(UserAuthenticationProvider userAuthenticationProvider, RecommendationMapper mapper, GetRecommendationsUseCase getRecommendationsUseCase, VellumHubMetrics metrics) {
+    public RecommendationController(UserAuthenticationProvider userAuthenticationProvider, RecommendationMapper mapper, GetRecommendationsUseCase getRecommendationsUseCase, GetSimilarBooksUseCase getSimilarBooksUseCase, VellumHubMetrics metrics) {
         this.userAuthenticationProvider = userAuthenticationProvider;
         this.mapper = mapper;
         this.getRecommendationsUseCase = getRecommendationsUseCase;
+        this.getSimilarBooksUseCase = getSimilarBooksUseCase;
         this.metrics = metrics;
     }
     /**
      * Returns recommendations for the authenticated user.
      *
      * @param limit  Maximum number of recommendations to return
-     * @param offset Number of items to skip
+     * @param offset Number of items to skip; ignored when a cursor is given
+     * @param cursor Cursor returned in {@value #NEXT_CURSOR_HEADER} by the previous page
      * @return List of user recommendations
      */
     @GetMapping
     @Operation(summary = "Get book recommendations", description = "Returns personalized book recommendations for the authenticated user based on their rating history and reading preferences")
     @SecurityRequirement(name = "bearerAuth")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Recommendations successfully retrieved",
+            @ApiResponse(responseCode = "200", description = "Recommendations successfully retrieved; the X-Next-Cursor header carries the cursor of the next page when there is one",
                     content = @Content(schema = @Schema(implementation = RecommendationResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid or expired cursor", content = @Content),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
     })
     public ResponseEntity<List<RecommendationResponse>> getRecommendations(
             @Parameter(description = "Maximum number of recommendations to return") @RequestParam(defaultValue = "10") int limit,
-            @Parameter(description = "Number of recommendations to skip for pagination") @RequestParam(defaultValue = "0") int offset
+            @Parameter(description = "Number of recommendations to skip for pagination") @RequestParam(defaultValue = "0") int offset,
+            @Parameter(description = "Cursor of the next page, taken from the X-Next-Cursor header of the previous response") @RequestParam(required = false) String cursor
     ) {
 
         var userId = userAuthenticationProvider.getUserId();
@@ -65,15 +76,51 @@ public class RecommendationController {
         GetRecommendationsCommand command = new GetRecommendationsCommand(
                 userId,
                 limit,
-                offset
+                offset,
+                cursor
         );
 
-        var recommendations = getRecommendationsUseCase.execute(command);
-        var response = recommendations.stream()
+        var page = getRecommendationsUseCase.execute(command);
+        var mapping = metrics.startBusinessTimer();
+        var response = page.recommendations().stream()
                 .map(mapper::toResponse)
                 .toList();
+        metrics.recordRecommendationStageDuration(mapping, "mapping");
 
         metrics.recordBusinessCounter(VellumHubMetrics.RECOMMENDATIONS_REQUESTED, "recommendation_request", "success");
+        var builder = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            builder.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return builder.body(response);
+    }
+
+    /**
+     * Returns the books most similar to the given one.
+     *
+     * @param bookId Book to find similar books for
+     * @param limit  Maximum number of similar books to return
+     * @return Similar books, most similar first
+     */
+    @GetMapping("/similar/{bookId}")
+    @Operation(summary = "Get similar books", description = "Returns the books whose embeddings are nearest to the given book, from a precomputed neighbour list")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Similar books successfully retrieved",
+                    content = @Content(schema = @Schema(implementation = RecommendationResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Limit out of range", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Book not found", content = @Content)
+    })
+    public ResponseEntity<List<RecommendationResponse>> getSimilarBooks(
+            @Parameter(description = "ID of the book to find similar books for") @PathVariable UUID bookId,
+            @Parameter(description = "Maximum number of similar books to return") @RequestParam(defaultValue = "10") int limit
+    ) {
+        var response = getSimilarBooksUseCase.execute(new GetSimilarBooksCommand(bookId, limit)).stream()
+                .map(mapper::toResponse)
+                .toList();
+
+        metrics.recordBusinessCounter(VellumHubMetrics.RECOMMENDATIONS_REQUESTED, "similar_books_request", "success");
         return ResponseEntity.ok(response);
     }
 }
@@ -1,13 +1,10 @@
 package com.vellumhub.recommendation_service.module.user_profile.application.use_case;
 
 import com.vellumhub.recommendation_service.module.user_profile.application.command.CreatedUserProfileCommand;
-import com.vellumhub.recommendation_service.module.user_profile.domain.model.UserProfile;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.PreferenceLearning;
 import com.vellumhub.recommendation_service.module.user_profile.domain.port.EmbeddingUserProfileProvider;
-import com.vellumhub.recommendation_service.module.user_profile.domain.port.UserProfileRepository;
+import com.vellumhub.recommendation_service.module.user_profile.domain.port.UserProfileUpdater;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.util.UUID;
 
 /**
  * Use case for creating a user profile based on the user's preferences.
@@ -15,12 +12,12 @@ import java.util.UUID;
 @Service
 public class CreateUserProfileUseCase {
 
-    private final UserProfileRepository userProfileRepository;
+    private final UserProfileUpdater userProfileUpdater;
 
     private final EmbeddingUserProfileProvider profileProvider;
 
-    public CreateUserProfileUseCase(UserProfileRepository userProfileRepository, EmbeddingUserProfileProvider profileProvider) {
-        this.userProfileRepository = userProfileRepository;
+    public CreateUserProfileUseCase(UserProfileUpdater userProfileUpdater, EmbeddingUserProfileProvider profileProvider) {
+        this.userProfileUpdater = userProfileUpdater;
         this.profileProvider = profileProvider;
     }
 
@@ -28,19 +25,13 @@ public class CreateUserProfileUseCase {
      * Creates a user profile based on the user's preferences.
      * @param command the command containing the data for creating the user profile.
      */
-    @Transactional
     public void execute(CreatedUserProfileCommand command) {
-        var userProfile = userProfileRepository.findById(command.userId())
-                .orElseGet(() -> UserProfile.create(command.userId()));
-
         var vectors = profileProvider.of(
                 command.genres(),
                 command.about()
         );
 
-        userProfile.applyVectorLearning(vectors, 0.5f);
-
-        userProfileRepository.save(userProfile);
+        userProfileUpdater.apply(command.userId(), PreferenceLearning.of(vectors, 0.5f));
     }
 
 
@@ -1,39 +1,44 @@
 package com.vellumhub.recommendation_service.module.user_profile.application.use_case;
 
-import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookFeature;
-import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookFeatureRepository;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookVectorCache;
 import com.vellumhub.recommendation_service.module.user_profile.application.command.ReactionChangedCommand;
 import com.vellumhub.recommendation_service.module.user_profile.domain.interaction.reaction.ReactionBookInteraction;
 import com.vellumhub.recommendation_service.module.user_profile.domain.model.ProfileAdjustment;
-import com.vellumhub.recommendation_service.module.user_profile.domain.model.UserProfile;
-import com.vellumhub.recommendation_service.module.user_profile.domain.port.UserProfileRepository;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.ProfileChange;
+import com.vellumhub.recommendation_service.module.user_profile.domain.port.UserProfileUpdater;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
 @Service
 @Slf4j
 public class ReactionChangedUseCase {
 
-    private final UserProfileRepository userProfileRepository;
-    private final BookFeatureRepository bookFeatureRepository;
+    private final UserProfileUpdater userProfileUpdater;
+    private final BookVectorCache bookVectorCache;
 
     private final ReactionBookInteraction reactionBookInteraction;
 
-    public ReactionChangedUseCase(UserProfileRepository userProfileRepository, BookFeatureRepository bookFeatureRepository, ReactionBookInteraction reactionBookInteraction) {
-        this.userProfileRepository = userProfileRepository;
-        this.bookFeatureRepository = bookFeatureRepository;
+    public ReactionChangedUseCase(UserProfileUpdater userProfileUpdater, BookVectorCache bookVectorCache, ReactionBookInteraction reactionBookInteraction) {
+        this.userProfileUpdater = userProfileUpdater;
+        this.bookVectorCache = bookVectorCache;
         this.reactionBookInteraction = reactionBookInteraction;
     }
 
     /**
-     * Handles changes in user reactions (like, dislike, etc.) to books. It retrieves the user's profile and the book's features,
+     * Handles changes in user reactions (like, dislike, etc.) to books. It retrieves the book's embedding,
      * calculates the necessary adjustments based on the new reaction, and updates the user's profile accordingly.
      * @param command The command containing details about the user, book, and the new reaction type.
      */
     public void execute(ReactionChangedCommand command){
-        BookFeature book = bookFeatureRepository.findById(command.bookId())
+        float[] embedding = bookVectorCache.get(command.bookId())
                 .orElse(null);
-        if (book == null) {
+        if (embedding == null) {
             log.warn(
                     "Skipping reaction profile update because book features are not available yet. UserId={}, BookId={}",
                     command.userId(),
@@ -42,17 +47,43 @@ public class ReactionChangedUseCase {
             return;
         }
 
-        UserProfile profile = userProfileRepository.findById(command.userId())
-                .orElseGet(() -> new UserProfile(command.userId()));
         ProfileAdjustment profileAdjustment = reactionBookInteraction.toAdjustment(
-                book,
+                command.bookId(),
+                embedding,
                 command.reactionType()
         );
 
-        profile.applyUpdate(profileAdjustment);
-
-        userProfileRepository.save(profile);
+        userProfileUpdater.apply(command.userId(), profileAdjustment);
     }
 
+    /**
+     * Batch form of {@link #execute}: embeddings missing from the cache are loaded with one query and every
+     * resulting adjustment is applied in one profile transaction, so the batch is stored entirely or not at all.
+     */
+    public void executeAll(List<ReactionChangedCommand> commands) {
+        Map<UUID, float[]> embeddings = bookVectorCache.getAll(commands.stream()
+                .map(ReactionChangedCommand::bookId)
+                .toList());
+
+        Map<UUID, List<ProfileChange>> changes = new LinkedHashMap<>();
+        for (ReactionChangedCommand command : commands) {
+            float[] embedding = embeddings.get(command.bookId());
+            if (embedding == null) {
+                log.warn(
+                        "Skipping reaction profile update because book features are not available yet. UserId={}, BookId={}",
+                        command.userId(),
+                        command.bookId()
+                );
+                continue;
+            }
+            changes.computeIfAbsent(command.userId(), userId -> new ArrayList<>()).add(reactionBookInteraction.toAdjustment(
+                    command.bookId(),
+                    embedding,
+                    command.reactionType()
+            ));
+        }
+
+        userProfileUpdater.applyAll(changes);
+    }
 
 }
@@ -1,38 +1,43 @@
 package com.vellumhub.recommendation_service.module.user_profile.application.use_case;
 
-import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookFeature;
-import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookFeatureRepository;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookVectorCache;
 import com.vellumhub.recommendation_service.module.user_profile.application.command.UpdateBookProgressCommand;
 import com.vellumhub.recommendation_service.module.user_profile.domain.interaction.progress.BookProgressInteraction;
 import com.vellumhub.recommendation_service.module.user_profile.domain.model.ProfileAdjustment;
-import com.vellumhub.recommendation_service.module.user_profile.domain.model.UserProfile;
-import com.vellumhub.recommendation_service.module.user_profile.domain.port.UserProfileRepository;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.ProfileChange;
+import com.vellumhub.recommendation_service.module.user_profile.domain.port.UserProfileUpdater;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
 @Service
 @Slf4j
 public class UpdateBookProgressUseCase {
 
-    private final UserProfileRepository userProfileRepository;
-    private final BookFeatureRepository bookFeatureRepository;
+    private final UserProfileUpdater userProfileUpdater;
+    private final BookVectorCache bookVectorCache;
 
     private final BookProgressInteraction bookProgressInteraction;
 
-    public UpdateBookProgressUseCase(UserProfileRepository userProfileRepository, BookFeatureRepository bookFeatureRepository, BookProgressInteraction bookProgressInteraction) {
-        this.userProfileRepository = userProfileRepository;
-        this.bookFeatureRepository = bookFeatureRepository;
+    public UpdateBookProgressUseCase(UserProfileUpdater userProfileUpdater, BookVectorCache bookVectorCache, BookProgressInteraction bookProgressInteraction) {
+        this.userProfileUpdater = userProfileUpdater;
+        this.bookVectorCache = bookVectorCache;
         this.bookProgressInteraction = bookProgressInteraction;
     }
 
     /**
-     * Updates the user's profile based on their progress with a book. It retrieves the user's profile and the book's features,
+     * Updates the user's profile based on their progress with a book. It retrieves the book's embedding,
      * @param command the command containing the data for updating the book progress.
      */
     public void execute(UpdateBookProgressCommand command){
-        BookFeature book = bookFeatureRepository.findById(command.bookId())
+        float[] embedding = bookVectorCache.get(command.bookId())
                 .orElse(null);
-        if (book == null) {
+        if (embedding == null) {
             log.warn(
                     "Skipping book progress profile update because book features are not available yet. UserId={}, BookId={}",
                     command.userId(),
@@ -41,19 +46,47 @@ public class UpdateBookProgressUseCase {
             return;
         }
 
-        UserProfile profile = userProfileRepository.findById(command.userId())
-                .orElseGet(() -> new UserProfile(command.userId()));
         ProfileAdjustment profileAdjustment = bookProgressInteraction.toAdjustment(
-                book,
+                command.bookId(),
+                embedding,
                 command.progress(),
                 command.oldPage(),
                 command.newPage()
         );
 
-        profile.applyUpdate(profileAdjustment);
-
-        userProfileRepository.save(profile);
+        userProfileUpdater.apply(command.userId(), profileAdjustment);
     }
 
+    /**
+     * Batch form of {@link #execute}: embeddings missing from the cache are loaded with one query and every
+     * resulting adjustment is applied in one profile transaction, so the batch is stored entirely or not at all.
+     */
+    public void executeAll(List<UpdateBookProgressCommand> commands) {
+        Map<UUID, float[]> embeddings = bookVectorCache.getAll(commands.stream()
+                .map(UpdateBookProgressCommand::bookId)
+                .toList());
+
+        Map<UUID, List<ProfileChange>> changes = new LinkedHashMap<>();
+        for (UpdateBookProgressCommand command : commands) {
+            float[] embedding = embeddings.get(command.bookId());
+            if (embedding == null) {
+                log.warn(
+                        "Skipping book progress profile update because book features are not available yet. UserId={}, BookId={}",
+                        command.userId(),
+                        command.bookId()
+                );
+                continue;
+            }
+            changes.computeIfAbsent(command.userId(), userId -> new ArrayList<>()).add(bookProgressInteraction.toAdjustment(
+                    command.bookId(),
+                    embedding,
+                    command.progress(),
+                    command.oldPage(),
+                    command.newPage()
+            ));
+        }
+
+        userProfileUpdater.applyAll(changes);
+    }
 
 }
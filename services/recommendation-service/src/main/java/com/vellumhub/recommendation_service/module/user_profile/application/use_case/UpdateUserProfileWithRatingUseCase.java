@@ -1,34 +1,39 @@
 package com.vellumhub.recommendation_service.module.user_profile.application.use_case;
 
-import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookFeature;
-import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookFeatureRepository;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookVectorCache;
 import com.vellumhub.recommendation_service.module.user_profile.application.command.UpdateUserProfileWithRatingCommand;
 import com.vellumhub.recommendation_service.module.user_profile.domain.interaction.rating.RatingBookInteraction;
 import com.vellumhub.recommendation_service.module.user_profile.domain.model.ProfileAdjustment;
-import com.vellumhub.recommendation_service.module.user_profile.domain.model.UserProfile;
-import com.vellumhub.recommendation_service.module.user_profile.domain.port.UserProfileRepository;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.ProfileChange;
+import com.vellumhub.recommendation_service.module.user_profile.domain.port.UserProfileUpdater;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
 @Component
 @Slf4j
 public class UpdateUserProfileWithRatingUseCase {
 
-    private final UserProfileRepository userProfileRepository;
-    private final BookFeatureRepository bookFeatureRepository;
+    private final UserProfileUpdater userProfileUpdater;
+    private final BookVectorCache bookVectorCache;
 
     private final RatingBookInteraction ratingBookInteraction;
 
-    public UpdateUserProfileWithRatingUseCase(UserProfileRepository userProfileRepository, BookFeatureRepository bookFeatureRepository, RatingBookInteraction ratingBookInteraction) {
-        this.userProfileRepository = userProfileRepository;
-        this.bookFeatureRepository = bookFeatureRepository;
+    public UpdateUserProfileWithRatingUseCase(UserProfileUpdater userProfileUpdater, BookVectorCache bookVectorCache, RatingBookInteraction ratingBookInteraction) {
+        this.userProfileUpdater = userProfileUpdater;
+        this.bookVectorCache = bookVectorCache;
         this.ratingBookInteraction = ratingBookInteraction;
     }
 
     public void execute(UpdateUserProfileWithRatingCommand command) {
-        BookFeature book = bookFeatureRepository.findById(command.bookId())
+        float[] embedding = bookVectorCache.get(command.bookId())
                 .orElse(null);
-        if (book == null) {
+        if (embedding == null) {
             log.warn(
                     "Skipping rating profile update because book features are not available yet. UserId={}, BookId={}",
                     command.userId(),
@@ -37,19 +42,47 @@ public class UpdateUserProfileWithRatingUseCase {
             return;
         }
 
-        UserProfile profile = userProfileRepository.findById(command.userId())
-                .orElseGet(() -> new UserProfile(command.userId()));
         ProfileAdjustment profileAdjustment = ratingBookInteraction.toAdjustment(
-                book,
+                command.bookId(),
+                embedding,
                 command.oldStars(),
                 command.newStars(),
                 command.isNewRating()
         );
 
-        profile.applyUpdate(profileAdjustment);
-
-        userProfileRepository.save(profile);
+        userProfileUpdater.apply(command.userId(), profileAdjustment);
     }
 
+    /**
+     * Batch form of {@link #execute}: embeddings missing from the cache are loaded with one query and every
+     * resulting adjustment is applied in one profile transaction, so the batch is stored entirely or not at all.
+     */
+    public void executeAll(List<UpdateUserProfileWithRatingCommand> commands) {
+        Map<UUID, float[]> embeddings = bookVectorCache.getAll(commands.stream()
+                .map(UpdateUserProfileWithRatingCommand::bookId)
+                .toList());
+
+        Map<UUID, List<ProfileChange>> changes = new LinkedHashMap<>();
+        for (UpdateUserProfileWithRatingCommand command : commands) {
+            float[] embedding = embeddings.get(command.bookId());
+            if (embedding == null) {
+                log.warn(
+                        "Skipping rating profile update because book features are not available yet. UserId={}, BookId={}",
+                        command.userId(),
+                        command.bookId()
+                );
+                continue;
+            }
+            changes.computeIfAbsent(command.userId(), userId -> new ArrayList<>()).add(ratingBookInteraction.toAdjustment(
+                    command.bookId(),
+                    embedding,
+                    command.oldStars(),
+                    command.newStars(),
+                    command.isNewRating()
+            ));
+        }
+
+        userProfileUpdater.applyAll(changes);
+    }
 
 }
@@ -1,9 +1,10 @@
 package com.vellumhub.recommendation_service.module.user_profile.domain.interaction.progress;
 
-import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookFeature;
 import com.vellumhub.recommendation_service.module.user_profile.domain.model.ProfileAdjustment;
 import org.springframework.stereotype.Service;
 
+import java.util.UUID;
+
 @Service
 public class BookProgressInteraction  {
 
@@ -11,21 +12,22 @@ public class BookProgressInteraction  {
 
     /**
      * Calculates the profile adjustment based on the user's progress in reading a book.
-     * @param bookFeature The features of the book being read.
+     * @param bookId The book being read.
+     * @param embedding The embedding of the book being read.
      * @param progress The progress type.
      * @param oldPage The page number before the progress update.
      * @param newPage The page number after the progress update.
-     * @return  A ProfileAdjustment object containing the calculated adjustment for the user's profile based on the progress and the book features.
+     * @return  A ProfileAdjustment object containing the calculated adjustment for the user's profile based on the progress and the book embedding.
      */
-    public ProfileAdjustment toAdjustment(BookFeature bookFeature, String progress, int oldPage, int newPage) {
+    public ProfileAdjustment toAdjustment(UUID bookId, float[] embedding, String progress, int oldPage, int newPage) {
         float adjustment = perTypeProgress(progress);
 
         adjustment += calculateScorePerProgress(oldPage, newPage);
 
         return new ProfileAdjustment(
-                bookFeature.getBookId(),
+                bookId,
                 adjustment,
-                bookFeature.getEmbedding()
+                embedding
         );
     }
 
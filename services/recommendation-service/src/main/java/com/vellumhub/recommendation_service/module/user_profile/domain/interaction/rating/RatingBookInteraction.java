@@ -1,33 +1,36 @@
 package com.vellumhub.recommendation_service.module.user_profile.domain.interaction.rating;
 
-import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookFeature;
 import com.vellumhub.recommendation_service.module.user_profile.domain.model.ProfileAdjustment;
 import org.springframework.stereotype.Service;
 
+import java.util.UUID;
+
 @Service
 public class RatingBookInteraction {
 
     /**
      * Calculates the profile adjustment based on the user's rating in book.
-     * @param bookFeature the features of the book being rated
+     * @param bookId the book being rated
+     * @param embedding the embedding of the book being rated
      * @param oldStars the previous star rating given by the user (0 if it's a new rating)
      * @param newStars the new star rating given by the user
      * @param isNewRating indicates whether this is a new rating or an update to an existing rating
      * @return a ProfileAdjustment object representing the change to be applied to the user's profile
      */
     public ProfileAdjustment toAdjustment(
-            BookFeature bookFeature,
+            UUID bookId,
+            float[] embedding,
             int oldStars,
             int newStars,
             boolean isNewRating
     ) {
         if (!hasCategoryChanged(newStars, oldStars, isNewRating)) {
-            return ProfileAdjustment.of(bookFeature.getBookId(), 0, bookFeature.getEmbedding());
+            return ProfileAdjustment.of(bookId, 0, embedding);
         }
 
         int adjustmentWeight = getWeightAdjustment(newStars, oldStars, isNewRating);
 
-        return ProfileAdjustment.of(bookFeature.getBookId(), adjustmentWeight, bookFeature.getEmbedding());
+        return ProfileAdjustment.of(bookId, adjustmentWeight, embedding);
     }
 
     /**
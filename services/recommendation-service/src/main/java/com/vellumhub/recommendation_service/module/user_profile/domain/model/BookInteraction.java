@@ -0,0 +1,15 @@
+package com.vellumhub.recommendation_service.module.user_profile.domain.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One profile adjustment for a book, added to the user's cumulative weight for that book when the profile
+ * is saved. A positive cumulative weight marks a book the user liked.
+ */
+public record BookInteraction(
+        UUID bookId,
+        float weight,
+        Instant interactedAt
+) {
+}
@@ -0,0 +1,133 @@
+package com.vellumhub.recommendation_service.module.user_profile.domain.model;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Bloom filter over the books a user has interacted with, used to drop already-seen candidates.
+ * <p>
+ * The filter keeps ten bits per book and probes seven of them, which gives about 1% false positives
+ * once it is full. A false positive only hides one unseen book from the feed; interacted books are
+ * never let through. When the filter is full it is rebuilt at twice the capacity from the books in
+ * {@code user_book_interactions}. The serialized form is the book count followed by the bit words.
+ * </p>
+ */
+public final class InteractedBookFilter {
+
+    private static final int BITS_PER_BOOK = 10;
+    private static final int PROBES = 7;
+    private static final int MIN_CAPACITY = 64;
+
+    private final long[] words;
+    private int count;
+
+    private InteractedBookFilter(long[] words, int count) {
+        this.words = words;
+        this.count = count;
+    }
+
+    public static InteractedBookFilter empty() {
+        return new InteractedBookFilter(new long[wordsFor(MIN_CAPACITY)], 0);
+    }
+
+    /**
+     * Builds a filter for {@code bookIds} with room for as many books again before it fills up.
+     */
+    public static InteractedBookFilter of(Collection<UUID> bookIds) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < bookIds.size() * 2L) {
+            capacity *= 2;
+        }
+
+        InteractedBookFilter filter = new InteractedBookFilter(new long[wordsFor(capacity)], 0);
+        bookIds.forEach(filter::add);
+        return filter;
+    }
+
+    public static InteractedBookFilter fromBytes(byte[] bytes) {
+        if (bytes.length < Integer.BYTES || (bytes.length - Integer.BYTES) % Long.BYTES != 0) {
+            throw new IllegalArgumentException("Interacted book filter has an invalid length: " + bytes.length);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int count = buffer.getInt();
+        long[] words = new long[buffer.remaining() / Long.BYTES];
+        buffer.asLongBuffer().get(words);
+        return new InteractedBookFilter(words, count);
+    }
+
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + words.length * Long.BYTES);
+        buffer.putInt(count);
+        buffer.asLongBuffer().put(words);
+        return buffer.array();
+    }
+
+    /**
+     * Records a book. Callers add each book once; the count drives resizing.
+     */
+    public void add(UUID bookId) {
+        long bits = (long) words.length * Long.SIZE;
+        long first = firstHash(bookId);
+        long second = secondHash(bookId);
+        for (int probe = 0; probe < PROBES; probe++) {
+            long bit = Math.floorMod(first + probe * second, bits);
+            words[(int) (bit >>> 6)] |= 1L << bit;
+        }
+        count++;
+    }
+
+    /**
+     * Returns {@code false} only for books that were never added.
+     */
+    public boolean mightContain(UUID bookId) {
+        long bits = (long) words.length * Long.SIZE;
+        long first = firstHash(bookId);
+        long second = secondHash(bookId);
+        for (int probe = 0; probe < PROBES; probe++) {
+            long bit = Math.floorMod(first + probe * second, bits);
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    /**
+     * Whether the filter holds as many books as it was sized for, past which false positives climb.
+     */
+    public boolean isFull() {
+        return count >= (long) words.length * Long.SIZE / BITS_PER_BOOK;
+    }
+
+    private static int wordsFor(int capacity) {
+        return capacity * BITS_PER_BOOK / Long.SIZE;
+    }
+
+    private static long firstHash(UUID bookId) {
+        return mix(bookId.getMostSignificantBits() ^ Long.rotateLeft(bookId.getLeastSignificantBits(), 32));
+    }
+
+    /**
+     * Forced odd so the probe step is never zero.
+     */
+    private static long secondHash(UUID bookId) {
+        return mix(bookId.getLeastSignificantBits()) | 1;
+    }
+
+    /**
+     * MurmurHash3 finalizer, spreading UUID bits that are not uniformly random (e.g. version fields).
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,13 @@
+package com.vellumhub.recommendation_service.module.user_profile.domain.model;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Books one of a user's nearest neighbours interacted with, and how similar that neighbour's profile is.
+ */
+public record NeighborBooks(
+        float similarity,
+        List<UUID> bookIds
+) {
+}
@@ -0,0 +1,27 @@
+package com.vellumhub.recommendation_service.module.user_profile.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Moves the profile towards the embedding of the preferences a user declared on sign-up.
+ */
+public record PreferenceLearning(
+        float[] embedding,
+        float weight
+) implements ProfileChange {
+
+    public static PreferenceLearning of(float[] embedding, float weight) {
+        return new PreferenceLearning(embedding, weight);
+    }
+
+    @Override
+    public void applyTo(UserProfile profile) {
+        profile.applyVectorLearning(embedding, weight);
+    }
+
+    @Override
+    public UserProfile newProfile(UUID userId) {
+        return UserProfile.create(userId);
+    }
+
+}
@@ -6,10 +6,15 @@ public record ProfileAdjustment(
         UUID bookId,
         float adjustment,
         float[] embedding
-) {
+) implements ProfileChange {
 
     public static ProfileAdjustment of(UUID bookId, float adjustment, float[] embedding) {
         return new ProfileAdjustment(bookId, adjustment, embedding);
     }
 
+    @Override
+    public void applyTo(UserProfile profile) {
+        profile.applyUpdate(this);
+    }
+
 }
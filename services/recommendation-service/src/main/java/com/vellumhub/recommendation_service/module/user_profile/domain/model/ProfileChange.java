@@ -0,0 +1,20 @@
+package com.vellumhub.recommendation_service.module.user_profile.domain.model;
+
+import java.util.UUID;
+
+/**
+ * A single learning step on a user's profile. Changes for one user are applied in the order they were
+ * submitted, so the resulting vector does not depend on which consumer thread delivered them.
+ */
+public sealed interface ProfileChange permits ProfileAdjustment, PreferenceLearning {
+
+    void applyTo(UserProfile profile);
+
+    /**
+     * The profile this change starts from when the user has none yet.
+     */
+    default UserProfile newProfile(UUID userId) {
+        return new UserProfile(userId);
+    }
+
+}
@@ -1,9 +1,12 @@
 package com.vellumhub.recommendation_service.module.user_profile.domain.model;
 
+import com.vellumhub.recommendation_service.share.math.VectorMath;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -12,8 +15,12 @@ import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
@@ -32,9 +39,13 @@ public class UserProfile {
     @JdbcTypeCode(SqlTypes.VECTOR)
     private float[] profileVector = new float[384];
 
-    @Column(name = "interacted_book_ids", columnDefinition = "uuid[]")
-    @JdbcTypeCode(SqlTypes.ARRAY)
-    private Set<UUID> interactedBookIds = new HashSet<>();
+    /**
+     * Serialized {@link InteractedBookFilter} over the books in {@code user_book_interactions}, read by
+     * candidate search. {@code null} when it has to be rebuilt from those rows, either because it filled up
+     * or because the profile predates the column; the repository rebuilds it before saving.
+     */
+    @Column(name = "interacted_books_filter")
+    private byte[] interactedBooksFilter = InteractedBookFilter.empty().toBytes();
 
     @Column(name = "total_engagement_score")
     private double totalEngagementScore;
@@ -45,6 +56,14 @@ public class UserProfile {
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
+    /**
+     * Adjustments applied since the profile was loaded, written to {@code user_book_interactions} by the
+     * repository when the profile is saved.
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private final List<BookInteraction> recordedInteractions = new ArrayList<>();
+
     public UserProfile(UUID userId) {
         this.userId = userId;
         this.totalEngagementScore = 0.0;
@@ -58,7 +77,7 @@ public class UserProfile {
         return new UserProfile(
                 userId,
                 vector,
-                new HashSet<>(),
+                InteractedBookFilter.empty().toBytes(),
                 0.0,
                 Instant.now(),
                 Instant.now()
@@ -76,48 +95,81 @@ public class UserProfile {
         this.applyVectorLearning(profileAdjustment.embedding(), profileAdjustment.adjustment());
 
         this.lastUpdated = Instant.now();
+        this.recordedInteractions.add(new BookInteraction(profileAdjustment.bookId(), profileAdjustment.adjustment(), this.lastUpdated));
+    }
+
+    /**
+     * Returns the interactions recorded since the last call and forgets them, so saving the profile again
+     * does not count them twice.
+     */
+    public List<BookInteraction> drainRecordedInteractions() {
+        List<BookInteraction> drained = List.copyOf(recordedInteractions);
+        recordedInteractions.clear();
+        return drained;
     }
 
 
     /**
-     * Updates the user's total engagement score based on the provided weight adjustment and records the interaction with the specified book ID. The method adds the weight adjustment to the total engagement score and adds the book ID to the set of interacted book IDs, which helps track user interactions for future recommendations.
+     * Updates the user's total engagement score based on the provided weight adjustment and records the interaction with the specified book ID. The method adds the weight adjustment to the total engagement score and adds the book ID to the filter of interacted books, which keeps already-seen books out of future recommendations.
      *
      * @param weightAdjustment The calculated adjustment to the engagement score based on the user's rating change, which is added to the total engagement score to reflect the user's level of engagement with the book.
-     * @param bookId The unique identifier of the book that the user interacted with, which is added to the set of interacted book IDs to keep track of the user's interactions for future recommendation algorithms.
+     * @param bookId The unique identifier of the book that the user interacted with, which is added to the filter of interacted books.
      */
     private void updateEngagementScore(float weightAdjustment, UUID bookId) {
         this.totalEngagementScore += weightAdjustment;
-        this.interactedBookIds.add(bookId);
+        recordInFilter(bookId);
     }
 
-    public void applyVectorLearning(float[] bookEmbedding, float adjustmentWeight) {
-        if (bookEmbedding == null || bookEmbedding.length != this.profileVector.length) {
-            throw new IllegalArgumentException("Book embedding dimension must match the profile vector dimension.");
-        }
+    /**
+     * Returns the filter of interacted books, or empty when it has to be rebuilt from the stored interactions.
+     */
+    public Optional<InteractedBookFilter> interactedBookFilter() {
+        return Optional.ofNullable(interactedBooksFilter).map(InteractedBookFilter::fromBytes);
+    }
 
-        float learningRate = 0.1f;
-        double sumOfSquares = 0.0;
+    /**
+     * Rebuilds the filter from the books in {@code user_book_interactions} plus the interactions recorded
+     * since the profile was loaded, which are not stored yet.
+     */
+    public void rebuildInteractedBookFilter(Collection<UUID> storedBookIds) {
+        Set<UUID> bookIds = new HashSet<>(storedBookIds);
+        recordedInteractions.forEach(interaction -> bookIds.add(interaction.bookId()));
+        this.interactedBooksFilter = InteractedBookFilter.of(bookIds).toBytes();
+    }
 
-        for (int i = 0; i < this.profileVector.length; i++) {
-            this.profileVector[i] += (bookEmbedding[i] * adjustmentWeight * learningRate);
-            sumOfSquares += (this.profileVector[i] * this.profileVector[i]);
+    /**
+     * Books the filter already reports are not added again, so its count stays close to the number of
+     * distinct books. A full filter is dropped rather than overfilled, to be rebuilt at twice the capacity.
+     */
+    private void recordInFilter(UUID bookId) {
+        if (interactedBooksFilter == null) {
+            return;
         }
-
-        this.normalizeVector(sumOfSquares);
+        InteractedBookFilter filter = InteractedBookFilter.fromBytes(interactedBooksFilter);
+        if (filter.mightContain(bookId)) {
+            return;
+        }
+        if (filter.isFull()) {
+            this.interactedBooksFilter = null;
+            return;
+        }
+        filter.add(bookId);
+        this.interactedBooksFilter = filter.toBytes();
     }
 
     /**
-     * Applies L2 Normalization to ensure the vector maintains a magnitude of 1.0.
-     * This is required for accurate Cosine Similarity searches in the database.
+     * Moves the profile vector towards the book embedding by {@code adjustmentWeight} times the learning rate,
+     * then rescales it to unit length so cosine similarity searches in the database stay accurate.
      */
-    private void normalizeVector(double sumOfSquares) {
-        float magnitude = (float) Math.sqrt(sumOfSquares);
-
-        if (magnitude > 0) {
-            for (int i = 0; i < this.profileVector.length; i++) {
-                this.profileVector[i] /= magnitude;
-            }
+    public void applyVectorLearning(float[] bookEmbedding, float adjustmentWeight) {
+        if (bookEmbedding == null || bookEmbedding.length != this.profileVector.length) {
+            throw new IllegalArgumentException("Book embedding dimension must match the profile vector dimension.");
         }
+
+        float learningRate = 0.1f;
+
+        VectorMath.axpy(adjustmentWeight * learningRate, bookEmbedding, this.profileVector);
+        VectorMath.normalizeInPlace(this.profileVector);
     }
 
 }
\ No newline at end of file
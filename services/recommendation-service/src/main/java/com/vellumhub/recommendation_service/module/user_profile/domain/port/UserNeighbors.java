@@ -0,0 +1,38 @@
+package com.vellumhub.recommendation_service.module.user_profile.domain.port;
+
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.NeighborBooks;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Precomputed nearest neighbours of each active user by profile vector.
+ */
+public interface UserNeighbors {
+
+    /**
+     * Returns the books the user's neighbours liked, most recently interacted first, up to
+     * {@code booksPerNeighbor} each. Books a neighbour disliked are never returned. The list is empty when no
+     * neighbours were computed for the user yet.
+     */
+    List<NeighborBooks> findNeighborBooks(UUID userId, int booksPerNeighbor);
+
+    /**
+     * Returns up to {@code limit} users with a profile vector updated since {@code activeSince} whose list is
+     * missing or was computed before {@code computedBefore}, in user ID order.
+     */
+    List<UUID> findStale(Instant activeSince, Instant computedBefore, int limit);
+
+    /**
+     * Recomputes the neighbour lists of the given users from their stored profile vectors.
+     */
+    void refresh(Collection<UUID> userIds);
+
+    /**
+     * Drops the lists of users whose profile was not updated since {@code activeSince}. Returns how many
+     * were dropped.
+     */
+    int removeInactive(Instant activeSince);
+}
@@ -1,12 +1,47 @@
 package com.vellumhub.recommendation_service.module.user_profile.domain.port;
 
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.InteractedBookFilter;
 import com.vellumhub.recommendation_service.module.user_profile.domain.model.UserProfile;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UserProfileRepository {
     Optional<UserProfile> findById(UUID uuid);
 
+    /**
+     * Loads only the profile vector, without the interacted book IDs or filter and without attaching the
+     * profile to the persistence context. Empty when the user has no profile.
+     */
+    Optional<float[]> findProfileVector(UUID userId);
+
+    /**
+     * Loads the profile and locks its row until the surrounding transaction ends.
+     */
+    Optional<UserProfile> findForUpdate(UUID userId);
+
+    /**
+     * Loads the existing profiles among {@code userIds} with one query, locking their rows in user ID order
+     * so that concurrent batches over overlapping users cannot deadlock.
+     */
+    List<UserProfile> findAllForUpdate(Collection<UUID> userIds);
+
     void save(UserProfile userProfile);
-}
\ No newline at end of file
+
+    void saveAll(List<UserProfile> userProfiles);
+
+    /**
+     * Loads only the interacted-book filter of a profile, without the profile vector or the interacted ID
+     * array. Empty when the user has no profile.
+     */
+    Optional<InteractedBookFilter> findInteractedBookFilter(UUID userId);
+
+    /**
+     * Loads only the {@code last_updated} timestamp of a profile, used as its version. Empty when the user has
+     * no profile.
+     */
+    Optional<Instant> findLastUpdated(UUID userId);
+}
@@ -0,0 +1,32 @@
+package com.vellumhub.recommendation_service.module.user_profile.domain.port;
+
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.ProfileChange;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Single writer for {@code user_profiles}. Every read-modify-write of a profile goes through here so that
+ * concurrent events for the same user cannot overwrite each other.
+ */
+public interface UserProfileUpdater {
+
+    /**
+     * Applies the change to the user's profile and returns once it is committed, rethrowing any failure
+     * so the caller's retry and dead-letter handling still applies.
+     *
+     * @param userId the profile owner
+     * @param change the learning step to apply
+     */
+    void apply(UUID userId, ProfileChange change);
+
+    /**
+     * Applies the changes of many users in one transaction, each user's changes in list order. Either all
+     * of them are committed or, when this throws, none are.
+     *
+     * @param changes the learning steps to apply, by profile owner
+     */
+    void applyAll(Map<UUID, List<ProfileChange>> changes);
+
+}
@@ -0,0 +1,142 @@
+package com.vellumhub.recommendation_service.module.user_profile.infrastructure.neighbors;
+
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.NeighborBooks;
+import com.vellumhub.recommendation_service.module.user_profile.domain.port.UserNeighbors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * {@link UserNeighbors} stored in {@code user_neighbors}, one row per user holding the neighbour IDs and
+ * their similarities as parallel arrays, nearest first.
+ * <p>
+ * A refresh runs one pgvector nearest-neighbour query per user over {@code user_profiles}, served by the
+ * HNSW index on {@code profile_vector}. Every refreshed user gets a row, empty when no other profile has a
+ * vector, so the refresh job does not pick the same user again until the list ages out. Reading a user's
+ * neighbour books is a primary key lookup followed by one partial index range scan per neighbour over the
+ * books that neighbour liked, most recent first.
+ * </p>
+ */
+@Repository
+public class JdbcUserNeighbors implements UserNeighbors {
+
+    private static final String FIND_NEIGHBOR_BOOKS = """
+            SELECT n.similarity,
+                   ARRAY(
+                       SELECT i.book_id
+                       FROM user_book_interactions i
+                       WHERE i.user_id = n.user_id
+                         AND i.weight > 0
+                       ORDER BY i.last_interacted_at DESC
+                       LIMIT ?
+                   )
+            FROM user_neighbors un
+            CROSS JOIN LATERAL unnest(un.neighbor_user_ids, un.similarities) AS n(user_id, similarity)
+            WHERE un.user_id = ?
+            """;
+
+    private static final String FIND_STALE = """
+            SELECT p.user_id
+            FROM user_profiles p
+            LEFT JOIN user_neighbors n ON n.user_id = p.user_id
+            WHERE p.last_updated >= ?
+              AND p.profile_vector IS NOT NULL
+              AND (n.computed_at IS NULL OR n.computed_at < ?)
+            ORDER BY p.user_id
+            LIMIT ?
+            """;
+
+    private static final String REFRESH = """
+            INSERT INTO user_neighbors (user_id, neighbor_user_ids, similarities, computed_at)
+            SELECT t.user_id,
+                   COALESCE(array_agg(n.user_id ORDER BY n.distance) FILTER (WHERE n.user_id IS NOT NULL), '{}'),
+                   COALESCE(array_agg((1 - n.distance)::real ORDER BY n.distance) FILTER (WHERE n.user_id IS NOT NULL), '{}'),
+                   ?
+            FROM user_profiles t
+            LEFT JOIN LATERAL (
+                SELECT u.user_id, u.profile_vector <=> t.profile_vector AS distance
+                FROM user_profiles u
+                WHERE u.user_id <> t.user_id
+                  AND u.profile_vector IS NOT NULL
+                ORDER BY u.profile_vector <=> t.profile_vector
+                LIMIT ?
+            ) n ON TRUE
+            WHERE t.user_id = ANY(?)
+              AND t.profile_vector IS NOT NULL
+            GROUP BY t.user_id
+            ON CONFLICT (user_id) DO UPDATE
+            SET neighbor_user_ids = EXCLUDED.neighbor_user_ids,
+                similarities = EXCLUDED.similarities,
+                computed_at = EXCLUDED.computed_at
+            """;
+
+    private static final String REMOVE_INACTIVE = """
+            DELETE FROM user_neighbors n
+            USING user_profiles p
+            WHERE p.user_id = n.user_id
+              AND p.last_updated < ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int size;
+
+    public JdbcUserNeighbors(
+            JdbcTemplate jdbcTemplate,
+            @Value("${recommendation.user-neighbors.size:20}") int size
+    ) {
+        if (size < 1) {
+            throw new IllegalArgumentException("recommendation.user-neighbors.size must be at least 1");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.size = size;
+    }
+
+    @Override
+    public List<NeighborBooks> findNeighborBooks(UUID userId, int booksPerNeighbor) {
+        return jdbcTemplate.query(FIND_NEIGHBOR_BOOKS, (resultSet, rowNum) -> new NeighborBooks(
+                resultSet.getFloat(1),
+                bookIds(resultSet.getArray(2))
+        ), booksPerNeighbor, userId);
+    }
+
+    @Override
+    public List<UUID> findStale(Instant activeSince, Instant computedBefore, int limit) {
+        return jdbcTemplate.queryForList(FIND_STALE, UUID.class,
+                Timestamp.from(activeSince), Timestamp.from(computedBefore), limit);
+    }
+
+    @Override
+    public void refresh(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        UUID[] ids = userIds.toArray(UUID[]::new);
+        jdbcTemplate.execute(REFRESH, (PreparedStatement statement) -> {
+            statement.setTimestamp(1, Timestamp.from(Instant.now()));
+            statement.setInt(2, size);
+            statement.setArray(3, statement.getConnection().createArrayOf("uuid", ids));
+            return statement.executeUpdate();
+        });
+    }
+
+    @Override
+    public int removeInactive(Instant activeSince) {
+        return jdbcTemplate.update(REMOVE_INACTIVE, Timestamp.from(activeSince));
+    }
+
+    private static List<UUID> bookIds(Array array) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+        return List.of((UUID[]) array.getArray());
+    }
+}
@@ -0,0 +1,119 @@
+package com.vellumhub.recommendation_service.module.user_profile.infrastructure.neighbors;
+
+import com.vellumhub.recommendation_service.module.user_profile.domain.port.UserNeighbors;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the {@link UserNeighbors} lists of active users fresh.
+ * <p>
+ * On a fixed delay it recomputes, in batches, every list that is missing or older than {@code max-age} for
+ * users whose profile changed within {@code active-window}, then drops the lists of users that went
+ * inactive. Work is picked by list age, so a run interrupted by a restart continues where it stopped, and
+ * instances running it at the same time only repeat idempotent writes.
+ * </p>
+ */
+@Component
+@Slf4j
+public class UserNeighborsRefresher {
+
+    private final UserNeighbors userNeighbors;
+    private final VellumHubMetrics metrics;
+    private final Duration activeWindow;
+    private final Duration maxAge;
+    private final int batchSize;
+    private final Duration checkInterval;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "user-neighbors");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public UserNeighborsRefresher(
+            UserNeighbors userNeighbors,
+            VellumHubMetrics metrics,
+            @Value("${recommendation.user-neighbors.active-window:P30D}") Duration activeWindow,
+            @Value("${recommendation.user-neighbors.max-age:PT24H}") Duration maxAge,
+            @Value("${recommendation.user-neighbors.batch-size:200}") int batchSize,
+            @Value("${recommendation.user-neighbors.check-interval:PT5M}") Duration checkInterval
+    ) {
+        if (activeWindow.isZero() || activeWindow.isNegative() || maxAge.isZero() || maxAge.isNegative()
+                || checkInterval.isZero() || checkInterval.isNegative()) {
+            throw new IllegalArgumentException("recommendation.user-neighbors durations must be positive");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("recommendation.user-neighbors.batch-size must be at least 1");
+        }
+        this.userNeighbors = userNeighbors;
+        this.metrics = metrics;
+        this.activeWindow = activeWindow;
+        this.maxAge = maxAge;
+        this.batchSize = batchSize;
+        this.checkInterval = checkInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::refreshQuietly, checkInterval.toMillis(), checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Recomputes every stale list of an active user as of {@code now} and drops inactive users' lists.
+     * Returns the number of users refreshed.
+     */
+    int refresh(Instant now) {
+        Instant activeSince = now.minus(activeWindow);
+        Instant computedBefore = now.minus(maxAge);
+
+        int refreshed = 0;
+        List<UUID> batch;
+        while (!(batch = userNeighbors.findStale(activeSince, computedBefore, batchSize)).isEmpty()) {
+            Timer.Sample sample = metrics.startBusinessTimer();
+            try {
+                userNeighbors.refresh(batch);
+                metrics.recordUserNeighborsRefresh(sample, batch.size(), "success");
+            } catch (RuntimeException ex) {
+                metrics.recordUserNeighborsRefresh(sample, 0, "failure");
+                throw ex;
+            }
+            refreshed += batch.size();
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+
+        int removed = userNeighbors.removeInactive(activeSince);
+        if (refreshed > 0 || removed > 0) {
+            log.info("User neighbours refreshed. operation=user_neighbors_refresh, users={}, removed={}", refreshed, removed);
+        }
+        return refreshed;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh(Instant.now());
+        } catch (RuntimeException ex) {
+            log.warn("User neighbours refresh failed. operation=user_neighbors_refresh, error={}", ex.getMessage());
+        }
+    }
+}
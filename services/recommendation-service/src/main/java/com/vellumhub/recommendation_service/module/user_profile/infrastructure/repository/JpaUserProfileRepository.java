@@ -1,11 +1,29 @@
 package com.vellumhub.recommendation_service.module.user_profile.infrastructure.repository;
 
 import com.vellumhub.recommendation_service.module.user_profile.domain.model.UserProfile;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface JpaUserProfileRepository extends JpaRepository<UserProfile, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM UserProfile p WHERE p.userId = :userId")
+    Optional<UserProfile> findForUpdate(@Param("userId") UUID userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM UserProfile p WHERE p.userId IN :userIds ORDER BY p.userId")
+    List<UserProfile> findAllForUpdate(@Param("userIds") Collection<UUID> userIds);
+
+    @Query("SELECT p.profileVector FROM UserProfile p WHERE p.userId = :userId")
+    Optional<float[]> findProfileVector(@Param("userId") UUID userId);
 }
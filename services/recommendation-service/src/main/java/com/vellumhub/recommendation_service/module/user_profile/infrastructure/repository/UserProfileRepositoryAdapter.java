@@ -1,19 +1,62 @@
 package com.vellumhub.recommendation_service.module.user_profile.infrastructure.repository;
 
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.BookInteraction;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.InteractedBookFilter;
 import com.vellumhub.recommendation_service.module.user_profile.domain.model.UserProfile;
 import com.vellumhub.recommendation_service.module.user_profile.domain.port.UserProfileRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public class UserProfileRepositoryAdapter implements UserProfileRepository {
 
+    private static final String FIND_INTERACTED_BOOK_FILTER = """
+            SELECT interacted_books_filter
+            FROM user_profiles
+            WHERE user_id = ?
+            """;
+
+    /**
+     * Only read for profiles whose filter is being rebuilt, which happens each time it doubles.
+     */
+    private static final String FIND_INTERACTED_BOOK_IDS = """
+            SELECT book_id
+            FROM user_book_interactions
+            WHERE user_id = ?
+            """;
+
+    private static final String FIND_LAST_UPDATED = """
+            SELECT last_updated
+            FROM user_profiles
+            WHERE user_id = ?
+            """;
+
+    /**
+     * Adds each adjustment to the user's cumulative weight for the book. Rows of one user are only written
+     * while the profile row is locked, so concurrent saves cannot interleave.
+     */
+    private static final String RECORD_INTERACTION = """
+            INSERT INTO user_book_interactions (user_id, book_id, weight, last_interacted_at)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (user_id, book_id) DO UPDATE
+            SET weight = user_book_interactions.weight + EXCLUDED.weight,
+                last_interacted_at = GREATEST(user_book_interactions.last_interacted_at, EXCLUDED.last_interacted_at)
+            """;
+
     private final JpaUserProfileRepository jpaUserProfileRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public UserProfileRepositoryAdapter(JpaUserProfileRepository jpaUserProfileRepository) {
+    public UserProfileRepositoryAdapter(JpaUserProfileRepository jpaUserProfileRepository, JdbcTemplate jdbcTemplate) {
         this.jpaUserProfileRepository = jpaUserProfileRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -21,8 +64,85 @@ public class UserProfileRepositoryAdapter implements UserProfileRepository {
         return jpaUserProfileRepository.findById(uuid);
     }
 
+    @Override
+    public Optional<float[]> findProfileVector(UUID userId) {
+        return jpaUserProfileRepository.findProfileVector(userId);
+    }
+
+    @Override
+    public Optional<UserProfile> findForUpdate(UUID userId) {
+        return jpaUserProfileRepository.findForUpdate(userId);
+    }
+
+    @Override
+    public List<UserProfile> findAllForUpdate(Collection<UUID> userIds) {
+        return jpaUserProfileRepository.findAllForUpdate(userIds);
+    }
+
     @Override
     public void save(UserProfile userProfile) {
+        rebuildInteractedBookFilter(userProfile);
         jpaUserProfileRepository.save(userProfile);
+        recordInteractions(List.of(userProfile));
+    }
+
+    @Override
+    public void saveAll(List<UserProfile> userProfiles) {
+        userProfiles.forEach(this::rebuildInteractedBookFilter);
+        jpaUserProfileRepository.saveAll(userProfiles);
+        recordInteractions(userProfiles);
+    }
+
+    @Override
+    public Optional<InteractedBookFilter> findInteractedBookFilter(UUID userId) {
+        List<byte[]> filters = jdbcTemplate.query(
+                FIND_INTERACTED_BOOK_FILTER,
+                (resultSet, rowNum) -> resultSet.getBytes(1),
+                userId
+        );
+        if (filters.isEmpty()) {
+            return Optional.empty();
+        }
+        byte[] filter = filters.getFirst();
+        return Optional.of(filter != null
+                ? InteractedBookFilter.fromBytes(filter)
+                : InteractedBookFilter.of(findInteractedBookIds(userId)));
+    }
+
+    @Override
+    public Optional<Instant> findLastUpdated(UUID userId) {
+        List<Instant> versions = jdbcTemplate.query(
+                FIND_LAST_UPDATED,
+                (resultSet, rowNum) -> resultSet.getTimestamp(1).toInstant(),
+                userId
+        );
+        return versions.stream().findFirst();
+    }
+
+    private void rebuildInteractedBookFilter(UserProfile userProfile) {
+        if (userProfile.interactedBookFilter().isEmpty()) {
+            userProfile.rebuildInteractedBookFilter(findInteractedBookIds(userProfile.getUserId()));
+        }
+    }
+
+    private List<UUID> findInteractedBookIds(UUID userId) {
+        return jdbcTemplate.queryForList(FIND_INTERACTED_BOOK_IDS, UUID.class, userId);
+    }
+
+    private void recordInteractions(List<UserProfile> userProfiles) {
+        List<Object[]> rows = new ArrayList<>();
+        for (UserProfile userProfile : userProfiles) {
+            for (BookInteraction interaction : userProfile.drainRecordedInteractions()) {
+                rows.add(new Object[]{
+                        userProfile.getUserId(),
+                        interaction.bookId(),
+                        interaction.weight(),
+                        Timestamp.from(interaction.interactedAt())
+                });
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(RECORD_INTERACTION, rows);
+        }
     }
 }
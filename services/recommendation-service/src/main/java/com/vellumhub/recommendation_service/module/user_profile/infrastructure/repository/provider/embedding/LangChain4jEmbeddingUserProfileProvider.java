@@ -1,6 +1,7 @@
 package com.vellumhub.recommendation_service.module.user_profile.infrastructure.repository.provider.embedding;
 
 import com.vellumhub.recommendation_service.module.user_profile.domain.port.EmbeddingUserProfileProvider;
+import com.vellumhub.recommendation_service.share.math.VectorMath;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import org.springframework.stereotype.Component;
 
@@ -30,25 +31,7 @@ public class LangChain4jEmbeddingUserProfileProvider implements EmbeddingUserPro
                 .content()
                 .vector();
 
-        return normalizeVectors(rawVectors);
-    }
-
-    private float[] normalizeVectors(float[] rawVectors) {
-        double sumSqrs = 0.0;
-        for (float value : rawVectors) {
-            sumSqrs += value * value;
-        }
-        double magnitude = Math.sqrt(sumSqrs);
-
-        if (magnitude < 1e-9) {
-            return rawVectors;
-        }
-
-        float[] normalizedVectors = new float[rawVectors.length];
-        for (int i = 0; i < rawVectors.length; i++) {
-            normalizedVectors[i] = (float) (rawVectors[i] / magnitude);
-        }
-        return normalizedVectors;
+        return VectorMath.normalized(rawVectors);
     }
 
     private String buildSemanticContent(List<String> genres, String about) {
@@ -0,0 +1,248 @@
+package com.vellumhub.recommendation_service.module.user_profile.infrastructure.update;
+
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.RecommendationCache;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.ProfileChange;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.UserProfile;
+import com.vellumhub.recommendation_service.module.user_profile.domain.port.UserProfileRepository;
+import com.vellumhub.recommendation_service.module.user_profile.domain.port.UserProfileUpdater;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link UserProfileUpdater} that serializes writes per user on a fixed set of single-threaded stripes.
+ * <p>
+ * A user always maps to the same stripe, so its changes are applied one at a time in arrival order.
+ * The first change for a user schedules a flush after {@code flush-window} (none by default). Changes for
+ * the user that reach the stripe before that flush starts join it, and the whole group is written with one
+ * load and one save; changes arriving while it runs wait for the next flush. Callers block until their
+ * change is written, so a non-zero window adds its length to every single-record update and only pays off
+ * when several listeners change the same user at once. If a grouped write fails, each change is retried
+ * alone so only the bad one fails its caller.
+ * </p>
+ * <p>
+ * Every write locks the profile rows it loads, so {@link #applyAll} batches, which bypass the stripes, and
+ * writes from other instances wait for each other instead of overwriting each other's changes.
+ * </p>
+ */
+@Component
+@Slf4j
+public class CoalescingUserProfileUpdater implements UserProfileUpdater {
+
+    private static final String OPERATION = "profile_update";
+
+    private final UserProfileRepository userProfileRepository;
+    private final RecommendationCache recommendationCache;
+    private final TransactionTemplate transactionTemplate;
+    private final VellumHubMetrics metrics;
+    private final long flushWindowNanos;
+    private final Stripe[] stripes;
+
+    public CoalescingUserProfileUpdater(
+            UserProfileRepository userProfileRepository,
+            RecommendationCache recommendationCache,
+            PlatformTransactionManager transactionManager,
+            VellumHubMetrics metrics,
+            @Value("${recommendation.profile-update.stripes:4}") int stripeCount,
+            @Value("${recommendation.profile-update.flush-window:PT0S}") Duration flushWindow
+    ) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("recommendation.profile-update.stripes must be at least 1");
+        }
+        this.userProfileRepository = userProfileRepository;
+        this.recommendationCache = recommendationCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.metrics = metrics;
+        this.flushWindowNanos = flushWindow.toNanos();
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(i);
+        }
+    }
+
+    @Override
+    public void apply(UUID userId, ProfileChange change) {
+        CompletableFuture<Void> written = new CompletableFuture<>();
+        stripes[Math.floorMod(userId.hashCode(), stripes.length)].submit(userId, new PendingChange(change, written));
+
+        try {
+            written.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the profile update of user " + userId, ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Profile update failed for user " + userId, ex.getCause());
+        }
+    }
+
+    @Override
+    public void applyAll(Map<UUID, List<ProfileChange>> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        int changeCount = changes.values().stream().mapToInt(List::size).sum();
+        Timer.Sample sample = metrics.startBusinessTimer();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<UUID, UserProfile> profiles = new HashMap<>();
+                userProfileRepository.findAllForUpdate(changes.keySet())
+                        .forEach(profile -> profiles.put(profile.getUserId(), profile));
+
+                List<UserProfile> changed = new ArrayList<>(changes.size());
+                changes.forEach((userId, userChanges) -> {
+                    UserProfile profile = profiles.computeIfAbsent(userId, id -> userChanges.getFirst().newProfile(id));
+                    userChanges.forEach(change -> change.applyTo(profile));
+                    changed.add(profile);
+                });
+                userProfileRepository.saveAll(changed);
+            });
+            changes.keySet().forEach(recommendationCache::invalidate);
+            metrics.recordProfileUpdateFlush(sample, changeCount, "success");
+        } catch (RuntimeException ex) {
+            metrics.recordProfileUpdateFlush(sample, changeCount, "failure");
+            throw ex;
+        }
+    }
+
+    /**
+     * Lets pending flushes finish so callers blocked in {@link #apply} are released before shutdown.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (Stripe stripe : stripes) {
+            stripe.executor.shutdown();
+        }
+        for (Stripe stripe : stripes) {
+            if (!stripe.executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Profile update stripe did not drain in time. operation=profile_update_shutdown, stripe={}", stripe.index);
+            }
+        }
+    }
+
+    private void flush(UUID userId, List<PendingChange> changes) {
+        try {
+            write(userId, changes);
+            changes.forEach(PendingChange::complete);
+            return;
+        } catch (RuntimeException ex) {
+            if (changes.size() == 1) {
+                changes.getFirst().fail(ex);
+                return;
+            }
+            log.warn("Grouped profile update failed, retrying changes one by one. operation=profile_update, userId={}, changes={}, error={}",
+                    userId,
+                    changes.size(),
+                    ex.getMessage());
+        }
+
+        for (PendingChange change : changes) {
+            try {
+                write(userId, List.of(change));
+                change.complete();
+            } catch (RuntimeException ex) {
+                change.fail(ex);
+            }
+        }
+    }
+
+    private void write(UUID userId, List<PendingChange> changes) {
+        Timer.Sample sample = metrics.startBusinessTimer();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                UserProfile profile = userProfileRepository.findForUpdate(userId)
+                        .orElseGet(() -> changes.getFirst().change().newProfile(userId));
+                changes.forEach(pending -> pending.change().applyTo(profile));
+                userProfileRepository.save(profile);
+            });
+            recommendationCache.invalidate(userId);
+            metrics.recordProfileUpdateFlush(sample, changes.size(), "success");
+        } catch (RuntimeException ex) {
+            metrics.recordProfileUpdateFlush(sample, changes.size(), "failure");
+            throw ex;
+        }
+    }
+
+    private record PendingChange(ProfileChange change, CompletableFuture<Void> written) {
+
+        void complete() {
+            written.complete(null);
+        }
+
+        void fail(RuntimeException ex) {
+            written.completeExceptionally(ex);
+        }
+    }
+
+    /**
+     * One worker thread and the changes queued on it. {@code pending} is only touched from that thread.
+     */
+    private final class Stripe {
+
+        private final int index;
+        private final ScheduledExecutorService executor;
+        private final Map<UUID, List<PendingChange>> pending = new HashMap<>();
+
+        private Stripe(int index) {
+            this.index = index;
+            this.executor = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("profile-update-" + index).daemon().factory()
+            );
+        }
+
+        private void submit(UUID userId, PendingChange change) {
+            executor.execute(() -> enqueue(userId, change));
+        }
+
+        private void enqueue(UUID userId, PendingChange change) {
+            List<PendingChange> queued = pending.get(userId);
+            if (queued != null) {
+                queued.add(change);
+                return;
+            }
+
+            queued = new ArrayList<>();
+            queued.add(change);
+            pending.put(userId, queued);
+            try {
+                executor.schedule(() -> flushPending(userId), flushWindowNanos, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException ex) {
+                flushPending(userId);
+            }
+        }
+
+        private void flushPending(UUID userId) {
+            List<PendingChange> changes = pending.remove(userId);
+            if (changes == null) {
+                return;
+            }
+            flush(userId, changes);
+            changes.forEach(change -> metrics.recordBusinessCounter(
+                    VellumHubMetrics.PROFILE_UPDATE_CHANGES,
+                    OPERATION,
+                    change.written().isCompletedExceptionally() ? "failed" : "applied"
+            ));
+        }
+    }
+}
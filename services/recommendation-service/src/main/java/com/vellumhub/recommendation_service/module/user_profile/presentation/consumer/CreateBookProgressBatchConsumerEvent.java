@@ -0,0 +1,63 @@
+package com.vellumhub.recommendation_service.module.user_profile.presentation.consumer;
+
+import com.vellumhub.kafka.contracts.KafkaConsumerGroups;
+import com.vellumhub.kafka.contracts.KafkaTopics;
+import com.vellumhub.kafka.contracts.readingprogress.CreateBookProgressEvent;
+import com.vellumhub.recommendation_service.module.user_profile.application.command.UpdateBookProgressCommand;
+import com.vellumhub.recommendation_service.module.user_profile.application.use_case.UpdateBookProgressUseCase;
+import com.vellumhub.recommendation_service.share.kafka.consumer.ReplayingBatchProcessor;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Batch counterpart of {@link CreateBookProgressConsumerEvent}, active when {@code recommendation.engagement-ingestion.mode=batch}.
+ * <p>
+ * The whole poll is applied to the user profiles in one transaction. If that fails nothing is stored, and
+ * the records are replayed one by one so the failing record can be reported by index and sent to its DLT on its own.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "recommendation.engagement-ingestion.mode", havingValue = "batch")
+public class CreateBookProgressBatchConsumerEvent {
+
+    private static final String TOPIC = KafkaTopics.CREATED_READING_PROGRESS;
+    private static final String EVENT_TYPE = "CreateBookProgressEvent";
+    private static final String CONSUMER_GROUP = KafkaConsumerGroups.RECOMMENDATION_SERVICE;
+
+    private final UpdateBookProgressUseCase updateBookProgressUseCase;
+    private final ReplayingBatchProcessor<CreateBookProgressEvent> batchProcessor;
+
+    public CreateBookProgressBatchConsumerEvent(UpdateBookProgressUseCase updateBookProgressUseCase, VellumHubMetrics metrics) {
+        this.updateBookProgressUseCase = updateBookProgressUseCase;
+        this.batchProcessor = new ReplayingBatchProcessor<>(TOPIC, EVENT_TYPE, CONSUMER_GROUP, "Book progress creation", metrics, metrics::recordEngagementIngestionBatch);
+    }
+
+    @KafkaListener(
+            topics = KafkaTopics.CREATED_READING_PROGRESS,
+            groupId = KafkaConsumerGroups.RECOMMENDATION_SERVICE,
+            containerFactory = "engagementBatchKafkaListenerContainerFactory"
+    )
+    public void listen(List<CreateBookProgressEvent> events) {
+        batchProcessor.process(
+                events,
+                batch -> updateBookProgressUseCase.executeAll(batch.stream().map(CreateBookProgressBatchConsumerEvent::toCommand).toList()),
+                event -> updateBookProgressUseCase.execute(toCommand(event)),
+                event -> "UserId=" + event.userId() + ", BookId=" + event.bookId()
+        );
+    }
+
+    private static UpdateBookProgressCommand toCommand(CreateBookProgressEvent event) {
+        return UpdateBookProgressCommand.of(
+                event.userId(),
+                event.bookId(),
+                event.progress(),
+                0,
+                event.initPage()
+        );
+    }
+
+}
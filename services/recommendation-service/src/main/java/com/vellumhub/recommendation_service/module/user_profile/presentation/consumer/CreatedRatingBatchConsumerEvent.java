@@ -0,0 +1,63 @@
+package com.vellumhub.recommendation_service.module.user_profile.presentation.consumer;
+
+import com.vellumhub.kafka.contracts.KafkaConsumerGroups;
+import com.vellumhub.kafka.contracts.KafkaTopics;
+import com.vellumhub.kafka.contracts.engagement.CreatedRatingEvent;
+import com.vellumhub.recommendation_service.module.user_profile.application.command.UpdateUserProfileWithRatingCommand;
+import com.vellumhub.recommendation_service.module.user_profile.application.use_case.UpdateUserProfileWithRatingUseCase;
+import com.vellumhub.recommendation_service.share.kafka.consumer.ReplayingBatchProcessor;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Batch counterpart of {@link CreatedRatingConsumerEvent}, active when {@code recommendation.engagement-ingestion.mode=batch}.
+ * <p>
+ * The whole poll is applied to the user profiles in one transaction. If that fails nothing is stored, and
+ * the records are replayed one by one so the failing record can be reported by index and sent to its DLT on its own.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "recommendation.engagement-ingestion.mode", havingValue = "batch")
+public class CreatedRatingBatchConsumerEvent {
+
+    private static final String TOPIC = KafkaTopics.CREATED_RATING;
+    private static final String EVENT_TYPE = "CreatedRatingEvent";
+    private static final String CONSUMER_GROUP = KafkaConsumerGroups.RECOMMENDATION_SERVICE;
+
+    private final UpdateUserProfileWithRatingUseCase updateUserProfileWithRatingUseCase;
+    private final ReplayingBatchProcessor<CreatedRatingEvent> batchProcessor;
+
+    public CreatedRatingBatchConsumerEvent(UpdateUserProfileWithRatingUseCase updateUserProfileWithRatingUseCase, VellumHubMetrics metrics) {
+        this.updateUserProfileWithRatingUseCase = updateUserProfileWithRatingUseCase;
+        this.batchProcessor = new ReplayingBatchProcessor<>(TOPIC, EVENT_TYPE, CONSUMER_GROUP, "Rating creation", metrics, metrics::recordEngagementIngestionBatch);
+    }
+
+    @KafkaListener(
+            topics = KafkaTopics.CREATED_RATING,
+            groupId = KafkaConsumerGroups.RECOMMENDATION_SERVICE,
+            containerFactory = "engagementBatchKafkaListenerContainerFactory"
+    )
+    public void listen(List<CreatedRatingEvent> events) {
+        batchProcessor.process(
+                events,
+                batch -> updateUserProfileWithRatingUseCase.executeAll(batch.stream().map(CreatedRatingBatchConsumerEvent::toCommand).toList()),
+                event -> updateUserProfileWithRatingUseCase.execute(toCommand(event)),
+                event -> "UserId=" + event.userId() + ", BookId=" + event.bookId()
+        );
+    }
+
+    private static UpdateUserProfileWithRatingCommand toCommand(CreatedRatingEvent event) {
+        return new UpdateUserProfileWithRatingCommand(
+                event.userId(),
+                event.bookId(),
+                0,
+                event.stars(),
+                false
+        );
+    }
+
+}
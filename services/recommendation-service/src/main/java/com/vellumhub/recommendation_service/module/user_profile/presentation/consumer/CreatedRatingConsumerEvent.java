@@ -8,12 +8,14 @@ import com.vellumhub.kafka.contracts.engagement.CreatedRatingEvent;
 import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
 import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 @Component
 @Slf4j
+@ConditionalOnProperty(name = "recommendation.engagement-ingestion.mode", havingValue = "single", matchIfMissing = true)
 public class CreatedRatingConsumerEvent {
 
     private static final String TOPIC = KafkaTopics.CREATED_RATING;
@@ -0,0 +1,63 @@
+package com.vellumhub.recommendation_service.module.user_profile.presentation.consumer;
+
+import com.vellumhub.kafka.contracts.KafkaConsumerGroups;
+import com.vellumhub.kafka.contracts.KafkaTopics;
+import com.vellumhub.kafka.contracts.readingprogress.UpdateBookProgressEvent;
+import com.vellumhub.recommendation_service.module.user_profile.application.command.UpdateBookProgressCommand;
+import com.vellumhub.recommendation_service.module.user_profile.application.use_case.UpdateBookProgressUseCase;
+import com.vellumhub.recommendation_service.share.kafka.consumer.ReplayingBatchProcessor;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Batch counterpart of {@link UpdateBookProgressConsumerEvent}, active when {@code recommendation.engagement-ingestion.mode=batch}.
+ * <p>
+ * The whole poll is applied to the user profiles in one transaction. If that fails nothing is stored, and
+ * the records are replayed one by one so the failing record can be reported by index and sent to its DLT on its own.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "recommendation.engagement-ingestion.mode", havingValue = "batch")
+public class UpdateBookProgressBatchConsumerEvent {
+
+    private static final String TOPIC = KafkaTopics.UPDATED_READING_PROGRESS;
+    private static final String EVENT_TYPE = "UpdateBookProgressEvent";
+    private static final String CONSUMER_GROUP = KafkaConsumerGroups.RECOMMENDATION_SERVICE;
+
+    private final UpdateBookProgressUseCase updateBookProgressUseCase;
+    private final ReplayingBatchProcessor<UpdateBookProgressEvent> batchProcessor;
+
+    public UpdateBookProgressBatchConsumerEvent(UpdateBookProgressUseCase updateBookProgressUseCase, VellumHubMetrics metrics) {
+        this.updateBookProgressUseCase = updateBookProgressUseCase;
+        this.batchProcessor = new ReplayingBatchProcessor<>(TOPIC, EVENT_TYPE, CONSUMER_GROUP, "Book progress update", metrics, metrics::recordEngagementIngestionBatch);
+    }
+
+    @KafkaListener(
+            topics = KafkaTopics.UPDATED_READING_PROGRESS,
+            groupId = KafkaConsumerGroups.RECOMMENDATION_SERVICE,
+            containerFactory = "engagementBatchKafkaListenerContainerFactory"
+    )
+    public void listen(List<UpdateBookProgressEvent> events) {
+        batchProcessor.process(
+                events,
+                batch -> updateBookProgressUseCase.executeAll(batch.stream().map(UpdateBookProgressBatchConsumerEvent::toCommand).toList()),
+                event -> updateBookProgressUseCase.execute(toCommand(event)),
+                event -> "UserId=" + event.userId() + ", BookId=" + event.bookId()
+        );
+    }
+
+    private static UpdateBookProgressCommand toCommand(UpdateBookProgressEvent event) {
+        return UpdateBookProgressCommand.of(
+                event.userId(),
+                event.bookId(),
+                event.progress(),
+                event.oldPage(),
+                event.newPage()
+        );
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.vellumhub.recommendation_service.module.user_profile.presentation.consumer;
+
+import com.vellumhub.kafka.contracts.KafkaConsumerGroups;
+import com.vellumhub.kafka.contracts.KafkaTopics;
+import com.vellumhub.kafka.contracts.engagement.ReactionChangedEvent;
+import com.vellumhub.recommendation_service.module.user_profile.application.command.ReactionChangedCommand;
+import com.vellumhub.recommendation_service.module.user_profile.application.use_case.ReactionChangedUseCase;
+import com.vellumhub.recommendation_service.share.kafka.consumer.ReplayingBatchProcessor;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Batch counterpart of {@link UserReactionConsumerEvent}, active when {@code recommendation.engagement-ingestion.mode=batch}.
+ * <p>
+ * The whole poll is applied to the user profiles in one transaction. If that fails nothing is stored, and
+ * the records are replayed one by one so the failing record can be reported by index and sent to its DLT on its own.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "recommendation.engagement-ingestion.mode", havingValue = "batch")
+public class UserReactionBatchConsumerEvent {
+
+    private static final String TOPIC = KafkaTopics.USER_REACTION_CHANGED;
+    private static final String EVENT_TYPE = "ReactionChangedEvent";
+    private static final String CONSUMER_GROUP = KafkaConsumerGroups.RECOMMENDATION_SERVICE;
+
+    private final ReactionChangedUseCase reactionChangedUseCase;
+    private final ReplayingBatchProcessor<ReactionChangedEvent> batchProcessor;
+
+    public UserReactionBatchConsumerEvent(ReactionChangedUseCase reactionChangedUseCase, VellumHubMetrics metrics) {
+        this.reactionChangedUseCase = reactionChangedUseCase;
+        this.batchProcessor = new ReplayingBatchProcessor<>(TOPIC, EVENT_TYPE, CONSUMER_GROUP, "Reaction change", metrics, metrics::recordEngagementIngestionBatch);
+    }
+
+    @KafkaListener(
+            topics = KafkaTopics.USER_REACTION_CHANGED,
+            groupId = KafkaConsumerGroups.RECOMMENDATION_SERVICE,
+            containerFactory = "engagementBatchKafkaListenerContainerFactory"
+    )
+    public void listen(List<ReactionChangedEvent> events) {
+        batchProcessor.process(
+                events,
+                batch -> reactionChangedUseCase.executeAll(batch.stream().map(UserReactionBatchConsumerEvent::toCommand).toList()),
+                event -> reactionChangedUseCase.execute(toCommand(event)),
+                event -> "UserId=" + event.userId() + ", BookId=" + event.bookId()
+        );
+    }
+
+    private static ReactionChangedCommand toCommand(ReactionChangedEvent event) {
+        return ReactionChangedCommand.of(
+                event.userId(),
+                event.bookId(),
+                event.typeReaction()
+        );
+    }
+
+}
@@ -8,11 +8,13 @@ import com.vellumhub.kafka.contracts.engagement.ReactionChangedEvent;
 import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
 import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
 @Component
 @Slf4j
+@ConditionalOnProperty(name = "recommendation.engagement-ingestion.mode", havingValue = "single", matchIfMissing = true)
 public class UserReactionConsumerEvent {
 
     private static final String TOPIC = KafkaTopics.USER_REACTION_CHANGED;
@@ -28,6 +28,7 @@ public class CorsConfig implements WebMvcConfigurer {
                 .allowedOrigins(allowedOrigins)
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowedHeaders("Authorization", "Content-Type", "Accept")
+                .exposedHeaders("X-Next-Cursor")
                 .allowCredentials(true);
     }
 }
@@ -1,15 +1,27 @@
 package com.vellumhub.recommendation_service.share.config;
 
-import dev.langchain4j.model.embedding.AllMiniLmL6V2EmbeddingModel;
-import dev.langchain4j.model.embedding.EmbeddingModel;
+import com.vellumhub.recommendation_service.share.embedding.InProcessEmbeddingModels;
+import com.vellumhub.recommendation_service.share.embedding.PooledEmbeddingModel;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class EmbeddingConfig {
 
-    @Bean
-    public EmbeddingModel embeddingModel() {
-        return new AllMiniLmL6V2EmbeddingModel();
+    /**
+     * The in-process model, shared by book and profile embedding through a bounded worker pool.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public PooledEmbeddingModel embeddingModel(
+            VellumHubMetrics metrics,
+            @Value("${recommendation.embedding.model-id:all-minilm-l6-v2}") String modelId,
+            @Value("${recommendation.embedding.model-path:}") String modelPath,
+            @Value("${recommendation.embedding.workers:2}") int workers,
+            @Value("${recommendation.embedding.queue-capacity:256}") int queueCapacity,
+            @Value("${recommendation.embedding.max-batch-size:32}") int maxBatchSize
+    ) {
+        return new PooledEmbeddingModel(InProcessEmbeddingModels.load(modelId, modelPath), workers, queueCapacity, maxBatchSize, metrics);
     }
 }
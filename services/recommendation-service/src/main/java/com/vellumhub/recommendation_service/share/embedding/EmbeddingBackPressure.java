@@ -0,0 +1,135 @@
+package com.vellumhub.recommendation_service.share.embedding;
+
+import com.vellumhub.kafka.contracts.KafkaTopics;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pauses the Kafka listeners that embed text while the {@link PooledEmbeddingModel} queue is nearly full.
+ * <p>
+ * The queue depth is sampled on a fixed delay. At {@code pause-at} of the capacity the containers of the
+ * book and user preference topics, their retry topics included, are paused, and they resume once the
+ * depth falls to {@code resume-at}. Paused containers keep polling without fetching, so partitions stay
+ * assigned and records wait in Kafka instead of in listener threads blocked on the queue.
+ * </p>
+ */
+@Component
+@Slf4j
+public class EmbeddingBackPressure {
+
+    private static final String OPERATION = "embedding_back_pressure";
+
+    /**
+     * Topics whose listeners call the embedding model.
+     */
+    private static final List<String> EMBEDDING_TOPICS = List.of(
+            KafkaTopics.CREATED_BOOK,
+            KafkaTopics.UPDATED_BOOK,
+            KafkaTopics.CREATED_USER_PREFERENCE
+    );
+
+    private final PooledEmbeddingModel embeddingModel;
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+    private final VellumHubMetrics metrics;
+    private final int pauseDepth;
+    private final int resumeDepth;
+    private final Duration checkInterval;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "embedding-back-pressure");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean paused;
+
+    public EmbeddingBackPressure(
+            PooledEmbeddingModel embeddingModel,
+            KafkaListenerEndpointRegistry listenerRegistry,
+            VellumHubMetrics metrics,
+            @Value("${recommendation.embedding.back-pressure.pause-at:0.8}") double pauseAt,
+            @Value("${recommendation.embedding.back-pressure.resume-at:0.3}") double resumeAt,
+            @Value("${recommendation.embedding.back-pressure.check-interval:PT0.1S}") Duration checkInterval
+    ) {
+        if (pauseAt <= 0 || pauseAt > 1) {
+            throw new IllegalArgumentException("recommendation.embedding.back-pressure.pause-at must be in (0, 1]");
+        }
+        if (resumeAt < 0 || resumeAt >= pauseAt) {
+            throw new IllegalArgumentException("recommendation.embedding.back-pressure.resume-at must be in [0, pause-at)");
+        }
+        this.embeddingModel = embeddingModel;
+        this.listenerRegistry = listenerRegistry;
+        this.metrics = metrics;
+        this.pauseDepth = Math.max(1, (int) Math.ceil(embeddingModel.queueCapacity() * pauseAt));
+        this.resumeDepth = (int) Math.floor(embeddingModel.queueCapacity() * resumeAt);
+        this.checkInterval = checkInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::checkQuietly, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Pauses or resumes the embedding listeners according to the current queue depth.
+     */
+    void check() {
+        int depth = embeddingModel.queueDepth();
+        if (!paused && depth >= pauseDepth) {
+            embeddingContainers().forEach(MessageListenerContainer::pause);
+            paused = true;
+            metrics.recordBusinessCounter(VellumHubMetrics.EMBEDDING_BACK_PRESSURE, OPERATION, "paused");
+            log.warn("Embedding queue saturated, pausing embedding listeners. operation=embedding_back_pressure, queueDepth={}",
+                    depth);
+        } else if (paused && depth <= resumeDepth) {
+            embeddingContainers().forEach(MessageListenerContainer::resume);
+            paused = false;
+            metrics.recordBusinessCounter(VellumHubMetrics.EMBEDDING_BACK_PRESSURE, OPERATION, "resumed");
+            log.info("Embedding queue drained, resuming embedding listeners. operation=embedding_back_pressure, queueDepth={}",
+                    depth);
+        }
+    }
+
+    boolean isPaused() {
+        return paused;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void checkQuietly() {
+        try {
+            check();
+        } catch (RuntimeException ex) {
+            log.warn("Embedding back-pressure check failed. operation=embedding_back_pressure, error={}", ex.getMessage());
+        }
+    }
+
+    private List<MessageListenerContainer> embeddingContainers() {
+        return listenerRegistry.getAllListenerContainers().stream()
+                .filter(EmbeddingBackPressure::consumesEmbeddingTopic)
+                .toList();
+    }
+
+    private static boolean consumesEmbeddingTopic(MessageListenerContainer container) {
+        String[] topics = container.getContainerProperties().getTopics();
+        return topics != null && Arrays.stream(topics).anyMatch(topic -> EMBEDDING_TOPICS.stream()
+                .anyMatch(embeddingTopic -> topic.startsWith(embeddingTopic) && !topic.endsWith(KafkaTopics.DLT_SUFFIX)));
+    }
+}
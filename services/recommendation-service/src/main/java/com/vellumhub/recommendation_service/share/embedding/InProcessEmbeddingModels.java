@@ -0,0 +1,35 @@
+package com.vellumhub.recommendation_service.share.embedding;
+
+import dev.langchain4j.model.embedding.AllMiniLmL6V2EmbeddingModel;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.OnnxEmbeddingModel;
+
+/**
+ * Loads the in-process embedding model named by configuration.
+ * <p>
+ * The bundled {@value #BUNDLED_MODEL_ID} model needs no path; any other model ID must come with the path of
+ * a BERT-style ONNX export. The model ID is also the embedding cache namespace, so it has to change whenever
+ * the model does. Every model must produce 384-dimension vectors to fit the {@code vector(384)} columns.
+ * </p>
+ */
+public final class InProcessEmbeddingModels {
+
+    public static final String BUNDLED_MODEL_ID = "all-minilm-l6-v2";
+
+    private InProcessEmbeddingModels() {
+    }
+
+    public static EmbeddingModel load(String modelId, String modelPath) {
+        if (modelId == null || modelId.isBlank()) {
+            throw new IllegalArgumentException("Embedding model ID must not be blank");
+        }
+        if (modelPath != null && !modelPath.isBlank()) {
+            return new OnnxEmbeddingModel(modelPath);
+        }
+        if (!BUNDLED_MODEL_ID.equals(modelId)) {
+            throw new IllegalArgumentException("Embedding model " + modelId + " needs a model path; only "
+                    + BUNDLED_MODEL_ID + " is bundled");
+        }
+        return new AllMiniLmL6V2EmbeddingModel();
+    }
+}
@@ -0,0 +1,164 @@
+package com.vellumhub.recommendation_service.share.embedding;
+
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * {@link EmbeddingModel} that runs the wrapped model on a fixed number of worker threads.
+ * <p>
+ * Callers put one request per text on a bounded queue and wait for the result. Each worker takes every
+ * queued request up to {@code maxBatchSize} and embeds them with one model call, so texts from concurrent
+ * listeners share a call. A full queue blocks the caller, and {@link EmbeddingBackPressure} pauses the
+ * embedding listeners before that happens. A failed model call fails every request coalesced into it.
+ * </p>
+ */
+@Slf4j
+public class PooledEmbeddingModel implements EmbeddingModel {
+
+    private final EmbeddingModel delegate;
+    private final int queueCapacity;
+    private final int maxBatchSize;
+    private final VellumHubMetrics metrics;
+    private final BlockingQueue<Request> queue;
+    private final List<Thread> workers;
+
+    private volatile boolean running = true;
+
+    public PooledEmbeddingModel(EmbeddingModel delegate, int workerCount, int queueCapacity, int maxBatchSize, VellumHubMetrics metrics) {
+        if (workerCount < 1) {
+            throw new IllegalArgumentException("recommendation.embedding.workers must be at least 1");
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("recommendation.embedding.queue-capacity must be at least 1");
+        }
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("recommendation.embedding.max-batch-size must be at least 1");
+        }
+        this.delegate = delegate;
+        this.queueCapacity = queueCapacity;
+        this.maxBatchSize = maxBatchSize;
+        this.metrics = metrics;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        metrics.registerGauge(VellumHubMetrics.EMBEDDING_QUEUE_DEPTH, this, PooledEmbeddingModel::queueDepth);
+
+        this.workers = new ArrayList<>(workerCount);
+        for (int i = 1; i <= workerCount; i++) {
+            Thread worker = new Thread(this::work, "embedding-worker-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> segments) {
+        List<CompletableFuture<Embedding>> results = new ArrayList<>(segments.size());
+        for (TextSegment segment : segments) {
+            Request request = new Request(segment, new CompletableFuture<>());
+            enqueue(request);
+            results.add(request.result());
+        }
+
+        List<Embedding> embeddings = new ArrayList<>(results.size());
+        for (CompletableFuture<Embedding> result : results) {
+            embeddings.add(await(result));
+        }
+        return Response.from(embeddings);
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    public int queueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Stops the workers and fails every request still queued.
+     */
+    public void shutdown() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+
+        List<Request> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        pending.forEach(request -> request.result().completeExceptionally(
+                new IllegalStateException("Embedding worker pool is shut down")));
+    }
+
+    private void enqueue(Request request) {
+        if (!running) {
+            throw new IllegalStateException("Embedding worker pool is shut down");
+        }
+        try {
+            queue.put(request);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the embedding queue", ex);
+        }
+    }
+
+    private static Embedding await(CompletableFuture<Embedding> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an embedding", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Embedding failed", ex.getCause());
+        }
+    }
+
+    private void work() {
+        List<Request> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException ex) {
+                break;
+            }
+            queue.drainTo(batch, maxBatchSize - 1);
+            embed(batch);
+            batch.clear();
+        }
+    }
+
+    private void embed(List<Request> batch) {
+        Timer.Sample sample = metrics.startBusinessTimer();
+        try {
+            List<Embedding> embeddings = delegate.embedAll(batch.stream().map(Request::segment).toList()).content();
+            if (embeddings.size() != batch.size()) {
+                throw new IllegalStateException("Embedding model returned " + embeddings.size() + " vectors for " + batch.size() + " texts");
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(embeddings.get(i));
+            }
+            metrics.recordEmbeddingInference(sample, batch.size(), "success");
+        } catch (RuntimeException ex) {
+            batch.forEach(request -> request.result().completeExceptionally(ex));
+            metrics.recordEmbeddingInference(sample, batch.size(), "failure");
+            log.warn("Embedding model call failed. operation=embedding_inference, batchSize={}, error={}",
+                    batch.size(), ex.getMessage());
+        }
+    }
+
+    private record Request(TextSegment segment, CompletableFuture<Embedding> result) {
+    }
+}
@@ -2,6 +2,7 @@ package com.vellumhub.recommendation_service.share.exception;
 
 import com.vellumhub.recommendation_service.module.book_feature.domain.exception.BookFeatureDomainException;
 import com.vellumhub.recommendation_service.module.book_feature.domain.exception.BookFeatureNotFoundException;
+import com.vellumhub.recommendation_service.module.recommendation.domain.exception.RecommendationDomainException;
 import com.vellumhub.recommendation_service.module.user_profile.domain.exception.UserProfileDomainException;
 import com.vellumhub.recommendation_service.module.user_profile.domain.exception.UserProfileNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -108,6 +109,21 @@ public class GlobalExceptionHandler {
                 .build());
     }
 
+    @ExceptionHandler(RecommendationDomainException.class)
+    public ResponseEntity<ApiResponseError> handleRecommendationDomainException(
+            RecommendationDomainException ex, HttpServletRequest request) {
+
+        HttpStatus status = HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(ApiResponseError.builder()
+                .status(status.value())
+                .error("Recommendation Domain Error")
+                .message(ex.getMessage())
+                .details(List.of("Business rule violation in recommendation domain"))
+                .path(request.getRequestURI())
+                .timestamp(Instant.now())
+                .build());
+    }
+
 
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<ApiResponseError> handleDataIntegrityViolationException(
@@ -0,0 +1,69 @@
+package com.vellumhub.recommendation_service.share.kafka.config;
+
+import com.vellumhub.kafka.contracts.KafkaTopics;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.kafka.autoconfigure.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Batch listener factory for the book catalog topics when {@code recommendation.book-ingestion.mode=batch}.
+ * <p>
+ * A poll returns up to {@code max-size} records, and the broker holds the fetch for up to {@code max-wait}
+ * while the batch fills. Retries mirror {@link KafkaRetryConfig}: three attempts three seconds apart, after
+ * which only the failing record is published to its {@code -dlt} topic.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "recommendation.book-ingestion.mode", havingValue = "batch")
+public class BookBatchKafkaConsumerConfig {
+
+    private static final int ESTIMATED_EVENT_BYTES = 512;
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> bookBatchKafkaListenerContainerFactory(
+            KafkaProperties kafkaProperties,
+            @Value("${spring.kafka.bootstrap-servers}") String bootstrapServers,
+            @Value("${recommendation.book-ingestion.batch.max-size:64}") int maxBatchSize,
+            @Value("${recommendation.book-ingestion.batch.max-wait:PT0.5S}") Duration maxWait
+    ) {
+        return batchListenerContainerFactory(kafkaProperties, bootstrapServers, maxBatchSize, maxWait);
+    }
+
+    /**
+     * Builds a batch listener factory with the fetch and dead-letter settings described above.
+     */
+    static ConcurrentKafkaListenerContainerFactory<String, Object> batchListenerContainerFactory(
+            KafkaProperties kafkaProperties,
+            String bootstrapServers,
+            int maxBatchSize,
+            Duration maxWait
+    ) {
+        Map<String, Object> properties = kafkaProperties.buildConsumerProperties();
+        properties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxBatchSize);
+        properties.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, maxBatchSize * ESTIMATED_EVENT_BYTES);
+        properties.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, (int) maxWait.toMillis());
+
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(
+                KafkaRetryConfig.retryTopicKafkaTemplate(bootstrapServers),
+                (record, exception) -> new TopicPartition(record.topic() + KafkaTopics.DLT_SUFFIX, -1)
+        );
+
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(properties));
+        factory.setBatchListener(true);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(recoverer, new FixedBackOff(3000, 2)));
+        return factory;
+    }
+}
@@ -0,0 +1,30 @@
+package com.vellumhub.recommendation_service.share.kafka.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.kafka.autoconfigure.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+
+import java.time.Duration;
+
+/**
+ * Batch listener factory for the rating, reaction and reading progress topics when
+ * {@code recommendation.engagement-ingestion.mode=batch}. Fetching, retries and dead-lettering work as in
+ * {@link BookBatchKafkaConsumerConfig}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "recommendation.engagement-ingestion.mode", havingValue = "batch")
+public class EngagementBatchKafkaConsumerConfig {
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> engagementBatchKafkaListenerContainerFactory(
+            KafkaProperties kafkaProperties,
+            @Value("${spring.kafka.bootstrap-servers}") String bootstrapServers,
+            @Value("${recommendation.engagement-ingestion.batch.max-size:256}") int maxBatchSize,
+            @Value("${recommendation.engagement-ingestion.batch.max-wait:PT0.5S}") Duration maxWait
+    ) {
+        return BookBatchKafkaConsumerConfig.batchListenerContainerFactory(kafkaProperties, bootstrapServers, maxBatchSize, maxWait);
+    }
+}
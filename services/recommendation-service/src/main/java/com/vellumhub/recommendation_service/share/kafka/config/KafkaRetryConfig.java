@@ -21,6 +21,7 @@ import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +30,11 @@ import java.util.Map;
 @Slf4j
 public class KafkaRetryConfig {
 
+    /**
+     * Name of the template that {@code @RetryableTopic} listeners forward failed records with.
+     */
+    public static final String RETRYABLE_TOPIC_KAFKA_TEMPLATE = "retryableTopicKafkaTemplate";
+
     private static final String DLT_CONSUMER_GROUP = KafkaConsumerGroups.RECOMMENDATION_SERVICE_DLT;
 
     private final VellumHubMetrics metrics;
@@ -39,31 +45,55 @@ public class KafkaRetryConfig {
 
     /**
      * Defines a default retry configuration for Kafka listeners in the application.
+     * Book create/update topics are left out in batch ingestion mode, where {@link BookBatchKafkaConsumerConfig} handles their failures,
+     * and so are the engagement topics in batch engagement ingestion mode, handled by {@link EngagementBatchKafkaConsumerConfig}.
+     * Listeners of other consumer groups on these topics must declare their own {@code @RetryableTopic} with distinct suffixes,
+     * or they would share the {@code -retry} topics and every retried record would reach both groups.
      * @return a RetryTopicConfiguration that applies to all specified topics with a fixed backoff strategy and a maximum of 3 attempts.
      */
     @Bean
     public RetryTopicConfiguration defaultRetryConfig(
-            @Value("${spring.kafka.bootstrap-servers}") String bootstrapServers
+            @Value("${spring.kafka.bootstrap-servers}") String bootstrapServers,
+            @Value("${recommendation.book-ingestion.mode:single}") String bookIngestionMode,
+            @Value("${recommendation.engagement-ingestion.mode:single}") String engagementIngestionMode
     ) {
+        List<String> topics = new ArrayList<>(List.of(
+                KafkaTopics.CREATED_BOOK,
+                KafkaTopics.DELETED_BOOK,
+                KafkaTopics.UPDATED_BOOK,
+                KafkaTopics.CREATED_RATING,
+                KafkaTopics.CREATED_USER_PREFERENCE,
+                KafkaTopics.CREATED_READING_PROGRESS,
+                KafkaTopics.UPDATED_READING_PROGRESS,
+                KafkaTopics.USER_REACTION_CHANGED
+        ));
+        if ("batch".equals(bookIngestionMode)) {
+            topics.removeAll(List.of(KafkaTopics.CREATED_BOOK, KafkaTopics.UPDATED_BOOK));
+        }
+        if ("batch".equals(engagementIngestionMode)) {
+            topics.removeAll(List.of(
+                    KafkaTopics.CREATED_RATING,
+                    KafkaTopics.USER_REACTION_CHANGED,
+                    KafkaTopics.CREATED_READING_PROGRESS,
+                    KafkaTopics.UPDATED_READING_PROGRESS
+            ));
+        }
+
         return RetryTopicConfigurationBuilder
                 .newInstance()
                 .maxAttempts(3)
                 .fixedBackOff(3000)
                 .doNotRetryOnDltFailure()
                 .autoStartDltHandler(false)
-                .includeTopics(List.of(
-                        KafkaTopics.CREATED_BOOK,
-                        KafkaTopics.DELETED_BOOK,
-                        KafkaTopics.UPDATED_BOOK,
-                        KafkaTopics.CREATED_RATING,
-                        KafkaTopics.CREATED_USER_PREFERENCE,
-                        KafkaTopics.CREATED_READING_PROGRESS,
-                        KafkaTopics.UPDATED_READING_PROGRESS,
-                        KafkaTopics.USER_REACTION_CHANGED
-                ))
+                .includeTopics(topics)
                 .create(retryTopicKafkaTemplate(bootstrapServers));
     }
 
+    @Bean(RETRYABLE_TOPIC_KAFKA_TEMPLATE)
+    public KafkaTemplate<String, Object> retryableTopicKafkaTemplate(@Value("${spring.kafka.bootstrap-servers}") String bootstrapServers) {
+        return retryTopicKafkaTemplate(bootstrapServers);
+    }
+
     /**
      * Listens to all Dead Letter Topics across the microservice.
      * The topicPattern ".*-dlt" ensures any topic ending with "-dlt" is captured here.
@@ -106,7 +136,7 @@ public class KafkaRetryConfig {
         return payload == null ? 0 : payload.length;
     }
 
-    private KafkaTemplate<String, Object> retryTopicKafkaTemplate(String bootstrapServers) {
+    static KafkaTemplate<String, Object> retryTopicKafkaTemplate(String bootstrapServers) {
         Map<String, Object> properties = Map.of(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
 
         Map<Class<?>, org.apache.kafka.common.serialization.Serializer<?>> delegates = new LinkedHashMap<>();
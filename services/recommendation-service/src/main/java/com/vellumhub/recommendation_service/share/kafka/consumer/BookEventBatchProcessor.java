@@ -0,0 +1,82 @@
+package com.vellumhub.recommendation_service.share.kafka.consumer;
+
+import com.vellumhub.kafka.contracts.book.CreateBookEvent;
+import com.vellumhub.kafka.contracts.book.UpdateBookEvent;
+import com.vellumhub.recommendation_service.module.book_feature.application.command.UpdateBookFeatureCommand;
+import com.vellumhub.recommendation_service.module.book_feature.application.use_case.CreateBookFeatureUseCase;
+import com.vellumhub.recommendation_service.module.book_feature.application.use_case.UpdateBookFeatureUseCase;
+import com.vellumhub.recommendation_service.module.recommendation.application.command.CreateRecommendationCommand;
+import com.vellumhub.recommendation_service.module.recommendation.application.command.UpdateRecommendationCommand;
+import com.vellumhub.recommendation_service.module.recommendation.application.use_case.CreateRecommendationUseCase;
+import com.vellumhub.recommendation_service.module.recommendation.application.use_case.UpdateRecommendationUseCase;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Applies a batch of catalog events to both {@code book_features} and {@code recommendations} in one
+ * transaction, so a batch is either fully stored or not at all.
+ */
+@Component
+@ConditionalOnProperty(name = "recommendation.book-ingestion.mode", havingValue = "batch")
+public class BookEventBatchProcessor {
+
+    private final CreateBookFeatureUseCase createBookFeatureUseCase;
+    private final CreateRecommendationUseCase createRecommendationUseCase;
+    private final UpdateBookFeatureUseCase updateBookFeatureUseCase;
+    private final UpdateRecommendationUseCase updateRecommendationUseCase;
+
+    public BookEventBatchProcessor(
+            CreateBookFeatureUseCase createBookFeatureUseCase,
+            CreateRecommendationUseCase createRecommendationUseCase,
+            UpdateBookFeatureUseCase updateBookFeatureUseCase,
+            UpdateRecommendationUseCase updateRecommendationUseCase
+    ) {
+        this.createBookFeatureUseCase = createBookFeatureUseCase;
+        this.createRecommendationUseCase = createRecommendationUseCase;
+        this.updateBookFeatureUseCase = updateBookFeatureUseCase;
+        this.updateRecommendationUseCase = updateRecommendationUseCase;
+    }
+
+    @Transactional
+    public void createAll(List<CreateBookEvent> events) {
+        createBookFeatureUseCase.executeAll(events);
+        createRecommendationUseCase.executeAll(events.stream()
+                .map(event -> CreateRecommendationCommand.of(
+                        event.bookId(),
+                        event.title(),
+                        event.description(),
+                        event.releaseYear(),
+                        event.coverUrl(),
+                        event.author(),
+                        event.genres()
+                ))
+                .toList());
+    }
+
+    @Transactional
+    public void updateAll(List<UpdateBookEvent> events) {
+        updateBookFeatureUseCase.executeAll(events.stream()
+                .map(event -> UpdateBookFeatureCommand.of(
+                        event.bookId(),
+                        event.title(),
+                        event.author(),
+                        event.description(),
+                        event.genres()
+                ))
+                .toList());
+        updateRecommendationUseCase.executeAll(events.stream()
+                .map(event -> UpdateRecommendationCommand.of(
+                        event.bookId(),
+                        event.title(),
+                        event.description(),
+                        event.releaseYear(),
+                        event.coverUrl(),
+                        event.author(),
+                        event.genres()
+                ))
+                .toList());
+    }
+}
@@ -0,0 +1,50 @@
+package com.vellumhub.recommendation_service.share.kafka.consumer;
+
+import com.vellumhub.kafka.contracts.KafkaConsumerGroups;
+import com.vellumhub.kafka.contracts.KafkaTopics;
+import com.vellumhub.kafka.contracts.book.CreateBookEvent;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Batch counterpart of {@link CreateBookConsumerEvent}, active when {@code recommendation.book-ingestion.mode=batch}.
+ * <p>
+ * The whole poll is embedded and stored in one transaction. If that fails, the records are replayed one
+ * by one so the failing record can be reported by index and sent to its DLT on its own.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "recommendation.book-ingestion.mode", havingValue = "batch")
+public class CreateBookBatchConsumerEvent {
+
+    private static final String TOPIC = KafkaTopics.CREATED_BOOK;
+    private static final String EVENT_TYPE = "CreateBookEvent";
+    private static final String CONSUMER_GROUP = KafkaConsumerGroups.RECOMMENDATION_SERVICE;
+
+    private final BookEventBatchProcessor bookEventBatchProcessor;
+    private final ReplayingBatchProcessor<CreateBookEvent> batchProcessor;
+
+    public CreateBookBatchConsumerEvent(BookEventBatchProcessor bookEventBatchProcessor, VellumHubMetrics metrics) {
+        this.bookEventBatchProcessor = bookEventBatchProcessor;
+        this.batchProcessor = new ReplayingBatchProcessor<>(TOPIC, EVENT_TYPE, CONSUMER_GROUP, "Book creation", metrics, metrics::recordBookIngestionBatch);
+    }
+
+    @KafkaListener(
+            topics = KafkaTopics.CREATED_BOOK,
+            groupId = KafkaConsumerGroups.RECOMMENDATION_SERVICE,
+            containerFactory = "bookBatchKafkaListenerContainerFactory"
+    )
+    public void listen(List<CreateBookEvent> events) {
+        batchProcessor.process(
+                events,
+                bookEventBatchProcessor::createAll,
+                event -> bookEventBatchProcessor.createAll(List.of(event)),
+                event -> "BookId=" + event.bookId()
+        );
+    }
+
+}
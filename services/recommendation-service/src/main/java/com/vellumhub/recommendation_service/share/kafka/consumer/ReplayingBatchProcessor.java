@@ -0,0 +1,110 @@
+package com.vellumhub.recommendation_service.share.kafka.consumer;
+
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Shared body of the batch listeners: applies the whole poll with one call and, if that fails, replays the
+ * records one by one so the failing record can be reported by index and sent to its DLT on its own.
+ * <p>
+ * Each listener keeps one instance for its topic and only supplies how to apply a batch, how to apply a
+ * single record and how to identify a record in the failure message.
+ * </p>
+ *
+ * @param <E> the event type of the topic
+ */
+@Slf4j
+public final class ReplayingBatchProcessor<E> {
+
+    private final String topic;
+    private final String eventType;
+    private final String consumerGroup;
+    private final String operation;
+    private final VellumHubMetrics metrics;
+    private final BatchOutcomeRecorder batchOutcomeRecorder;
+
+    /**
+     * @param operation            human-readable name of what a record does, such as {@code "Rating creation"},
+     *                             used in log and failure messages
+     * @param batchOutcomeRecorder records a whole batch in the ingestion metrics of the listener's family
+     */
+    public ReplayingBatchProcessor(
+            String topic,
+            String eventType,
+            String consumerGroup,
+            String operation,
+            VellumHubMetrics metrics,
+            BatchOutcomeRecorder batchOutcomeRecorder
+    ) {
+        this.topic = topic;
+        this.eventType = eventType;
+        this.consumerGroup = consumerGroup;
+        this.operation = operation;
+        this.metrics = metrics;
+        this.batchOutcomeRecorder = batchOutcomeRecorder;
+    }
+
+    /**
+     * Applies {@code events} with {@code applyAll}, falling back to {@code applyOne} per record when the
+     * batch fails.
+     *
+     * @throws BatchListenerFailedException carrying the index of the first record that also fails alone
+     */
+    public void process(List<E> events, Consumer<List<E>> applyAll, Consumer<E> applyOne, Function<E, String> describe) {
+        Timer.Sample sample = metrics.startKafkaProcessing();
+        long startedAt = System.nanoTime();
+        log.info("Event batch received: {}. Size={}", operation, events.size());
+
+        try {
+            applyAll.accept(events);
+        } catch (RuntimeException ex) {
+            batchOutcomeRecorder.record(sample, topic, events.size(), "failure");
+            log.warn("{} batch failed, replaying records individually. Size={}, error={}",
+                    operation,
+                    events.size(),
+                    ex.getMessage());
+            processIndividually(events, applyOne, describe);
+            return;
+        }
+
+        events.forEach(event -> metrics.recordKafkaConsumed(topic, eventType, consumerGroup));
+        batchOutcomeRecorder.record(sample, topic, events.size(), "success");
+
+        long elapsedNanos = Math.max(1, System.nanoTime() - startedAt);
+        log.info("{} batch processed successfully. Size={}, durationMs={}, recordsPerSecond={}",
+                operation,
+                events.size(),
+                elapsedNanos / 1_000_000,
+                Math.round(events.size() * 1_000_000_000.0 / elapsedNanos));
+    }
+
+    private void processIndividually(List<E> events, Consumer<E> applyOne, Function<E, String> describe) {
+        for (int index = 0; index < events.size(); index++) {
+            E event = events.get(index);
+            Timer.Sample sample = metrics.startKafkaProcessing();
+            try {
+                applyOne.accept(event);
+                metrics.recordKafkaConsumed(topic, eventType, consumerGroup);
+                metrics.recordKafkaProcessingDuration(sample, topic, eventType, consumerGroup, "success");
+            } catch (RuntimeException ex) {
+                metrics.recordKafkaConsumeFailed(topic, eventType, consumerGroup);
+                metrics.recordKafkaProcessingDuration(sample, topic, eventType, consumerGroup, "failure");
+                throw new BatchListenerFailedException(operation + " failed. " + describe.apply(event), ex, index);
+            }
+        }
+    }
+
+    /**
+     * Matches {@link VellumHubMetrics#recordBookIngestionBatch} and {@link VellumHubMetrics#recordEngagementIngestionBatch}.
+     */
+    @FunctionalInterface
+    public interface BatchOutcomeRecorder {
+        void record(Timer.Sample sample, String topic, int batchSize, String result);
+    }
+}
@@ -0,0 +1,47 @@
+package com.vellumhub.recommendation_service.share.kafka.consumer;
+
+import com.vellumhub.kafka.contracts.KafkaConsumerGroups;
+import com.vellumhub.kafka.contracts.KafkaTopics;
+import com.vellumhub.kafka.contracts.book.UpdateBookEvent;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Batch counterpart of {@link UpdateBookConsumerEvent}. Failures are isolated the same way as in
+ * {@link CreateBookBatchConsumerEvent}.
+ */
+@Component
+@ConditionalOnProperty(name = "recommendation.book-ingestion.mode", havingValue = "batch")
+public class UpdateBookBatchConsumerEvent {
+
+    private static final String TOPIC = KafkaTopics.UPDATED_BOOK;
+    private static final String EVENT_TYPE = "UpdateBookEvent";
+    private static final String CONSUMER_GROUP = KafkaConsumerGroups.RECOMMENDATION_SERVICE;
+
+    private final BookEventBatchProcessor bookEventBatchProcessor;
+    private final ReplayingBatchProcessor<UpdateBookEvent> batchProcessor;
+
+    public UpdateBookBatchConsumerEvent(BookEventBatchProcessor bookEventBatchProcessor, VellumHubMetrics metrics) {
+        this.bookEventBatchProcessor = bookEventBatchProcessor;
+        this.batchProcessor = new ReplayingBatchProcessor<>(TOPIC, EVENT_TYPE, CONSUMER_GROUP, "Book update", metrics, metrics::recordBookIngestionBatch);
+    }
+
+    @KafkaListener(
+            topics = KafkaTopics.UPDATED_BOOK,
+            groupId = KafkaConsumerGroups.RECOMMENDATION_SERVICE,
+            containerFactory = "bookBatchKafkaListenerContainerFactory"
+    )
+    public void listen(List<UpdateBookEvent> events) {
+        batchProcessor.process(
+                events,
+                bookEventBatchProcessor::updateAll,
+                event -> bookEventBatchProcessor.updateAll(List.of(event)),
+                event -> "BookId=" + event.bookId()
+        );
+    }
+
+}
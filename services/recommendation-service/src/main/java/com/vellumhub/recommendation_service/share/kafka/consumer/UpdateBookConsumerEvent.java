@@ -10,11 +10,13 @@ import com.vellumhub.kafka.contracts.book.UpdateBookEvent;
 import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
 import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
 @Component
 @Slf4j
+@ConditionalOnProperty(name = "recommendation.book-ingestion.mode", havingValue = "single", matchIfMissing = true)
 public class UpdateBookConsumerEvent {
 
     private static final String TOPIC = KafkaTopics.UPDATED_BOOK;
@@ -0,0 +1,35 @@
+package com.vellumhub.recommendation_service.share.math;
+
+/**
+ * Plain loop implementation, used when the Vector API module is not available at runtime.
+ */
+public final class ScalarVectorKernel implements VectorKernel {
+
+    @Override
+    public float dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        float sum = 0f;
+        for (int i = 0; i < length; i++) {
+            sum += a[aOffset + i] * b[bOffset + i];
+        }
+        return sum;
+    }
+
+    @Override
+    public void axpy(float alpha, float[] x, float[] y) {
+        for (int i = 0; i < y.length; i++) {
+            y[i] += alpha * x[i];
+        }
+    }
+
+    @Override
+    public void scale(float[] vector, int offset, int length, float factor) {
+        for (int i = offset; i < offset + length; i++) {
+            vector[i] *= factor;
+        }
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+}
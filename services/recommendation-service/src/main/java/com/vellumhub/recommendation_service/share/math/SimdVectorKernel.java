@@ -0,0 +1,67 @@
+package com.vellumhub.recommendation_service.share.math;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link VectorKernel} on {@code jdk.incubator.vector}, using the widest lane shape the CPU supports and a
+ * scalar loop for the tail. Loading this class fails with a {@link LinkageError} when the JVM was started
+ * without {@code --add-modules jdk.incubator.vector}.
+ */
+public final class SimdVectorKernel implements VectorKernel {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    @Override
+    public float dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        FloatVector sum = FloatVector.zero(SPECIES);
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            FloatVector va = FloatVector.fromArray(SPECIES, a, aOffset + i);
+            FloatVector vb = FloatVector.fromArray(SPECIES, b, bOffset + i);
+            sum = va.fma(vb, sum);
+        }
+
+        float result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            result += a[aOffset + i] * b[bOffset + i];
+        }
+        return result;
+    }
+
+    @Override
+    public void axpy(float alpha, float[] x, float[] y) {
+        FloatVector valpha = FloatVector.broadcast(SPECIES, alpha);
+        int bound = SPECIES.loopBound(y.length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            FloatVector vx = FloatVector.fromArray(SPECIES, x, i);
+            FloatVector vy = FloatVector.fromArray(SPECIES, y, i);
+            vx.fma(valpha, vy).intoArray(y, i);
+        }
+        for (; i < y.length; i++) {
+            y[i] += alpha * x[i];
+        }
+    }
+
+    @Override
+    public void scale(float[] vector, int offset, int length, float factor) {
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            FloatVector.fromArray(SPECIES, vector, offset + i)
+                    .mul(factor)
+                    .intoArray(vector, offset + i);
+        }
+        for (; i < length; i++) {
+            vector[offset + i] *= factor;
+        }
+    }
+
+    @Override
+    public String name() {
+        return "simd-" + SPECIES.vectorBitSize();
+    }
+}
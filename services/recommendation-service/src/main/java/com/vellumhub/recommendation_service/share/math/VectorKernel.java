@@ -0,0 +1,26 @@
+package com.vellumhub.recommendation_service.share.math;
+
+/**
+ * Primitive float operations behind {@link VectorMath}. Implementations must give the same results as
+ * {@link ScalarVectorKernel} up to float rounding.
+ */
+public interface VectorKernel {
+
+    /**
+     * Dot product of {@code length} elements starting at the given offsets.
+     */
+    float dot(float[] a, int aOffset, float[] b, int bOffset, int length);
+
+    /**
+     * {@code y += alpha * x}, element-wise.
+     */
+    void axpy(float alpha, float[] x, float[] y);
+
+    /**
+     * Multiplies {@code length} elements starting at {@code offset} by {@code factor}, in place.
+     */
+    void scale(float[] vector, int offset, int length, float factor);
+
+    String name();
+
+}
@@ -0,0 +1,117 @@
+package com.vellumhub.recommendation_service.share.math;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Float vector math shared by profile learning, embedding normalization and in-process ranking.
+ * <p>
+ * Runs on the JDK Vector API when the JVM was started with {@code --add-modules jdk.incubator.vector}
+ * and falls back to plain loops otherwise. Set {@code -Dvellumhub.vector-math.scalar=true} to force the
+ * fallback.
+ * </p>
+ */
+@Slf4j
+public final class VectorMath {
+
+    private static final double ZERO_MAGNITUDE = 1e-9;
+    private static final VectorKernel KERNEL = selectKernel();
+
+    private VectorMath() {
+    }
+
+    public static float dot(float[] a, float[] b) {
+        requireSameLength(a, b);
+        return KERNEL.dot(a, 0, b, 0, a.length);
+    }
+
+    public static float dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+        return KERNEL.dot(a, aOffset, b, bOffset, length);
+    }
+
+    /**
+     * {@code y += alpha * x}, element-wise.
+     */
+    public static void axpy(float alpha, float[] x, float[] y) {
+        requireSameLength(x, y);
+        KERNEL.axpy(alpha, x, y);
+    }
+
+    public static float norm(float[] vector) {
+        return (float) Math.sqrt(KERNEL.dot(vector, 0, vector, 0, vector.length));
+    }
+
+    /**
+     * Scales the vector to unit length in place. A zero vector is left unchanged.
+     */
+    public static void normalizeInPlace(float[] vector) {
+        normalizeInPlace(vector, 0, vector.length);
+    }
+
+    public static void normalizeInPlace(float[] vector, int offset, int length) {
+        float magnitude = (float) Math.sqrt(KERNEL.dot(vector, offset, vector, offset, length));
+        if (magnitude > ZERO_MAGNITUDE) {
+            KERNEL.scale(vector, offset, length, 1f / magnitude);
+        }
+    }
+
+    /**
+     * Returns a unit-length copy of the vector, or an unscaled copy when it is zero.
+     */
+    public static float[] normalized(float[] vector) {
+        float[] copy = vector.clone();
+        normalizeInPlace(copy);
+        return copy;
+    }
+
+    /**
+     * Cosine similarity in {@code [-1, 1]}; 0 when either vector is zero.
+     */
+    public static float cosine(float[] a, float[] b) {
+        requireSameLength(a, b);
+        float dot = KERNEL.dot(a, 0, b, 0, a.length);
+        double magnitudes = Math.sqrt(KERNEL.dot(a, 0, a, 0, a.length)) * Math.sqrt(KERNEL.dot(b, 0, b, 0, b.length));
+        return magnitudes < ZERO_MAGNITUDE ? 0f : (float) (dot / magnitudes);
+    }
+
+    /**
+     * Formats the vector as a pgvector text literal, e.g. {@code [0.6,0.8]}, for binding with
+     * {@code CAST(? AS vector)}.
+     */
+    public static String toLiteral(float[] vector) {
+        StringBuilder literal = new StringBuilder(vector.length * 12).append('[');
+        for (int i = 0; i < vector.length; i++) {
+            if (i > 0) {
+                literal.append(',');
+            }
+            literal.append(vector[i]);
+        }
+        return literal.append(']').toString();
+    }
+
+    /**
+     * Name of the active kernel, e.g. {@code simd-256} or {@code scalar}.
+     */
+    public static String kernel() {
+        return KERNEL.name();
+    }
+
+    private static void requireSameLength(float[] a, float[] b) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("Vectors must have the same dimension: " + a.length + " != " + b.length);
+        }
+    }
+
+    private static VectorKernel selectKernel() {
+        VectorKernel kernel = new ScalarVectorKernel();
+        if (!Boolean.getBoolean("vellumhub.vector-math.scalar")
+                && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                kernel = new SimdVectorKernel();
+            } catch (LinkageError ex) {
+                log.warn("Vector API unavailable, using scalar vector math. operation=vector_math, error={}", ex.toString());
+            }
+        }
+        log.info("Vector math kernel selected. operation=vector_math, kernel={}", kernel.name());
+        return kernel;
+    }
+}
@@ -0,0 +1,64 @@
+package com.vellumhub.recommendation_service.share.metrics;
+
+import io.prometheus.metrics.tracer.common.SpanContext;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.regex.Pattern;
+
+/**
+ * Trace context for Prometheus exemplars, taken from the W3C {@code traceparent} header of the current
+ * HTTP request.
+ * <p>
+ * Spans are created by the OpenTelemetry Java agent, whose API is not on the application classpath. The
+ * gateway propagates its trace in {@code traceparent}, so the trace ID of the incoming request is the
+ * trace the agent continues here and the exemplar opens it in Tempo; the span ID is the caller's. Outside
+ * a request, or without a sampled parent, no exemplar is attached.
+ * </p>
+ */
+@Component
+public class TraceparentSpanContext implements SpanContext {
+
+    static final String TRACEPARENT_HEADER = "traceparent";
+
+    private static final Pattern TRACEPARENT = Pattern.compile("[0-9a-f]{2}-[0-9a-f]{32}-[0-9a-f]{16}-[0-9a-f]{2}");
+    private static final String INVALID_TRACE_ID = "0".repeat(32);
+
+    @Override
+    public String getCurrentTraceId() {
+        String traceparent = currentTraceparent();
+        return traceparent == null ? null : traceparent.substring(3, 35);
+    }
+
+    @Override
+    public String getCurrentSpanId() {
+        String traceparent = currentTraceparent();
+        return traceparent == null ? null : traceparent.substring(36, 52);
+    }
+
+    @Override
+    public boolean isCurrentSpanSampled() {
+        String traceparent = currentTraceparent();
+        return traceparent != null && (Integer.parseInt(traceparent.substring(53, 55), 16) & 1) == 1;
+    }
+
+    @Override
+    public void markCurrentSpanAsExemplar() {
+        // The agent's span is not reachable from here; the exemplar link only needs the trace ID.
+    }
+
+    private static String currentTraceparent() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return null;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        String traceparent = request.getHeader(TRACEPARENT_HEADER);
+        if (traceparent == null || !TRACEPARENT.matcher(traceparent).matches()
+                || traceparent.startsWith(INVALID_TRACE_ID, 3)) {
+            return null;
+        }
+        return traceparent;
+    }
+}
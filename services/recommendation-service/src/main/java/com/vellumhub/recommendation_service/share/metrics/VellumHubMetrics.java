@@ -1,11 +1,14 @@
 package com.vellumhub.recommendation_service.share.metrics;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
 
 import java.util.Objects;
+import java.util.function.ToDoubleFunction;
 
 @Component
 public class VellumHubMetrics {
@@ -28,6 +31,52 @@ public class VellumHubMetrics {
     public static final String RECOMMENDATIONS_GENERATED = "vellumhub.recommendations.generated";
     public static final String RECOMMENDATION_EMPTY_RESULTS = "vellumhub.recommendation.empty.results";
     public static final String RECOMMENDATION_GENERATION_DURATION = "vellumhub.recommendation.generation.duration";
+    public static final String RECOMMENDATION_STAGE_DURATION = "vellumhub.recommendation.stage.duration";
+    public static final String RECOMMENDATION_CANDIDATES = "vellumhub.recommendation.candidates";
+    public static final String RECOMMENDATION_PAGE_SOURCE = "vellumhub.recommendation.page.source";
+    public static final String RECOMMENDATION_CACHE_LOOKUPS = "vellumhub.recommendation.cache.lookups";
+    public static final String RECOMMENDATION_CACHE_EVICTIONS = "vellumhub.recommendation.cache.evictions";
+    public static final String RECOMMENDATION_CACHE_SIZE = "vellumhub.recommendation.cache.size";
+    public static final String RECOMMENDATION_SESSION_LOOKUPS = "vellumhub.recommendation.session.lookups";
+    public static final String SIMILAR_BOOKS_LOOKUPS = "vellumhub.recommendation.similar.lookups";
+    public static final String RANKING_STAGE_DURATION = "vellumhub.recommendation.ranking.stage.duration";
+    public static final String RANKING_FEATURES_SIZE = "vellumhub.recommendation.ranking.features.size";
+    public static final String RANKING_FEATURES_REBUILDS = "vellumhub.recommendation.ranking.features.rebuilds";
+    public static final String CANDIDATE_SEARCH_DURATION = "vellumhub.recommendation.candidate.search.duration";
+    public static final String CANDIDATE_SEARCH_RECALL = "vellumhub.recommendation.candidate.search.recall";
+    public static final String VECTOR_INDEX_SIZE = "vellumhub.recommendation.vector.index.size";
+    public static final String EMBEDDING_CACHE_LOOKUPS = "vellumhub.embedding.cache.lookups";
+    public static final String EMBEDDING_CACHE_SIZE = "vellumhub.embedding.cache.size";
+    public static final String EMBEDDING_QUEUE_DEPTH = "vellumhub.embedding.queue.depth";
+    public static final String EMBEDDING_INFERENCE_BATCH_SIZE = "vellumhub.embedding.inference.batch.size";
+    public static final String EMBEDDING_INFERENCE_DURATION = "vellumhub.embedding.inference.duration";
+    public static final String EMBEDDING_BACK_PRESSURE = "vellumhub.embedding.back.pressure";
+    public static final String BOOK_INGESTION_BATCH_SIZE = "vellumhub.book.ingestion.batch.size";
+    public static final String BOOK_INGESTION_BATCH_DURATION = "vellumhub.book.ingestion.batch.duration";
+    public static final String BOOK_INGESTION_RECORDS = "vellumhub.book.ingestion.records";
+    public static final String ENGAGEMENT_INGESTION_BATCH_SIZE = "vellumhub.engagement.ingestion.batch.size";
+    public static final String ENGAGEMENT_INGESTION_BATCH_DURATION = "vellumhub.engagement.ingestion.batch.duration";
+    public static final String ENGAGEMENT_INGESTION_RECORDS = "vellumhub.engagement.ingestion.records";
+    public static final String BOOK_VECTOR_CACHE_LOOKUPS = "vellumhub.book.vector.cache.lookups";
+    public static final String BOOK_VECTOR_CACHE_SIZE = "vellumhub.book.vector.cache.size";
+    public static final String BOOK_VECTOR_CACHE_BYTES = "vellumhub.book.vector.cache.bytes";
+    public static final String BOOK_VECTOR_CACHE_HIT_RATIO = "vellumhub.book.vector.cache.hit.ratio";
+    public static final String PROFILE_UPDATE_FLUSH_SIZE = "vellumhub.profile.update.flush.size";
+    public static final String PROFILE_UPDATE_FLUSH_DURATION = "vellumhub.profile.update.flush.duration";
+    public static final String PROFILE_UPDATE_CHANGES = "vellumhub.profile.update.changes";
+    public static final String POPULAR_SNAPSHOT_LOOKUPS = "vellumhub.recommendation.popular.snapshot.lookups";
+    public static final String POPULAR_SNAPSHOT_REBUILDS = "vellumhub.recommendation.popular.snapshot.rebuilds";
+    public static final String POPULAR_SNAPSHOT_SIZE = "vellumhub.recommendation.popular.snapshot.size";
+    public static final String POPULARITY_SIGNALS = "vellumhub.popularity.signals";
+    public static final String POPULARITY_WRITE_BOOKS = "vellumhub.popularity.write.books";
+    public static final String POPULARITY_WRITE_DURATION = "vellumhub.popularity.write.duration";
+    public static final String POPULARITY_PENDING_BOOKS = "vellumhub.popularity.pending.books";
+    public static final String USER_NEIGHBORS_REFRESH_USERS = "vellumhub.user.neighbors.refresh.users";
+    public static final String USER_NEIGHBORS_REFRESH_DURATION = "vellumhub.user.neighbors.refresh.duration";
+    public static final String COLLABORATIVE_CANDIDATES = "vellumhub.recommendation.collaborative.candidates";
+    public static final String REEMBEDDING_BATCH_ROWS = "vellumhub.reembedding.batch.rows";
+    public static final String REEMBEDDING_BATCH_DURATION = "vellumhub.reembedding.batch.duration";
+    public static final String REEMBEDDING_PROMOTIONS = "vellumhub.reembedding.promotions";
 
     private final MeterRegistry meterRegistry;
 
@@ -79,6 +128,174 @@ public class VellumHubMetrics {
                 .register(meterRegistry));
     }
 
+    /**
+     * Records the latency of one step of serving a recommendation page: cache lookup, ranking, session
+     * access, hydration of the page or the popularity fallback, and response mapping.
+     */
+    public void recordRecommendationStageDuration(Timer.Sample sample, String stage) {
+        sample.stop(Timer.builder(RECOMMENDATION_STAGE_DURATION)
+                .tags("operation", "recommendation_generation", "stage", stage)
+                .register(meterRegistry));
+    }
+
+    /**
+     * Records the length of the ranked candidate list a feed was opened over, by where it came from.
+     */
+    public void recordRecommendationCandidates(String source, int candidates) {
+        DistributionSummary.builder(RECOMMENDATION_CANDIDATES)
+                .tags("operation", "recommendation_generation", "source", source)
+                .register(meterRegistry)
+                .record(candidates);
+    }
+
+    /**
+     * Records the latency of one ranking pipeline stage: a candidate generator, scoring or selection.
+     */
+    public void recordRankingStageDuration(Timer.Sample sample, String stage) {
+        sample.stop(Timer.builder(RANKING_STAGE_DURATION)
+                .tags("operation", "recommendation_ranking", "stage", stage)
+                .register(meterRegistry));
+    }
+
+    public void recordCandidateSearchDuration(Timer.Sample sample, String mode) {
+        sample.stop(Timer.builder(CANDIDATE_SEARCH_DURATION)
+                .tags("operation", "candidate_search", "mode", mode)
+                .register(meterRegistry));
+    }
+
+    public void recordCandidateSearchRecall(String mode, double recall) {
+        DistributionSummary.builder(CANDIDATE_SEARCH_RECALL)
+                .tags("operation", "candidate_search", "mode", mode)
+                .register(meterRegistry)
+                .record(recall);
+    }
+
+    /**
+     * Records one processed batch of book events. Duration and record counts are tagged with a batch size
+     * bucket so throughput can be compared across batch sizes.
+     */
+    public void recordBookIngestionBatch(Timer.Sample sample, String topic, int batchSize, String result) {
+        recordIngestionBatch(BOOK_INGESTION_BATCH_SIZE, BOOK_INGESTION_BATCH_DURATION, BOOK_INGESTION_RECORDS,
+                sample, topic, batchSize, result);
+    }
+
+    /**
+     * Records one processed batch of engagement events, tagged like {@link #recordBookIngestionBatch}.
+     */
+    public void recordEngagementIngestionBatch(Timer.Sample sample, String topic, int batchSize, String result) {
+        recordIngestionBatch(ENGAGEMENT_INGESTION_BATCH_SIZE, ENGAGEMENT_INGESTION_BATCH_DURATION, ENGAGEMENT_INGESTION_RECORDS,
+                sample, topic, batchSize, result);
+    }
+
+    private void recordIngestionBatch(
+            String sizeName,
+            String durationName,
+            String recordsName,
+            Timer.Sample sample,
+            String topic,
+            int batchSize,
+            String result
+    ) {
+        String sizeBucket = batchSizeBucket(batchSize);
+
+        DistributionSummary.builder(sizeName)
+                .tags("topic", topic)
+                .register(meterRegistry)
+                .record(batchSize);
+        sample.stop(Timer.builder(durationName)
+                .tags("topic", topic, "batch_size", sizeBucket, "result", result)
+                .register(meterRegistry));
+        counter(recordsName, "topic", topic, "batch_size", sizeBucket, "result", result).increment(batchSize);
+    }
+
+    /**
+     * Records the hits and misses of one book vector cache lookup, counted per book.
+     */
+    public void recordBookVectorCacheLookups(int hits, int misses) {
+        counter(BOOK_VECTOR_CACHE_LOOKUPS, "operation", "book_vector_cache", "result", "hit").increment(hits);
+        counter(BOOK_VECTOR_CACHE_LOOKUPS, "operation", "book_vector_cache", "result", "miss").increment(misses);
+    }
+
+    /**
+     * Records one profile write and how many queued changes it folded in.
+     */
+    public void recordProfileUpdateFlush(Timer.Sample sample, int changes, String result) {
+        DistributionSummary.builder(PROFILE_UPDATE_FLUSH_SIZE)
+                .tags("operation", "profile_update", "result", result)
+                .register(meterRegistry)
+                .record(changes);
+        sample.stop(Timer.builder(PROFILE_UPDATE_FLUSH_DURATION)
+                .tags("operation", "profile_update", "result", result)
+                .register(meterRegistry));
+    }
+
+    /**
+     * Records one popularity write to {@code book_features}, either a flush of pending signals or a decay
+     * sweep, with the number of books it rescored.
+     */
+    public void recordPopularityWrite(Timer.Sample sample, String operation, int books, String result) {
+        DistributionSummary.builder(POPULARITY_WRITE_BOOKS)
+                .tags("operation", operation, "result", result)
+                .register(meterRegistry)
+                .record(books);
+        sample.stop(Timer.builder(POPULARITY_WRITE_DURATION)
+                .tags("operation", operation, "result", result)
+                .register(meterRegistry));
+    }
+
+    /**
+     * Records one model call of the embedding worker pool with the number of coalesced texts it embedded.
+     */
+    public void recordEmbeddingInference(Timer.Sample sample, int batchSize, String result) {
+        DistributionSummary.builder(EMBEDDING_INFERENCE_BATCH_SIZE)
+                .tags("operation", "embedding_inference")
+                .register(meterRegistry)
+                .record(batchSize);
+        sample.stop(Timer.builder(EMBEDDING_INFERENCE_DURATION)
+                .tags("operation", "embedding_inference", "batch_size", batchSizeBucket(batchSize), "result", result)
+                .register(meterRegistry));
+    }
+
+    /**
+     * Records one page written by the re-embedding job with the number of book or profile rows it covered.
+     */
+    public void recordReembeddingBatch(Timer.Sample sample, String phase, int rows, String result) {
+        DistributionSummary.builder(REEMBEDDING_BATCH_ROWS)
+                .tags("operation", "book_reembedding", "phase", phase, "result", result)
+                .register(meterRegistry)
+                .record(rows);
+        sample.stop(Timer.builder(REEMBEDDING_BATCH_DURATION)
+                .tags("operation", "book_reembedding", "phase", phase, "result", result)
+                .register(meterRegistry));
+    }
+
+    /**
+     * Records one batch of recomputed user neighbour lists with the number of users it covered.
+     */
+    public void recordUserNeighborsRefresh(Timer.Sample sample, int users, String result) {
+        DistributionSummary.builder(USER_NEIGHBORS_REFRESH_USERS)
+                .tags("operation", "user_neighbors_refresh", "result", result)
+                .register(meterRegistry)
+                .record(users);
+        sample.stop(Timer.builder(USER_NEIGHBORS_REFRESH_DURATION)
+                .tags("operation", "user_neighbors_refresh", "result", result)
+                .register(meterRegistry));
+    }
+
+    /**
+     * Records how many books the neighbours of one user proposed, before the per-request cap.
+     */
+    public void recordCollaborativeCandidates(int candidates) {
+        DistributionSummary.builder(COLLABORATIVE_CANDIDATES)
+                .tags("operation", "recommendation_ranking")
+                .register(meterRegistry)
+                .record(candidates);
+    }
+
+    public <T> void registerGauge(String name, T stateObject, ToDoubleFunction<T> valueFunction) {
+        Gauge.builder(name, stateObject, valueFunction).register(meterRegistry);
+    }
+
     private Counter counter(String name, String... tags) {
         return Counter.builder(name).tags(tags).register(meterRegistry);
     }
@@ -86,4 +303,20 @@ public class VellumHubMetrics {
     private String eventType(Object event) {
         return event == null ? "unknown" : event.getClass().getSimpleName();
     }
+
+    private static String batchSizeBucket(int batchSize) {
+        if (batchSize <= 1) {
+            return "1";
+        }
+        if (batchSize <= 8) {
+            return "2-8";
+        }
+        if (batchSize <= 32) {
+            return "9-32";
+        }
+        if (batchSize <= 128) {
+            return "33-128";
+        }
+        return "129+";
+    }
 }
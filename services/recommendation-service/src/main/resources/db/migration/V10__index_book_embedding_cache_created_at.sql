@@ -0,0 +1,3 @@
+-- Serves the retention cleanup of the embedding cache.
+CREATE INDEX idx_book_embedding_cache_created_at
+    ON book_embedding_cache (created_at);
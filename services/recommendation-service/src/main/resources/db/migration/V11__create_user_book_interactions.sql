@@ -0,0 +1,25 @@
+-- Cumulative profile weight of every book a user interacted with. Positive rows are the books a user liked,
+-- read most recent first by collaborative candidate generation; interacted_book_ids stays the exclusion set.
+CREATE TABLE user_book_interactions (
+    user_id UUID NOT NULL,
+    book_id UUID NOT NULL,
+    weight REAL NOT NULL,
+    last_interacted_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (user_id, book_id)
+);
+
+CREATE INDEX idx_user_book_interactions_positive_recent
+    ON user_book_interactions (user_id, last_interacted_at DESC)
+    WHERE weight > 0;
+
+-- Interactions recorded before this table have no stored weight. Each one is seeded with the cosine
+-- similarity between the profile and the book, since liked books pulled the profile towards them and
+-- disliked ones pushed it away.
+INSERT INTO user_book_interactions (user_id, book_id, weight, last_interacted_at)
+SELECT p.user_id, b.book_id, (1 - (p.profile_vector <=> b.embedding))::real, p.last_updated
+FROM user_profiles p
+CROSS JOIN LATERAL unnest(p.interacted_book_ids) AS i(book_id)
+JOIN book_features b ON b.book_id = i.book_id
+WHERE p.profile_vector IS NOT NULL
+  AND b.embedding IS NOT NULL
+ON CONFLICT (user_id, book_id) DO NOTHING;
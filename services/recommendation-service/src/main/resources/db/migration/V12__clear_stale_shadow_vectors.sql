@@ -0,0 +1,30 @@
+-- A live write of embedding or profile_vector makes the row's shadow vector stale. The shadow is cleared,
+-- so a re-embedding promotion never overwrites a vector written after its shadow was computed; the job
+-- re-embeds books with a cleared shadow before promoting and re-derives changed profiles while promoting.
+CREATE FUNCTION clear_embedding_shadow() RETURNS trigger AS $$
+BEGIN
+    NEW.embedding_shadow := NULL;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_book_features_clear_embedding_shadow
+    BEFORE UPDATE OF embedding ON book_features
+    FOR EACH ROW
+    WHEN (NEW.embedding IS DISTINCT FROM OLD.embedding
+          AND NEW.embedding_shadow IS NOT DISTINCT FROM OLD.embedding_shadow)
+    EXECUTE FUNCTION clear_embedding_shadow();
+
+CREATE FUNCTION clear_profile_vector_shadow() RETURNS trigger AS $$
+BEGIN
+    NEW.profile_vector_shadow := NULL;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_user_profiles_clear_profile_vector_shadow
+    BEFORE UPDATE OF profile_vector ON user_profiles
+    FOR EACH ROW
+    WHEN (NEW.profile_vector IS DISTINCT FROM OLD.profile_vector
+          AND NEW.profile_vector_shadow IS NOT DISTINCT FROM OLD.profile_vector_shadow)
+    EXECUTE FUNCTION clear_profile_vector_shadow();
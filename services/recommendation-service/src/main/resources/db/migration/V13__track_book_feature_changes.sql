@@ -0,0 +1,30 @@
+-- Lets every replica's in-JVM vector index catch up with book feature changes consumed by other replicas.
+-- Updates are found through last_updated and popularity_decayed_at; deletes leave a tombstone, removed
+-- once it is older than the index's retention.
+CREATE INDEX idx_book_features_last_updated
+    ON book_features (last_updated);
+
+CREATE INDEX idx_book_features_popularity_decayed_at
+    ON book_features (popularity_decayed_at);
+
+CREATE TABLE book_feature_tombstones (
+    book_id UUID PRIMARY KEY,
+    deleted_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_book_feature_tombstones_deleted_at
+    ON book_feature_tombstones (deleted_at);
+
+CREATE FUNCTION record_book_feature_tombstone() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO book_feature_tombstones (book_id, deleted_at)
+    VALUES (OLD.book_id, now())
+    ON CONFLICT (book_id) DO UPDATE SET deleted_at = EXCLUDED.deleted_at;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_book_features_record_tombstone
+    AFTER DELETE ON book_features
+    FOR EACH ROW
+    EXECUTE FUNCTION record_book_feature_tombstone();
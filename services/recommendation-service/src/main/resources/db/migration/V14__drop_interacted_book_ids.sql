@@ -0,0 +1,11 @@
+-- user_book_interactions becomes the exact record of interacted books; the array was rewritten on every
+-- profile save only to rebuild the Bloom filter when it fills up, which now reads the rows instead.
+-- Books V11 could not seed (no embedding at the time) get a zero-weight row, so nothing leaves the set.
+INSERT INTO user_book_interactions (user_id, book_id, weight, last_interacted_at)
+SELECT p.user_id, i.book_id, 0, p.last_updated
+FROM user_profiles p
+CROSS JOIN LATERAL unnest(p.interacted_book_ids) AS i(book_id)
+ON CONFLICT (user_id, book_id) DO NOTHING;
+
+ALTER TABLE user_profiles
+    DROP COLUMN interacted_book_ids;
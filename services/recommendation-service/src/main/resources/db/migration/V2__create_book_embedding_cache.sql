@@ -0,0 +1,5 @@
+CREATE TABLE book_embedding_cache (
+    content_hash VARCHAR(64) PRIMARY KEY,
+    embedding vector(384) NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
@@ -0,0 +1,9 @@
+ALTER TABLE book_features
+    ADD COLUMN popularity_signal DOUBLE PRECISION NOT NULL DEFAULT 0,
+    ADD COLUMN popularity_decayed_at TIMESTAMP(6) WITH TIME ZONE NOT NULL DEFAULT now();
+
+-- Until now every book was created with the placeholder score 1; real scores start from zero signal.
+UPDATE book_features SET popularity_score = 0;
+
+CREATE INDEX idx_book_features_popularity_score
+    ON book_features (popularity_score DESC);
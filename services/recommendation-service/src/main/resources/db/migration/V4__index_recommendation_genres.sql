@@ -0,0 +1,3 @@
+-- Recommendations are hydrated with their genres in one join; without this index every page scans the table.
+CREATE INDEX idx_recommendation_genres_recommendation_book_id
+    ON recommendation_genres (recommendation_book_id);
@@ -0,0 +1,4 @@
+-- Bloom filter over interacted_book_ids, written by the profile update path and read by candidate search.
+-- Existing profiles keep NULL until their next update; readers build the filter from the array meanwhile.
+ALTER TABLE user_profiles
+    ADD COLUMN interacted_books_filter BYTEA;
@@ -0,0 +1,16 @@
+-- Shadow vectors filled by the re-embedding job while the live columns keep serving, and swapped in on promotion.
+-- The shadow columns are not indexed: nothing searches them before they become the live ones.
+ALTER TABLE book_features
+    ADD COLUMN embedding_shadow vector(384);
+
+ALTER TABLE user_profiles
+    ADD COLUMN profile_vector_shadow vector(384);
+
+CREATE TABLE reembedding_checkpoints (
+    job_name VARCHAR(64) PRIMARY KEY,
+    phase VARCHAR(16) NOT NULL,
+    last_key UUID,
+    processed BIGINT NOT NULL,
+    started_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
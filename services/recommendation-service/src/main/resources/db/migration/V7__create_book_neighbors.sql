@@ -0,0 +1,11 @@
+-- Precomputed nearest neighbours of every book by embedding distance, read by the similar-books endpoint.
+-- Lists are written when a book's embedding changes and filled on first read for books that predate the table.
+CREATE TABLE book_neighbors (
+    book_id UUID NOT NULL,
+    neighbor_book_id UUID NOT NULL,
+    distance REAL NOT NULL,
+    PRIMARY KEY (book_id, neighbor_book_id)
+);
+
+CREATE INDEX idx_book_neighbors_neighbor_book_id
+    ON book_neighbors (neighbor_book_id);
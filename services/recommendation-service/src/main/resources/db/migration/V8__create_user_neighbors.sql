@@ -0,0 +1,14 @@
+-- Precomputed nearest neighbours of every active user by profile vector, read by collaborative candidate
+-- generation. One row per user keeps a list to a single index lookup; similarities align with the IDs.
+CREATE TABLE user_neighbors (
+    user_id UUID PRIMARY KEY,
+    neighbor_user_ids UUID[] NOT NULL,
+    similarities REAL[] NOT NULL,
+    computed_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_user_neighbors_computed_at
+    ON user_neighbors (computed_at);
+
+CREATE INDEX idx_user_profiles_last_updated
+    ON user_profiles (last_updated);
@@ -0,0 +1,11 @@
+-- Ranked feeds opened by a first page, read back by every later page of the same cursor. Kept in the database
+-- so any replica can serve the next page; expired rows are removed by a periodic cleanup.
+CREATE TABLE recommendation_sessions (
+    session_id UUID PRIMARY KEY,
+    user_id UUID NOT NULL,
+    ranked_book_ids UUID[] NOT NULL,
+    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_recommendation_sessions_expires_at
+    ON recommendation_sessions (expires_at);
@@ -2,6 +2,9 @@ package com.vellumhub.recommendation_service.domain.handler.book_feature;
 
 import com.vellumhub.recommendation_service.module.book_feature.application.use_case.DeleteBookFeatureUseCase;
 import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookFeatureRepository;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookNeighbors;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookVectorCache;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookVectorIndex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,6 +22,15 @@ class DeleteBookFeatureUseCaseTest {
     @Mock
     private BookFeatureRepository bookFeatureRepository;
 
+    @Mock
+    private BookVectorIndex bookVectorIndex;
+
+    @Mock
+    private BookNeighbors bookNeighbors;
+
+    @Mock
+    private BookVectorCache bookVectorCache;
+
     @InjectMocks
     private DeleteBookFeatureUseCase deleteMediaFeatureHandler;
 
@@ -33,6 +45,9 @@ class DeleteBookFeatureUseCaseTest {
 
         // Assert
         verify(bookFeatureRepository, times(1)).deleteById(mediaId);
+        verify(bookVectorIndex, times(1)).remove(mediaId);
+        verify(bookNeighbors, times(1)).remove(mediaId);
+        verify(bookVectorCache, times(1)).invalidate(mediaId);
     }
 
     @Test
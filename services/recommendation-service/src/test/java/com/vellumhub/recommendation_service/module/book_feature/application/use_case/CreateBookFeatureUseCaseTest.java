@@ -2,6 +2,8 @@ package com.vellumhub.recommendation_service.module.book_feature.application.use
 
 import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookFeature;
 import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookFeatureRepository;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookNeighbors;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookVectorIndex;
 import com.vellumhub.recommendation_service.module.book_feature.domain.port.EmbeddingBookProvider;
 import com.vellumhub.kafka.contracts.book.CreateBookEvent;
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,7 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +31,12 @@ class CreateBookFeatureUseCaseTest {
     @Mock
     private EmbeddingBookProvider embeddingBookProvider;
 
+    @Mock
+    private BookVectorIndex bookVectorIndex;
+
+    @Mock
+    private BookNeighbors bookNeighbors;
+
     @InjectMocks
     private CreateBookFeatureUseCase createBookFeatureUseCase;
 
@@ -71,7 +80,9 @@ class CreateBookFeatureUseCaseTest {
         assertNotNull(savedFeature);
         assertEquals(bookId, savedFeature.getBookId());
         assertArrayEquals(validEmbedding, savedFeature.getEmbedding());
-        assertEquals(1.0, savedFeature.getPopularityScore());
+        assertEquals(0.0, savedFeature.getPopularityScore());
+        verify(bookVectorIndex, times(1)).upsert(bookId, validEmbedding, 0.0);
+        verify(bookNeighbors).refresh(List.of(bookId));
     }
 
     @Test
@@ -143,5 +154,32 @@ class CreateBookFeatureUseCaseTest {
                 .when(bookFeatureRepository).save(any(BookFeature.class));
 
         assertThrows(RuntimeException.class, () -> createBookFeatureUseCase.execute(event));
+
+        verifyNoInteractions(bookVectorIndex);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldEmbedAndSaveAllBooksOfABatchTogether() {
+        CreateBookEvent first = createSampleEvent(UUID.randomUUID());
+        CreateBookEvent second = createSampleEvent(UUID.randomUUID());
+        float[] firstEmbedding = createValidEmbedding();
+        float[] secondEmbedding = createValidEmbedding();
+        secondEmbedding[0] = 1f;
+        when(embeddingBookProvider.ofAll(anyList())).thenReturn(List.of(firstEmbedding, secondEmbedding));
+
+        createBookFeatureUseCase.executeAll(List.of(first, second));
+
+        ArgumentCaptor<List<BookFeature>> captor = ArgumentCaptor.forClass(List.class);
+        verify(bookFeatureRepository, times(1)).saveAll(captor.capture());
+        verify(bookFeatureRepository, never()).save(any(BookFeature.class));
+        verify(embeddingBookProvider, never()).of(any(), any(), any(), any());
+
+        List<BookFeature> saved = captor.getValue();
+        assertEquals(2, saved.size());
+        assertEquals(first.bookId(), saved.get(0).getBookId());
+        assertArrayEquals(secondEmbedding, saved.get(1).getEmbedding());
+        verify(bookVectorIndex).upsert(first.bookId(), firstEmbedding, 0.0);
+        verify(bookVectorIndex).upsert(second.bookId(), secondEmbedding, 0.0);
     }
 }
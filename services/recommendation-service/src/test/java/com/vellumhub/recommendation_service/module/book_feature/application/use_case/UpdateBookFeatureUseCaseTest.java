@@ -4,6 +4,9 @@ import com.vellumhub.recommendation_service.module.book_feature.application.comm
 import com.vellumhub.recommendation_service.module.book_feature.domain.exception.BookFeatureNotFoundException;
 import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookFeature;
 import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookFeatureRepository;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookNeighbors;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookVectorCache;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookVectorIndex;
 import com.vellumhub.recommendation_service.module.book_feature.domain.port.EmbeddingBookProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -37,6 +40,15 @@ class UpdateBookFeatureUseCaseTest {
     @Mock
     private EmbeddingBookProvider embeddingBookProvider;
 
+    @Mock
+    private BookVectorIndex bookVectorIndex;
+
+    @Mock
+    private BookNeighbors bookNeighbors;
+
+    @Mock
+    private BookVectorCache bookVectorCache;
+
     @Mock
     private BookFeature bookFeature;
 
@@ -151,6 +163,25 @@ class UpdateBookFeatureUseCaseTest {
             verify(bookFeatureRepository).save(bookFeature);
         }
 
+        @Test
+        @DisplayName("should refresh the book in the vector index after saving")
+        void shouldUpsertIntoVectorIndexAfterSave() {
+            var command = UpdateBookFeatureCommand.of(bookId, title, author, description, genres);
+            when(bookFeatureRepository.findById(bookId)).thenReturn(Optional.of(bookFeature));
+            when(embeddingBookProvider.of(title, author, description, genres)).thenReturn(vectors);
+            when(bookFeature.getBookId()).thenReturn(bookId);
+            when(bookFeature.getEmbedding()).thenReturn(vectors);
+            when(bookFeature.getPopularityScore()).thenReturn(0.4);
+
+            useCase.execute(command);
+
+            var order = inOrder(bookFeatureRepository, bookVectorIndex, bookNeighbors, bookVectorCache);
+            order.verify(bookFeatureRepository).save(bookFeature);
+            order.verify(bookVectorIndex).upsert(bookId, vectors, 0.4);
+            order.verify(bookNeighbors).refresh(List.of(bookId));
+            order.verify(bookVectorCache).invalidate(bookId);
+        }
+
         @Test
         @DisplayName("should persist the exact same instance retrieved from the repository")
         void shouldSaveTheSameInstanceReturnedByRepository() {
@@ -247,6 +278,40 @@ class UpdateBookFeatureUseCaseTest {
         }
     }
 
+    @Nested
+    @DisplayName("executeAll()")
+    class ExecuteAll {
+
+        @Test
+        @DisplayName("should look up, embed and save the whole batch at once")
+        void shouldProcessBatchWithSingleLookupEmbeddingAndSave() {
+            var command = UpdateBookFeatureCommand.of(bookId, title, author, description, genres);
+            when(bookFeature.getBookId()).thenReturn(bookId);
+            when(bookFeatureRepository.findAllById(List.of(bookId))).thenReturn(List.of(bookFeature));
+            when(embeddingBookProvider.ofAll(anyList())).thenReturn(List.of(vectors));
+
+            useCase.executeAll(List.of(command));
+
+            verify(bookFeature).updateEmbedding(vectors);
+            verify(bookFeatureRepository).saveAll(List.of(bookFeature));
+            verify(bookFeatureRepository, never()).findById(any());
+            verify(embeddingBookProvider, never()).of(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("should reject the batch before embedding when a feature is missing")
+        void shouldRejectBatchWhenFeatureIsMissing() {
+            var command = UpdateBookFeatureCommand.of(bookId, title, author, description, genres);
+            when(bookFeatureRepository.findAllById(List.of(bookId))).thenReturn(List.of());
+
+            assertThatThrownBy(() -> useCase.executeAll(List.of(command)))
+                    .isInstanceOf(BookFeatureNotFoundException.class);
+
+            verifyNoInteractions(embeddingBookProvider, bookVectorIndex);
+            verify(bookFeatureRepository, never()).saveAll(any());
+        }
+    }
+
     @Nested
     @DisplayName("UpdateBookFeatureCommand.of()")
     class CommandFactory {
@@ -0,0 +1,161 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.cache;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookFeature;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookFeatureRepository;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CaffeineBookVectorCacheTest {
+
+    private static final int DIMENSIONS = 384;
+
+    @Mock
+    private BookFeatureRepository bookFeatureRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CaffeineBookVectorCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new CaffeineBookVectorCache(DataSize.ofMegabytes(1), Duration.ofMinutes(5), bookFeatureRepository, new VellumHubMetrics(meterRegistry));
+    }
+
+    @Test
+    @DisplayName("Should load a book once and serve later lookups from memory")
+    void shouldReadThrough() {
+        UUID bookId = UUID.randomUUID();
+        when(bookFeatureRepository.findById(bookId)).thenReturn(Optional.of(BookFeature.create(bookId, embedding(1f), 0.5)));
+
+        assertThat(cache.get(bookId)).hasValueSatisfying(vector -> assertThat(vector[0]).isEqualTo(1f));
+        assertThat(cache.get(bookId)).isPresent();
+
+        verify(bookFeatureRepository, times(1)).findById(bookId);
+        assertThat(lookups("hit")).isEqualTo(1.0);
+        assertThat(lookups("miss")).isEqualTo(1.0);
+        assertThat(meterRegistry.get(VellumHubMetrics.BOOK_VECTOR_CACHE_HIT_RATIO).gauge().value()).isEqualTo(0.5);
+        assertThat(meterRegistry.get(VellumHubMetrics.BOOK_VECTOR_CACHE_BYTES).gauge().value())
+                .isEqualTo(CaffeineBookVectorCache.ENTRY_OVERHEAD_BYTES + Float.BYTES * DIMENSIONS);
+    }
+
+    @Test
+    @DisplayName("Should reload a book once its entry has expired")
+    void shouldReloadAfterTtl() {
+        cache = new CaffeineBookVectorCache(DataSize.ofMegabytes(1), Duration.ofNanos(1), bookFeatureRepository, new VellumHubMetrics(meterRegistry));
+        UUID bookId = UUID.randomUUID();
+        when(bookFeatureRepository.findById(bookId))
+                .thenReturn(Optional.of(BookFeature.create(bookId, embedding(1f), 0.5)), Optional.of(BookFeature.create(bookId, embedding(2f), 0.5)));
+
+        assertThat(cache.get(bookId)).hasValueSatisfying(vector -> assertThat(vector[0]).isEqualTo(1f));
+        assertThat(cache.get(bookId)).hasValueSatisfying(vector -> assertThat(vector[0]).isEqualTo(2f));
+    }
+
+    @Test
+    @DisplayName("Should not cache books that have no features yet")
+    void shouldNotCacheMissingBooks() {
+        UUID bookId = UUID.randomUUID();
+        when(bookFeatureRepository.findById(bookId))
+                .thenReturn(Optional.empty(), Optional.of(BookFeature.create(bookId, embedding(2f), 0.5)));
+
+        assertThat(cache.get(bookId)).isEmpty();
+        assertThat(cache.get(bookId)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should return copies so callers cannot change the cached vector")
+    void shouldReturnCopies() {
+        UUID bookId = UUID.randomUUID();
+        when(bookFeatureRepository.findById(bookId)).thenReturn(Optional.of(BookFeature.create(bookId, embedding(1f), 0.5)));
+
+        cache.get(bookId).orElseThrow()[0] = 42f;
+
+        assertThat(cache.get(bookId).orElseThrow()[0]).isEqualTo(1f);
+    }
+
+    @Test
+    @DisplayName("Should load all misses of a bulk lookup with one query")
+    void shouldLoadBulkMissesTogether() {
+        UUID cached = UUID.randomUUID();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID unknown = UUID.randomUUID();
+        when(bookFeatureRepository.findById(cached)).thenReturn(Optional.of(BookFeature.create(cached, embedding(1f), 0.5)));
+        when(bookFeatureRepository.findAllById(anyList())).thenReturn(List.of(
+                BookFeature.create(first, embedding(2f), 0.5),
+                BookFeature.create(second, embedding(3f), 0.5)
+        ));
+        cache.get(cached);
+
+        Map<UUID, float[]> embeddings = cache.getAll(List.of(cached, first, second, unknown, first));
+
+        assertThat(embeddings).containsOnlyKeys(cached, first, second);
+        verify(bookFeatureRepository, times(1)).findAllById(anyList());
+        assertThat(lookups("hit")).isEqualTo(1.0);
+        assertThat(lookups("miss")).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("Should reload a book after it was invalidated")
+    void shouldReloadAfterInvalidation() {
+        UUID bookId = UUID.randomUUID();
+        when(bookFeatureRepository.findById(bookId)).thenReturn(
+                Optional.of(BookFeature.create(bookId, embedding(1f), 0.5)),
+                Optional.of(BookFeature.create(bookId, embedding(2f), 0.5))
+        );
+        cache.get(bookId);
+
+        cache.invalidate(bookId);
+
+        assertThat(cache.get(bookId).orElseThrow()[0]).isEqualTo(2f);
+    }
+
+    @Test
+    @DisplayName("Should evict once the estimated footprint exceeds the configured size")
+    void shouldBoundFootprint() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache = new CaffeineBookVectorCache(DataSize.ofKilobytes(16), Duration.ofMinutes(5), bookFeatureRepository, new VellumHubMetrics(registry));
+        when(bookFeatureRepository.findById(any())).thenAnswer(invocation ->
+                Optional.of(BookFeature.create(invocation.getArgument(0), embedding(1f), 0.5)));
+
+        for (int i = 0; i < 50; i++) {
+            cache.get(UUID.randomUUID());
+        }
+
+        assertThat(registry.get(VellumHubMetrics.BOOK_VECTOR_CACHE_BYTES).gauge().value())
+                .isPositive()
+                .isLessThanOrEqualTo(16 * 1024);
+        assertThat(registry.get(VellumHubMetrics.BOOK_VECTOR_CACHE_SIZE).gauge().value()).isLessThan(50);
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get(VellumHubMetrics.BOOK_VECTOR_CACHE_LOOKUPS)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private static float[] embedding(float first) {
+        float[] embedding = new float[DIMENSIONS];
+        embedding[0] = first;
+        return embedding;
+    }
+}
@@ -1,5 +1,7 @@
 package com.vellumhub.recommendation_service.module.book_feature.infrastructure.embedding;
 
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookContent;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.EmbeddingCache;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
@@ -11,8 +13,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -22,11 +26,15 @@ class LangChain4jEmbeddingBookProviderTest {
     @Mock
     private EmbeddingModel embeddingModel;
 
+    @Mock
+    private EmbeddingCache embeddingCache;
+
     private LangChain4jEmbeddingBookProvider provider;
 
     @BeforeEach
     void setUp() {
-        provider = new LangChain4jEmbeddingBookProvider(embeddingModel);
+        provider = new LangChain4jEmbeddingBookProvider(embeddingModel, embeddingCache, "all-minilm-l6-v2");
+        lenient().when(embeddingCache.get(anyString())).thenReturn(Optional.empty());
     }
 
     private void mockEmbedding(float[] vector) {
@@ -259,4 +267,92 @@ class LangChain4jEmbeddingBookProviderTest {
         verify(embeddingModel).embed(captor.capture());
         assertThat(captor.getValue()).contains("Book title: Dune");
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldEmbedAllBooksInOneCallAndKeepTheirOrder() {
+        when(embeddingModel.embedAll(anyList())).thenReturn(Response.from(List.of(
+                Embedding.from(new float[]{3.0f, 4.0f}),
+                Embedding.from(new float[]{0.0f, 2.0f})
+        )));
+
+        List<float[]> result = provider.ofAll(List.of(
+                new BookContent("Dune", "Frank Herbert", "A sci-fi epic.", List.of("Science Fiction")),
+                new BookContent("Emma", "Jane Austen", "A comedy of manners.", List.of("Classic"))
+        ));
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0)).usingComparatorWithPrecision(1e-6f).containsExactly(0.6f, 0.8f);
+        assertThat(result.get(1)).usingComparatorWithPrecision(1e-6f).containsExactly(0.0f, 1.0f);
+        verify(embeddingModel, times(1)).embedAll(anyList());
+        verify(embeddingModel, never()).embed(anyString());
+    }
+
+    @Test
+    void shouldReuseCachedVectorWithoutCallingTheModel() {
+        float[] cached = {0.6f, 0.8f};
+        when(embeddingCache.get(anyString())).thenReturn(Optional.of(cached));
+
+        float[] result = provider.of("Dune", "Frank Herbert", "A sci-fi epic.", List.of("Science Fiction"));
+
+        assertThat(result).containsExactly(0.6f, 0.8f);
+        verifyNoInteractions(embeddingModel);
+        verify(embeddingCache, never()).put(anyString(), any());
+    }
+
+    @Test
+    void shouldCacheComputedVectorUnderStableContentHash() {
+        mockEmbedding(new float[]{3.0f, 4.0f});
+        ArgumentCaptor<String> hashCaptor = ArgumentCaptor.forClass(String.class);
+
+        provider.of("Dune", "Frank Herbert", "A sci-fi epic.", List.of("Science Fiction"));
+        provider.of("Dune", "Frank Herbert", "A  sci-fi epic.", List.of("Science Fiction"));
+
+        verify(embeddingCache, times(2)).put(hashCaptor.capture(), any());
+        assertThat(hashCaptor.getAllValues().get(0))
+                .hasSize(64)
+                .isEqualTo(hashCaptor.getAllValues().get(1));
+    }
+
+    @Test
+    void shouldEmbedOnlyUncachedBooksInABatch() {
+        BookContent dune = new BookContent("Dune", "Frank Herbert", "A sci-fi epic.", List.of("Science Fiction"));
+        BookContent emma = new BookContent("Emma", "Jane Austen", "A comedy of manners.", List.of("Classic"));
+        ArgumentCaptor<String> hashCaptor = ArgumentCaptor.forClass(String.class);
+        when(embeddingModel.embed(anyString())).thenReturn(Response.from(Embedding.from(new float[]{1.0f, 0.0f})));
+        provider.of(dune.title(), dune.author(), dune.description(), dune.genres());
+        verify(embeddingCache).put(hashCaptor.capture(), any());
+        String duneHash = hashCaptor.getValue();
+
+        when(embeddingCache.get(duneHash)).thenReturn(Optional.of(new float[]{1.0f, 0.0f}));
+        when(embeddingModel.embedAll(anyList())).thenReturn(Response.from(List.of(Embedding.from(new float[]{0.0f, 2.0f}))));
+
+        List<float[]> result = provider.ofAll(List.of(emma, dune, emma));
+
+        assertThat(result).hasSize(3);
+        assertThat(result.get(0)).usingComparatorWithPrecision(1e-6f).containsExactly(0.0f, 1.0f);
+        assertThat(result.get(1)).containsExactly(1.0f, 0.0f);
+        assertThat(result.get(2)).usingComparatorWithPrecision(1e-6f).containsExactly(0.0f, 1.0f);
+        verify(embeddingModel).embedAll(argThat(segments -> segments.size() == 1));
+        verify(embeddingCache).putAll(argThat(written -> written.size() == 1 && !written.containsKey(duneHash)));
+    }
+
+    @Test
+    void shouldKeyCacheEntriesByTheConfiguredModel() {
+        mockEmbedding(new float[]{3.0f, 4.0f});
+        ArgumentCaptor<String> hashCaptor = ArgumentCaptor.forClass(String.class);
+        LangChain4jEmbeddingBookProvider otherModel = new LangChain4jEmbeddingBookProvider(embeddingModel, embeddingCache, "other-model");
+
+        provider.of("Dune", "Frank Herbert", "A sci-fi epic.", List.of("Science Fiction"));
+        otherModel.of("Dune", "Frank Herbert", "A sci-fi epic.", List.of("Science Fiction"));
+
+        verify(embeddingCache, times(2)).put(hashCaptor.capture(), any());
+        assertThat(hashCaptor.getAllValues().get(0)).isNotEqualTo(hashCaptor.getAllValues().get(1));
+    }
+
+    @Test
+    void shouldNotCallTheModelForAnEmptyBatch() {
+        assertThat(provider.ofAll(List.of())).isEmpty();
+
+        verifyNoInteractions(embeddingModel);
+    }
+}
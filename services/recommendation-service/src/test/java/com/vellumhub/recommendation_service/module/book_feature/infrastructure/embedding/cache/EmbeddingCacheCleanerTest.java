@@ -0,0 +1,41 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.embedding.cache;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.EmbeddingCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmbeddingCacheCleanerTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-01T12:00:00Z");
+
+    @Mock
+    private EmbeddingCache embeddingCache;
+
+    @Test
+    @DisplayName("Should delete the entries older than the retention")
+    void shouldRemoveEntriesOlderThanRetention() {
+        when(embeddingCache.removeCreatedBefore(NOW.minus(Duration.ofDays(90)))).thenReturn(4);
+
+        int removed = new EmbeddingCacheCleaner(embeddingCache, Duration.ofDays(90), Duration.ofHours(6)).cleanUp(NOW);
+
+        assertThat(removed).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive retention")
+    void shouldRejectNonPositiveRetention() {
+        assertThatThrownBy(() -> new EmbeddingCacheCleaner(embeddingCache, Duration.ZERO, Duration.ofHours(6)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
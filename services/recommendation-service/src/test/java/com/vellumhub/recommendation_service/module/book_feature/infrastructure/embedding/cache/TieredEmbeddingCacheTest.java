@@ -0,0 +1,125 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.embedding.cache;
+
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TieredEmbeddingCacheTest {
+
+    private static final String HASH = "a".repeat(64);
+
+    @Mock
+    private JpaBookEmbeddingCacheRepository repository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TieredEmbeddingCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TieredEmbeddingCache(100, repository, jdbcTemplate, new VellumHubMetrics(meterRegistry));
+    }
+
+    @Test
+    @DisplayName("Should serve stored vectors from memory without reading the database")
+    void shouldServeFromMemoryAfterPut() {
+        cache.put(HASH, new float[]{0.6f, 0.8f});
+
+        assertThat(cache.get(HASH)).hasValueSatisfying(vector -> assertThat(vector).containsExactly(0.6f, 0.8f));
+        verify(jdbcTemplate).batchUpdate(anyString(), anyList());
+        verify(repository, never()).findById(any());
+        assertThat(counter("memory_hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should write every entry of a batch with one statement that ignores existing hashes")
+    @SuppressWarnings("unchecked")
+    void shouldWriteBatchWithOneStatement() {
+        Map<String, float[]> embeddings = new LinkedHashMap<>();
+        embeddings.put(HASH, new float[]{0.6f, 0.8f});
+        embeddings.put("b".repeat(64), new float[]{1.0f, 0.0f});
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+
+        cache.putAll(embeddings);
+
+        verify(jdbcTemplate, times(1)).batchUpdate(sql.capture(), rows.capture());
+        assertThat(sql.getValue()).contains("ON CONFLICT (content_hash) DO NOTHING");
+        assertThat(rows.getValue()).hasSize(2);
+        assertThat(rows.getValue().getFirst()[0]).isEqualTo(HASH);
+        assertThat(rows.getValue().getFirst()[1]).isEqualTo("[0.6,0.8]");
+        assertThat(cache.get("b".repeat(64))).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should promote database hits into memory")
+    void shouldPromoteDatabaseHit() {
+        when(repository.findById(HASH)).thenReturn(Optional.of(new BookEmbeddingCacheEntry(HASH, new float[]{1.0f, 0.0f})));
+
+        assertThat(cache.get(HASH)).isPresent();
+        assertThat(cache.get(HASH)).isPresent();
+
+        verify(repository, times(1)).findById(HASH);
+        assertThat(counter("database_hit")).isEqualTo(1.0);
+        assertThat(counter("memory_hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should record a miss when neither tier has the vector")
+    void shouldRecordMiss() {
+        when(repository.findById(HASH)).thenReturn(Optional.empty());
+
+        assertThat(cache.get(HASH)).isEmpty();
+        assertThat(counter("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should not let callers mutate the cached vector")
+    void shouldReturnDefensiveCopies() {
+        float[] stored = {0.6f, 0.8f};
+        cache.put(HASH, stored);
+        stored[0] = 0f;
+
+        cache.get(HASH).orElseThrow()[1] = 0f;
+
+        assertThat(cache.get(HASH)).hasValueSatisfying(vector -> assertThat(vector).containsExactly(0.6f, 0.8f));
+    }
+
+    @Test
+    @DisplayName("Should not write anything for an empty batch")
+    void shouldSkipEmptyBatch() {
+        cache.putAll(Map.of());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get(VellumHubMetrics.EMBEDDING_CACHE_LOOKUPS)
+                .tag("operation", "book_embedding_cache")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
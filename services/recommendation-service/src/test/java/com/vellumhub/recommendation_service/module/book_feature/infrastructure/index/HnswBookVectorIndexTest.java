@@ -0,0 +1,196 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.index;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookFeature;
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookVectorMatch;
+import com.vellumhub.recommendation_service.module.book_feature.infrastructure.repository.JpaBookFeatureRepository;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HnswBookVectorIndexTest {
+
+    @Mock
+    private JpaBookFeatureRepository jpaBookFeatureRepository;
+
+    @Mock
+    private JdbcBookFeatureChanges bookFeatureChanges;
+
+    private SimpleMeterRegistry meterRegistry;
+    private HnswBookVectorIndex index;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new HnswBookVectorIndex(jpaBookFeatureRepository, bookFeatureChanges, new VellumHubMetrics(meterRegistry), 8, 50, 50,
+                Duration.ofSeconds(30), Duration.ofMinutes(1), Duration.ofDays(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.shutdown();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should load persisted books on bootstrap and become ready")
+    void shouldBootstrapFromRepository() {
+        BookFeature first = BookFeature.create(UUID.randomUUID(), axis(0), 0.9);
+        BookFeature second = BookFeature.create(UUID.randomUUID(), axis(1), 0.1);
+        when(jpaBookFeatureRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(first, second)));
+
+        assertThat(index.isReady()).isFalse();
+        index.bootstrap();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(meterRegistry.get(VellumHubMetrics.VECTOR_INDEX_SIZE).gauge().value()).isEqualTo(2.0);
+        assertThat(index.search(axis(0), 1, id -> false))
+                .containsExactly(new BookVectorMatch(first.getBookId(), 0f, 0.9));
+    }
+
+    @Test
+    @DisplayName("Should replace the previous vector when a book is updated")
+    void shouldReplaceVectorOnUpsert() {
+        UUID bookId = UUID.randomUUID();
+        index.upsert(bookId, axis(0), 0.5);
+        index.upsert(bookId, axis(1), 0.7);
+
+        List<BookVectorMatch> matches = index.search(axis(1), 5, id -> false);
+
+        assertThat(matches).extracting(BookVectorMatch::bookId).containsExactly(bookId);
+        assertThat(matches.getFirst().popularityScore()).isEqualTo(0.7);
+    }
+
+    @Test
+    @DisplayName("Should leave out removed and excluded books")
+    void shouldSkipRemovedAndExcludedBooks() {
+        UUID removed = UUID.randomUUID();
+        UUID excluded = UUID.randomUUID();
+        UUID kept = UUID.randomUUID();
+        index.upsert(removed, axis(0), 0.5);
+        index.upsert(excluded, axis(0), 0.5);
+        index.upsert(kept, axis(2), 0.5);
+
+        index.remove(removed);
+
+        assertThat(index.search(axis(0), 5, excluded::equals))
+                .extracting(BookVectorMatch::bookId)
+                .containsExactly(kept);
+    }
+
+    @Test
+    @DisplayName("Should keep the event version of a book updated while bootstrap was loading it")
+    void shouldKeepEventVersionOverBootstrapSnapshot() {
+        UUID updatedDuringBootstrap = UUID.randomUUID();
+        BookFeature stale = BookFeature.create(updatedDuringBootstrap, axis(0), 0.1);
+        when(jpaBookFeatureRepository.findAll(any(Pageable.class))).thenAnswer(invocation -> {
+            index.upsert(updatedDuringBootstrap, axis(3), 0.8);
+            return new PageImpl<>(List.of(stale));
+        });
+
+        index.bootstrap();
+
+        List<BookVectorMatch> matches = index.search(axis(3), 5, id -> false);
+        assertThat(matches).hasSize(1);
+        assertThat(matches.getFirst().popularityScore()).isEqualTo(0.8);
+    }
+
+    @Test
+    @DisplayName("Should serve refreshed popularity and ignore books that are not indexed")
+    void shouldUpdatePopularityOfIndexedBooks() {
+        UUID bookId = UUID.randomUUID();
+        index.upsert(bookId, axis(4), 0.1);
+
+        index.updatePopularity(Map.of(bookId, 0.65, UUID.randomUUID(), 0.9));
+
+        assertThat(index.search(axis(4), 5, id -> false))
+                .containsExactly(new BookVectorMatch(bookId, 0f, 0.65));
+    }
+
+    @Test
+    @DisplayName("Should apply changes only once their transaction commits and drop them on rollback")
+    void shouldApplyChangesAfterCommit() {
+        UUID committed = UUID.randomUUID();
+        UUID rolledBack = UUID.randomUUID();
+
+        TransactionSynchronizationManager.initSynchronization();
+        index.upsert(committed, axis(0), 0.5);
+        assertThat(index.search(axis(0), 5, id -> false)).isEmpty();
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        TransactionSynchronizationManager.initSynchronization();
+        index.upsert(rolledBack, axis(1), 0.5);
+        index.remove(committed);
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(index.search(axis(0), 5, id -> false))
+                .extracting(BookVectorMatch::bookId)
+                .containsExactly(committed);
+    }
+
+    @Test
+    @DisplayName("Should pick up books updated, re-scored and deleted through other instances")
+    void shouldResyncChangesFromOtherInstances() {
+        BookFeature unchanged = BookFeature.create(UUID.randomUUID(), axis(0), 0.1);
+        BookFeature moved = BookFeature.create(UUID.randomUUID(), axis(1), 0.2);
+        UUID deleted = UUID.randomUUID();
+        UUID rescored = UUID.randomUUID();
+        when(jpaBookFeatureRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(unchanged, moved)));
+        index.bootstrap();
+        index.upsert(deleted, axis(2), 0.3);
+        index.upsert(rescored, axis(3), 0.4);
+
+        BookFeature movedElsewhere = BookFeature.create(moved.getBookId(), axis(5), 0.2);
+        BookFeature created = BookFeature.create(UUID.randomUUID(), axis(6), 0.6);
+        when(bookFeatureChanges.findDeletedSince(any())).thenReturn(List.of(deleted));
+        when(jpaBookFeatureRepository.findByLastUpdatedAfter(any())).thenReturn(List.of(unchanged, movedElsewhere, created));
+        when(bookFeatureChanges.findPopularityChangedSince(any())).thenReturn(Map.of(rescored, 0.9));
+
+        assertThat(index.resync(Instant.now())).isEqualTo(3);
+
+        assertThat(index.search(axis(2), 10, id -> false)).extracting(BookVectorMatch::bookId).doesNotContain(deleted);
+        assertThat(index.search(axis(5), 1, id -> false)).containsExactly(new BookVectorMatch(moved.getBookId(), 0f, 0.2));
+        assertThat(index.search(axis(6), 1, id -> false)).containsExactly(new BookVectorMatch(created.getBookId(), 0f, 0.6));
+        assertThat(index.search(axis(3), 1, id -> false)).containsExactly(new BookVectorMatch(rescored, 0f, 0.9));
+        assertThat(meterRegistry.get(VellumHubMetrics.VECTOR_INDEX_SIZE).gauge().value()).isEqualTo(4.0);
+        verify(bookFeatureChanges).purgeTombstonesBefore(any());
+    }
+
+    private static void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private static float[] axis(int dimension) {
+        float[] vector = new float[384];
+        vector[dimension] = 1f;
+        return vector;
+    }
+}
@@ -0,0 +1,129 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HnswGraphTest {
+
+    private static final int DIMENSIONS = 32;
+
+    @Test
+    @DisplayName("Should find nearly the same neighbours as an exhaustive scan")
+    void shouldMatchBruteForceRecall() {
+        Random random = new Random(7);
+        HnswGraph graph = new HnswGraph(DIMENSIONS, 16, 200, 42L);
+        float[][] vectors = new float[2000][];
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] = randomVector(random);
+            graph.add(vectors[i]);
+        }
+
+        int queries = 50;
+        int k = 10;
+        int hits = 0;
+        for (int q = 0; q < queries; q++) {
+            float[] query = randomVector(random);
+            Set<Integer> exact = bruteForce(vectors, query, k);
+            for (int node : graph.search(query, k, 100, node -> true).nodes()) {
+                if (exact.contains(node)) {
+                    hits++;
+                }
+            }
+        }
+
+        assertThat((double) hits / (queries * k)).isGreaterThan(0.9);
+    }
+
+    @Test
+    @DisplayName("Should return results ordered by ascending distance")
+    void shouldOrderResultsByDistance() {
+        HnswGraph graph = new HnswGraph(DIMENSIONS, 8, 50, 42L);
+        Random random = new Random(3);
+        for (int i = 0; i < 200; i++) {
+            graph.add(randomVector(random));
+        }
+
+        float[] distances = graph.search(randomVector(random), 20, 50, node -> true).distances();
+
+        float[] sorted = distances.clone();
+        Arrays.sort(sorted);
+        assertThat(distances).containsExactly(sorted);
+    }
+
+    @Test
+    @DisplayName("Should skip deleted and filtered nodes")
+    void shouldSkipDeletedAndFilteredNodes() {
+        HnswGraph graph = new HnswGraph(DIMENSIONS, 8, 50, 42L);
+        float[] target = unitVector(0);
+        int exactMatch = graph.add(target);
+        int filtered = graph.add(unitVector(0));
+        int remaining = graph.add(unitVector(1));
+
+        graph.markDeleted(exactMatch);
+        HnswGraph.SearchResult result = graph.search(target, 3, 10, node -> node != filtered);
+
+        assertThat(result.nodes()).containsExactly(remaining);
+        assertThat(graph.deletedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should return nothing from an empty graph")
+    void shouldReturnEmptyResultWhenGraphIsEmpty() {
+        HnswGraph graph = new HnswGraph(DIMENSIONS, 8, 50, 42L);
+
+        assertThat(graph.search(unitVector(0), 5, 10, node -> true).nodes()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject vectors with the wrong dimension")
+    void shouldRejectWrongDimension() {
+        HnswGraph graph = new HnswGraph(DIMENSIONS, 8, 50, 42L);
+
+        assertThatThrownBy(() -> graph.add(new float[DIMENSIONS + 1]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Set<Integer> bruteForce(float[][] vectors, float[] query, int k) {
+        return new HashSet<>(IntStream.range(0, vectors.length)
+                .boxed()
+                .sorted(Comparator.comparingDouble(i -> -cosine(vectors[i], query)))
+                .limit(k)
+                .toList());
+    }
+
+    private static double cosine(float[] first, float[] second) {
+        double dot = 0;
+        double firstNorm = 0;
+        double secondNorm = 0;
+        for (int i = 0; i < first.length; i++) {
+            dot += first[i] * second[i];
+            firstNorm += first[i] * first[i];
+            secondNorm += second[i] * second[i];
+        }
+        return dot / Math.sqrt(firstNorm * secondNorm);
+    }
+
+    private static float[] randomVector(Random random) {
+        float[] vector = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    private static float[] unitVector(int axis) {
+        float[] vector = new float[DIMENSIONS];
+        vector[axis] = 1f;
+        return vector;
+    }
+}
@@ -0,0 +1,160 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.popularity;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.PopularitySignal;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookVectorIndex;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DecayingPopularityAggregatorTest {
+
+    private static final Instant START = Instant.parse("2026-10-01T00:00:00Z");
+
+    @Mock
+    private JdbcBookPopularityRepository popularityRepository;
+
+    @Mock
+    private BookVectorIndex bookVectorIndex;
+
+    @Captor
+    private ArgumentCaptor<Map<UUID, Double>> deltasCaptor;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DecayingPopularityAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        aggregator = aggregator(500);
+    }
+
+    @Test
+    @DisplayName("Should merge a book's signals and decay them to the flush time")
+    void shouldMergeAndDecaySignals() {
+        UUID bookId = UUID.randomUUID();
+        Instant oneDayLater = START.plus(Duration.ofDays(1));
+        Map<UUID, Double> scores = Map.of(bookId, 0.1);
+        when(popularityRepository.addSignals(anyMap(), any())).thenReturn(scores);
+
+        aggregator.record(new PopularitySignal(bookId, 1.0, START));
+        aggregator.record(new PopularitySignal(bookId, 0.5, oneDayLater));
+        int rescored = aggregator.flush(oneDayLater.plus(Duration.ofDays(1)));
+
+        assertThat(rescored).isEqualTo(1);
+        verify(popularityRepository).addSignals(deltasCaptor.capture(), any());
+        assertThat(deltasCaptor.getValue().get(bookId)).isCloseTo(0.5, within(1e-9));
+        verify(bookVectorIndex).updatePopularity(scores);
+        assertThat(meterRegistry.get(VellumHubMetrics.POPULARITY_PENDING_BOOKS).gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should decay a late event from its own timestamp")
+    void shouldDecayLateEventFromItsTimestamp() {
+        UUID bookId = UUID.randomUUID();
+        Instant oneDayLater = START.plus(Duration.ofDays(1));
+        when(popularityRepository.addSignals(anyMap(), any())).thenReturn(Map.of());
+
+        aggregator.record(new PopularitySignal(bookId, 1.0, oneDayLater));
+        aggregator.record(new PopularitySignal(bookId, 1.0, START));
+        aggregator.flush(oneDayLater);
+
+        verify(popularityRepository).addSignals(deltasCaptor.capture(), any());
+        assertThat(deltasCaptor.getValue().get(bookId)).isCloseTo(1.5, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Should write pending books in chunks of the configured batch size")
+    void shouldChunkFlush() {
+        aggregator = aggregator(2);
+        when(popularityRepository.addSignals(anyMap(), any())).thenAnswer(invocation -> {
+            Map<UUID, Double> chunk = invocation.getArgument(0);
+            Map<UUID, Double> scores = new HashMap<>();
+            chunk.keySet().forEach(bookId -> scores.put(bookId, 0.2));
+            return scores;
+        });
+        for (int i = 0; i < 3; i++) {
+            aggregator.record(new PopularitySignal(UUID.randomUUID(), 1.0, START));
+        }
+
+        int rescored = aggregator.flush(START);
+
+        assertThat(rescored).isEqualTo(3);
+        verify(popularityRepository, times(2)).addSignals(deltasCaptor.capture(), any());
+        assertThat(deltasCaptor.getAllValues()).extracting(Map::size).containsExactlyInAnyOrder(2, 1);
+    }
+
+    @Test
+    @DisplayName("Should keep signals of a failed flush for the next one")
+    void shouldRestoreSignalsAfterFailedFlush() {
+        UUID bookId = UUID.randomUUID();
+        when(popularityRepository.addSignals(anyMap(), any()))
+                .thenThrow(new IllegalStateException("database down"))
+                .thenReturn(Map.of(bookId, 0.3));
+
+        aggregator.record(new PopularitySignal(bookId, 2.0, START));
+        assertThat(aggregator.flush(START)).isZero();
+        assertThat(aggregator.flush(START)).isEqualTo(1);
+
+        verify(popularityRepository, times(2)).addSignals(deltasCaptor.capture(), any());
+        assertThat(deltasCaptor.getAllValues().get(1).get(bookId)).isCloseTo(2.0, within(1e-9));
+        assertThat(meterRegistry.get(VellumHubMetrics.POPULARITY_WRITE_DURATION)
+                .tag("operation", "popularity_flush")
+                .tag("result", "failure")
+                .timer()
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should ignore signals that do not count and skip empty flushes")
+    void shouldSkipEmptyFlush() {
+        aggregator.record(new PopularitySignal(UUID.randomUUID(), 0.0, START));
+
+        assertThat(aggregator.flush(START)).isZero();
+        verifyNoInteractions(popularityRepository, bookVectorIndex);
+    }
+
+    @Test
+    @DisplayName("Should push decayed scores to the vector index")
+    void shouldPushDecayedScoresToIndex() {
+        Map<UUID, Double> scores = Map.of(UUID.randomUUID(), 0.4, UUID.randomUUID(), 0.05);
+        when(popularityRepository.decayAll(START)).thenReturn(scores);
+
+        assertThat(aggregator.decayAll(START)).isEqualTo(2);
+        verify(bookVectorIndex).updatePopularity(scores);
+    }
+
+    private DecayingPopularityAggregator aggregator(int batchSize) {
+        return new DecayingPopularityAggregator(
+                popularityRepository,
+                bookVectorIndex,
+                new PopularityDecay(Duration.ofDays(1), 10),
+                new VellumHubMetrics(meterRegistry),
+                Duration.ofSeconds(30),
+                Duration.ofHours(1),
+                batchSize
+        );
+    }
+}
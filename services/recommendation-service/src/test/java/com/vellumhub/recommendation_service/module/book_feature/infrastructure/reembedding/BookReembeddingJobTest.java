@@ -0,0 +1,200 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.reembedding;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookContent;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookVectorCache;
+import com.vellumhub.recommendation_service.module.book_feature.infrastructure.reembedding.JdbcReembeddingRepository.BookText;
+import com.vellumhub.recommendation_service.module.book_feature.infrastructure.reembedding.JdbcReembeddingRepository.ProfilePage;
+import com.vellumhub.recommendation_service.module.book_feature.infrastructure.reembedding.JdbcReembeddingRepository.Promotion;
+import com.vellumhub.recommendation_service.module.book_feature.infrastructure.reembedding.ReembeddingCheckpoint.Phase;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookReembeddingJobTest {
+
+    private static final String JOB = "minilm-upgrade";
+    private static final int BATCH_SIZE = 2;
+    private static final int WORKERS = 2;
+    private static final int PAGE_SIZE = BATCH_SIZE * WORKERS;
+    private static final Instant STARTED_AT = Instant.parse("2026-10-01T00:00:00Z");
+
+    @Mock
+    private JdbcReembeddingRepository repository;
+
+    @Mock
+    private ReembeddingBookProvider embeddingBookProvider;
+
+    @Mock
+    private BookVectorCache bookVectorCache;
+
+    @Captor
+    private ArgumentCaptor<List<float[]>> vectorsCaptor;
+
+    @Captor
+    private ArgumentCaptor<ReembeddingCheckpoint> checkpointCaptor;
+
+    private BookReembeddingJob job;
+
+    @AfterEach
+    void tearDown() {
+        if (job != null) {
+            job.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should embed every book into the shadow column and stop before promotion")
+    void shouldEmbedEveryBookAndWaitForPromotion() {
+        job = job(false);
+        List<BookText> page = List.of(book(), book(), book());
+        UUID last = page.getLast().bookId();
+        when(repository.findCheckpoint(JOB)).thenReturn(Optional.empty());
+        when(repository.findBooksAfter(isNull(), isNull(), eq(PAGE_SIZE))).thenReturn(page);
+        when(repository.findBooksAfter(eq(last), isNull(), eq(PAGE_SIZE))).thenReturn(List.of());
+        when(repository.findBooksAfter(isNull(), any(Instant.class), eq(PAGE_SIZE))).thenReturn(List.of());
+        when(repository.shadowProfilesAfter(null, PAGE_SIZE)).thenReturn(new ProfilePage(null, 0));
+        when(embeddingBookProvider.ofAll(anyList())).thenAnswer(invocation -> vectorsFor(invocation.getArgument(0)));
+
+        job.run();
+
+        verify(embeddingBookProvider, times(2)).ofAll(anyList());
+        verify(repository).writeBookShadows(
+                eq(page.stream().map(BookText::bookId).toList()),
+                vectorsCaptor.capture(),
+                checkpointCaptor.capture()
+        );
+        assertThat(vectorsCaptor.getValue()).extracting(vector -> vector[0]).containsExactly(3f, 3f, 3f);
+        assertThat(checkpointCaptor.getValue().lastKey()).isEqualTo(last);
+        assertThat(checkpointCaptor.getValue().processed()).isEqualTo(3);
+        verify(repository, times(4)).saveCheckpoint(checkpointCaptor.capture());
+        assertThat(checkpointCaptor.getAllValues().getLast().phase()).isEqualTo(Phase.READY);
+        verify(repository, never()).promote(any());
+    }
+
+    @Test
+    @DisplayName("Should resume the catch-up pass after the checkpointed book")
+    void shouldResumeFromCheckpoint() {
+        job = job(false);
+        UUID lastKey = UUID.randomUUID();
+        ReembeddingCheckpoint checkpoint = new ReembeddingCheckpoint(JOB, Phase.CATCH_UP, lastKey, 120, STARTED_AT);
+        when(repository.findCheckpoint(JOB)).thenReturn(Optional.of(checkpoint));
+        when(repository.findBooksAfter(lastKey, STARTED_AT, PAGE_SIZE)).thenReturn(List.of());
+        when(repository.shadowProfilesAfter(null, PAGE_SIZE)).thenReturn(new ProfilePage(null, 0));
+
+        job.run();
+
+        verify(repository, never()).findBooksAfter(any(), isNull(), eq(PAGE_SIZE));
+        verify(repository, times(2)).saveCheckpoint(checkpointCaptor.capture());
+        assertThat(checkpointCaptor.getAllValues())
+                .extracting(ReembeddingCheckpoint::phase)
+                .containsExactly(Phase.PROFILES, Phase.READY);
+        assertThat(checkpointCaptor.getAllValues().getLast().processed()).isEqualTo(120);
+    }
+
+    @Test
+    @DisplayName("Should checkpoint every page of profile shadows")
+    void shouldCheckpointProfilePages() {
+        job = job(false);
+        UUID firstPageEnd = UUID.randomUUID();
+        ReembeddingCheckpoint checkpoint = new ReembeddingCheckpoint(JOB, Phase.PROFILES, null, 10, STARTED_AT);
+        when(repository.findCheckpoint(JOB)).thenReturn(Optional.of(checkpoint));
+        when(repository.shadowProfilesAfter(null, PAGE_SIZE)).thenReturn(new ProfilePage(firstPageEnd, 4));
+        when(repository.shadowProfilesAfter(firstPageEnd, PAGE_SIZE)).thenReturn(new ProfilePage(null, 0));
+
+        job.run();
+
+        verify(repository, times(2)).saveCheckpoint(checkpointCaptor.capture());
+        ReembeddingCheckpoint afterFirstPage = checkpointCaptor.getAllValues().getFirst();
+        assertThat(afterFirstPage.lastKey()).isEqualTo(firstPageEnd);
+        assertThat(afterFirstPage.processed()).isEqualTo(14);
+    }
+
+    @Test
+    @DisplayName("Should re-embed books changed since their shadow was written, then promote")
+    void shouldPromoteReadyJob() {
+        job = job(true);
+        ReembeddingCheckpoint checkpoint = new ReembeddingCheckpoint(JOB, Phase.READY, UUID.randomUUID(), 10, STARTED_AT);
+        BookText changed = book();
+        when(repository.findCheckpoint(JOB)).thenReturn(Optional.of(checkpoint));
+        when(repository.findBooksAfter(null, STARTED_AT, PAGE_SIZE)).thenReturn(List.of(changed));
+        when(repository.findBooksAfter(changed.bookId(), STARTED_AT, PAGE_SIZE)).thenReturn(List.of());
+        when(embeddingBookProvider.ofAll(anyList())).thenAnswer(invocation -> vectorsFor(invocation.getArgument(0)));
+        when(repository.promote(any())).thenReturn(new Promotion(8, 2));
+
+        job.run();
+
+        InOrder order = inOrder(repository);
+        order.verify(repository).writeBookShadows(eq(List.of(changed.bookId())), anyList(), any());
+        order.verify(repository).promote(checkpointCaptor.capture());
+        assertThat(checkpointCaptor.getValue().phase()).isEqualTo(Phase.READY);
+        assertThat(checkpointCaptor.getValue().processed()).isEqualTo(11);
+        verify(bookVectorCache).invalidateAll();
+    }
+
+    @Test
+    @DisplayName("Should leave the checkpoint before a page whose embedding fails")
+    void shouldNotWriteFailedPage() {
+        job = job(false);
+        when(repository.findCheckpoint(JOB)).thenReturn(Optional.empty());
+        when(repository.findBooksAfter(isNull(), isNull(), eq(PAGE_SIZE))).thenReturn(List.of(book()));
+        when(embeddingBookProvider.ofAll(anyList())).thenThrow(new IllegalStateException("model unavailable"));
+
+        assertThatThrownBy(job::run)
+                .isInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("model unavailable");
+
+        verify(repository, never()).writeBookShadows(anyList(), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a batch size below one")
+    void shouldRejectInvalidBatchSize() {
+        assertThatThrownBy(() -> new BookReembeddingJob(repository, embeddingBookProvider, bookVectorCache,
+                new VellumHubMetrics(new SimpleMeterRegistry()), false, JOB, 0, WORKERS, false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private BookReembeddingJob job(boolean promote) {
+        return new BookReembeddingJob(repository, embeddingBookProvider, bookVectorCache,
+                new VellumHubMetrics(new SimpleMeterRegistry()), true, JOB, BATCH_SIZE, WORKERS, promote);
+    }
+
+    private static BookText book() {
+        return new BookText(UUID.randomUUID(), new BookContent("Title", "Author", "Description", List.of("FANTASY")));
+    }
+
+    private static List<float[]> vectorsFor(List<BookContent> contents) {
+        List<float[]> vectors = new ArrayList<>(contents.size());
+        for (int i = 0; i < contents.size(); i++) {
+            vectors.add(new float[]{3f});
+        }
+        return vectors;
+    }
+}
@@ -0,0 +1,85 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.search;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookVectorMatch;
+import com.vellumhub.recommendation_service.module.book_feature.infrastructure.repository.JpaBookFeatureRepository;
+import com.vellumhub.recommendation_service.module.book_feature.infrastructure.repository.NearestBookRow;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.InteractedBookFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CandidatePoolTest {
+
+    private static final int CANDIDATE_DEPTH = 4;
+
+    @Mock
+    private JpaBookFeatureRepository jpaBookFeatureRepository;
+
+    @Test
+    @DisplayName("Should over-fetch one candidate per interacted book up to the cap")
+    void shouldCapOverfetch() {
+        CandidatePool pool = pool(0.5);
+
+        assertThat(pool.size(InteractedBookFilter.empty())).isEqualTo(4);
+        assertThat(pool.size(InteractedBookFilter.of(books(1)))).isEqualTo(5);
+        assertThat(pool.size(InteractedBookFilter.of(books(10)))).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Should drop interacted books and stop at the candidate depth")
+    void shouldSkipInteractedBooksUpToDepth() {
+        List<BookVectorMatch> nearest = books(7).stream().map(bookId -> new BookVectorMatch(bookId, 0.1f, 0.5)).toList();
+        InteractedBookFilter interacted = InteractedBookFilter.of(List.of(nearest.get(0).bookId(), nearest.get(2).bookId()));
+
+        List<BookVectorMatch> candidates = pool(1.0).exclude(nearest, interacted);
+
+        assertThat(candidates).containsExactly(nearest.get(1), nearest.get(3), nearest.get(4), nearest.get(5));
+    }
+
+    @Test
+    @DisplayName("Should size the pgvector query from the filter and map its rows")
+    void shouldQueryPgVectorWithOverfetchedPool() {
+        UUID userId = UUID.randomUUID();
+        List<UUID> nearest = books(2);
+        when(jpaBookFeatureRepository.findNearestBooks(userId, CANDIDATE_DEPTH + 1)).thenReturn(List.of(
+                row(nearest.get(0), 0.1, 0.2),
+                row(nearest.get(1), 0.3, 0.9)
+        ));
+
+        List<BookVectorMatch> candidates = pool(1.0).fromPgVector(userId, InteractedBookFilter.of(List.of(nearest.getFirst())));
+
+        assertThat(candidates).containsExactly(new BookVectorMatch(nearest.get(1), 0.3f, 0.9));
+    }
+
+    @Test
+    @DisplayName("Should reject a negative over-fetch factor")
+    void shouldRejectNegativeOverfetch() {
+        assertThatThrownBy(() -> pool(-0.1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private CandidatePool pool(double maxOverfetch) {
+        return new CandidatePool(jpaBookFeatureRepository, CANDIDATE_DEPTH, maxOverfetch);
+    }
+
+    private List<UUID> books(int count) {
+        return IntStream.range(0, count).mapToObj(i -> UUID.randomUUID()).toList();
+    }
+
+    private NearestBookRow row(UUID bookId, double distance, double popularityScore) {
+        return new Row(bookId, distance, popularityScore);
+    }
+
+    private record Row(UUID getBookId, double getDistance, double getPopularityScore) implements NearestBookRow {
+    }
+}
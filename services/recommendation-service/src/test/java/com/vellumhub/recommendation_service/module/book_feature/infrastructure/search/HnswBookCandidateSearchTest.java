@@ -0,0 +1,132 @@
+package com.vellumhub.recommendation_service.module.book_feature.infrastructure.search;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookVectorMatch;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookVectorIndex;
+import com.vellumhub.recommendation_service.module.book_feature.infrastructure.repository.JpaBookFeatureRepository;
+import com.vellumhub.recommendation_service.module.book_feature.infrastructure.repository.NearestBookRow;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.InteractedBookFilter;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.UserProfile;
+import com.vellumhub.recommendation_service.module.user_profile.domain.port.UserProfileRepository;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HnswBookCandidateSearchTest {
+
+    private static final int CANDIDATE_DEPTH = 200;
+
+    @Mock
+    private BookVectorIndex bookVectorIndex;
+
+    @Mock
+    private UserProfileRepository userProfileRepository;
+
+    @Mock
+    private JpaBookFeatureRepository jpaBookFeatureRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should return index matches in distance order")
+    void shouldReturnMatchesByDistance() {
+        UserProfile profile = UserProfile.create(UUID.randomUUID());
+        BookVectorMatch close = new BookVectorMatch(UUID.randomUUID(), 0.10f, 0.0);
+        BookVectorMatch middle = new BookVectorMatch(UUID.randomUUID(), 0.20f, 1.0);
+        BookVectorMatch far = new BookVectorMatch(UUID.randomUUID(), 0.90f, 0.5);
+        when(bookVectorIndex.isReady()).thenReturn(true);
+        when(userProfileRepository.findProfileVector(profile.getUserId())).thenReturn(Optional.of(profile.getProfileVector()));
+        when(bookVectorIndex.search(eq(profile.getProfileVector()), eq(CANDIDATE_DEPTH), any()))
+                .thenReturn(List.of(far, close, middle));
+
+        List<BookVectorMatch> candidates = search(0.0).findCandidates(profile.getUserId(), InteractedBookFilter.empty());
+
+        assertThat(candidates).containsExactly(close, middle, far);
+        assertThat(meterRegistry.get(VellumHubMetrics.CANDIDATE_SEARCH_DURATION).tag("mode", "hnsw").timer().count())
+                .isEqualTo(1);
+        verifyNoInteractions(jpaBookFeatureRepository);
+    }
+
+    @Test
+    @DisplayName("Should keep interacted books out of the index search")
+    void shouldExcludeInteractedBooksInIndex() {
+        UserProfile profile = UserProfile.create(UUID.randomUUID());
+        UUID interactedBook = UUID.randomUUID();
+        InteractedBookFilter interacted = InteractedBookFilter.of(List.of(interactedBook));
+        when(bookVectorIndex.isReady()).thenReturn(true);
+        when(userProfileRepository.findProfileVector(profile.getUserId())).thenReturn(Optional.of(profile.getProfileVector()));
+        when(bookVectorIndex.search(eq(profile.getProfileVector()), eq(CANDIDATE_DEPTH + 1), any())).thenReturn(List.of());
+
+        search(0.0).findCandidates(profile.getUserId(), interacted);
+
+        ArgumentCaptor<Predicate<UUID>> excluded = ArgumentCaptor.captor();
+        verify(bookVectorIndex).search(eq(profile.getProfileVector()), eq(CANDIDATE_DEPTH + 1), excluded.capture());
+        assertThat(excluded.getValue().test(interactedBook)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should fall back to pgvector while the index is still loading")
+    void shouldFallBackWhenIndexNotReady() {
+        UUID userId = UUID.randomUUID();
+        UUID bookId = UUID.randomUUID();
+        when(bookVectorIndex.isReady()).thenReturn(false);
+        when(jpaBookFeatureRepository.findNearestBooks(userId, CANDIDATE_DEPTH)).thenReturn(List.of(row(bookId)));
+
+        assertThat(search(0.0).findCandidates(userId, InteractedBookFilter.empty()))
+                .extracting(BookVectorMatch::bookId)
+                .containsExactly(bookId);
+        verifyNoInteractions(userProfileRepository);
+    }
+
+    @Test
+    @DisplayName("Should record recall against pgvector for sampled requests")
+    void shouldRecordRecallWhenSampled() {
+        UserProfile profile = UserProfile.create(UUID.randomUUID());
+        UUID shared = UUID.randomUUID();
+        when(bookVectorIndex.isReady()).thenReturn(true);
+        when(userProfileRepository.findProfileVector(profile.getUserId())).thenReturn(Optional.of(profile.getProfileVector()));
+        when(bookVectorIndex.search(eq(profile.getProfileVector()), eq(CANDIDATE_DEPTH), any()))
+                .thenReturn(List.of(new BookVectorMatch(shared, 0.1f, 0.5)));
+        when(jpaBookFeatureRepository.findNearestBooks(profile.getUserId(), CANDIDATE_DEPTH))
+                .thenReturn(List.of(row(shared), row(UUID.randomUUID())));
+
+        search(1.0).findCandidates(profile.getUserId(), InteractedBookFilter.empty());
+
+        verify(jpaBookFeatureRepository).findNearestBooks(profile.getUserId(), CANDIDATE_DEPTH);
+        assertThat(meterRegistry.get(VellumHubMetrics.CANDIDATE_SEARCH_RECALL).summary().mean()).isEqualTo(0.5);
+    }
+
+    private HnswBookCandidateSearch search(double recallSampleRate) {
+        return new HnswBookCandidateSearch(
+                bookVectorIndex,
+                userProfileRepository,
+                new CandidatePool(jpaBookFeatureRepository, CANDIDATE_DEPTH, 1.0),
+                new VellumHubMetrics(meterRegistry),
+                recallSampleRate
+        );
+    }
+
+    private NearestBookRow row(UUID bookId) {
+        return new Row(bookId, 0.1, 0.5);
+    }
+
+    private record Row(UUID getBookId, double getDistance, double getPopularityScore) implements NearestBookRow {
+    }
+}
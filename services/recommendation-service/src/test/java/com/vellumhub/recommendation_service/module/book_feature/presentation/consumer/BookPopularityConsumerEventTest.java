@@ -0,0 +1,90 @@
+package com.vellumhub.recommendation_service.module.book_feature.presentation.consumer;
+
+import com.vellumhub.kafka.contracts.engagement.CreatedRatingEvent;
+import com.vellumhub.kafka.contracts.engagement.ReactionChangedEvent;
+import com.vellumhub.kafka.contracts.readingprogress.CreateBookProgressEvent;
+import com.vellumhub.kafka.contracts.readingprogress.UpdateBookProgressEvent;
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.PopularitySignal;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.PopularityAggregator;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BookPopularityConsumerEventTest {
+
+    private static final long TIMESTAMP = 1_760_000_000_000L;
+
+    @Mock
+    private PopularityAggregator popularityAggregator;
+
+    @Mock
+    private VellumHubMetrics metrics;
+
+    @InjectMocks
+    private BookPopularityConsumerEvent consumer;
+
+    @Captor
+    private ArgumentCaptor<PopularitySignal> signalCaptor;
+
+    @Test
+    @DisplayName("Should weight ratings by stars and stamp them with the record timestamp")
+    void shouldRecordRatingSignal() {
+        UUID bookId = UUID.randomUUID();
+
+        consumer.consumeRating(new CreatedRatingEvent(UUID.randomUUID(), bookId, 4), TIMESTAMP);
+
+        verify(popularityAggregator).record(signalCaptor.capture());
+        assertThat(signalCaptor.getValue()).isEqualTo(new PopularitySignal(bookId, 0.8, Instant.ofEpochMilli(TIMESTAMP)));
+    }
+
+    @Test
+    @DisplayName("Should pass negative reactions through as signals that do not count")
+    void shouldNotCountNegativeReactions() {
+        consumer.consumeReaction(new ReactionChangedEvent(UUID.randomUUID(), UUID.randomUUID(), "NEGATIVE"), TIMESTAMP);
+
+        verify(popularityAggregator).record(signalCaptor.capture());
+        assertThat(signalCaptor.getValue().counts()).isFalse();
+        verify(metrics).recordBusinessCounter(VellumHubMetrics.POPULARITY_SIGNALS, "popularity_signal", "ignored");
+    }
+
+    @Test
+    @DisplayName("Should weight reading progress by its status")
+    void shouldRecordProgressSignals() {
+        UUID bookId = UUID.randomUUID();
+
+        consumer.consumeProgressCreated(new CreateBookProgressEvent(UUID.randomUUID(), UUID.randomUUID(), bookId, "WANT_TO_READ", 0), TIMESTAMP);
+        consumer.consumeProgressUpdated(new UpdateBookProgressEvent(UUID.randomUUID(), UUID.randomUUID(), bookId, "COMPLETED", 280, 300), TIMESTAMP);
+
+        verify(popularityAggregator, times(2)).record(signalCaptor.capture());
+        assertThat(signalCaptor.getAllValues())
+                .extracting(PopularitySignal::weight)
+                .containsExactly(0.5, 1.0);
+    }
+
+    @Test
+    @DisplayName("Should record a consume failure and rethrow when the aggregator fails")
+    void shouldRethrowAggregatorFailure() {
+        doThrow(new IllegalStateException("boom")).when(popularityAggregator).record(any());
+
+        assertThatThrownBy(() -> consumer.consumeRating(new CreatedRatingEvent(UUID.randomUUID(), UUID.randomUUID(), 5), TIMESTAMP))
+                .isInstanceOf(IllegalStateException.class);
+        verify(metrics).recordKafkaConsumeFailed("created-rating", "CreatedRatingEvent", "recommendation-popularity");
+    }
+}
@@ -2,6 +2,9 @@ package com.vellumhub.recommendation_service.module.recommendation.application.u
 
 import com.vellumhub.recommendation_service.module.recommendation.application.command.CreateRecommendationCommand;
 import com.vellumhub.recommendation_service.module.recommendation.domain.model.Recommendation;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.BookRankingFeatures;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.PopularRecommendations;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.RecommendationCache;
 import com.vellumhub.recommendation_service.module.recommendation.domain.port.RecommendationRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,6 +29,15 @@ class CreateRecommendationUseCaseTest {
     @Mock
     private RecommendationRepository recommendationRepository;
 
+    @Mock
+    private RecommendationCache recommendationCache;
+
+    @Mock
+    private PopularRecommendations popularRecommendations;
+
+    @Mock
+    private BookRankingFeatures bookRankingFeatures;
+
     @InjectMocks
     private CreateRecommendationUseCase createRecommendationUseCase;
 
@@ -58,6 +70,7 @@ class CreateRecommendationUseCaseTest {
         assertThat(saved.getCoverUrl()).isEqualTo("https://example.com/cover.jpg");
         assertThat(saved.getAuthor()).isEqualTo("Robert C. Martin");
         assertThat(saved.getGenres()).containsExactly("Software Engineering", "Best Practices");
+        verify(bookRankingFeatures).upsert(saved);
     }
 
     @Test
@@ -86,4 +99,25 @@ class CreateRecommendationUseCaseTest {
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("DB error");
     }
+
+    @Test
+    @DisplayName("Should save a batch of recommendations in one call and invalidate the cache once")
+    @SuppressWarnings("unchecked")
+    void shouldSaveBatchInOneCall() {
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+
+        createRecommendationUseCase.executeAll(List.of(
+                CreateRecommendationCommand.of(firstId, "First", "Desc", 2020, "url", "Author", List.of()),
+                CreateRecommendationCommand.of(secondId, "Second", "Desc", 2021, "url", "Author", List.of())
+        ));
+
+        ArgumentCaptor<List<Recommendation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(recommendationRepository, times(1)).saveAll(captor.capture());
+        verify(recommendationRepository, never()).save(any(Recommendation.class));
+        verify(recommendationCache, times(1)).invalidateAll();
+        verify(popularRecommendations, times(1)).invalidate();
+        verify(bookRankingFeatures, times(2)).upsert(any(Recommendation.class));
+        assertThat(captor.getValue()).extracting(Recommendation::getBookId).containsExactly(firstId, secondId);
+    }
 }
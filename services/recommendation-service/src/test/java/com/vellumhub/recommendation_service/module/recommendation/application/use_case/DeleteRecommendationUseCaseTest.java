@@ -1,6 +1,9 @@
 package com.vellumhub.recommendation_service.module.recommendation.application.use_case;
 
 import com.vellumhub.recommendation_service.module.recommendation.application.command.DeleteRecommendationCommand;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.BookRankingFeatures;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.PopularRecommendations;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.RecommendationCache;
 import com.vellumhub.recommendation_service.module.recommendation.domain.port.RecommendationRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +23,15 @@ class DeleteRecommendationUseCaseTest {
     @Mock
     private RecommendationRepository recommendationRepository;
 
+    @Mock
+    private RecommendationCache recommendationCache;
+
+    @Mock
+    private PopularRecommendations popularRecommendations;
+
+    @Mock
+    private BookRankingFeatures bookRankingFeatures;
+
     @InjectMocks
     private DeleteRecommendationUseCase deleteRecommendationUseCase;
 
@@ -34,6 +46,17 @@ class DeleteRecommendationUseCaseTest {
         verify(recommendationRepository, times(1)).deleteById(bookId);
     }
 
+    @Test
+    @DisplayName("Should invalidate every cached ranking after a book is removed")
+    void shouldInvalidateRecommendationCacheOnDelete() {
+        UUID bookId = UUID.randomUUID();
+        deleteRecommendationUseCase.execute(DeleteRecommendationCommand.of(bookId));
+
+        verify(recommendationCache).invalidateAll();
+        verify(popularRecommendations).invalidate();
+        verify(bookRankingFeatures).remove(bookId);
+    }
+
     @Test
     @DisplayName("Should propagate exception when repository fails to delete")
     void shouldPropagateExceptionWhenRepositoryFails() {
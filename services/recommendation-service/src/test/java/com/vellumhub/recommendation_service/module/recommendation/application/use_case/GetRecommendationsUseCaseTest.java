@@ -2,8 +2,15 @@ package com.vellumhub.recommendation_service.module.recommendation.application.u
 
 import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookFeatureRepository;
 import com.vellumhub.recommendation_service.module.recommendation.application.command.GetRecommendationsCommand;
+import com.vellumhub.recommendation_service.module.recommendation.domain.exception.RecommendationDomainException;
 import com.vellumhub.recommendation_service.module.recommendation.domain.model.Recommendation;
+import com.vellumhub.recommendation_service.module.recommendation.domain.model.RecommendationPage;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.PopularRecommendations;
 import com.vellumhub.recommendation_service.module.recommendation.domain.port.RecommendationRepository;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.RecommendationSessionStore;
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.RankingPipeline;
+import com.vellumhub.recommendation_service.module.recommendation.infrastructure.cache.CaffeineRecommendationCache;
+import com.vellumhub.recommendation_service.module.user_profile.domain.port.UserProfileRepository;
 import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,33 +20,63 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class GetRecommendationsUseCaseTest {
 
+    private static final int CANDIDATE_DEPTH = 200;
+
     @Mock
     private BookFeatureRepository bookFeatureRepository;
 
     @Mock
     private RecommendationRepository recommendationRepository;
 
+    @Mock
+    private PopularRecommendations popularRecommendations;
+
+    @Mock
+    private RankingPipeline rankingPipeline;
+
+    @Mock
+    private UserProfileRepository userProfileRepository;
+
     private GetRecommendationsUseCase getRecommendationsUseCase;
 
     private SimpleMeterRegistry meterRegistry;
 
+    private CaffeineRecommendationCache recommendationCache;
+
+    private InMemorySessionStore sessionStore;
+
     @BeforeEach
     void setUp() {
         meterRegistry = new SimpleMeterRegistry();
+        VellumHubMetrics metrics = new VellumHubMetrics(meterRegistry);
+        recommendationCache = new CaffeineRecommendationCache(100, Duration.ofMinutes(10), Duration.ZERO, metrics);
+        sessionStore = new InMemorySessionStore();
         getRecommendationsUseCase = new GetRecommendationsUseCase(
                 bookFeatureRepository,
                 recommendationRepository,
-                new VellumHubMetrics(meterRegistry)
+                recommendationCache,
+                popularRecommendations,
+                sessionStore,
+                rankingPipeline,
+                userProfileRepository,
+                metrics,
+                CANDIDATE_DEPTH
         );
     }
 
@@ -52,21 +89,27 @@ class GetRecommendationsUseCaseTest {
         List<UUID> userBookIds = List.of(UUID.randomUUID(), UUID.randomUUID());
         Recommendation recommendation = createRecommendation("User Discovery");
 
-        when(bookFeatureRepository.findAllByUserId(userId, 10, 0)).thenReturn(userBookIds);
-        when(recommendationRepository.findAllById(userBookIds)).thenReturn(List.of(recommendation));
+        when(rankingPipeline.rank(userId, CANDIDATE_DEPTH)).thenReturn(userBookIds);
+        when(recommendationRepository.findAllInOrder(userBookIds)).thenReturn(List.of(recommendation));
 
         // Act
-        List<Recommendation> result = getRecommendationsUseCase.execute(command);
+        List<Recommendation> result = getRecommendationsUseCase.execute(command).recommendations();
 
         // Assert
         assertThat(result).hasSize(1);
         assertThat(result.getFirst().getTitle()).isEqualTo("User Discovery");
 
-        verify(bookFeatureRepository).findAllByUserId(userId, 10, 0);
-        verify(recommendationRepository).findAllById(userBookIds);
+        verify(rankingPipeline).rank(userId, CANDIDATE_DEPTH);
+        verify(recommendationRepository).findAllInOrder(userBookIds);
         verify(bookFeatureRepository, never()).findMostPopularMedias(anyInt(), anyInt());
         assertThat(recommendationsGeneratedCount()).isEqualTo(1.0);
         assertThat(recommendationGenerationTimerCount("success")).isEqualTo(1L);
+        assertThat(stageTimerCount("cache_lookup")).isEqualTo(1L);
+        assertThat(stageTimerCount("ranking")).isEqualTo(1L);
+        assertThat(stageTimerCount("hydration")).isEqualTo(1L);
+        assertThat(pageSourceCount("ranked")).isEqualTo(1.0);
+        assertThat(meterRegistry.get(VellumHubMetrics.RECOMMENDATION_CANDIDATES).tag("source", "ranking").summary().totalAmount())
+                .isEqualTo(2.0);
     }
 
     @Test
@@ -78,34 +121,53 @@ class GetRecommendationsUseCaseTest {
         List<UUID> popularBookIds = List.of(UUID.randomUUID());
         Recommendation popularRec = createRecommendation("Popular Choice");
 
-        when(bookFeatureRepository.findAllByUserId(userId, 5, 0)).thenReturn(Collections.emptyList());
+        when(rankingPipeline.rank(userId, CANDIDATE_DEPTH)).thenReturn(Collections.emptyList());
         when(bookFeatureRepository.findMostPopularMedias(5, 0)).thenReturn(popularBookIds);
-        when(recommendationRepository.findAllById(popularBookIds)).thenReturn(List.of(popularRec));
+        when(recommendationRepository.findAllInOrder(popularBookIds)).thenReturn(List.of(popularRec));
 
         // Act
-        List<Recommendation> result = getRecommendationsUseCase.execute(command);
+        List<Recommendation> result = getRecommendationsUseCase.execute(command).recommendations();
 
         // Assert
         assertThat(result).containsExactly(popularRec);
         verify(bookFeatureRepository).findMostPopularMedias(5, 0);
+        assertThat(pageSourceCount("popular_database")).isEqualTo(1.0);
+        assertThat(stageTimerCount("popular_fallback")).isEqualTo(1L);
         assertThat(recommendationsGeneratedCount()).isEqualTo(1.0);
         assertThat(recommendationGenerationTimerCount("success")).isEqualTo(1L);
     }
 
     @Test
-    @DisplayName("Should fallback to popular books when user interaction list is null")
-    void shouldFallbackToPopularBooksWhenUserInteractionsNull() {
+    @DisplayName("Should serve the popular fallback from the in-memory snapshot without querying the database")
+    void shouldServePopularFallbackFromSnapshot() {
+        UUID userId = UUID.randomUUID();
+        Recommendation popularRec = createRecommendation("Snapshot Choice");
+
+        when(rankingPipeline.rank(userId, CANDIDATE_DEPTH)).thenReturn(List.of());
+        when(popularRecommendations.page(5, 0)).thenReturn(Optional.of(List.of(popularRec)));
+
+        List<Recommendation> result = getRecommendationsUseCase.execute(new GetRecommendationsCommand(userId, 5, 0)).recommendations();
+
+        assertThat(result).containsExactly(popularRec);
+        verify(bookFeatureRepository, never()).findMostPopularMedias(anyInt(), anyInt());
+        assertThat(pageSourceCount("popular_snapshot")).isEqualTo(1.0);
+        verifyNoInteractions(recommendationRepository);
+    }
+
+    @Test
+    @DisplayName("Should report an empty result when neither the ranking nor the popularity feed finds books")
+    void shouldReportEmptyResultWhenNothingIsFound() {
         // Arrange
         UUID userId = UUID.randomUUID();
         GetRecommendationsCommand command = new GetRecommendationsCommand(userId, 5, 0);
         List<UUID> popularBookIds = List.of(UUID.randomUUID());
 
-        when(bookFeatureRepository.findAllByUserId(userId, 5, 0)).thenReturn(null);
+        when(rankingPipeline.rank(userId, CANDIDATE_DEPTH)).thenReturn(List.of());
         when(bookFeatureRepository.findMostPopularMedias(5, 0)).thenReturn(popularBookIds);
-        when(recommendationRepository.findAllById(popularBookIds)).thenReturn(Collections.emptyList());
+        when(recommendationRepository.findAllInOrder(popularBookIds)).thenReturn(Collections.emptyList());
 
         // Act
-        List<Recommendation> result = getRecommendationsUseCase.execute(command);
+        List<Recommendation> result = getRecommendationsUseCase.execute(command).recommendations();
 
         // Assert
         assertThat(result).isEmpty();
@@ -114,6 +176,148 @@ class GetRecommendationsUseCaseTest {
         assertThat(recommendationGenerationTimerCount("empty")).isEqualTo(1L);
     }
 
+    @Test
+    @DisplayName("Should serve repeated requests from the cached ranking without re-running the ranking")
+    void shouldServeRepeatedRequestsFromCache() {
+        UUID userId = UUID.randomUUID();
+        List<UUID> rankedBookIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        when(rankingPipeline.rank(userId, CANDIDATE_DEPTH)).thenReturn(rankedBookIds);
+        when(recommendationRepository.findAllInOrder(anyList())).thenReturn(List.of(createRecommendation("Cached")));
+
+        getRecommendationsUseCase.execute(new GetRecommendationsCommand(userId, 2, 0));
+        getRecommendationsUseCase.execute(new GetRecommendationsCommand(userId, 2, 2));
+
+        verify(rankingPipeline, times(1)).rank(userId, CANDIDATE_DEPTH);
+        verify(recommendationRepository).findAllInOrder(rankedBookIds.subList(0, 2));
+        verify(recommendationRepository).findAllInOrder(List.of(rankedBookIds.get(2)));
+        assertThat(cacheLookupCount("miss")).isEqualTo(1.0);
+        assertThat(cacheLookupCount("hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should rank again after the user's cached ranking is invalidated")
+    void shouldReloadRankingAfterInvalidation() {
+        UUID userId = UUID.randomUUID();
+        List<UUID> rankedBookIds = List.of(UUID.randomUUID());
+
+        when(rankingPipeline.rank(userId, CANDIDATE_DEPTH)).thenReturn(rankedBookIds);
+        when(recommendationRepository.findAllInOrder(rankedBookIds)).thenReturn(List.of(createRecommendation("Fresh")));
+
+        getRecommendationsUseCase.execute(new GetRecommendationsCommand(userId, 10, 0));
+        recommendationCache.invalidate(userId);
+        getRecommendationsUseCase.execute(new GetRecommendationsCommand(userId, 10, 0));
+
+        verify(rankingPipeline, times(2)).rank(userId, CANDIDATE_DEPTH);
+    }
+
+    @Test
+    @DisplayName("Should rank again when another replica updated the profile since the ranking was cached")
+    void shouldReloadRankingWhenProfileVersionChanges() {
+        UUID userId = UUID.randomUUID();
+        Instant rankedVersion = Instant.parse("2026-01-01T00:00:00Z");
+        List<UUID> rankedBookIds = List.of(UUID.randomUUID());
+
+        when(userProfileRepository.findLastUpdated(userId))
+                .thenReturn(Optional.of(rankedVersion), Optional.of(rankedVersion), Optional.of(rankedVersion.plusSeconds(5)));
+        when(rankingPipeline.rank(userId, CANDIDATE_DEPTH)).thenReturn(rankedBookIds);
+        when(recommendationRepository.findAllInOrder(rankedBookIds)).thenReturn(List.of(createRecommendation("Fresh")));
+
+        getRecommendationsUseCase.execute(new GetRecommendationsCommand(userId, 10, 0));
+        getRecommendationsUseCase.execute(new GetRecommendationsCommand(userId, 10, 0));
+        getRecommendationsUseCase.execute(new GetRecommendationsCommand(userId, 10, 0));
+
+        verify(rankingPipeline, times(2)).rank(userId, CANDIDATE_DEPTH);
+        assertThat(cacheLookupCount("hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should fallback to popular books when the page is past the ranked window")
+    void shouldFallbackToPopularBooksWhenPageIsPastRankedWindow() {
+        UUID userId = UUID.randomUUID();
+        List<UUID> popularBookIds = List.of(UUID.randomUUID());
+
+        when(rankingPipeline.rank(userId, CANDIDATE_DEPTH)).thenReturn(List.of(UUID.randomUUID()));
+        when(bookFeatureRepository.findMostPopularMedias(10, 5)).thenReturn(popularBookIds);
+        when(recommendationRepository.findAllInOrder(popularBookIds)).thenReturn(List.of(createRecommendation("Popular")));
+
+        List<Recommendation> result = getRecommendationsUseCase.execute(new GetRecommendationsCommand(userId, 10, 5)).recommendations();
+
+        assertThat(result).hasSize(1);
+        verify(bookFeatureRepository).findMostPopularMedias(10, 5);
+    }
+
+    @Test
+    @DisplayName("Should pin the ranking on the second page and serve later pages from it even after the profile changes")
+    void shouldPageFromSessionSnapshot() {
+        UUID userId = UUID.randomUUID();
+        List<UUID> rankedBookIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        when(rankingPipeline.rank(userId, CANDIDATE_DEPTH)).thenReturn(rankedBookIds);
+        when(recommendationRepository.findAllInOrder(anyList())).thenReturn(List.of(createRecommendation("Ranked")));
+
+        RecommendationPage first = getRecommendationsUseCase.execute(new GetRecommendationsCommand(userId, 2, 0));
+        assertThat(sessionStore.opened).isZero();
+        RecommendationPage second = getRecommendationsUseCase.execute(new GetRecommendationsCommand(userId, 2, 0, first.nextCursor()));
+        recommendationCache.invalidate(userId);
+        RecommendationPage third = getRecommendationsUseCase.execute(new GetRecommendationsCommand(userId, 2, 0, second.nextCursor()));
+
+        assertThat(first.nextCursor()).isNotNull();
+        assertThat(second.nextCursor()).isNotNull();
+        assertThat(third.nextCursor()).isNull();
+        assertThat(sessionStore.opened).isEqualTo(1);
+        verify(rankingPipeline, times(1)).rank(userId, CANDIDATE_DEPTH);
+        verify(recommendationRepository).findAllInOrder(List.of(rankedBookIds.get(4)));
+    }
+
+    @Test
+    @DisplayName("Should page the popularity feed by offset without opening a session")
+    void shouldPagePopularFeedWithoutSession() {
+        UUID userId = UUID.randomUUID();
+        when(rankingPipeline.rank(userId, CANDIDATE_DEPTH)).thenReturn(List.of());
+        when(popularRecommendations.page(2, 0)).thenReturn(Optional.of(List.of(createRecommendation("First"), createRecommendation("Second"))));
+        when(popularRecommendations.page(2, 2)).thenReturn(Optional.of(List.of(createRecommendation("Third"))));
+
+        RecommendationPage first = getRecommendationsUseCase.execute(new GetRecommendationsCommand(userId, 2, 0));
+        RecommendationPage second = getRecommendationsUseCase.execute(new GetRecommendationsCommand(userId, 2, 0, first.nextCursor()));
+
+        assertThat(first.nextCursor()).isNotNull();
+        assertThat(second.recommendations()).singleElement().extracting(Recommendation::getTitle).isEqualTo("Third");
+        assertThat(second.nextCursor()).isNull();
+        assertThat(sessionStore.opened).isZero();
+        verify(rankingPipeline, times(1)).rank(userId, CANDIDATE_DEPTH);
+    }
+
+    @Test
+    @DisplayName("Should not return a cursor when the first page holds the whole ranking")
+    void shouldOmitCursorOnLastPage() {
+        UUID userId = UUID.randomUUID();
+        List<UUID> rankedBookIds = List.of(UUID.randomUUID());
+        when(rankingPipeline.rank(userId, CANDIDATE_DEPTH)).thenReturn(rankedBookIds);
+        when(recommendationRepository.findAllInOrder(rankedBookIds)).thenReturn(List.of(createRecommendation("Only")));
+
+        RecommendationPage page = getRecommendationsUseCase.execute(new GetRecommendationsCommand(userId, 10, 0));
+
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject cursors that are malformed or opened by another user")
+    void shouldRejectForeignOrMalformedCursor() {
+        UUID owner = UUID.randomUUID();
+        when(rankingPipeline.rank(owner, CANDIDATE_DEPTH)).thenReturn(List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()));
+        when(recommendationRepository.findAllInOrder(anyList())).thenReturn(List.of(createRecommendation("Ranked")));
+        String rankingCursor = getRecommendationsUseCase.execute(new GetRecommendationsCommand(owner, 1, 0)).nextCursor();
+        String cursor = getRecommendationsUseCase.execute(new GetRecommendationsCommand(owner, 1, 0, rankingCursor)).nextCursor();
+
+        assertThatThrownBy(() -> getRecommendationsUseCase.execute(new GetRecommendationsCommand(UUID.randomUUID(), 1, 0, cursor)))
+                .isInstanceOf(RecommendationDomainException.class)
+                .hasMessage("Recommendation cursor has expired");
+        assertThatThrownBy(() -> getRecommendationsUseCase.execute(new GetRecommendationsCommand(owner, 1, 0, "not-a-cursor")))
+                .isInstanceOf(RecommendationDomainException.class)
+                .hasMessage("Invalid recommendation cursor");
+        assertThat(recommendationGenerationTimerCount("failure")).isEqualTo(2L);
+    }
+
     private Recommendation createRecommendation(String title) {
         return new Recommendation(
                 UUID.randomUUID(),
@@ -142,6 +346,30 @@ class GetRecommendationsUseCaseTest {
                 .count();
     }
 
+    private double cacheLookupCount(String result) {
+        return meterRegistry.get(VellumHubMetrics.RECOMMENDATION_CACHE_LOOKUPS)
+                .tag("operation", "recommendation_cache")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private long stageTimerCount(String stage) {
+        return meterRegistry.get(VellumHubMetrics.RECOMMENDATION_STAGE_DURATION)
+                .tag("operation", "recommendation_generation")
+                .tag("stage", stage)
+                .timer()
+                .count();
+    }
+
+    private double pageSourceCount(String source) {
+        return meterRegistry.get(VellumHubMetrics.RECOMMENDATION_PAGE_SOURCE)
+                .tag("operation", "recommendation_generation")
+                .tag("result", source)
+                .counter()
+                .count();
+    }
+
     private long recommendationGenerationTimerCount(String result) {
         return meterRegistry.get(VellumHubMetrics.RECOMMENDATION_GENERATION_DURATION)
                 .tag("operation", "recommendation_generation")
@@ -149,4 +377,30 @@ class GetRecommendationsUseCaseTest {
                 .timer()
                 .count();
     }
+
+    private static final class InMemorySessionStore implements RecommendationSessionStore {
+
+        private final Map<UUID, Map.Entry<UUID, List<UUID>>> sessions = new HashMap<>();
+        private int opened;
+
+        @Override
+        public UUID open(UUID userId, List<UUID> rankedBookIds) {
+            opened++;
+            UUID sessionId = UUID.randomUUID();
+            sessions.put(sessionId, Map.entry(userId, List.copyOf(rankedBookIds)));
+            return sessionId;
+        }
+
+        @Override
+        public Optional<List<UUID>> find(UUID sessionId, UUID userId) {
+            return Optional.ofNullable(sessions.get(sessionId))
+                    .filter(session -> session.getKey().equals(userId))
+                    .map(Map.Entry::getValue);
+        }
+
+        @Override
+        public int removeExpired(Instant now) {
+            return 0;
+        }
+    }
 }
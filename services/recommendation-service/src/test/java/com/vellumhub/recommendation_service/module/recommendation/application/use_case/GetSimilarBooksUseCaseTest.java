@@ -0,0 +1,125 @@
+package com.vellumhub.recommendation_service.module.recommendation.application.use_case;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.exception.BookFeatureNotFoundException;
+import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookFeature;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookFeatureRepository;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookNeighbors;
+import com.vellumhub.recommendation_service.module.recommendation.application.command.GetSimilarBooksCommand;
+import com.vellumhub.recommendation_service.module.recommendation.domain.exception.RecommendationDomainException;
+import com.vellumhub.recommendation_service.module.recommendation.domain.model.Recommendation;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.RecommendationRepository;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetSimilarBooksUseCaseTest {
+
+    @Mock
+    private BookNeighbors bookNeighbors;
+
+    @Mock
+    private BookFeatureRepository bookFeatureRepository;
+
+    @Mock
+    private RecommendationRepository recommendationRepository;
+
+    @Mock
+    private BookFeature bookFeature;
+
+    private GetSimilarBooksUseCase getSimilarBooksUseCase;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        getSimilarBooksUseCase = new GetSimilarBooksUseCase(
+                bookNeighbors,
+                bookFeatureRepository,
+                recommendationRepository,
+                new VellumHubMetrics(meterRegistry)
+        );
+    }
+
+    @Test
+    @DisplayName("Should read the precomputed neighbour list without recomputing it")
+    void shouldServePrecomputedNeighbors() {
+        UUID bookId = UUID.randomUUID();
+        List<UUID> neighbors = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<Recommendation> recommendations = List.of(Recommendation.builder().bookId(neighbors.get(0)).build());
+        when(bookNeighbors.size()).thenReturn(20);
+        when(bookNeighbors.find(bookId, 10)).thenReturn(neighbors);
+        when(recommendationRepository.findAllInOrder(neighbors)).thenReturn(recommendations);
+
+        List<Recommendation> result = getSimilarBooksUseCase.execute(new GetSimilarBooksCommand(bookId, 10));
+
+        assertThat(result).isEqualTo(recommendations);
+        verify(bookNeighbors, never()).refresh(any());
+        verifyNoInteractions(bookFeatureRepository);
+        assertThat(lookups("precomputed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should compute and store the neighbour list of a book that has none yet")
+    void shouldComputeMissingNeighbors() {
+        UUID bookId = UUID.randomUUID();
+        List<UUID> neighbors = List.of(UUID.randomUUID());
+        when(bookNeighbors.size()).thenReturn(20);
+        when(bookNeighbors.find(bookId, 5)).thenReturn(List.of(), neighbors);
+        when(bookFeatureRepository.findById(bookId)).thenReturn(Optional.of(bookFeature));
+        when(recommendationRepository.findAllInOrder(neighbors)).thenReturn(List.of());
+
+        getSimilarBooksUseCase.execute(new GetSimilarBooksCommand(bookId, 5));
+
+        var order = inOrder(bookNeighbors, recommendationRepository);
+        order.verify(bookNeighbors).refresh(List.of(bookId));
+        order.verify(bookNeighbors).find(bookId, 5);
+        order.verify(recommendationRepository).findAllInOrder(neighbors);
+        assertThat(lookups("computed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should throw when the book has no feature")
+    void shouldThrowForUnknownBook() {
+        UUID bookId = UUID.randomUUID();
+        when(bookNeighbors.size()).thenReturn(20);
+        when(bookNeighbors.find(bookId, 10)).thenReturn(List.of());
+        when(bookFeatureRepository.findById(bookId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> getSimilarBooksUseCase.execute(new GetSimilarBooksCommand(bookId, 10)))
+                .isInstanceOf(BookFeatureNotFoundException.class);
+        verify(bookNeighbors, never()).refresh(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a limit larger than the stored neighbour lists")
+    void shouldRejectLimitAboveListSize() {
+        when(bookNeighbors.size()).thenReturn(20);
+
+        assertThatThrownBy(() -> getSimilarBooksUseCase.execute(new GetSimilarBooksCommand(UUID.randomUUID(), 21)))
+                .isInstanceOf(RecommendationDomainException.class);
+        verify(bookNeighbors, never()).find(any(), anyInt());
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get(VellumHubMetrics.SIMILAR_BOOKS_LOOKUPS)
+                .tag("operation", "similar_books")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
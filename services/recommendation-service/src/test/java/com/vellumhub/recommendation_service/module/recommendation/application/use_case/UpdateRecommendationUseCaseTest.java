@@ -3,6 +3,9 @@ package com.vellumhub.recommendation_service.module.recommendation.application.u
 import com.vellumhub.recommendation_service.module.recommendation.application.command.UpdateRecommendationCommand;
 import com.vellumhub.recommendation_service.module.recommendation.domain.exception.RecommendationDomainException;
 import com.vellumhub.recommendation_service.module.recommendation.domain.model.Recommendation;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.BookRankingFeatures;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.PopularRecommendations;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.RecommendationCache;
 import com.vellumhub.recommendation_service.module.recommendation.domain.port.RecommendationRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +20,8 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +30,15 @@ class UpdateRecommendationUseCaseTest {
     @Mock
     private RecommendationRepository recommendationRepository;
 
+    @Mock
+    private RecommendationCache recommendationCache;
+
+    @Mock
+    private PopularRecommendations popularRecommendations;
+
+    @Mock
+    private BookRankingFeatures bookRankingFeatures;
+
     @InjectMocks
     private UpdateRecommendationUseCase updateRecommendationUseCase;
 
@@ -66,6 +80,7 @@ class UpdateRecommendationUseCaseTest {
         assertThat(existing.getReleaseYear()).isEqualTo(2023);
         assertThat(existing.getGenres()).containsExactly("Science Fiction");
         verify(recommendationRepository).save(existing);
+        verify(bookRankingFeatures).upsert(existing);
     }
 
     @Test
@@ -105,4 +120,40 @@ class UpdateRecommendationUseCaseTest {
         assertThat(existing.getGenres()).containsExactly("Fantasy");
         verify(recommendationRepository).save(existing);
     }
+
+    @Test
+    @DisplayName("Should update a batch of recommendations with one lookup and one save")
+    void shouldUpdateBatchOfRecommendations() {
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        Recommendation first = buildRecommendation(firstId);
+        Recommendation second = buildRecommendation(secondId);
+        when(recommendationRepository.findAllById(List.of(firstId, secondId))).thenReturn(List.of(first, second));
+
+        updateRecommendationUseCase.executeAll(List.of(
+                UpdateRecommendationCommand.of(firstId, "First", "Desc", 2020, "http://first.url", "Author", List.of("Drama")),
+                UpdateRecommendationCommand.of(secondId, "Second", "Desc", 2021, "http://second.url", "Author", List.of("Drama"))
+        ));
+
+        assertThat(first.getTitle()).isEqualTo("First");
+        assertThat(second.getTitle()).isEqualTo("Second");
+        verify(recommendationRepository, times(1)).saveAll(anyList());
+        verify(recommendationRepository, never()).findById(any());
+        verify(recommendationCache, times(1)).invalidateAll();
+        verify(popularRecommendations, times(1)).invalidate();
+    }
+
+    @Test
+    @DisplayName("Should reject a batch that references an unknown recommendation")
+    void shouldRejectBatchWithUnknownRecommendation() {
+        UUID bookId = UUID.randomUUID();
+        when(recommendationRepository.findAllById(List.of(bookId))).thenReturn(List.of());
+
+        assertThatThrownBy(() -> updateRecommendationUseCase.executeAll(List.of(
+                UpdateRecommendationCommand.of(bookId, "Title", "Desc", 2020, "http://url", "Author", List.of("Drama"))
+        ))).isInstanceOf(RecommendationDomainException.class);
+
+        verify(recommendationRepository, never()).saveAll(anyList());
+        verifyNoInteractions(recommendationCache);
+    }
 }
@@ -0,0 +1,61 @@
+package com.vellumhub.recommendation_service.module.recommendation.domain.ranking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DiversityRerankerTest {
+
+    private static final long FANTASY = 1L;
+    private static final long SCIENCE_FICTION = 1L << 1;
+
+    @Test
+    @DisplayName("Should sort by score when diversity is off")
+    void shouldSortByScore() {
+        RankingCandidates candidates = new RankingCandidates(3);
+        UUID low = add(candidates, FANTASY);
+        UUID high = add(candidates, FANTASY);
+        UUID middle = add(candidates, FANTASY);
+
+        assertThat(new DiversityReranker(0.0).select(candidates, new double[]{0.1, 0.9, 0.5}, 2))
+                .containsExactly(high, middle);
+    }
+
+    @Test
+    @DisplayName("Should promote a different genre over a slightly better book of the same genre")
+    void shouldPromoteDifferentGenre() {
+        RankingCandidates candidates = new RankingCandidates(3);
+        UUID best = add(candidates, FANTASY);
+        UUID sameGenre = add(candidates, FANTASY);
+        UUID otherGenre = add(candidates, SCIENCE_FICTION);
+
+        assertThat(new DiversityReranker(0.3).select(candidates, new double[]{0.9, 0.8, 0.7}, 3))
+                .containsExactly(best, otherGenre, sameGenre);
+    }
+
+    @Test
+    @DisplayName("Should return no more books than it was given")
+    void shouldCapAtCandidateCount() {
+        RankingCandidates candidates = new RankingCandidates(1);
+        UUID only = add(candidates, FANTASY);
+
+        assertThat(new DiversityReranker(0.5).select(candidates, new double[]{0.4}, 10)).containsExactly(only);
+    }
+
+    @Test
+    @DisplayName("Should reject diversity outside zero and one")
+    void shouldRejectInvalidDiversity() {
+        assertThatThrownBy(() -> new DiversityReranker(1.5)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private UUID add(RankingCandidates candidates, long genres) {
+        UUID bookId = UUID.randomUUID();
+        int slot = candidates.add(bookId, 0.5f, 0.5);
+        candidates.describe(slot, 2020, genres, 0.5);
+        return bookId;
+    }
+}
@@ -0,0 +1,127 @@
+package com.vellumhub.recommendation_service.module.recommendation.domain.ranking;
+
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.BookRankingFeatures;
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.scorer.PopularityScorer;
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.scorer.SimilarityScorer;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.InteractedBookFilter;
+import com.vellumhub.recommendation_service.module.user_profile.domain.port.UserProfileRepository;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RankingPipelineTest {
+
+    @Mock
+    private UserProfileRepository userProfileRepository;
+
+    @Mock
+    private BookRankingFeatures bookRankingFeatures;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should rank like the former SQL expression with the default weights")
+    void shouldMatchLegacyOrderWithDefaultWeights() {
+        UUID userId = UUID.randomUUID();
+        UUID closeButObscure = UUID.randomUUID();
+        UUID slightlyFartherButPopular = UUID.randomUUID();
+        UUID far = UUID.randomUUID();
+        when(userProfileRepository.findInteractedBookFilter(userId)).thenReturn(Optional.of(InteractedBookFilter.empty()));
+        CandidateGenerator vector = generator("vector", candidates -> {
+            candidates.add(closeButObscure, 0.10f, 0.0);
+            candidates.add(slightlyFartherButPopular, 0.20f, 1.0);
+            candidates.add(far, 0.90f, 0.5);
+        });
+
+        List<UUID> ranked = pipeline(List.of(vector)).rank(userId, 2);
+
+        assertThat(ranked).containsExactly(slightlyFartherButPopular, closeButObscure);
+    }
+
+    @Test
+    @DisplayName("Should describe each generator's books before the next generator runs")
+    void shouldDescribeBooksAddedByEachGenerator() {
+        UUID userId = UUID.randomUUID();
+        when(userProfileRepository.findInteractedBookFilter(userId)).thenReturn(Optional.of(InteractedBookFilter.empty()));
+        CandidateGenerator first = generator("vector", candidates -> candidates.add(UUID.randomUUID(), 0.1f, 0.5));
+        CandidateGenerator second = generator("popular", candidates -> candidates.add(UUID.randomUUID()));
+
+        pipeline(List.of(first, second)).rank(userId, 10);
+
+        verify(bookRankingFeatures).describe(any(RankingCandidates.class), eq(0));
+        verify(bookRankingFeatures).describe(any(RankingCandidates.class), eq(1));
+        assertThat(stageCount("generate_vector")).isEqualTo(1);
+        assertThat(stageCount("generate_popular")).isEqualTo(1);
+        assertThat(stageCount("score")).isEqualTo(1);
+        assertThat(stageCount("select")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should return nothing for users without a profile without generating candidates")
+    void shouldSkipUsersWithoutProfile() {
+        UUID userId = UUID.randomUUID();
+        when(userProfileRepository.findInteractedBookFilter(userId)).thenReturn(Optional.empty());
+
+        assertThat(pipeline(List.of()).rank(userId, 10)).isEmpty();
+        verifyNoInteractions(bookRankingFeatures);
+    }
+
+    @Test
+    @DisplayName("Should stop before scoring when no candidates were generated")
+    void shouldStopWhenNoCandidates() {
+        UUID userId = UUID.randomUUID();
+        when(userProfileRepository.findInteractedBookFilter(userId)).thenReturn(Optional.of(InteractedBookFilter.empty()));
+
+        assertThat(pipeline(List.of(generator("vector", candidates -> {
+        }))).rank(userId, 10)).isEmpty();
+        verify(bookRankingFeatures).describe(any(RankingCandidates.class), anyInt());
+        assertThat(meterRegistry.find(VellumHubMetrics.RANKING_STAGE_DURATION).tag("stage", "score").timer()).isNull();
+    }
+
+    private RankingPipeline pipeline(List<CandidateGenerator> generators) {
+        return new RankingPipeline(
+                userProfileRepository,
+                generators,
+                List.of(new SimilarityScorer(0.7), new PopularityScorer(0.3)),
+                new DiversityReranker(0.0),
+                bookRankingFeatures,
+                new VellumHubMetrics(meterRegistry)
+        );
+    }
+
+    private long stageCount(String stage) {
+        return meterRegistry.get(VellumHubMetrics.RANKING_STAGE_DURATION).tag("stage", stage).timer().count();
+    }
+
+    private static CandidateGenerator generator(String name, Consumer<RankingCandidates> body) {
+        return new CandidateGenerator() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public void generate(RankingContext context, RankingCandidates candidates) {
+                body.accept(candidates);
+            }
+        };
+    }
+}
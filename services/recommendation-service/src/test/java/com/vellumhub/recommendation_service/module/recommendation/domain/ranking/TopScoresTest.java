@@ -0,0 +1,54 @@
+package com.vellumhub.recommendation_service.module.recommendation.domain.ranking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopScoresTest {
+
+    @Test
+    @DisplayName("Should return the best positions first")
+    void shouldSelectBestPositions() {
+        double[] scores = {0.1, 0.9, 0.5, 0.7};
+
+        assertThat(TopScores.select(scores, scores.length, 2)).containsExactly(1, 3);
+    }
+
+    @Test
+    @DisplayName("Should keep position order between equal scores")
+    void shouldKeepPositionOrderOnTies() {
+        double[] scores = {0.5, 0.9, 0.5, 0.5};
+
+        assertThat(TopScores.select(scores, scores.length, 4)).containsExactly(1, 0, 2, 3);
+    }
+
+    @Test
+    @DisplayName("Should only consider the first size scores")
+    void shouldIgnoreScoresPastSize() {
+        double[] scores = {0.2, 0.1, 0.9, 0.0};
+
+        assertThat(TopScores.select(scores, 2, 5)).containsExactly(0, 1);
+        assertThat(TopScores.select(scores, 0, 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should match a stable descending sort")
+    void shouldMatchStableSort() {
+        Random random = new Random(7);
+        double[] scores = IntStream.range(0, 500).mapToDouble(i -> random.nextInt(50) / 10.0).toArray();
+
+        int[] expected = IntStream.range(0, scores.length)
+                .boxed()
+                .sorted(Comparator.comparingDouble((Integer position) -> scores[position]).reversed())
+                .limit(40)
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        assertThat(TopScores.select(scores, scores.length, 40)).containsExactly(expected);
+    }
+}
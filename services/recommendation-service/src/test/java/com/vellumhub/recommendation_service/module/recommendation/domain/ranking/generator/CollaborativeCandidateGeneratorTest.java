@@ -0,0 +1,86 @@
+package com.vellumhub.recommendation_service.module.recommendation.domain.ranking.generator;
+
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.RankingCandidates;
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.RankingContext;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.InteractedBookFilter;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.NeighborBooks;
+import com.vellumhub.recommendation_service.module.user_profile.domain.port.UserNeighbors;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CollaborativeCandidateGeneratorTest {
+
+    @Mock
+    private UserNeighbors userNeighbors;
+
+    private final VellumHubMetrics metrics = new VellumHubMetrics(new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("Should add the books backed by the most similar neighbours, up to the candidate count")
+    void shouldAddBestScoredBooks() {
+        UUID userId = UUID.randomUUID();
+        UUID shared = UUID.randomUUID();
+        UUID closeOnly = UUID.randomUUID();
+        UUID farOnly = UUID.randomUUID();
+        when(userNeighbors.findNeighborBooks(userId, 10)).thenReturn(List.of(
+                new NeighborBooks(0.9f, List.of(shared, closeOnly)),
+                new NeighborBooks(0.4f, List.of(shared, farOnly))
+        ));
+        RankingCandidates candidates = new RankingCandidates(4);
+
+        new CollaborativeCandidateGenerator(userNeighbors, metrics, 2, 10)
+                .generate(new RankingContext(userId, InteractedBookFilter.empty()), candidates);
+
+        assertThat(candidates.size()).isEqualTo(2);
+        assertThat(candidates.bookId(0)).isEqualTo(shared);
+        assertThat(candidates.collaborative(0)).isCloseTo(1.3, within(1e-6));
+        assertThat(candidates.bookId(1)).isEqualTo(closeOnly);
+        assertThat(candidates.contains(farOnly)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should score books the vector search already found without using up the candidate count")
+    void shouldMergeIntoExistingCandidates() {
+        UUID userId = UUID.randomUUID();
+        UUID vectorBook = UUID.randomUUID();
+        UUID interacted = UUID.randomUUID();
+        UUID fresh = UUID.randomUUID();
+        when(userNeighbors.findNeighborBooks(userId, 10)).thenReturn(List.of(
+                new NeighborBooks(0.8f, List.of(vectorBook, interacted, fresh))
+        ));
+        RankingCandidates candidates = new RankingCandidates(4);
+        candidates.add(vectorBook, 0.1f, 0.5);
+
+        new CollaborativeCandidateGenerator(userNeighbors, metrics, 1, 10)
+                .generate(new RankingContext(userId, InteractedBookFilter.of(List.of(interacted))), candidates);
+
+        assertThat(candidates.size()).isEqualTo(2);
+        assertThat(candidates.distance(0)).isEqualTo(0.1f);
+        assertThat(candidates.collaborative(0)).isCloseTo(0.8, within(1e-6));
+        assertThat(candidates.contains(fresh)).isTrue();
+        assertThat(candidates.contains(interacted)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not read neighbours when collaborative candidates are disabled")
+    void shouldSkipWhenDisabled() {
+        new CollaborativeCandidateGenerator(userNeighbors, metrics, 0, 10)
+                .generate(new RankingContext(UUID.randomUUID(), InteractedBookFilter.empty()), new RankingCandidates(1));
+
+        verifyNoInteractions(userNeighbors);
+    }
+}
@@ -0,0 +1,73 @@
+package com.vellumhub.recommendation_service.module.recommendation.domain.ranking.generator;
+
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.BookRankingFeatures;
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.RankingCandidates;
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.RankingContext;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.InteractedBookFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GenreCandidateGeneratorTest {
+
+    @Mock
+    private BookRankingFeatures bookRankingFeatures;
+
+    @Test
+    @DisplayName("Should pick the genres carried by the most candidates")
+    void shouldPickDominantGenres() {
+        RankingCandidates candidates = new RankingCandidates(4);
+        describe(candidates, 0b0011);
+        describe(candidates, 0b0101);
+        describe(candidates, 0b1001);
+        describe(candidates, 0b10000);
+
+        assertThat(GenreCandidateGenerator.topGenres(candidates) & 0b0001).isEqualTo(0b0001);
+        assertThat(Long.bitCount(GenreCandidateGenerator.topGenres(candidates))).isEqualTo(GenreCandidateGenerator.TOP_GENRES);
+    }
+
+    @Test
+    @DisplayName("Should add unseen popular books of the dominant genres")
+    void shouldAddUnseenBooks() {
+        RankingCandidates candidates = new RankingCandidates(4);
+        UUID existing = describe(candidates, 0b1);
+        UUID interacted = UUID.randomUUID();
+        UUID fresh = UUID.randomUUID();
+        when(bookRankingFeatures.mostPopularInGenres(0b1, 4)).thenReturn(List.of(existing, interacted, fresh));
+
+        new GenreCandidateGenerator(bookRankingFeatures, 2)
+                .generate(new RankingContext(UUID.randomUUID(), InteractedBookFilter.of(List.of(interacted))), candidates);
+
+        assertThat(candidates.size()).isEqualTo(2);
+        assertThat(candidates.contains(fresh)).isTrue();
+        assertThat(candidates.contains(interacted)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not look up genres when no candidate has one")
+    void shouldSkipWithoutGenres() {
+        RankingCandidates candidates = new RankingCandidates(1);
+        candidates.add(UUID.randomUUID(), 0.1f, 0.5);
+
+        new GenreCandidateGenerator(bookRankingFeatures, 10)
+                .generate(new RankingContext(UUID.randomUUID(), InteractedBookFilter.empty()), candidates);
+
+        verifyNoInteractions(bookRankingFeatures);
+    }
+
+    private UUID describe(RankingCandidates candidates, long genres) {
+        UUID bookId = UUID.randomUUID();
+        candidates.describe(candidates.add(bookId, 0.2f, 0.5), 2020, genres, 0.5);
+        return bookId;
+    }
+}
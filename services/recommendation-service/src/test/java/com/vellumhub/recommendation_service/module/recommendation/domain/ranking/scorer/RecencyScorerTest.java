@@ -0,0 +1,43 @@
+package com.vellumhub.recommendation_service.module.recommendation.domain.ranking.scorer;
+
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.RankingCandidates;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Year;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RecencyScorerTest {
+
+    @Test
+    @DisplayName("Should halve the reward every half-life and skip unknown release years")
+    void shouldDecayByAge() {
+        int currentYear = Year.now().getValue();
+        RankingCandidates candidates = new RankingCandidates(3);
+        candidates.describe(candidates.add(UUID.randomUUID()), currentYear, 0, 0);
+        candidates.describe(candidates.add(UUID.randomUUID()), currentYear - 10, 0, 0);
+        candidates.describe(candidates.add(UUID.randomUUID()), 0, 0, 0);
+        double[] scores = new double[3];
+
+        new RecencyScorer(0.2, 10).score(candidates, scores);
+
+        assertThat(scores[0]).isCloseTo(0.2, within(1e-9));
+        assertThat(scores[1]).isCloseTo(0.1, within(1e-9));
+        assertThat(scores[2]).isZero();
+    }
+
+    @Test
+    @DisplayName("Should leave scores untouched when its weight is zero")
+    void shouldDoNothingWhenDisabled() {
+        RankingCandidates candidates = new RankingCandidates(1);
+        candidates.describe(candidates.add(UUID.randomUUID()), Year.now().getValue(), 0, 0);
+        double[] scores = new double[1];
+
+        new RecencyScorer(0.0, 10).score(candidates, scores);
+
+        assertThat(scores[0]).isZero();
+    }
+}
@@ -0,0 +1,128 @@
+package com.vellumhub.recommendation_service.module.recommendation.infrastructure.cache;
+
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaffeineRecommendationCacheTest {
+
+    private static final Instant PROFILE_VERSION = Instant.parse("2026-01-01T00:00:00Z");
+
+    private SimpleMeterRegistry meterRegistry;
+    private CaffeineRecommendationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new CaffeineRecommendationCache(100, Duration.ofMinutes(10), Duration.ZERO, new VellumHubMetrics(meterRegistry));
+    }
+
+    @Test
+    @DisplayName("Should return the stored ranking and record hits and misses")
+    void shouldReturnStoredRankingAndRecordLookups() {
+        UUID userId = UUID.randomUUID();
+        List<UUID> ranking = List.of(UUID.randomUUID(), UUID.randomUUID());
+
+        assertThat(cache.get(userId, () -> PROFILE_VERSION)).isEmpty();
+        cache.put(userId, PROFILE_VERSION, ranking);
+
+        assertThat(cache.get(userId, () -> PROFILE_VERSION)).contains(ranking);
+        assertThat(counter(VellumHubMetrics.RECOMMENDATION_CACHE_LOOKUPS, "miss")).isEqualTo(1.0);
+        assertThat(counter(VellumHubMetrics.RECOMMENDATION_CACHE_LOOKUPS, "hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should treat a ranking from another profile version as stale")
+    void shouldMissOnProfileVersionChange() {
+        UUID userId = UUID.randomUUID();
+        cache.put(userId, PROFILE_VERSION, List.of(UUID.randomUUID()));
+
+        assertThat(cache.get(userId, () -> PROFILE_VERSION.plusSeconds(1))).isEmpty();
+        assertThat(cache.get(userId, () -> PROFILE_VERSION)).isEmpty();
+        assertThat(counter(VellumHubMetrics.RECOMMENDATION_CACHE_LOOKUPS, "stale")).isEqualTo(1.0);
+        assertThat(counter(VellumHubMetrics.RECOMMENDATION_CACHE_LOOKUPS, "miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should cache rankings of users without a profile")
+    void shouldCacheRankingWithoutProfileVersion() {
+        UUID userId = UUID.randomUUID();
+        List<UUID> ranking = List.of(UUID.randomUUID());
+
+        cache.put(userId, null, ranking);
+
+        assertThat(cache.get(userId, () -> null)).contains(ranking);
+        assertThat(cache.get(userId, () -> PROFILE_VERSION)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should drop only the invalidated user")
+    void shouldInvalidateSingleUser() {
+        UUID invalidatedUser = UUID.randomUUID();
+        UUID otherUser = UUID.randomUUID();
+        cache.put(invalidatedUser, PROFILE_VERSION, List.of(UUID.randomUUID()));
+        cache.put(otherUser, PROFILE_VERSION, List.of(UUID.randomUUID()));
+
+        cache.invalidate(invalidatedUser);
+
+        assertThat(cache.get(invalidatedUser, () -> PROFILE_VERSION)).isEmpty();
+        assertThat(cache.get(otherUser, () -> PROFILE_VERSION)).isPresent();
+        assertThat(counter(VellumHubMetrics.RECOMMENDATION_CACHE_EVICTIONS, "explicit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should drop every user when the catalog changes")
+    void shouldInvalidateAllUsers() {
+        UUID firstUser = UUID.randomUUID();
+        UUID secondUser = UUID.randomUUID();
+        cache.put(firstUser, PROFILE_VERSION, List.of(UUID.randomUUID()));
+        cache.put(secondUser, PROFILE_VERSION, List.of(UUID.randomUUID()));
+
+        cache.invalidateAll();
+
+        assertThat(cache.get(firstUser, () -> PROFILE_VERSION)).isEmpty();
+        assertThat(cache.get(secondUser, () -> PROFILE_VERSION)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not count replaced entries as evictions")
+    void shouldNotRecordReplacementAsEviction() {
+        UUID userId = UUID.randomUUID();
+
+        cache.put(userId, PROFILE_VERSION, List.of(UUID.randomUUID()));
+        cache.put(userId, PROFILE_VERSION, List.of(UUID.randomUUID()));
+
+        assertThat(meterRegistry.find(VellumHubMetrics.RECOMMENDATION_CACHE_EVICTIONS).counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not ask for the profile version again within the check interval")
+    void shouldSkipVersionCheckWithinInterval() {
+        CaffeineRecommendationCache checkedRarely = new CaffeineRecommendationCache(
+                100, Duration.ofMinutes(10), Duration.ofMinutes(1), new VellumHubMetrics(meterRegistry));
+        UUID userId = UUID.randomUUID();
+        List<UUID> ranking = List.of(UUID.randomUUID());
+        checkedRarely.put(userId, PROFILE_VERSION, ranking);
+
+        assertThat(checkedRarely.get(userId, () -> {
+            throw new AssertionError("profile version read within the check interval");
+        })).contains(ranking);
+    }
+
+    private double counter(String name, String result) {
+        return meterRegistry.get(name)
+                .tag("operation", "recommendation_cache")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,133 @@
+package com.vellumhub.recommendation_service.module.recommendation.infrastructure.cache;
+
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookFeatureRepository;
+import com.vellumhub.recommendation_service.module.recommendation.domain.model.Recommendation;
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.RecommendationRepository;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PopularRecommendationSnapshotTest {
+
+    private static final int SNAPSHOT_SIZE = 3;
+
+    @Mock
+    private BookFeatureRepository bookFeatureRepository;
+
+    @Mock
+    private RecommendationRepository recommendationRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PopularRecommendationSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        snapshot = new PopularRecommendationSnapshot(
+                bookFeatureRepository,
+                recommendationRepository,
+                new VellumHubMetrics(meterRegistry),
+                SNAPSHOT_SIZE,
+                Duration.ofMinutes(1)
+        );
+    }
+
+    @Test
+    @DisplayName("Should miss until the first snapshot is loaded")
+    void shouldMissBeforeFirstLoad() {
+        assertThat(snapshot.page(10, 0)).isEmpty();
+        assertThat(counter(VellumHubMetrics.POPULAR_SNAPSHOT_LOOKUPS, "miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should hold the hydrated recommendations in popularity order")
+    void shouldKeepPopularityOrder() {
+        UUID first = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        when(bookFeatureRepository.findMostPopularMedias(SNAPSHOT_SIZE, 0)).thenReturn(List.of(first, missing, third));
+        when(recommendationRepository.findAllInOrder(List.of(first, missing, third)))
+                .thenReturn(List.of(recommendation(first, "First"), recommendation(third, "Third")));
+
+        snapshot.rebuild();
+
+        assertThat(snapshot.page(2, 0)).hasValueSatisfying(page ->
+                assertThat(page).extracting(Recommendation::getTitle).containsExactly("First", "Third"));
+        assertThat(snapshot.snapshotSize()).isEqualTo(2);
+        assertThat(counter(VellumHubMetrics.POPULAR_SNAPSHOT_REBUILDS, "success")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should miss pages past a snapshot that does not cover the whole catalog")
+    void shouldMissPagesPastPartialSnapshot() {
+        List<UUID> ranked = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        when(bookFeatureRepository.findMostPopularMedias(SNAPSHOT_SIZE, 0)).thenReturn(ranked);
+        when(recommendationRepository.findAllInOrder(ranked)).thenReturn(ranked.stream()
+                .map(bookId -> recommendation(bookId, bookId.toString()))
+                .toList());
+
+        snapshot.rebuild();
+
+        assertThat(snapshot.page(2, 1)).hasValueSatisfying(page -> assertThat(page).hasSize(2));
+        assertThat(snapshot.page(2, 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should answer every page from a snapshot that holds the whole catalog")
+    void shouldServeAllPagesWhenCatalogFits() {
+        UUID only = UUID.randomUUID();
+        when(bookFeatureRepository.findMostPopularMedias(SNAPSHOT_SIZE, 0)).thenReturn(List.of(only));
+        when(recommendationRepository.findAllInOrder(List.of(only))).thenReturn(List.of(recommendation(only, "Only")));
+
+        snapshot.rebuild();
+
+        assertThat(snapshot.page(5, 0)).hasValueSatisfying(page -> assertThat(page).hasSize(1));
+        assertThat(snapshot.page(5, 5)).contains(List.of());
+    }
+
+    @Test
+    @DisplayName("Should keep serving the previous snapshot when a rebuild fails")
+    void shouldKeepPreviousSnapshotOnFailure() {
+        UUID bookId = UUID.randomUUID();
+        when(bookFeatureRepository.findMostPopularMedias(SNAPSHOT_SIZE, 0))
+                .thenReturn(List.of(bookId))
+                .thenThrow(new IllegalStateException("database unavailable"));
+        when(recommendationRepository.findAllInOrder(List.of(bookId))).thenReturn(List.of(recommendation(bookId, "Kept")));
+
+        snapshot.rebuild();
+        assertThatThrownBy(snapshot::rebuild).isInstanceOf(IllegalStateException.class);
+
+        assertThat(snapshot.page(1, 0)).hasValueSatisfying(page ->
+                assertThat(page).extracting(Recommendation::getTitle).containsExactly("Kept"));
+    }
+
+    private Recommendation recommendation(UUID bookId, String title) {
+        return Recommendation.builder()
+                .bookId(bookId)
+                .title(title)
+                .description("Description")
+                .releaseYear(2020)
+                .coverUrl("https://example.com/cover.jpg")
+                .author("Author")
+                .genres(List.of("FANTASY"))
+                .build();
+    }
+
+    private double counter(String name, String result) {
+        return meterRegistry.get(name).tag("result", result).counter().count();
+    }
+}
@@ -21,6 +21,9 @@ class SpringRecommendationRepositoryAdapterTest {
     @Mock
     private RecommendationRepositoryJpa recommendationRepositoryJpa;
 
+    @Mock
+    private JdbcRecommendationReader jdbcRecommendationReader;
+
     @InjectMocks
     private SpringRecommendationRepositoryAdapter adapter;
 
@@ -109,4 +112,19 @@ class SpringRecommendationRepositoryAdapterTest {
 
         assertThat(result).isEmpty();
     }
+
+    @Test
+    @DisplayName("Should delegate ordered hydration to the JDBC reader")
+    void shouldDelegateFindAllInOrder() {
+        UUID bookId1 = UUID.randomUUID();
+        UUID bookId2 = UUID.randomUUID();
+        List<UUID> ids = List.of(bookId2, bookId1);
+        List<Recommendation> recommendations = List.of(buildRecommendation(bookId2), buildRecommendation(bookId1));
+        when(jdbcRecommendationReader.findAllInOrder(ids)).thenReturn(recommendations);
+
+        List<Recommendation> result = adapter.findAllInOrder(ids);
+
+        assertThat(result).isSameAs(recommendations);
+        verifyNoInteractions(recommendationRepositoryJpa);
+    }
 }
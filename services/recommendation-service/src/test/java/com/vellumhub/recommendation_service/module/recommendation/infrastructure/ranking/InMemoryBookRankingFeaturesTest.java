@@ -0,0 +1,115 @@
+package com.vellumhub.recommendation_service.module.recommendation.infrastructure.ranking;
+
+import com.vellumhub.recommendation_service.module.recommendation.domain.model.Recommendation;
+import com.vellumhub.recommendation_service.module.recommendation.domain.ranking.RankingCandidates;
+import com.vellumhub.recommendation_service.module.recommendation.infrastructure.persistence.repository.JdbcRecommendationReader;
+import com.vellumhub.recommendation_service.module.recommendation.infrastructure.persistence.repository.JdbcRecommendationReader.RankingFeatureRow;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryBookRankingFeaturesTest {
+
+    private static final UUID POPULAR_FANTASY = UUID.randomUUID();
+    private static final UUID NICHE_FANTASY = UUID.randomUUID();
+    private static final UUID POPULAR_MYSTERY = UUID.randomUUID();
+
+    @Mock
+    private JdbcRecommendationReader jdbcRecommendationReader;
+
+    private SimpleMeterRegistry meterRegistry;
+    private InMemoryBookRankingFeatures features;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        features = new InMemoryBookRankingFeatures(jdbcRecommendationReader, new VellumHubMetrics(meterRegistry), 10, Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Should describe known candidates and keep a generator's popularity")
+    void shouldDescribeCandidates() {
+        load();
+        RankingCandidates candidates = new RankingCandidates(3);
+        candidates.add(NICHE_FANTASY);
+        candidates.add(POPULAR_MYSTERY, 0.2f, 0.99);
+        UUID unknown = UUID.randomUUID();
+        candidates.add(unknown);
+
+        features.describe(candidates, 0);
+
+        assertThat(candidates.releaseYear(0)).isEqualTo(1990);
+        assertThat(candidates.popularity(0)).isEqualTo(0.1);
+        assertThat(candidates.popularity(1)).isEqualTo(0.99);
+        assertThat(candidates.genres(0)).isNotZero().isNotEqualTo(candidates.genres(1));
+        assertThat(candidates.releaseYear(2)).isZero();
+        assertThat(features.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should list books by popularity, overall and per genre")
+    void shouldListByPopularity() {
+        load();
+        RankingCandidates candidates = new RankingCandidates(1);
+        candidates.add(NICHE_FANTASY);
+        features.describe(candidates, 0);
+
+        assertThat(features.mostPopular(2)).containsExactly(POPULAR_MYSTERY, POPULAR_FANTASY);
+        assertThat(features.mostPopularInGenres(candidates.genres(0), 5)).containsExactly(POPULAR_FANTASY, NICHE_FANTASY);
+    }
+
+    @Test
+    @DisplayName("Should apply catalog changes before the next reload")
+    void shouldOverlayChanges() {
+        load();
+        UUID created = UUID.randomUUID();
+        features.upsert(Recommendation.builder().bookId(created).releaseYear(2024).genres(List.of("Horror")).build());
+        features.remove(POPULAR_MYSTERY);
+
+        RankingCandidates candidates = new RankingCandidates(1);
+        candidates.add(created);
+        features.describe(candidates, 0);
+
+        assertThat(candidates.releaseYear(0)).isEqualTo(2024);
+        assertThat(candidates.genres(0)).isNotZero();
+        assertThat(features.mostPopular(3)).containsExactly(POPULAR_FANTASY, NICHE_FANTASY);
+    }
+
+    @Test
+    @DisplayName("Should forget overlay entries once a reload includes them")
+    void shouldDropChangesOnReload() {
+        features.remove(POPULAR_MYSTERY);
+        load();
+
+        assertThat(features.mostPopular(1)).containsExactly(POPULAR_MYSTERY);
+        assertThat(meterRegistry.get(VellumHubMetrics.RANKING_FEATURES_REBUILDS).tag("result", "success").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void load() {
+        doAnswer(invocation -> {
+            Consumer<RankingFeatureRow> consumer = invocation.getArgument(0);
+            consumer.accept(new RankingFeatureRow(POPULAR_FANTASY, 2015, 0.8, List.of("Fantasy")));
+            consumer.accept(new RankingFeatureRow(NICHE_FANTASY, 1990, 0.1, List.of("Fantasy")));
+            consumer.accept(new RankingFeatureRow(POPULAR_MYSTERY, 2020, 0.9, List.of("Mystery")));
+            return null;
+        }).when(jdbcRecommendationReader).forEachRankingFeature(any(Consumer.class));
+        features.rebuild();
+    }
+}
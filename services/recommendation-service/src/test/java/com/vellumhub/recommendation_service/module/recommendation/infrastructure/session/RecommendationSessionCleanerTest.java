@@ -0,0 +1,41 @@
+package com.vellumhub.recommendation_service.module.recommendation.infrastructure.session;
+
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.RecommendationSessionStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendationSessionCleanerTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-01T12:00:00Z");
+
+    @Mock
+    private RecommendationSessionStore recommendationSessionStore;
+
+    @Test
+    @DisplayName("Should remove the sessions expired as of the run")
+    void shouldRemoveExpiredSessions() {
+        when(recommendationSessionStore.removeExpired(NOW)).thenReturn(3);
+
+        int removed = new RecommendationSessionCleaner(recommendationSessionStore, Duration.ofMinutes(5)).cleanUp(NOW);
+
+        assertThat(removed).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive cleanup interval")
+    void shouldRejectNonPositiveInterval() {
+        assertThatThrownBy(() -> new RecommendationSessionCleaner(recommendationSessionStore, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
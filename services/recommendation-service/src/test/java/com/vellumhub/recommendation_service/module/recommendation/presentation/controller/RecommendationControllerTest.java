@@ -1,8 +1,11 @@
 package com.vellumhub.recommendation_service.module.recommendation.presentation.controller;
 
 import com.vellumhub.recommendation_service.module.recommendation.application.command.GetRecommendationsCommand;
+import com.vellumhub.recommendation_service.module.recommendation.application.command.GetSimilarBooksCommand;
 import com.vellumhub.recommendation_service.module.recommendation.application.use_case.GetRecommendationsUseCase;
+import com.vellumhub.recommendation_service.module.recommendation.application.use_case.GetSimilarBooksUseCase;
 import com.vellumhub.recommendation_service.module.recommendation.domain.model.Recommendation;
+import com.vellumhub.recommendation_service.module.recommendation.domain.model.RecommendationPage;
 import com.vellumhub.recommendation_service.module.recommendation.presentation.dto.RecommendationResponse;
 import com.vellumhub.recommendation_service.module.recommendation.presentation.mapper.RecommendationMapper;
 import com.vellumhub.recommendation_service.share.provider.UserAuthenticationProvider;
@@ -38,6 +41,9 @@ class RecommendationControllerTest {
     @Mock
     private GetRecommendationsUseCase getRecommendationsUseCase;
 
+    @Mock
+    private GetSimilarBooksUseCase getSimilarBooksUseCase;
+
     private RecommendationController controller;
 
     private SimpleMeterRegistry meterRegistry;
@@ -52,6 +58,7 @@ class RecommendationControllerTest {
                 userAuthenticationProvider,
                 mapper,
                 getRecommendationsUseCase,
+                getSimilarBooksUseCase,
                 new VellumHubMetrics(meterRegistry)
         );
     }
@@ -77,10 +84,10 @@ class RecommendationControllerTest {
         RecommendationResponse recResponse = new RecommendationResponse(bookId, "Book A", "Desc", 2020, "http://cover.url", "Author", List.of("Fiction"));
 
         when(userAuthenticationProvider.getUserId()).thenReturn(userId);
-        when(getRecommendationsUseCase.execute(any(GetRecommendationsCommand.class))).thenReturn(List.of(rec));
+        when(getRecommendationsUseCase.execute(any(GetRecommendationsCommand.class))).thenReturn(new RecommendationPage(List.of(rec), null));
         when(mapper.toResponse(rec)).thenReturn(recResponse);
 
-        ResponseEntity<List<RecommendationResponse>> response = controller.getRecommendations(10, 0);
+        ResponseEntity<List<RecommendationResponse>> response = controller.getRecommendations(10, 0, null);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).hasSize(1);
@@ -93,9 +100,9 @@ class RecommendationControllerTest {
     void shouldBuildCommandWithCorrectValues() {
         UUID userId = UUID.randomUUID();
         when(userAuthenticationProvider.getUserId()).thenReturn(userId);
-        when(getRecommendationsUseCase.execute(commandCaptor.capture())).thenReturn(List.of());
+        when(getRecommendationsUseCase.execute(commandCaptor.capture())).thenReturn(new RecommendationPage(List.of(), null));
 
-        controller.getRecommendations(5, 10);
+        controller.getRecommendations(5, 10, null);
 
         GetRecommendationsCommand captured = commandCaptor.getValue();
         assertThat(captured.userId()).isEqualTo(userId);
@@ -108,9 +115,9 @@ class RecommendationControllerTest {
     void shouldReturnEmptyListWhenNoRecommendations() {
         UUID userId = UUID.randomUUID();
         when(userAuthenticationProvider.getUserId()).thenReturn(userId);
-        when(getRecommendationsUseCase.execute(any())).thenReturn(List.of());
+        when(getRecommendationsUseCase.execute(any())).thenReturn(new RecommendationPage(List.of(), null));
 
-        ResponseEntity<List<RecommendationResponse>> response = controller.getRecommendations(10, 0);
+        ResponseEntity<List<RecommendationResponse>> response = controller.getRecommendations(10, 0, null);
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEmpty();
@@ -127,11 +134,11 @@ class RecommendationControllerTest {
         Recommendation rec2 = buildRecommendation(bookId2, "Book 2");
 
         when(userAuthenticationProvider.getUserId()).thenReturn(userId);
-        when(getRecommendationsUseCase.execute(any())).thenReturn(List.of(rec1, rec2));
+        when(getRecommendationsUseCase.execute(any())).thenReturn(new RecommendationPage(List.of(rec1, rec2), null));
         when(mapper.toResponse(rec1)).thenReturn(new RecommendationResponse(bookId1, "Book 1", "Desc", 2020, "url", "Author", List.of()));
         when(mapper.toResponse(rec2)).thenReturn(new RecommendationResponse(bookId2, "Book 2", "Desc", 2021, "url", "Author", List.of()));
 
-        ResponseEntity<List<RecommendationResponse>> response = controller.getRecommendations(10, 0);
+        ResponseEntity<List<RecommendationResponse>> response = controller.getRecommendations(10, 0, null);
 
         assertThat(response.getBody()).hasSize(2);
         verify(mapper, times(2)).toResponse(any());
@@ -144,4 +151,34 @@ class RecommendationControllerTest {
                 .counter()
                 .count();
     }
+
+    @Test
+    @DisplayName("Should pass the cursor to the use case and expose the next one in a header")
+    void shouldExposeNextCursorHeader() {
+        UUID userId = UUID.randomUUID();
+        when(userAuthenticationProvider.getUserId()).thenReturn(userId);
+        when(getRecommendationsUseCase.execute(commandCaptor.capture())).thenReturn(new RecommendationPage(List.of(), "next"));
+
+        ResponseEntity<List<RecommendationResponse>> response = controller.getRecommendations(10, 0, "current");
+
+        assertThat(commandCaptor.getValue().cursor()).isEqualTo("current");
+        assertThat(response.getHeaders().getFirst(RecommendationController.NEXT_CURSOR_HEADER)).isEqualTo("next");
+    }
+
+    @Test
+    @DisplayName("Should return the similar books of a book in neighbour order")
+    void shouldReturnSimilarBooks() {
+        UUID bookId = UUID.randomUUID();
+        UUID similarId = UUID.randomUUID();
+        Recommendation similar = buildRecommendation(similarId, "Similar");
+        RecommendationResponse similarResponse = new RecommendationResponse(similarId, "Similar", "Desc", 2020, "http://cover.url", "Author", List.of("Fiction"));
+        when(getSimilarBooksUseCase.execute(new GetSimilarBooksCommand(bookId, 5))).thenReturn(List.of(similar));
+        when(mapper.toResponse(similar)).thenReturn(similarResponse);
+
+        ResponseEntity<List<RecommendationResponse>> response = controller.getSimilarBooks(bookId, 5);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsExactly(similarResponse);
+        verifyNoInteractions(userAuthenticationProvider);
+    }
 }
@@ -1,9 +1,11 @@
 package com.vellumhub.recommendation_service.module.user_profile.application.use_case;
 
 import com.vellumhub.recommendation_service.module.user_profile.application.command.CreatedUserProfileCommand;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.PreferenceLearning;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.ProfileChange;
 import com.vellumhub.recommendation_service.module.user_profile.domain.model.UserProfile;
 import com.vellumhub.recommendation_service.module.user_profile.domain.port.EmbeddingUserProfileProvider;
-import com.vellumhub.recommendation_service.module.user_profile.domain.port.UserProfileRepository;
+import com.vellumhub.recommendation_service.module.user_profile.domain.port.UserProfileUpdater;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -25,6 +27,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,7 +36,7 @@ import static org.mockito.Mockito.*;
 class CreateUserProfileUseCaseTest {
 
     @Mock
-    private UserProfileRepository userProfileRepository;
+    private UserProfileUpdater userProfileUpdater;
 
     @Mock
     private EmbeddingUserProfileProvider profileProvider;
@@ -55,7 +58,17 @@ class CreateUserProfileUseCaseTest {
         for (int i = 0; i < 384; i++) {
             vectors[i] = (float) Math.random();
         }
-        when(userProfileRepository.findById(any(UUID.class))).thenReturn(java.util.Optional.empty());
+    }
+
+    /**
+     * Replays the submitted change on a user without a stored profile, as the updater would.
+     */
+    private UserProfile appliedProfile() {
+        var captor = ArgumentCaptor.forClass(ProfileChange.class);
+        verify(userProfileUpdater).apply(eq(userId), captor.capture());
+        UserProfile profile = captor.getValue().newProfile(userId);
+        captor.getValue().applyTo(profile);
+        return profile;
     }
 
     @Nested
@@ -74,30 +87,27 @@ class CreateUserProfileUseCaseTest {
         }
 
         @Test
-        @DisplayName("should persist a UserProfile with the userId from the command")
+        @DisplayName("should submit a preference learning step for the userId from the command")
         void shouldSaveUserProfileWithCorrectUserId() {
             var command = CreatedUserProfileCommand.of(userId, genres, about);
             when(profileProvider.of(genres, about)).thenReturn(vectors);
-            var captor = ArgumentCaptor.forClass(UserProfile.class);
 
             useCase.execute(command);
 
-            verify(userProfileRepository).save(captor.capture());
-            assertThat(captor.getValue().getUserId()).isEqualTo(userId);
+            verify(userProfileUpdater).apply(userId, PreferenceLearning.of(vectors, 0.5f));
+            assertThat(appliedProfile().getUserId()).isEqualTo(userId);
         }
 
         @Test
-        @DisplayName("should persist a UserProfile with the embedding returned by the provider")
+        @DisplayName("should learn the embedding returned by the provider")
         void shouldSaveUserProfileWithCorrectEmbeddingVector() {
             var command = CreatedUserProfileCommand.of(userId, genres, about);
             when(profileProvider.of(genres, about)).thenReturn(vectors);
-            var captor = ArgumentCaptor.forClass(UserProfile.class);
 
             useCase.execute(command);
 
-            verify(userProfileRepository).save(captor.capture());
             // The vector is normalized after learning, so we check that it has unit magnitude
-            float[] savedVector = captor.getValue().getProfileVector();
+            float[] savedVector = appliedProfile().getProfileVector();
             double magnitude = calculateMagnitude(savedVector);
             assertThat(magnitude).isCloseTo(1.0, org.assertj.core.api.Assertions.within(1e-5));
         }
@@ -111,14 +121,14 @@ class CreateUserProfileUseCaseTest {
         }
 
         @Test
-        @DisplayName("should save the UserProfile exactly once")
+        @DisplayName("should submit exactly one profile change")
         void shouldSaveExactlyOnce() {
             var command = CreatedUserProfileCommand.of(userId, genres, about);
             when(profileProvider.of(genres, about)).thenReturn(vectors);
 
             useCase.execute(command);
 
-            verify(userProfileRepository, times(1)).save(any(UserProfile.class));
+            verify(userProfileUpdater, times(1)).apply(any(UUID.class), any(ProfileChange.class));
         }
 
         @Test
@@ -126,25 +136,21 @@ class CreateUserProfileUseCaseTest {
         void shouldInitialiseProfileWithZeroEngagementScore() {
             var command = CreatedUserProfileCommand.of(userId, genres, about);
             when(profileProvider.of(genres, about)).thenReturn(vectors);
-            var captor = ArgumentCaptor.forClass(UserProfile.class);
 
             useCase.execute(command);
 
-            verify(userProfileRepository).save(captor.capture());
-            assertThat(captor.getValue().getTotalEngagementScore()).isZero();
+            assertThat(appliedProfile().getTotalEngagementScore()).isZero();
         }
 
         @Test
-        @DisplayName("should initialise the profile with an empty set of interacted book IDs")
-        void shouldInitialiseProfileWithEmptyInteractedBookIds() {
+        @DisplayName("should initialise the profile with an empty filter of interacted books")
+        void shouldInitialiseProfileWithEmptyInteractedBookFilter() {
             var command = CreatedUserProfileCommand.of(userId, genres, about);
             when(profileProvider.of(genres, about)).thenReturn(vectors);
-            var captor = ArgumentCaptor.forClass(UserProfile.class);
 
             useCase.execute(command);
 
-            verify(userProfileRepository).save(captor.capture());
-            assertThat(captor.getValue().getInteractedBookIds()).isEmpty();
+            assertThat(appliedProfile().interactedBookFilter()).hasValueSatisfying(filter -> assertThat(filter.count()).isZero());
         }
 
         @Test
@@ -152,12 +158,10 @@ class CreateUserProfileUseCaseTest {
         void shouldInitialiseTimestamps() {
             var command = CreatedUserProfileCommand.of(userId, genres, about);
             when(profileProvider.of(genres, about)).thenReturn(vectors);
-            var captor = ArgumentCaptor.forClass(UserProfile.class);
 
             useCase.execute(command);
 
-            verify(userProfileRepository).save(captor.capture());
-            var saved = captor.getValue();
+            var saved = appliedProfile();
             assertThat(saved.getCreatedAt()).isNotNull();
             assertThat(saved.getLastUpdated()).isNotNull();
         }
@@ -173,17 +177,16 @@ class CreateUserProfileUseCaseTest {
                     .isInstanceOf(RuntimeException.class)
                     .hasMessage("Embedding service unavailable");
 
-            // findById is called before provider throws, but save should not be called
-            verify(userProfileRepository, never()).save(any(UserProfile.class));
+            verify(userProfileUpdater, never()).apply(any(UUID.class), any(ProfileChange.class));
         }
 
         @Test
-        @DisplayName("should propagate runtime exception thrown by the repository")
+        @DisplayName("should propagate runtime exception thrown by the profile updater")
         void shouldPropagateRepositoryException() {
             var command = CreatedUserProfileCommand.of(userId, genres, about);
             when(profileProvider.of(genres, about)).thenReturn(vectors);
             doThrow(new RuntimeException("Database unavailable"))
-                    .when(userProfileRepository).save(any(UserProfile.class));
+                    .when(userProfileUpdater).apply(any(UUID.class), any(ProfileChange.class));
 
             assertThatThrownBy(() -> useCase.execute(command))
                     .isInstanceOf(RuntimeException.class)
@@ -201,8 +204,7 @@ class CreateUserProfileUseCaseTest {
                 useCase.execute(command);
             } catch (RuntimeException ignored) {}
 
-            // findById is called before provider throws, but save should not be called
-            verify(userProfileRepository, never()).save(any(UserProfile.class));
+            verify(userProfileUpdater, never()).apply(any(UUID.class), any(ProfileChange.class));
         }
 
         @Test
@@ -213,7 +215,7 @@ class CreateUserProfileUseCaseTest {
 
             useCase.execute(command);
 
-            verify(userProfileRepository).save(any(UserProfile.class));
+            verify(userProfileUpdater).apply(eq(userId), any(PreferenceLearning.class));
         }
 
         @Test
@@ -224,7 +226,7 @@ class CreateUserProfileUseCaseTest {
 
             useCase.execute(command);
 
-            verify(userProfileRepository).save(any(UserProfile.class));
+            verify(userProfileUpdater).apply(eq(userId), any(PreferenceLearning.class));
         }
 
         @Test
@@ -1,17 +1,14 @@
 package com.vellumhub.recommendation_service.module.user_profile.application.use_case;
 
-import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookFeature;
-import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookFeatureRepository;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookVectorCache;
 import com.vellumhub.recommendation_service.module.user_profile.application.command.ReactionChangedCommand;
 import com.vellumhub.recommendation_service.module.user_profile.domain.interaction.reaction.Reaction;
 import com.vellumhub.recommendation_service.module.user_profile.domain.interaction.reaction.ReactionBookInteraction;
 import com.vellumhub.recommendation_service.module.user_profile.domain.model.ProfileAdjustment;
-import com.vellumhub.recommendation_service.module.user_profile.domain.model.UserProfile;
-import com.vellumhub.recommendation_service.module.user_profile.domain.port.UserProfileRepository;
+import com.vellumhub.recommendation_service.module.user_profile.domain.port.UserProfileUpdater;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -19,7 +16,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Optional;
 import java.util.UUID;
 
-import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -29,10 +26,10 @@ class ReactionChangedUseCaseTest {
     private static final float[] EMBEDDING = new float[384];
 
     @Mock
-    private UserProfileRepository userProfileRepository;
+    private UserProfileUpdater userProfileUpdater;
 
     @Mock
-    private BookFeatureRepository bookFeatureRepository;
+    private BookVectorCache bookVectorCache;
 
     @Mock
     private ReactionBookInteraction reactionBookInteraction;
@@ -42,81 +39,59 @@ class ReactionChangedUseCaseTest {
 
     private UUID userId;
     private UUID bookId;
-    private BookFeature bookFeature;
     private ReactionChangedCommand command;
 
     @BeforeEach
     void setUp() {
         userId = UUID.randomUUID();
         bookId = UUID.randomUUID();
-        bookFeature = BookFeature.create(bookId, EMBEDDING, 1.0);
         command = new ReactionChangedCommand(userId, bookId, Reaction.POSITIVE.name());
     }
 
     @Test
-    void execute_whenProfileExists_shouldLoadExistingProfile() {
-        UserProfile existingProfile = new UserProfile(userId);
+    void execute_shouldApplyAdjustmentToTheUsersProfile() {
         ProfileAdjustment adjustment = new ProfileAdjustment(bookId, Reaction.POSITIVE.adjustmentValue, EMBEDDING);
 
-        when(userProfileRepository.findById(userId)).thenReturn(Optional.of(existingProfile));
-        when(bookFeatureRepository.findById(bookId)).thenReturn(Optional.of(bookFeature));
-        when(reactionBookInteraction.toAdjustment(bookFeature, command.reactionType())).thenReturn(adjustment);
+        when(bookVectorCache.get(bookId)).thenReturn(Optional.of(EMBEDDING));
+        when(reactionBookInteraction.toAdjustment(bookId, EMBEDDING, command.reactionType())).thenReturn(adjustment);
 
         reactionChangedUseCase.execute(command);
 
-        verify(userProfileRepository).findById(userId);
-        verify(userProfileRepository, never()).save(argThat(p -> !p.getUserId().equals(userId)));
-    }
-
-    @Test
-    void execute_whenProfileDoesNotExist_shouldCreateNewProfile() {
-        ProfileAdjustment adjustment = new ProfileAdjustment(bookId, Reaction.POSITIVE.adjustmentValue, EMBEDDING);
-
-        when(userProfileRepository.findById(userId)).thenReturn(Optional.empty());
-        when(bookFeatureRepository.findById(bookId)).thenReturn(Optional.of(bookFeature));
-        when(reactionBookInteraction.toAdjustment(bookFeature, command.reactionType())).thenReturn(adjustment);
-
-        reactionChangedUseCase.execute(command);
-
-        ArgumentCaptor<UserProfile> captor = ArgumentCaptor.forClass(UserProfile.class);
-        verify(userProfileRepository).save(captor.capture());
-        assertThat(captor.getValue().getUserId()).isEqualTo(userId);
+        verify(userProfileUpdater).apply(userId, adjustment);
     }
 
     @Test
     void execute_whenBookNotFound_shouldSkipProfileUpdate() {
-        when(bookFeatureRepository.findById(bookId)).thenReturn(Optional.empty());
+        when(bookVectorCache.get(bookId)).thenReturn(Optional.empty());
 
         reactionChangedUseCase.execute(command);
 
-        verify(userProfileRepository, never()).findById(any());
-        verify(userProfileRepository, never()).save(any());
-        verify(reactionBookInteraction, never()).toAdjustment(any(), any());
+        verifyNoInteractions(userProfileUpdater);
+        verify(reactionBookInteraction, never()).toAdjustment(any(), any(), any());
     }
 
     @Test
     void execute_shouldDelegateAdjustmentCalculationToInteraction() {
         ProfileAdjustment adjustment = new ProfileAdjustment(bookId, Reaction.POSITIVE.adjustmentValue, EMBEDDING);
 
-        when(userProfileRepository.findById(userId)).thenReturn(Optional.of(new UserProfile(userId)));
-        when(bookFeatureRepository.findById(bookId)).thenReturn(Optional.of(bookFeature));
-        when(reactionBookInteraction.toAdjustment(bookFeature, command.reactionType())).thenReturn(adjustment);
+        when(bookVectorCache.get(bookId)).thenReturn(Optional.of(EMBEDDING));
+        when(reactionBookInteraction.toAdjustment(bookId, EMBEDDING, command.reactionType())).thenReturn(adjustment);
 
         reactionChangedUseCase.execute(command);
 
-        verify(reactionBookInteraction).toAdjustment(bookFeature, command.reactionType());
+        verify(reactionBookInteraction).toAdjustment(bookId, EMBEDDING, command.reactionType());
     }
 
     @Test
-    void execute_shouldSaveProfileAfterApplyingAdjustment() {
+    void execute_whenProfileUpdateFails_shouldPropagateFailure() {
         ProfileAdjustment adjustment = new ProfileAdjustment(bookId, Reaction.POSITIVE.adjustmentValue, EMBEDDING);
 
-        when(userProfileRepository.findById(userId)).thenReturn(Optional.of(new UserProfile(userId)));
-        when(bookFeatureRepository.findById(bookId)).thenReturn(Optional.of(bookFeature));
-        when(reactionBookInteraction.toAdjustment(bookFeature, command.reactionType())).thenReturn(adjustment);
-
-        reactionChangedUseCase.execute(command);
+        when(bookVectorCache.get(bookId)).thenReturn(Optional.of(EMBEDDING));
+        when(reactionBookInteraction.toAdjustment(bookId, EMBEDDING, command.reactionType())).thenReturn(adjustment);
+        doThrow(new IllegalStateException("Database unavailable")).when(userProfileUpdater).apply(userId, adjustment);
 
-        verify(userProfileRepository).save(any(UserProfile.class));
+        assertThatThrownBy(() -> reactionChangedUseCase.execute(command))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Database unavailable");
     }
 }
@@ -1,24 +1,23 @@
 package com.vellumhub.recommendation_service.module.user_profile.application.use_case;
 
-import com.vellumhub.recommendation_service.module.book_feature.domain.model.BookFeature;
-import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookFeatureRepository;
+import com.vellumhub.recommendation_service.module.book_feature.domain.port.BookVectorCache;
 import com.vellumhub.recommendation_service.module.user_profile.application.command.UpdateUserProfileWithRatingCommand;
 import com.vellumhub.recommendation_service.module.user_profile.domain.interaction.rating.RatingBookInteraction;
 import com.vellumhub.recommendation_service.module.user_profile.domain.model.ProfileAdjustment;
-import com.vellumhub.recommendation_service.module.user_profile.domain.model.UserProfile;
-import com.vellumhub.recommendation_service.module.user_profile.domain.port.UserProfileRepository;
+import com.vellumhub.recommendation_service.module.user_profile.domain.port.UserProfileUpdater;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
-import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -28,10 +27,10 @@ class UpdateUserProfileWithRatingUseCaseTest {
     private static final float[] EMBEDDING = new float[384];
 
     @Mock
-    private UserProfileRepository userProfileRepository;
+    private UserProfileUpdater userProfileUpdater;
 
     @Mock
-    private BookFeatureRepository bookFeatureRepository;
+    private BookVectorCache bookVectorCache;
 
     @Mock
     private RatingBookInteraction ratingBookInteraction;
@@ -41,81 +40,82 @@ class UpdateUserProfileWithRatingUseCaseTest {
 
     private UUID userId;
     private UUID bookId;
-    private BookFeature bookFeature;
     private UpdateUserProfileWithRatingCommand command;
 
     @BeforeEach
     void setUp() {
         userId = UUID.randomUUID();
         bookId = UUID.randomUUID();
-        bookFeature = BookFeature.create(bookId, EMBEDDING, 1.0);
         command = new UpdateUserProfileWithRatingCommand(userId, bookId, 0, 5, true);
     }
 
     @Test
-    void execute_whenProfileExists_shouldLoadExistingProfile() {
-        UserProfile existingProfile = new UserProfile(userId);
+    void execute_shouldApplyAdjustmentToTheUsersProfile() {
         ProfileAdjustment adjustment = new ProfileAdjustment(bookId, 5.0f, EMBEDDING);
 
-        when(userProfileRepository.findById(userId)).thenReturn(Optional.of(existingProfile));
-        when(bookFeatureRepository.findById(bookId)).thenReturn(Optional.of(bookFeature));
-        when(ratingBookInteraction.toAdjustment(bookFeature, command.oldStars(), command.newStars(), command.isNewRating())).thenReturn(adjustment);
+        when(bookVectorCache.get(bookId)).thenReturn(Optional.of(EMBEDDING));
+        when(ratingBookInteraction.toAdjustment(bookId, EMBEDDING, command.oldStars(), command.newStars(), command.isNewRating())).thenReturn(adjustment);
 
         updateUserProfileWithRatingUseCase.execute(command);
 
-        verify(userProfileRepository).findById(userId);
-        verify(userProfileRepository, never()).save(argThat(p -> !p.getUserId().equals(userId)));
+        verify(userProfileUpdater).apply(userId, adjustment);
     }
 
     @Test
-    void execute_whenProfileDoesNotExist_shouldCreateNewProfile() {
-        ProfileAdjustment adjustment = new ProfileAdjustment(bookId, 5.0f, EMBEDDING);
-
-        when(userProfileRepository.findById(userId)).thenReturn(Optional.empty());
-        when(bookFeatureRepository.findById(bookId)).thenReturn(Optional.of(bookFeature));
-        when(ratingBookInteraction.toAdjustment(bookFeature, command.oldStars(), command.newStars(), command.isNewRating())).thenReturn(adjustment);
+    void execute_whenBookNotFound_shouldSkipProfileUpdate() {
+        when(bookVectorCache.get(bookId)).thenReturn(Optional.empty());
 
         updateUserProfileWithRatingUseCase.execute(command);
 
-        ArgumentCaptor<UserProfile> captor = ArgumentCaptor.forClass(UserProfile.class);
-        verify(userProfileRepository).save(captor.capture());
-        assertThat(captor.getValue().getUserId()).isEqualTo(userId);
+        verifyNoInteractions(userProfileUpdater);
+        verify(ratingBookInteraction, never()).toAdjustment(any(), any(), anyInt(), anyInt(), anyBoolean());
     }
 
     @Test
-    void execute_whenBookNotFound_shouldSkipProfileUpdate() {
-        when(bookFeatureRepository.findById(bookId)).thenReturn(Optional.empty());
+    void execute_shouldDelegateAdjustmentCalculationToInteraction() {
+        ProfileAdjustment adjustment = new ProfileAdjustment(bookId, 5.0f, EMBEDDING);
+
+        when(bookVectorCache.get(bookId)).thenReturn(Optional.of(EMBEDDING));
+        when(ratingBookInteraction.toAdjustment(bookId, EMBEDDING, command.oldStars(), command.newStars(), command.isNewRating())).thenReturn(adjustment);
 
         updateUserProfileWithRatingUseCase.execute(command);
 
-        verify(userProfileRepository, never()).findById(any());
-        verify(userProfileRepository, never()).save(any());
-        verify(ratingBookInteraction, never()).toAdjustment(any(), anyInt(), anyInt(), anyBoolean());
+        verify(ratingBookInteraction).toAdjustment(bookId, EMBEDDING, command.oldStars(), command.newStars(), command.isNewRating());
     }
 
     @Test
-    void execute_shouldDelegateAdjustmentCalculationToInteraction() {
+    void execute_whenProfileUpdateFails_shouldPropagateFailure() {
         ProfileAdjustment adjustment = new ProfileAdjustment(bookId, 5.0f, EMBEDDING);
 
-        when(userProfileRepository.findById(userId)).thenReturn(Optional.of(new UserProfile(userId)));
-        when(bookFeatureRepository.findById(bookId)).thenReturn(Optional.of(bookFeature));
-        when(ratingBookInteraction.toAdjustment(bookFeature, command.oldStars(), command.newStars(), command.isNewRating())).thenReturn(adjustment);
+        when(bookVectorCache.get(bookId)).thenReturn(Optional.of(EMBEDDING));
+        when(ratingBookInteraction.toAdjustment(bookId, EMBEDDING, command.oldStars(), command.newStars(), command.isNewRating())).thenReturn(adjustment);
+        doThrow(new IllegalStateException("Database unavailable")).when(userProfileUpdater).apply(userId, adjustment);
 
-        updateUserProfileWithRatingUseCase.execute(command);
-
-        verify(ratingBookInteraction).toAdjustment(bookFeature, command.oldStars(), command.newStars(), command.isNewRating());
+        assertThatThrownBy(() -> updateUserProfileWithRatingUseCase.execute(command))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Database unavailable");
     }
 
     @Test
-    void execute_shouldSaveProfileAfterApplyingAdjustment() {
+    void executeAll_shouldLoadBooksOnceAndApplyAllAdjustmentsTogether() {
+        UUID otherUserId = UUID.randomUUID();
+        UUID missingBookId = UUID.randomUUID();
+        UpdateUserProfileWithRatingCommand otherUserCommand = new UpdateUserProfileWithRatingCommand(otherUserId, bookId, 0, 2, true);
+        UpdateUserProfileWithRatingCommand missingBookCommand = new UpdateUserProfileWithRatingCommand(userId, missingBookId, 0, 4, true);
         ProfileAdjustment adjustment = new ProfileAdjustment(bookId, 5.0f, EMBEDDING);
+        ProfileAdjustment otherAdjustment = new ProfileAdjustment(bookId, -1.0f, EMBEDDING);
 
-        when(userProfileRepository.findById(userId)).thenReturn(Optional.of(new UserProfile(userId)));
-        when(bookFeatureRepository.findById(bookId)).thenReturn(Optional.of(bookFeature));
-        when(ratingBookInteraction.toAdjustment(bookFeature, command.oldStars(), command.newStars(), command.isNewRating())).thenReturn(adjustment);
+        when(bookVectorCache.getAll(List.of(bookId, bookId, missingBookId))).thenReturn(Map.of(bookId, EMBEDDING));
+        when(ratingBookInteraction.toAdjustment(bookId, EMBEDDING, 0, 5, true)).thenReturn(adjustment);
+        when(ratingBookInteraction.toAdjustment(bookId, EMBEDDING, 0, 2, true)).thenReturn(otherAdjustment);
 
-        updateUserProfileWithRatingUseCase.execute(command);
+        updateUserProfileWithRatingUseCase.executeAll(List.of(command, otherUserCommand, missingBookCommand));
 
-        verify(userProfileRepository).save(any(UserProfile.class));
+        verify(userProfileUpdater).applyAll(Map.of(
+                userId, List.of(adjustment),
+                otherUserId, List.of(otherAdjustment)
+        ));
+        verify(bookVectorCache, never()).get(any());
+        verify(userProfileUpdater, never()).apply(any(), any());
     }
 }
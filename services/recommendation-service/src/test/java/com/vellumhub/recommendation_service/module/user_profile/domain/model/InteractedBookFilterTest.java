@@ -0,0 +1,74 @@
+package com.vellumhub.recommendation_service.module.user_profile.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InteractedBookFilterTest {
+
+    @Test
+    @DisplayName("Should contain every added book")
+    void shouldContainEveryAddedBook() {
+        List<UUID> books = randomBooks(500);
+
+        InteractedBookFilter filter = InteractedBookFilter.of(books);
+
+        assertThat(books).allMatch(filter::mightContain);
+        assertThat(filter.count()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("Should keep false positives near one percent when full")
+    void shouldKeepFalsePositivesLow() {
+        InteractedBookFilter filter = InteractedBookFilter.empty();
+        while (!filter.isFull()) {
+            filter.add(UUID.randomUUID());
+        }
+
+        long falsePositives = randomBooks(10_000).stream().filter(filter::mightContain).count();
+
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    @DisplayName("Should survive a round trip through its serialized form")
+    void shouldRoundTripBytes() {
+        List<UUID> books = randomBooks(40);
+        InteractedBookFilter filter = InteractedBookFilter.of(books);
+
+        InteractedBookFilter restored = InteractedBookFilter.fromBytes(filter.toBytes());
+
+        assertThat(restored.count()).isEqualTo(40);
+        assertThat(books).allMatch(restored::mightContain);
+        assertThat(restored.toBytes()).isEqualTo(filter.toBytes());
+    }
+
+    @Test
+    @DisplayName("Should leave room for as many books again when built from a set")
+    void shouldSizeForGrowth() {
+        InteractedBookFilter filter = InteractedBookFilter.of(randomBooks(100));
+
+        for (int i = 0; i < 99; i++) {
+            filter.add(UUID.randomUUID());
+        }
+
+        assertThat(filter.isFull()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject serialized filters with a truncated word")
+    void shouldRejectInvalidLength() {
+        assertThatThrownBy(() -> InteractedBookFilter.fromBytes(new byte[7]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<UUID> randomBooks(int count) {
+        return IntStream.range(0, count).mapToObj(i -> UUID.randomUUID()).toList();
+    }
+}
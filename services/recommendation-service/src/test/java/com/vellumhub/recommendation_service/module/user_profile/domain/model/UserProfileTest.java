@@ -4,7 +4,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
@@ -40,7 +42,7 @@ class UserProfileTest {
 
         assertThat(profile.getUserId()).isEqualTo(USER_ID);
         assertThat(profile.getTotalEngagementScore()).isEqualTo(0.0);
-        assertThat(profile.getInteractedBookIds()).isEmpty();
+        assertThat(profile.interactedBookFilter()).hasValueSatisfying(filter -> assertThat(filter.count()).isZero());
         assertThat(profile.getCreatedAt()).isNotNull();
         assertThat(profile.getLastUpdated()).isNotNull();
     }
@@ -54,11 +56,26 @@ class UserProfileTest {
         assertThat(profile.getUserId()).isEqualTo(USER_ID);
         assertThat(profile.getProfileVector()).isEqualTo(vectors);
         assertThat(profile.getTotalEngagementScore()).isEqualTo(0.0);
-        assertThat(profile.getInteractedBookIds()).isEmpty();
+        assertThat(profile.interactedBookFilter()).hasValueSatisfying(filter -> assertThat(filter.count()).isZero());
         assertThat(profile.getCreatedAt()).isNotNull();
         assertThat(profile.getLastUpdated()).isNotNull();
     }
 
+    @Test
+    void shouldRecordEveryAdjustmentOnceUntilDrained() {
+        UserProfile profile = new UserProfile(USER_ID);
+        UUID likedBook = UUID.randomUUID();
+        UUID dislikedBook = UUID.randomUUID();
+
+        profile.applyUpdate(new ProfileAdjustment(likedBook, 2.0f, unitBookEmbedding));
+        profile.applyUpdate(new ProfileAdjustment(dislikedBook, -1.0f, unitBookEmbedding));
+
+        assertThat(profile.drainRecordedInteractions())
+                .extracting(BookInteraction::bookId, BookInteraction::weight)
+                .containsExactly(tuple(likedBook, 2.0f), tuple(dislikedBook, -1.0f));
+        assertThat(profile.drainRecordedInteractions()).isEmpty();
+    }
+
     @Test
     void shouldIncrementEngagementScoreOnPositiveAdjustment() {
         UserProfile profile = new UserProfile(USER_ID);
@@ -112,7 +129,7 @@ class UserProfileTest {
 
         profile.applyUpdate(adjustment);
 
-        assertThat(profile.getInteractedBookIds()).containsExactly(bookId);
+        assertThat(profile.interactedBookFilter().orElseThrow().mightContain(bookId)).isTrue();
     }
 
     @Test
@@ -125,7 +142,7 @@ class UserProfileTest {
         profile.applyUpdate(first);
         profile.applyUpdate(second);
 
-        assertThat(profile.getInteractedBookIds()).hasSize(1).containsExactly(bookId);
+        assertThat(profile.interactedBookFilter().orElseThrow().count()).isEqualTo(1);
     }
 
     @Test
@@ -137,7 +154,56 @@ class UserProfileTest {
         profile.applyUpdate(new ProfileAdjustment(bookA, 1.0f, unitBookEmbedding));
         profile.applyUpdate(new ProfileAdjustment(bookB, 1.0f, unitBookEmbedding));
 
-        assertThat(profile.getInteractedBookIds()).containsExactlyInAnyOrder(bookA, bookB);
+        InteractedBookFilter filter = profile.interactedBookFilter().orElseThrow();
+        assertThat(filter.mightContain(bookA)).isTrue();
+        assertThat(filter.mightContain(bookB)).isTrue();
+        assertThat(filter.count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRecordInteractedBookInFilter() {
+        UserProfile profile = new UserProfile(USER_ID);
+        UUID bookId = UUID.randomUUID();
+
+        profile.applyUpdate(new ProfileAdjustment(bookId, 1.0f, unitBookEmbedding));
+
+        InteractedBookFilter filter = profile.interactedBookFilter().orElseThrow();
+        assertThat(filter.mightContain(bookId)).isTrue();
+        assertThat(filter.count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRebuildFilterFromStoredAndRecordedInteractions() {
+        UserProfile profile = UserProfile.create(USER_ID);
+        profile.setInteractedBooksFilter(null);
+        UUID storedBook = UUID.randomUUID();
+        UUID recordedBook = UUID.randomUUID();
+
+        profile.applyUpdate(new ProfileAdjustment(recordedBook, 1.0f, unitBookEmbedding));
+        assertThat(profile.interactedBookFilter()).isEmpty();
+        profile.rebuildInteractedBookFilter(List.of(storedBook));
+
+        InteractedBookFilter filter = profile.interactedBookFilter().orElseThrow();
+        assertThat(filter.mightContain(storedBook)).isTrue();
+        assertThat(filter.mightContain(recordedBook)).isTrue();
+        assertThat(filter.count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldDropFullFilterAndKeepEveryBookAfterRebuild() {
+        UserProfile profile = new UserProfile(USER_ID);
+        List<UUID> books = new ArrayList<>();
+        while (profile.interactedBookFilter().isPresent()) {
+            UUID bookId = UUID.randomUUID();
+            books.add(bookId);
+            profile.applyUpdate(new ProfileAdjustment(bookId, 1.0f, unitBookEmbedding));
+        }
+
+        profile.rebuildInteractedBookFilter(List.of());
+
+        InteractedBookFilter filter = profile.interactedBookFilter().orElseThrow();
+        assertThat(books).hasSizeGreaterThan(1).allMatch(filter::mightContain);
+        assertThat(filter.isFull()).isFalse();
     }
 
     // -------------------------------------------------------------------------
@@ -0,0 +1,81 @@
+package com.vellumhub.recommendation_service.module.user_profile.infrastructure.neighbors;
+
+import com.vellumhub.recommendation_service.module.user_profile.domain.port.UserNeighbors;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserNeighborsRefresherTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-01T12:00:00Z");
+    private static final Instant ACTIVE_SINCE = NOW.minus(Duration.ofDays(30));
+    private static final Instant COMPUTED_BEFORE = NOW.minus(Duration.ofHours(24));
+
+    @Mock
+    private UserNeighbors userNeighbors;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserNeighborsRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        refresher = new UserNeighborsRefresher(
+                userNeighbors,
+                new VellumHubMetrics(meterRegistry),
+                Duration.ofDays(30),
+                Duration.ofHours(24),
+                2,
+                Duration.ofMinutes(5)
+        );
+    }
+
+    @Test
+    @DisplayName("Should refresh stale users batch by batch until a short batch, then drop inactive lists")
+    void shouldRefreshInBatches() {
+        List<UUID> first = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<UUID> second = List.of(UUID.randomUUID());
+        when(userNeighbors.findStale(ACTIVE_SINCE, COMPUTED_BEFORE, 2)).thenReturn(first, second);
+
+        int refreshed = refresher.refresh(NOW);
+
+        assertThat(refreshed).isEqualTo(3);
+        verify(userNeighbors).refresh(first);
+        verify(userNeighbors).refresh(second);
+        verify(userNeighbors).removeInactive(ACTIVE_SINCE);
+        assertThat(meterRegistry.get(VellumHubMetrics.USER_NEIGHBORS_REFRESH_USERS).tag("result", "success").summary().totalAmount())
+                .isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("Should stop and record a failure when a batch cannot be refreshed")
+    void shouldStopOnFailure() {
+        List<UUID> batch = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(userNeighbors.findStale(ACTIVE_SINCE, COMPUTED_BEFORE, 2)).thenReturn(batch);
+        doThrow(new IllegalStateException("database down")).when(userNeighbors).refresh(batch);
+
+        assertThatThrownBy(() -> refresher.refresh(NOW)).isInstanceOf(IllegalStateException.class);
+
+        verify(userNeighbors, never()).removeInactive(ACTIVE_SINCE);
+        assertThat(meterRegistry.get(VellumHubMetrics.USER_NEIGHBORS_REFRESH_DURATION).tag("result", "failure").timer().count())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,299 @@
+package com.vellumhub.recommendation_service.module.user_profile.infrastructure.update;
+
+import com.vellumhub.recommendation_service.module.recommendation.domain.port.RecommendationCache;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.PreferenceLearning;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.ProfileAdjustment;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.ProfileChange;
+import com.vellumhub.recommendation_service.module.user_profile.domain.model.UserProfile;
+import com.vellumhub.recommendation_service.module.user_profile.domain.port.UserProfileRepository;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingUserProfileUpdaterTest {
+
+    private static final int DIMENSIONS = 384;
+
+    @Mock
+    private UserProfileRepository userProfileRepository;
+
+    @Mock
+    private RecommendationCache recommendationCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CoalescingUserProfileUpdater updater;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        updater = new CoalescingUserProfileUpdater(
+                userProfileRepository,
+                recommendationCache,
+                transactionManager,
+                new VellumHubMetrics(meterRegistry),
+                1,
+                Duration.ZERO
+        );
+        userId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        updater.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should create, save and invalidate a profile the user did not have yet")
+    void shouldCreateMissingProfile() {
+        UUID bookId = UUID.randomUUID();
+        when(userProfileRepository.findForUpdate(userId)).thenReturn(Optional.empty());
+
+        updater.apply(userId, ProfileAdjustment.of(bookId, 1.0f, embedding(0)));
+
+        ArgumentCaptor<UserProfile> captor = ArgumentCaptor.forClass(UserProfile.class);
+        verify(userProfileRepository).save(captor.capture());
+        assertThat(captor.getValue().getUserId()).isEqualTo(userId);
+        assertThat(captor.getValue().interactedBookFilter().orElseThrow().mightContain(bookId)).isTrue();
+        verify(recommendationCache).invalidate(userId);
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should seed a missing profile from preference learning the same way sign-up always did")
+    void shouldSeedMissingProfileFromPreferences() {
+        when(userProfileRepository.findForUpdate(userId)).thenReturn(Optional.empty());
+
+        updater.apply(userId, PreferenceLearning.of(embedding(0), 0.5f));
+
+        ArgumentCaptor<UserProfile> captor = ArgumentCaptor.forClass(UserProfile.class);
+        verify(userProfileRepository).save(captor.capture());
+        UserProfile expected = UserProfile.create(userId);
+        expected.applyVectorLearning(embedding(0), 0.5f);
+        assertThat(captor.getValue().getProfileVector()).containsExactly(expected.getProfileVector());
+    }
+
+    @Test
+    @DisplayName("Should fold changes queued behind a running flush into one write, in arrival order")
+    void shouldCoalesceChangesQueuedBehindRunningFlush() throws InterruptedException {
+        UserProfile stored = new UserProfile(userId);
+        CountDownLatch firstLoadEntered = new CountDownLatch(1);
+        CountDownLatch releaseFirstLoad = new CountDownLatch(1);
+        List<Integer> savedInteractionCounts = new ArrayList<>();
+        when(userProfileRepository.findForUpdate(userId)).thenAnswer(invocation -> {
+            firstLoadEntered.countDown();
+            releaseFirstLoad.await(5, TimeUnit.SECONDS);
+            return Optional.of(stored);
+        });
+        doAnswer(invocation -> {
+            savedInteractionCounts.add(invocation.<UserProfile>getArgument(0).interactedBookFilter().orElseThrow().count());
+            return null;
+        }).when(userProfileRepository).save(any());
+
+        Thread first = submitAsync(ProfileAdjustment.of(UUID.randomUUID(), 1.0f, embedding(0)));
+        assertThat(firstLoadEntered.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread second = submitAsync(ProfileAdjustment.of(UUID.randomUUID(), 1.0f, embedding(1)));
+        awaitParked(second);
+        Thread third = submitAsync(ProfileAdjustment.of(UUID.randomUUID(), 1.0f, embedding(2)));
+        awaitParked(third);
+
+        releaseFirstLoad.countDown();
+        join(first, second, third);
+
+        verify(userProfileRepository, times(2)).findForUpdate(userId);
+        assertThat(savedInteractionCounts).containsExactly(1, 3);
+        verify(recommendationCache, times(2)).invalidate(userId);
+
+        UserProfile serial = new UserProfile(userId);
+        for (int axis = 0; axis < 3; axis++) {
+            serial.applyVectorLearning(embedding(axis), 1.0f);
+        }
+        assertThat(stored.getProfileVector()).containsExactly(serial.getProfileVector());
+        assertThat(meterRegistry.get(VellumHubMetrics.PROFILE_UPDATE_FLUSH_SIZE).tag("result", "success").summary().max())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should hold a change for the flush window so changes from other callers join its write")
+    void shouldCoalesceChangesArrivingWithinFlushWindow() throws InterruptedException {
+        updater.shutdown();
+        updater = new CoalescingUserProfileUpdater(
+                userProfileRepository,
+                recommendationCache,
+                transactionManager,
+                new VellumHubMetrics(meterRegistry),
+                1,
+                Duration.ofSeconds(1)
+        );
+        when(userProfileRepository.findForUpdate(userId)).thenReturn(Optional.of(new UserProfile(userId)));
+
+        Thread first = submitAsync(ProfileAdjustment.of(UUID.randomUUID(), 1.0f, embedding(0)));
+        awaitParked(first);
+        Thread second = submitAsync(ProfileAdjustment.of(UUID.randomUUID(), 1.0f, embedding(1)));
+        join(first, second);
+
+        ArgumentCaptor<UserProfile> captor = ArgumentCaptor.forClass(UserProfile.class);
+        verify(userProfileRepository).findForUpdate(userId);
+        verify(userProfileRepository).save(captor.capture());
+        assertThat(captor.getValue().drainRecordedInteractions()).hasSize(2);
+        verify(recommendationCache).invalidate(userId);
+    }
+
+    @Test
+    @DisplayName("Should retry a failed group one change at a time so only the bad change fails")
+    void shouldIsolateFailingChange() throws InterruptedException {
+        UserProfile stored = new UserProfile(userId);
+        CountDownLatch firstLoadEntered = new CountDownLatch(1);
+        CountDownLatch releaseFirstLoad = new CountDownLatch(1);
+        when(userProfileRepository.findForUpdate(userId))
+                .thenAnswer(invocation -> {
+                    firstLoadEntered.countDown();
+                    releaseFirstLoad.await(5, TimeUnit.SECONDS);
+                    return Optional.of(stored);
+                })
+                .thenAnswer(invocation -> Optional.of(new UserProfile(userId)));
+
+        Map<Thread, Throwable> failures = new ConcurrentHashMap<>();
+        Thread first = submitAsync(ProfileAdjustment.of(UUID.randomUUID(), 1.0f, embedding(0)), failures);
+        assertThat(firstLoadEntered.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread invalid = submitAsync(ProfileAdjustment.of(UUID.randomUUID(), 1.0f, new float[3]), failures);
+        awaitParked(invalid);
+        Thread valid = submitAsync(ProfileAdjustment.of(UUID.randomUUID(), 1.0f, embedding(1)), failures);
+        awaitParked(valid);
+
+        releaseFirstLoad.countDown();
+        join(first, invalid, valid);
+
+        assertThat(failures).containsOnlyKeys(invalid);
+        assertThat(failures.get(invalid)).isInstanceOf(IllegalArgumentException.class);
+        verify(userProfileRepository, times(2)).save(any());
+        assertThat(meterRegistry.get(VellumHubMetrics.PROFILE_UPDATE_CHANGES).tag("result", "failed").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get(VellumHubMetrics.PROFILE_UPDATE_CHANGES).tag("result", "applied").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should rethrow persistence failures to the caller without invalidating the cache")
+    void shouldPropagatePersistenceFailure() {
+        when(userProfileRepository.findForUpdate(userId)).thenReturn(Optional.of(new UserProfile(userId)));
+        doThrow(new IllegalStateException("Database unavailable")).when(userProfileRepository).save(any());
+        ProfileChange change = ProfileAdjustment.of(UUID.randomUUID(), 1.0f, embedding(0));
+
+        assertThatThrownBy(() -> updater.apply(userId, change))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Database unavailable");
+        verify(recommendationCache, never()).invalidate(any());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Should apply a batch with one locking load and one save, creating missing profiles")
+    void shouldApplyBatchInOneTransaction() {
+        UUID newUserId = UUID.randomUUID();
+        UserProfile existing = new UserProfile(userId);
+        when(userProfileRepository.findAllForUpdate(Set.of(userId, newUserId))).thenReturn(List.of(existing));
+        ProfileChange first = ProfileAdjustment.of(UUID.randomUUID(), 1.0f, embedding(0));
+        ProfileChange second = ProfileAdjustment.of(UUID.randomUUID(), 1.0f, embedding(1));
+        ProfileChange third = ProfileAdjustment.of(UUID.randomUUID(), 1.0f, embedding(2));
+        Map<UUID, List<ProfileChange>> changes = new LinkedHashMap<>();
+        changes.put(userId, List.of(first, second));
+        changes.put(newUserId, List.of(third));
+
+        updater.applyAll(changes);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UserProfile>> saved = ArgumentCaptor.forClass(List.class);
+        verify(userProfileRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(UserProfile::getUserId).containsExactly(userId, newUserId);
+        assertThat(existing.drainRecordedInteractions()).hasSize(2);
+        assertThat(saved.getValue().get(1).drainRecordedInteractions()).hasSize(1);
+        verify(userProfileRepository, never()).findForUpdate(any());
+        verify(recommendationCache).invalidate(userId);
+        verify(recommendationCache).invalidate(newUserId);
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should roll back the whole batch and rethrow when saving it fails")
+    void shouldRollBackFailedBatch() {
+        when(userProfileRepository.findAllForUpdate(Set.of(userId))).thenReturn(List.of(new UserProfile(userId)));
+        doThrow(new IllegalStateException("Database unavailable")).when(userProfileRepository).saveAll(any());
+
+        assertThatThrownBy(() -> updater.applyAll(Map.of(userId, List.of(ProfileAdjustment.of(UUID.randomUUID(), 1.0f, embedding(0))))))
+                .isInstanceOf(IllegalStateException.class);
+        verify(transactionManager).rollback(any());
+        verify(recommendationCache, never()).invalidate(any());
+    }
+
+    private Thread submitAsync(ProfileChange change) {
+        return submitAsync(change, new ConcurrentHashMap<>());
+    }
+
+    private Thread submitAsync(ProfileChange change, Map<Thread, Throwable> failures) {
+        Thread thread = new Thread(() -> {
+            try {
+                updater.apply(userId, change);
+            } catch (RuntimeException ex) {
+                failures.put(Thread.currentThread(), ex);
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * A caller parked in {@code apply} has already handed its change to the stripe.
+     */
+    private static void awaitParked(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static void join(Thread... threads) throws InterruptedException {
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+            assertThat(thread.isAlive()).isFalse();
+        }
+    }
+
+    private static float[] embedding(int axis) {
+        float[] embedding = new float[DIMENSIONS];
+        embedding[axis] = 1.0f;
+        return embedding;
+    }
+}
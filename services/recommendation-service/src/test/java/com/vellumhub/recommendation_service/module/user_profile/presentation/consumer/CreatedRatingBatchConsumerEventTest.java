@@ -0,0 +1,89 @@
+package com.vellumhub.recommendation_service.module.user_profile.presentation.consumer;
+
+import com.vellumhub.kafka.contracts.engagement.CreatedRatingEvent;
+import com.vellumhub.recommendation_service.module.user_profile.application.command.UpdateUserProfileWithRatingCommand;
+import com.vellumhub.recommendation_service.module.user_profile.application.use_case.UpdateUserProfileWithRatingUseCase;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CreatedRatingBatchConsumerEventTest {
+
+    @Mock
+    private UpdateUserProfileWithRatingUseCase updateUserProfileWithRatingUseCase;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CreatedRatingBatchConsumerEvent consumer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        consumer = new CreatedRatingBatchConsumerEvent(updateUserProfileWithRatingUseCase, new VellumHubMetrics(meterRegistry));
+    }
+
+    private CreatedRatingEvent buildEvent(int stars) {
+        return new CreatedRatingEvent(UUID.randomUUID(), UUID.randomUUID(), stars);
+    }
+
+    private UpdateUserProfileWithRatingCommand toCommand(CreatedRatingEvent event) {
+        return new UpdateUserProfileWithRatingCommand(event.userId(), event.bookId(), 0, event.stars(), false);
+    }
+
+    @Test
+    @DisplayName("Should apply the whole poll as one batch and record its size")
+    void shouldProcessWholeBatch() {
+        List<CreatedRatingEvent> events = List.of(buildEvent(5), buildEvent(3), buildEvent(1));
+
+        consumer.listen(events);
+
+        verify(updateUserProfileWithRatingUseCase).executeAll(events.stream().map(this::toCommand).toList());
+        verify(updateUserProfileWithRatingUseCase, never()).execute(any());
+        assertThat(meterRegistry.get(VellumHubMetrics.ENGAGEMENT_INGESTION_RECORDS)
+                .tag("topic", "created-rating")
+                .tag("batch_size", "2-8")
+                .tag("result", "success")
+                .counter()
+                .count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get(VellumHubMetrics.KAFKA_EVENTS_CONSUMED).counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("Should replay records one by one and report the failing index when the batch fails")
+    void shouldReportFailingRecordIndex() {
+        CreatedRatingEvent first = buildEvent(5);
+        CreatedRatingEvent broken = buildEvent(4);
+        CreatedRatingEvent last = buildEvent(3);
+        RuntimeException failure = new IllegalArgumentException("Book embedding dimension must match the profile vector dimension.");
+        doThrow(new IllegalStateException("Batch failed")).when(updateUserProfileWithRatingUseCase).executeAll(any());
+        doAnswer(invocation -> {
+            if (invocation.getArgument(0).equals(toCommand(broken))) {
+                throw failure;
+            }
+            return null;
+        }).when(updateUserProfileWithRatingUseCase).execute(any());
+
+        assertThatThrownBy(() -> consumer.listen(List.of(first, broken, last)))
+                .isInstanceOf(BatchListenerFailedException.class)
+                .satisfies(ex -> assertThat(((BatchListenerFailedException) ex).getIndex()).isEqualTo(1))
+                .hasCause(failure);
+
+        verify(updateUserProfileWithRatingUseCase).execute(toCommand(first));
+        verify(updateUserProfileWithRatingUseCase, never()).execute(toCommand(last));
+        assertThat(meterRegistry.get(VellumHubMetrics.KAFKA_EVENTS_CONSUME_FAILED).counter().count()).isEqualTo(1.0);
+    }
+}
@@ -34,6 +34,76 @@ class DatabaseMigrationConfigurationTest {
                 .contains("CREATE TABLE recommendations");
     }
 
+    @Test
+    void embeddingCacheMigrationIsPackaged() throws IOException {
+        String migration = readResource("db/migration/V2__create_book_embedding_cache.sql");
+
+        assertThat(migration).contains("CREATE TABLE book_embedding_cache");
+    }
+
+    @Test
+    void popularitySignalMigrationIsPackaged() throws IOException {
+        String migration = readResource("db/migration/V3__add_book_popularity_signal.sql");
+
+        assertThat(migration)
+                .contains("ADD COLUMN popularity_signal")
+                .contains("ADD COLUMN popularity_decayed_at")
+                .contains("CREATE INDEX idx_book_features_popularity_score");
+    }
+
+    @Test
+    void recommendationGenresIndexMigrationIsPackaged() throws IOException {
+        String migration = readResource("db/migration/V4__index_recommendation_genres.sql");
+
+        assertThat(migration).contains("ON recommendation_genres (recommendation_book_id)");
+    }
+
+    @Test
+    void interactedBooksFilterMigrationIsPackaged() throws IOException {
+        String migration = readResource("db/migration/V5__add_interacted_books_filter.sql");
+
+        assertThat(migration).contains("ADD COLUMN interacted_books_filter BYTEA");
+    }
+
+    @Test
+    void embeddingShadowMigrationIsPackaged() throws IOException {
+        String migration = readResource("db/migration/V6__add_embedding_shadow_columns.sql");
+
+        assertThat(migration)
+                .contains("ADD COLUMN embedding_shadow vector(384)")
+                .contains("ADD COLUMN profile_vector_shadow vector(384)")
+                .contains("CREATE TABLE reembedding_checkpoints");
+    }
+
+    @Test
+    void bookNeighborsMigrationIsPackaged() throws IOException {
+        String migration = readResource("db/migration/V7__create_book_neighbors.sql");
+
+        assertThat(migration)
+                .contains("CREATE TABLE book_neighbors")
+                .contains("PRIMARY KEY (book_id, neighbor_book_id)");
+    }
+
+    @Test
+    void userNeighborsMigrationIsPackaged() throws IOException {
+        String migration = readResource("db/migration/V8__create_user_neighbors.sql");
+
+        assertThat(migration)
+                .contains("CREATE TABLE user_neighbors")
+                .contains("neighbor_user_ids UUID[] NOT NULL")
+                .contains("similarities REAL[] NOT NULL");
+    }
+
+    @Test
+    void interactedBookIdsDropMigrationKeepsEveryInteraction() throws IOException {
+        String migration = readResource("db/migration/V14__drop_interacted_book_ids.sql");
+
+        assertThat(migration)
+                .contains("INSERT INTO user_book_interactions")
+                .contains("ON CONFLICT (user_id, book_id) DO NOTHING")
+                .contains("DROP COLUMN interacted_book_ids");
+    }
+
     @Test
     void productionProfileValidatesSchemaInsteadOfUpdatingIt() throws IOException {
         Properties properties = loadProperties("application-prod.properties");
@@ -0,0 +1,101 @@
+package com.vellumhub.recommendation_service.share.embedding;
+
+import com.vellumhub.kafka.contracts.KafkaTopics;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmbeddingBackPressureTest {
+
+    @Mock
+    private PooledEmbeddingModel embeddingModel;
+
+    @Mock
+    private KafkaListenerEndpointRegistry listenerRegistry;
+
+    @Mock
+    private MessageListenerContainer bookContainer;
+
+    @Mock
+    private MessageListenerContainer bookRetryContainer;
+
+    @Mock
+    private MessageListenerContainer ratingContainer;
+
+    private EmbeddingBackPressure backPressure;
+
+    @BeforeEach
+    void setUp() {
+        when(embeddingModel.queueCapacity()).thenReturn(10);
+        backPressure = new EmbeddingBackPressure(
+                embeddingModel,
+                listenerRegistry,
+                new VellumHubMetrics(new SimpleMeterRegistry()),
+                0.8,
+                0.3,
+                Duration.ofMillis(100)
+        );
+    }
+
+    @Test
+    @DisplayName("Should pause only the embedding listeners once the queue reaches the pause depth")
+    void shouldPauseEmbeddingListeners() {
+        when(embeddingModel.queueDepth()).thenReturn(8);
+        when(listenerRegistry.getAllListenerContainers()).thenReturn(List.of(bookContainer, bookRetryContainer, ratingContainer));
+        when(bookContainer.getContainerProperties()).thenReturn(new ContainerProperties(KafkaTopics.CREATED_BOOK));
+        when(bookRetryContainer.getContainerProperties()).thenReturn(new ContainerProperties(KafkaTopics.UPDATED_BOOK + "-retry-0"));
+        when(ratingContainer.getContainerProperties()).thenReturn(new ContainerProperties(KafkaTopics.CREATED_RATING));
+
+        backPressure.check();
+
+        assertThat(backPressure.isPaused()).isTrue();
+        verify(bookContainer).pause();
+        verify(bookRetryContainer).pause();
+        verify(ratingContainer, never()).pause();
+    }
+
+    @Test
+    @DisplayName("Should stay paused until the queue drains to the resume depth")
+    void shouldResumeAtResumeDepth() {
+        when(embeddingModel.queueDepth()).thenReturn(9, 5, 3);
+        when(listenerRegistry.getAllListenerContainers()).thenReturn(List.of(bookContainer));
+        when(bookContainer.getContainerProperties()).thenReturn(new ContainerProperties(KafkaTopics.CREATED_USER_PREFERENCE));
+
+        backPressure.check();
+        backPressure.check();
+        assertThat(backPressure.isPaused()).isTrue();
+        verify(bookContainer, never()).resume();
+
+        backPressure.check();
+        assertThat(backPressure.isPaused()).isFalse();
+        verify(bookContainer).resume();
+    }
+
+    @Test
+    @DisplayName("Should leave listeners running below the pause depth")
+    void shouldIgnoreShallowQueue() {
+        when(embeddingModel.queueDepth()).thenReturn(7);
+
+        backPressure.check();
+
+        assertThat(backPressure.isPaused()).isFalse();
+        verify(listenerRegistry, never()).getAllListenerContainers();
+    }
+}
@@ -0,0 +1,130 @@
+package com.vellumhub.recommendation_service.share.embedding;
+
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PooledEmbeddingModelTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Integer> callSizes = new CopyOnWriteArrayList<>();
+    private PooledEmbeddingModel pool;
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should return one embedding per text in input order")
+    void shouldKeepInputOrder() {
+        pool = pool(2, 8, this::lengths);
+
+        List<Embedding> embeddings = pool.embedAll(List.of(TextSegment.from("a"), TextSegment.from("bbb"), TextSegment.from("cc")))
+                .content();
+
+        assertThat(embeddings).extracting(embedding -> embedding.vector()[0]).containsExactly(1f, 3f, 2f);
+    }
+
+    @Test
+    @DisplayName("Should coalesce texts queued behind a running call into one model call")
+    void shouldCoalesceQueuedTexts() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        pool = pool(1, 8, segments -> {
+            if (callSizes.size() == 1) {
+                await(release);
+            }
+            return lengths(segments);
+        });
+
+        CompletableFuture<Response<Embedding>> first = CompletableFuture.supplyAsync(() -> pool.embed("first"));
+        waitUntil(() -> !callSizes.isEmpty());
+        CompletableFuture<Response<Embedding>> second = CompletableFuture.supplyAsync(() -> pool.embed("second"));
+        CompletableFuture<Response<Embedding>> third = CompletableFuture.supplyAsync(() -> pool.embed("third"));
+        waitUntil(() -> pool.queueDepth() == 2);
+        release.countDown();
+
+        assertThat(second.get(5, TimeUnit.SECONDS).content().vector()[0]).isEqualTo(6f);
+        assertThat(third.get(5, TimeUnit.SECONDS).content().vector()[0]).isEqualTo(5f);
+        first.get(5, TimeUnit.SECONDS);
+        assertThat(callSizes).containsExactly(1, 2);
+        assertThat(meterRegistry.get(VellumHubMetrics.EMBEDDING_INFERENCE_BATCH_SIZE).summary().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should fail the caller when the model call fails")
+    void shouldPropagateModelFailure() {
+        pool = pool(1, 8, segments -> {
+            throw new IllegalArgumentException("bad input");
+        });
+
+        assertThatThrownBy(() -> pool.embed("text"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("bad input");
+    }
+
+    @Test
+    @DisplayName("Should reject texts after shutdown")
+    void shouldRejectAfterShutdown() {
+        pool = pool(1, 8, this::lengths);
+        pool.shutdown();
+
+        assertThatThrownBy(() -> pool.embed("text")).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject an empty worker pool")
+    void shouldRejectInvalidWorkers() {
+        assertThatThrownBy(() -> new PooledEmbeddingModel(this::lengths, 0, 8, 8, new VellumHubMetrics(meterRegistry)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private PooledEmbeddingModel pool(int workers, int maxBatchSize, EmbeddingModel delegate) {
+        return new PooledEmbeddingModel(segments -> {
+            callSizes.add(segments.size());
+            return delegate.embedAll(segments);
+        }, workers, 16, maxBatchSize, new VellumHubMetrics(meterRegistry));
+    }
+
+    private Response<List<Embedding>> lengths(List<TextSegment> segments) {
+        return Response.from(segments.stream()
+                .map(segment -> Embedding.from(new float[]{segment.text().length()}))
+                .toList());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met within 5 seconds");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package com.vellumhub.recommendation_service.share.kafka.config;
 
 import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import com.vellumhub.kafka.contracts.engagement.CreatedRatingEvent;
+import com.vellumhub.recommendation_service.module.book_feature.presentation.consumer.BookPopularityConsumerEvent;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.boot.test.system.CapturedOutput;
 import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.kafka.annotation.RetryTopicConfigurationProvider;
 
+import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -68,11 +73,53 @@ class KafkaRetryConfigTest {
     void retryTopicDltHandlersAreNotAutoStarted() {
         KafkaRetryConfig config = new KafkaRetryConfig(new VellumHubMetrics(new SimpleMeterRegistry()));
 
-        var retryConfig = config.defaultRetryConfig("localhost:9092");
+        var retryConfig = config.defaultRetryConfig("localhost:9092", "single", "single");
 
         assertThat(retryConfig.getDestinationTopicProperties())
                 .filteredOn(properties -> properties.isDltTopic())
                 .isNotEmpty()
                 .allSatisfy(properties -> assertThat(properties.autoStartDltHandler()).isFalse());
     }
+
+    @Test
+    void batchIngestionModeLeavesBookCreateAndUpdateTopicsToTheBatchErrorHandler() {
+        KafkaRetryConfig config = new KafkaRetryConfig(new VellumHubMetrics(new SimpleMeterRegistry()));
+
+        var retryConfig = config.defaultRetryConfig("localhost:9092", "batch", "single");
+
+        assertThat(retryConfig.hasConfigurationForTopics(new String[]{"created-book"})).isFalse();
+        assertThat(retryConfig.hasConfigurationForTopics(new String[]{"updated-book"})).isFalse();
+        assertThat(retryConfig.hasConfigurationForTopics(new String[]{"deleted-book"})).isTrue();
+    }
+
+    @Test
+    void batchEngagementIngestionModeLeavesEngagementTopicsToTheBatchErrorHandler() {
+        KafkaRetryConfig config = new KafkaRetryConfig(new VellumHubMetrics(new SimpleMeterRegistry()));
+
+        var retryConfig = config.defaultRetryConfig("localhost:9092", "single", "batch");
+
+        assertThat(retryConfig.hasConfigurationForTopics(new String[]{"created-rating"})).isFalse();
+        assertThat(retryConfig.hasConfigurationForTopics(new String[]{"user-reaction-changed"})).isFalse();
+        assertThat(retryConfig.hasConfigurationForTopics(new String[]{"created-reading-progress"})).isFalse();
+        assertThat(retryConfig.hasConfigurationForTopics(new String[]{"updated-reading-progress"})).isFalse();
+        assertThat(retryConfig.hasConfigurationForTopics(new String[]{"created-book"})).isTrue();
+        assertThat(retryConfig.hasConfigurationForTopics(new String[]{"created-user-preference"})).isTrue();
+    }
+
+    @Test
+    void popularityListenersRetryThroughTheirOwnTopics() throws NoSuchMethodException {
+        KafkaRetryConfig config = new KafkaRetryConfig(new VellumHubMetrics(new SimpleMeterRegistry()));
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("defaultRetryConfig", config.defaultRetryConfig("localhost:9092", "single", "single"));
+        beanFactory.registerSingleton(KafkaRetryConfig.RETRYABLE_TOPIC_KAFKA_TEMPLATE, config.retryableTopicKafkaTemplate("localhost:9092"));
+        Method consumeRating = BookPopularityConsumerEvent.class.getMethod("consumeRating", CreatedRatingEvent.class, long.class);
+
+        var retryConfig = new RetryTopicConfigurationProvider(beanFactory)
+                .findRetryConfigurationFor(new String[]{"created-rating"}, consumeRating, BookPopularityConsumerEvent.class, null);
+
+        assertThat(retryConfig.getDestinationTopicProperties())
+                .extracting(properties -> properties.suffix())
+                .contains("-popularity-retry", "-popularity-dlt")
+                .doesNotContain("-retry", "-dlt");
+    }
 }
@@ -0,0 +1,91 @@
+package com.vellumhub.recommendation_service.share.kafka.consumer;
+
+import com.vellumhub.kafka.contracts.book.CreateBookEvent;
+import com.vellumhub.recommendation_service.share.metrics.VellumHubMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CreateBookBatchConsumerEventTest {
+
+    @Mock
+    private BookEventBatchProcessor bookEventBatchProcessor;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CreateBookBatchConsumerEvent consumer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        consumer = new CreateBookBatchConsumerEvent(bookEventBatchProcessor, new VellumHubMetrics(meterRegistry));
+    }
+
+    private CreateBookEvent buildEvent() {
+        return new CreateBookEvent(
+                UUID.randomUUID(),
+                "Domain-Driven Design",
+                "A guide to DDD",
+                2003,
+                "https://cover.url",
+                "Eric Evans",
+                List.of("Software", "Architecture")
+        );
+    }
+
+    @Test
+    @DisplayName("Should process the whole poll as one batch and record its size")
+    void shouldProcessWholeBatch() {
+        List<CreateBookEvent> events = List.of(buildEvent(), buildEvent(), buildEvent());
+
+        consumer.listen(events);
+
+        verify(bookEventBatchProcessor, times(1)).createAll(events);
+        assertThat(meterRegistry.get(VellumHubMetrics.BOOK_INGESTION_RECORDS)
+                .tag("topic", "created-book")
+                .tag("batch_size", "2-8")
+                .tag("result", "success")
+                .counter()
+                .count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get(VellumHubMetrics.KAFKA_EVENTS_CONSUMED).counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("Should replay records one by one and report the failing index when the batch fails")
+    void shouldReportFailingRecordIndex() {
+        CreateBookEvent first = buildEvent();
+        CreateBookEvent broken = buildEvent();
+        CreateBookEvent last = buildEvent();
+        List<CreateBookEvent> events = List.of(first, broken, last);
+        RuntimeException failure = new IllegalArgumentException("Embedding vector cannot be null");
+        doAnswer(invocation -> {
+            List<CreateBookEvent> batch = invocation.getArgument(0);
+            if (batch.contains(broken)) {
+                throw failure;
+            }
+            return null;
+        }).when(bookEventBatchProcessor).createAll(anyList());
+
+        assertThatThrownBy(() -> consumer.listen(events))
+                .isInstanceOf(BatchListenerFailedException.class)
+                .satisfies(ex -> assertThat(((BatchListenerFailedException) ex).getIndex()).isEqualTo(1))
+                .hasCause(failure);
+
+        verify(bookEventBatchProcessor).createAll(List.of(first));
+        verify(bookEventBatchProcessor, never()).createAll(List.of(last));
+        assertThat(meterRegistry.get(VellumHubMetrics.KAFKA_EVENTS_CONSUME_FAILED).counter().count()).isEqualTo(1.0);
+    }
+}
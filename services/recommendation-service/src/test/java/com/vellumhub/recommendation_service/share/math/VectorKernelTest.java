@@ -0,0 +1,79 @@
+package com.vellumhub.recommendation_service.share.math;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class VectorKernelTest {
+
+    private static final int[] LENGTHS = {1, 3, 7, 8, 17, 384, 385};
+
+    static Stream<VectorKernel> kernels() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return Stream.of(new ScalarVectorKernel());
+        }
+        return Stream.of(new ScalarVectorKernel(), new SimdVectorKernel());
+    }
+
+    @ParameterizedTest
+    @MethodSource("kernels")
+    void dotShouldMatchDoublePrecisionReferenceIncludingTail(VectorKernel kernel) {
+        Random random = new Random(7);
+        for (int length : LENGTHS) {
+            float[] a = randomVector(random, length + 5);
+            float[] b = randomVector(random, length + 2);
+
+            double expected = 0;
+            for (int i = 0; i < length; i++) {
+                expected += (double) a[5 + i] * b[2 + i];
+            }
+
+            assertThat((double) kernel.dot(a, 5, b, 2, length)).isCloseTo(expected, within(1e-4));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("kernels")
+    void axpyShouldAddScaledVector(VectorKernel kernel) {
+        Random random = new Random(11);
+        for (int length : LENGTHS) {
+            float[] x = randomVector(random, length);
+            float[] y = randomVector(random, length);
+            float[] expected = new float[length];
+            for (int i = 0; i < length; i++) {
+                expected[i] = y[i] + 0.25f * x[i];
+            }
+
+            kernel.axpy(0.25f, x, y);
+
+            assertThat(y).usingComparatorWithPrecision(1e-6f).containsExactly(expected);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("kernels")
+    void scaleShouldOnlyTouchTheRequestedRange(VectorKernel kernel) {
+        float[] vector = new float[20];
+        Arrays.fill(vector, 2f);
+
+        kernel.scale(vector, 3, 12, 0.5f);
+
+        for (int i = 0; i < vector.length; i++) {
+            assertThat(vector[i]).isEqualTo(i >= 3 && i < 15 ? 1f : 2f);
+        }
+    }
+
+    private static float[] randomVector(Random random, int length) {
+        float[] vector = new float[length];
+        for (int i = 0; i < length; i++) {
+            vector[i] = random.nextFloat() * 2 - 1;
+        }
+        return vector;
+    }
+}
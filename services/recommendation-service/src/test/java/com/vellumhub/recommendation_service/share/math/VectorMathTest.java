@@ -0,0 +1,69 @@
+package com.vellumhub.recommendation_service.share.math;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VectorMathTest {
+
+    @Test
+    void shouldUseTheVectorApiWhenTheModuleIsResolved() {
+        assumeTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent());
+
+        assertThat(VectorMath.kernel()).startsWith("simd-");
+    }
+
+    @Test
+    void normalizedShouldReturnUnitLengthCopy() {
+        float[] vector = {3f, 4f};
+
+        float[] normalized = VectorMath.normalized(vector);
+
+        assertThat(normalized).usingComparatorWithPrecision(1e-6f).containsExactly(0.6f, 0.8f);
+        assertThat(vector).containsExactly(3f, 4f);
+    }
+
+    @Test
+    void normalizeShouldLeaveZeroVectorUnchanged() {
+        float[] vector = new float[5];
+
+        VectorMath.normalizeInPlace(vector);
+
+        assertThat(vector).containsOnly(0f);
+    }
+
+    @Test
+    void normalizeShouldOnlyScaleTheRequestedSlice() {
+        float[] vectors = {3f, 4f, 0f, 6f, 8f, 0f};
+
+        VectorMath.normalizeInPlace(vectors, 3, 3);
+
+        assertThat(vectors).usingComparatorWithPrecision(1e-6f).containsExactly(3f, 4f, 0f, 0.6f, 0.8f, 0f);
+    }
+
+    @Test
+    void cosineShouldIgnoreMagnitude() {
+        assertThat(VectorMath.cosine(new float[]{1f, 0f}, new float[]{5f, 0f})).isCloseTo(1f, within(1e-6f));
+        assertThat(VectorMath.cosine(new float[]{1f, 0f}, new float[]{0f, 2f})).isCloseTo(0f, within(1e-6f));
+        assertThat(VectorMath.cosine(new float[]{1f, 1f}, new float[]{-1f, -1f})).isCloseTo(-1f, within(1e-6f));
+    }
+
+    @Test
+    void cosineShouldBeZeroForZeroVector() {
+        assertThat(VectorMath.cosine(new float[3], new float[]{1f, 2f, 3f})).isZero();
+    }
+
+    @Test
+    void axpyShouldRejectMismatchedDimensions() {
+        assertThatThrownBy(() -> VectorMath.axpy(1f, new float[3], new float[4]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void normShouldReturnEuclideanLength() {
+        assertThat(VectorMath.norm(new float[]{1f, 2f, 2f})).isCloseTo(3f, within(1e-6f));
+    }
+}
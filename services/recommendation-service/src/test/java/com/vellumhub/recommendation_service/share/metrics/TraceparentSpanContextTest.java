@@ -0,0 +1,61 @@
+package com.vellumhub.recommendation_service.share.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TraceparentSpanContextTest {
+
+    private final TraceparentSpanContext spanContext = new TraceparentSpanContext();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should read trace and span IDs from a sampled traceparent")
+    void shouldReadSampledTraceparent() {
+        withTraceparent("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+
+        assertThat(spanContext.getCurrentTraceId()).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+        assertThat(spanContext.getCurrentSpanId()).isEqualTo("00f067aa0ba902b7");
+        assertThat(spanContext.isCurrentSpanSampled()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not sample a traceparent without the sampled flag")
+    void shouldNotSampleUnsampledTraceparent() {
+        withTraceparent("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-00");
+
+        assertThat(spanContext.isCurrentSpanSampled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should ignore malformed or all-zero traceparents")
+    void shouldIgnoreInvalidTraceparent() {
+        withTraceparent("00-00000000000000000000000000000000-00f067aa0ba902b7-01");
+        assertThat(spanContext.getCurrentTraceId()).isNull();
+
+        withTraceparent("not-a-traceparent");
+        assertThat(spanContext.isCurrentSpanSampled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should return no trace outside an HTTP request")
+    void shouldIgnoreMissingRequest() {
+        assertThat(spanContext.getCurrentTraceId()).isNull();
+        assertThat(spanContext.isCurrentSpanSampled()).isFalse();
+    }
+
+    private static void withTraceparent(String traceparent) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(TraceparentSpanContext.TRACEPARENT_HEADER, traceparent);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+}